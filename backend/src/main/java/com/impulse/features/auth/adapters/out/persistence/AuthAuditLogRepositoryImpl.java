@@ -0,0 +1,31 @@
+package com.impulse.features.auth.adapters.out.persistence;
+
+import com.impulse.features.auth.application.port.out.AuthAuditLogRepository;
+import com.impulse.shared.utils.CorrelationId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JDBC implementation of AuthAuditLogRepository port
+ * Each row commits on its own so failed logins are kept when the login transaction rolls back.
+ */
+@Repository
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+public class AuthAuditLogRepositoryImpl implements AuthAuditLogRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuthAuditLogRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void record(Long userId, String eventType, String eventStatus, String ipAddress, String userAgent) {
+        jdbcTemplate.update(
+            "INSERT INTO auth_audit_log (user_id, event_type, event_status, user_agent, ip_address, correlation_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?)",
+            userId, eventType, eventStatus, userAgent, ipAddress, CorrelationId.get());
+    }
+}
@@ -0,0 +1,22 @@
+package com.impulse.features.auth.application.port.out;
+
+/**
+ * AuthAuditLogRepository - Port de salida para auth_audit_log
+ * Anexo 1 IMPULSE v1.0 - Autenticación
+ */
+public interface AuthAuditLogRepository {
+
+    String LOGIN = "LOGIN";
+    String LOGOUT = "LOGOUT";
+    String REGISTER = "REGISTER";
+
+    String SUCCESS = "SUCCESS";
+    String FAILURE = "FAILURE";
+    String BLOCKED = "BLOCKED";
+
+    /**
+     * Registra un evento de autenticación con el correlation ID de la petición actual.
+     * Se confirma aunque la transacción del caso de uso haga rollback.
+     */
+    void record(Long userId, String eventType, String eventStatus, String ipAddress, String userAgent);
+}
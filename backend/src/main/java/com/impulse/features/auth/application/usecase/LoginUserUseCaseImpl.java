@@ -3,6 +3,7 @@
 import com.impulse.features.auth.application.dto.LoginUserCommand;
 import com.impulse.features.auth.application.dto.LoginUserResponse;
 import com.impulse.features.auth.application.port.in.LoginUserUseCase;
+import com.impulse.features.auth.application.port.out.AuthAuditLogRepository;
 import com.impulse.features.auth.application.port.out.UserRepository;
 import com.impulse.features.auth.application.port.out.RefreshTokenRepository;
 import com.impulse.features.auth.application.port.out.JwtTokenService;
@@ -27,6 +28,7 @@ public class LoginUserUseCaseImpl implements LoginUserUseCase {
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtTokenService jwtTokenService;
     private final PasswordEncoder passwordEncoder;
+    private final AuthAuditLogRepository authAuditLogRepository;
 
     // Rate limiting: max 5 failed attempts per hour
     private static final int MAX_LOGIN_ATTEMPTS = 5;
@@ -34,11 +36,13 @@ public class LoginUserUseCaseImpl implements LoginUserUseCase {
     public LoginUserUseCaseImpl(UserRepository userRepository,
                               RefreshTokenRepository refreshTokenRepository,
                               JwtTokenService jwtTokenService,
-                              PasswordEncoder passwordEncoder) {
+                              PasswordEncoder passwordEncoder,
+                              AuthAuditLogRepository authAuditLogRepository) {
         this.userRepository = Objects.requireNonNull(userRepository);
         this.refreshTokenRepository = Objects.requireNonNull(refreshTokenRepository);
         this.jwtTokenService = Objects.requireNonNull(jwtTokenService);
         this.passwordEncoder = Objects.requireNonNull(passwordEncoder);
+        this.authAuditLogRepository = Objects.requireNonNull(authAuditLogRepository);
     }
 
     @Override
@@ -47,13 +51,14 @@ public LoginUserResponse execute(LoginUserCommand command) {
         validateLoginData(command);
 
         // Find user by username or email
-        UserRepository.User user = findUser(command.getUsernameOrEmail());
+        UserRepository.User user = findUser(command);
 
         // Verify password
-        verifyPassword(command.getPassword(), user.getPasswordHash());
+        verifyPassword(command, user);
 
         // Check if account is active
         if (!user.isActive()) {
+            audit(user.getId(), AuthAuditLogRepository.BLOCKED, command);
             throw new DomainException("Account is deactivated");
         }
 
@@ -80,6 +85,8 @@ public LoginUserResponse execute(LoginUserCommand command) {
         // Save new refresh token
         RefreshToken savedRefreshToken = refreshTokenRepository.save(refreshToken);
 
+        audit(user.getId(), AuthAuditLogRepository.SUCCESS, command);
+
         return new LoginUserResponse(
             user.getId(),
             user.getUsername(),
@@ -101,7 +108,8 @@ private void validateLoginData(LoginUserCommand command) {
         }
     }
 
-    private UserRepository.User findUser(String usernameOrEmail) {
+    private UserRepository.User findUser(LoginUserCommand command) {
+        String usernameOrEmail = command.getUsernameOrEmail();
         // Try to find by username first
         UserRepository.User user = userRepository.findByUsername(usernameOrEmail).orElse(null);
 
@@ -111,15 +119,22 @@ private UserRepository.User findUser(String usernameOrEmail) {
         }
 
         if (user == null) {
+            audit(null, AuthAuditLogRepository.FAILURE, command);
             throw new DomainException("Invalid credentials");
         }
 
         return user;
     }
 
-    private void verifyPassword(String rawPassword, String hashedPassword) {
-        if (!passwordEncoder.matches(rawPassword, hashedPassword)) {
+    private void verifyPassword(LoginUserCommand command, UserRepository.User user) {
+        if (!passwordEncoder.matches(command.getPassword(), user.getPasswordHash())) {
+            audit(user.getId(), AuthAuditLogRepository.FAILURE, command);
             throw new DomainException("Invalid credentials");
         }
     }
+
+    private void audit(Long userId, String status, LoginUserCommand command) {
+        authAuditLogRepository.record(userId, AuthAuditLogRepository.LOGIN, status,
+            command.getIpAddress(), command.getUserAgent());
+    }
 }
@@ -3,6 +3,7 @@
 import com.impulse.features.auth.application.dto.LogoutUserCommand;
 import com.impulse.features.auth.application.dto.LogoutUserResponse;
 import com.impulse.features.auth.application.port.in.LogoutUserUseCase;
+import com.impulse.features.auth.application.port.out.AuthAuditLogRepository;
 import com.impulse.features.auth.application.port.out.RefreshTokenRepository;
 import com.impulse.features.auth.domain.RefreshToken;
 import com.impulse.shared.error.DomainException;
@@ -26,9 +27,12 @@ public class LogoutUserUseCaseImpl implements LogoutUserUseCase {
     private static final Logger logger = LoggerFactory.getLogger(LogoutUserUseCaseImpl.class);
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final AuthAuditLogRepository authAuditLogRepository;
 
-    public LogoutUserUseCaseImpl(RefreshTokenRepository refreshTokenRepository) {
+    public LogoutUserUseCaseImpl(RefreshTokenRepository refreshTokenRepository,
+                                 AuthAuditLogRepository authAuditLogRepository) {
         this.refreshTokenRepository = refreshTokenRepository;
+        this.authAuditLogRepository = authAuditLogRepository;
     }
 
     @Override
@@ -50,14 +54,19 @@ public LogoutUserResponse execute(LogoutUserCommand command) {
             RefreshToken refreshToken = tokenOpt.get();
             Long userId = refreshToken.getUserId();
 
+            LogoutUserResponse response;
             if (command.isLogoutFromAllDevices()) {
                 // Logout de todos los dispositivos
-                return logoutFromAllDevices(userId, command);
+                response = logoutFromAllDevices(userId, command);
             } else {
                 // Logout solo del dispositivo actual
-                return logoutFromCurrentDevice(refreshToken, command);
+                response = logoutFromCurrentDevice(refreshToken, command);
             }
 
+            authAuditLogRepository.record(userId, AuthAuditLogRepository.LOGOUT, AuthAuditLogRepository.SUCCESS,
+                command.getIpAddress(), command.getUserAgent());
+            return response;
+
         } catch (DomainException e) {
             logger.error("Domain error in logout: {}", e.getMessage());
             return LogoutUserResponse.failure("Logout failed");
@@ -3,6 +3,7 @@
 import com.impulse.features.auth.application.dto.RegisterUserCommand;
 import com.impulse.features.auth.application.dto.RegisterUserResponse;
 import com.impulse.features.auth.application.port.in.RegisterUserUseCase;
+import com.impulse.features.auth.application.port.out.AuthAuditLogRepository;
 import com.impulse.features.auth.application.port.out.UserRepository;
 import com.impulse.features.auth.application.port.out.EmailVerificationRepository;
 import com.impulse.features.auth.domain.EmailVerification;
@@ -26,6 +27,7 @@ public class RegisterUserUseCaseImpl implements RegisterUserUseCase {
     private final UserRepository userRepository;
     private final EmailVerificationRepository emailVerificationRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthAuditLogRepository authAuditLogRepository;
 
     // Email validation pattern
     private static final Pattern EMAIL_PATTERN = Pattern.compile(
@@ -39,10 +41,12 @@ public class RegisterUserUseCaseImpl implements RegisterUserUseCase {
 
     public RegisterUserUseCaseImpl(UserRepository userRepository,
                                  EmailVerificationRepository emailVerificationRepository,
-                                 PasswordEncoder passwordEncoder) {
+                                 PasswordEncoder passwordEncoder,
+                                 AuthAuditLogRepository authAuditLogRepository) {
         this.userRepository = Objects.requireNonNull(userRepository);
         this.emailVerificationRepository = Objects.requireNonNull(emailVerificationRepository);
         this.passwordEncoder = Objects.requireNonNull(passwordEncoder);
+        this.authAuditLogRepository = Objects.requireNonNull(authAuditLogRepository);
     }
 
     @Override
@@ -70,6 +74,9 @@ public RegisterUserResponse execute(RegisterUserCommand command) {
 
         emailVerificationRepository.save(emailVerification);
 
+        authAuditLogRepository.record(savedUser.getId(), AuthAuditLogRepository.REGISTER,
+            AuthAuditLogRepository.SUCCESS, command.getIpAddress(), command.getUserAgent());
+
         // TODO: Send verification email (implement EmailService)
 
         return new RegisterUserResponse(
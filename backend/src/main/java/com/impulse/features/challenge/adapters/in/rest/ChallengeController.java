@@ -2,9 +2,12 @@
 
 import com.impulse.features.challenge.adapters.in.rest.dto.CreateChallengeRequest;
 import com.impulse.features.challenge.adapters.in.rest.dto.ChallengeApiResponse;
+import com.impulse.features.challenge.adapters.in.rest.dto.ChallengeCountersApiResponse;
 import com.impulse.features.challenge.adapters.in.rest.dto.OpenChallengeRequest;
 import com.impulse.features.challenge.adapters.in.rest.mapper.ChallengeApiMapper;
+import com.impulse.features.challenge.application.port.in.CloseChallengePort;
 import com.impulse.features.challenge.application.port.in.CreateChallengePort;
+import com.impulse.features.challenge.application.port.in.GetChallengeCountersPort;
 import com.impulse.features.challenge.application.port.in.OpenChallengePort;
 import com.impulse.shared.utils.IdempotencyKey;
 import com.impulse.shared.utils.CorrelationId;
@@ -27,13 +30,19 @@ public class ChallengeController {
 
     private final CreateChallengePort createChallengePort;
     private final OpenChallengePort openChallengePort;
+    private final CloseChallengePort closeChallengePort;
+    private final GetChallengeCountersPort getChallengeCountersPort;
     private final ChallengeApiMapper mapper;
 
     public ChallengeController(CreateChallengePort createChallengePort,
                               OpenChallengePort openChallengePort,
+                              CloseChallengePort closeChallengePort,
+                              GetChallengeCountersPort getChallengeCountersPort,
                               ChallengeApiMapper mapper) {
         this.createChallengePort = createChallengePort;
         this.openChallengePort = openChallengePort;
+        this.closeChallengePort = closeChallengePort;
+        this.getChallengeCountersPort = getChallengeCountersPort;
         this.mapper = mapper;
     }
 
@@ -100,6 +109,41 @@ public ResponseEntity<ChallengeApiResponse> openChallenge(
         }
     }
 
+    @PutMapping("/{challengeId}/close")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<ChallengeApiResponse> closeChallenge(
+            @PathVariable String challengeId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            Authentication authentication) {
+
+        // Set correlation ID for tracing
+        CorrelationId.set(correlationId);
+
+        try {
+            var command = mapper.toCloseCommand(challengeId, getUserId(authentication));
+
+            var response = closeChallengePort.execute(
+                command,
+                idempotencyKey != null ? IdempotencyKey.of(idempotencyKey) : null
+            );
+
+            return ResponseEntity.ok(mapper.toApiResponse(response));
+
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+
+    @GetMapping("/{challengeId}/counters")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<ChallengeCountersApiResponse> getCounters(
+            @PathVariable Long challengeId,
+            Authentication authentication) {
+        var response = getChallengeCountersPort.execute(challengeId, getUserId(authentication));
+        return ResponseEntity.ok(mapper.toCountersApiResponse(response));
+    }
+
     private Long getUserId(Authentication authentication) {
         // Extract user ID from authentication - implementation depends on security setup
         // For now, assume principal contains user ID
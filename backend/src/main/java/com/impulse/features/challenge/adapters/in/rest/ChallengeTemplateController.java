@@ -0,0 +1,85 @@
+package com.impulse.features.challenge.adapters.in.rest;
+
+import com.impulse.features.challenge.adapters.in.rest.dto.BulkCloneTemplateRequest;
+import com.impulse.features.challenge.adapters.in.rest.dto.CloneTemplateApiResponse;
+import com.impulse.features.challenge.adapters.in.rest.mapper.ChallengeApiMapper;
+import com.impulse.features.challenge.application.port.in.CloneChallengeTemplatePort;
+import com.impulse.shared.utils.IdempotencyKey;
+import com.impulse.shared.utils.CorrelationId;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import jakarta.validation.Valid;
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * REST Controller: ChallengeTemplateController
+ * Starts challenges from templates, for the caller or (coaches/admins) for many users
+ */
+@RestController
+@RequestMapping("/api/v1/challenge-templates")
+public class ChallengeTemplateController {
+
+    private final CloneChallengeTemplatePort cloneChallengeTemplatePort;
+    private final ChallengeApiMapper mapper;
+
+    public ChallengeTemplateController(CloneChallengeTemplatePort cloneChallengeTemplatePort,
+                                      ChallengeApiMapper mapper) {
+        this.cloneChallengeTemplatePort = cloneChallengeTemplatePort;
+        this.mapper = mapper;
+    }
+
+    @PostMapping("/{templateId}/instances")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<CloneTemplateApiResponse> cloneTemplate(
+            @PathVariable Long templateId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            Authentication authentication) {
+        return clone(templateId, List.of(), idempotencyKey, correlationId, authentication);
+    }
+
+    @PostMapping("/{templateId}/instances/bulk")
+    @PreAuthorize("hasAnyRole('COACH','ADMIN')")
+    public ResponseEntity<CloneTemplateApiResponse> bulkCloneTemplate(
+            @PathVariable Long templateId,
+            @Valid @RequestBody BulkCloneTemplateRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            Authentication authentication) {
+        return clone(templateId, request.getOwnerUserIds(), idempotencyKey, correlationId, authentication);
+    }
+
+    private ResponseEntity<CloneTemplateApiResponse> clone(Long templateId, List<Long> ownerUserIds,
+                                                           String idempotencyKey, String correlationId,
+                                                           Authentication authentication) {
+        // Set correlation ID for tracing
+        CorrelationId.set(correlationId);
+
+        try {
+            var command = mapper.toCloneTemplateCommand(templateId, ownerUserIds, getUserId(authentication));
+
+            var response = cloneChallengeTemplatePort.execute(
+                command,
+                idempotencyKey != null ? IdempotencyKey.of(idempotencyKey) : null
+            );
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toCloneTemplateApiResponse(response));
+
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+
+    private Long getUserId(Authentication authentication) {
+        Principal principal = authentication;
+        try {
+            return Long.parseLong(principal.getName());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Invalid user ID in authentication: " + principal.getName());
+        }
+    }
+}
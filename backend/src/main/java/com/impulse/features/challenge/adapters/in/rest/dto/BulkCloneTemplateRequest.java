@@ -0,0 +1,27 @@
+package com.impulse.features.challenge.adapters.in.rest.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * API DTO: BulkCloneTemplateRequest
+ * HTTP request body for instantiating a template for several users
+ */
+public class BulkCloneTemplateRequest {
+
+    @NotEmpty(message = "At least one owner is required")
+    @Size(max = 1000, message = "Cannot instantiate a template for more than 1000 users at once")
+    private List<Long> ownerUserIds;
+
+    // Constructors
+    public BulkCloneTemplateRequest() {}
+
+    public BulkCloneTemplateRequest(List<Long> ownerUserIds) {
+        this.ownerUserIds = ownerUserIds;
+    }
+
+    // Getters and Setters
+    public List<Long> getOwnerUserIds() { return ownerUserIds; }
+    public void setOwnerUserIds(List<Long> ownerUserIds) { this.ownerUserIds = ownerUserIds; }
+}
@@ -17,6 +17,8 @@ public class ChallengeApiResponse {
     private ChallengeStatus status;
     private Visibility visibility;
     private String category;
+    private LocalDateTime scheduledOpenAt;
+    private LocalDateTime scheduledCloseAt;
     private LocalDateTime openedAt;
     private LocalDateTime closedAt;
     private LocalDateTime createdAt;
@@ -27,6 +29,7 @@ public ChallengeApiResponse() {}
 
     public ChallengeApiResponse(String id, String title, String description,
                                ChallengeStatus status, Visibility visibility, String category,
+                               LocalDateTime scheduledOpenAt, LocalDateTime scheduledCloseAt,
                                LocalDateTime openedAt, LocalDateTime closedAt,
                                LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
@@ -35,6 +38,8 @@ public ChallengeApiResponse(String id, String title, String description,
         this.status = status;
         this.visibility = visibility;
         this.category = category;
+        this.scheduledOpenAt = scheduledOpenAt;
+        this.scheduledCloseAt = scheduledCloseAt;
         this.openedAt = openedAt;
         this.closedAt = closedAt;
         this.createdAt = createdAt;
@@ -60,6 +65,12 @@ public ChallengeApiResponse(String id, String title, String description,
     public String getCategory() { return category; }
     public void setCategory(String category) { this.category = category; }
 
+    public LocalDateTime getScheduledOpenAt() { return scheduledOpenAt; }
+    public void setScheduledOpenAt(LocalDateTime scheduledOpenAt) { this.scheduledOpenAt = scheduledOpenAt; }
+
+    public LocalDateTime getScheduledCloseAt() { return scheduledCloseAt; }
+    public void setScheduledCloseAt(LocalDateTime scheduledCloseAt) { this.scheduledCloseAt = scheduledCloseAt; }
+
     public LocalDateTime getOpenedAt() { return openedAt; }
     public void setOpenedAt(LocalDateTime openedAt) { this.openedAt = openedAt; }
 
@@ -0,0 +1,47 @@
+package com.impulse.features.challenge.adapters.in.rest.dto;
+
+/**
+ * API DTO: ChallengeCountersApiResponse
+ * HTTP response body for challenge card totals
+ */
+public class ChallengeCountersApiResponse {
+
+    private Long challengeId;
+    private int participants;
+    private int evidencesTotal;
+    private int evidencesPending;
+    private int evidencesApproved;
+    private int evidencesRejected;
+
+    // Constructors
+    public ChallengeCountersApiResponse() {}
+
+    public ChallengeCountersApiResponse(Long challengeId, int participants, int evidencesTotal,
+                                        int evidencesPending, int evidencesApproved, int evidencesRejected) {
+        this.challengeId = challengeId;
+        this.participants = participants;
+        this.evidencesTotal = evidencesTotal;
+        this.evidencesPending = evidencesPending;
+        this.evidencesApproved = evidencesApproved;
+        this.evidencesRejected = evidencesRejected;
+    }
+
+    // Getters and Setters
+    public Long getChallengeId() { return challengeId; }
+    public void setChallengeId(Long challengeId) { this.challengeId = challengeId; }
+
+    public int getParticipants() { return participants; }
+    public void setParticipants(int participants) { this.participants = participants; }
+
+    public int getEvidencesTotal() { return evidencesTotal; }
+    public void setEvidencesTotal(int evidencesTotal) { this.evidencesTotal = evidencesTotal; }
+
+    public int getEvidencesPending() { return evidencesPending; }
+    public void setEvidencesPending(int evidencesPending) { this.evidencesPending = evidencesPending; }
+
+    public int getEvidencesApproved() { return evidencesApproved; }
+    public void setEvidencesApproved(int evidencesApproved) { this.evidencesApproved = evidencesApproved; }
+
+    public int getEvidencesRejected() { return evidencesRejected; }
+    public void setEvidencesRejected(int evidencesRejected) { this.evidencesRejected = evidencesRejected; }
+}
@@ -0,0 +1,33 @@
+package com.impulse.features.challenge.adapters.in.rest.dto;
+
+import java.util.List;
+
+/**
+ * API DTO: CloneTemplateApiResponse
+ * HTTP response body listing challenges created from a template
+ */
+public class CloneTemplateApiResponse {
+
+    private Long templateId;
+    private List<Long> ownerUserIds;
+    private List<Long> challengeIds;
+
+    // Constructors
+    public CloneTemplateApiResponse() {}
+
+    public CloneTemplateApiResponse(Long templateId, List<Long> ownerUserIds, List<Long> challengeIds) {
+        this.templateId = templateId;
+        this.ownerUserIds = ownerUserIds;
+        this.challengeIds = challengeIds;
+    }
+
+    // Getters and Setters
+    public Long getTemplateId() { return templateId; }
+    public void setTemplateId(Long templateId) { this.templateId = templateId; }
+
+    public List<Long> getOwnerUserIds() { return ownerUserIds; }
+    public void setOwnerUserIds(List<Long> ownerUserIds) { this.ownerUserIds = ownerUserIds; }
+
+    public List<Long> getChallengeIds() { return challengeIds; }
+    public void setChallengeIds(List<Long> challengeIds) { this.challengeIds = challengeIds; }
+}
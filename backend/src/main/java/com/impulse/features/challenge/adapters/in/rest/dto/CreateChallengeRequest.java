@@ -2,6 +2,7 @@
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
 
 /**
  * API DTO: CreateChallengeRequest
@@ -19,6 +20,10 @@ public class CreateChallengeRequest {
     @Size(max = 100, message = "Category cannot exceed 100 characters")
     private String category;
 
+    private LocalDateTime scheduledOpenAt;
+
+    private LocalDateTime scheduledCloseAt;
+
     // Constructors
     public CreateChallengeRequest() {}
 
@@ -37,4 +42,10 @@ public CreateChallengeRequest(String title, String description, String category)
 
     public String getCategory() { return category; }
     public void setCategory(String category) { this.category = category; }
+
+    public LocalDateTime getScheduledOpenAt() { return scheduledOpenAt; }
+    public void setScheduledOpenAt(LocalDateTime scheduledOpenAt) { this.scheduledOpenAt = scheduledOpenAt; }
+
+    public LocalDateTime getScheduledCloseAt() { return scheduledCloseAt; }
+    public void setScheduledCloseAt(LocalDateTime scheduledCloseAt) { this.scheduledCloseAt = scheduledCloseAt; }
 }
@@ -3,11 +3,19 @@
 import com.impulse.features.challenge.adapters.in.rest.dto.CreateChallengeRequest;
 import com.impulse.features.challenge.adapters.in.rest.dto.OpenChallengeRequest;
 import com.impulse.features.challenge.adapters.in.rest.dto.ChallengeApiResponse;
+import com.impulse.features.challenge.adapters.in.rest.dto.ChallengeCountersApiResponse;
+import com.impulse.features.challenge.adapters.in.rest.dto.CloneTemplateApiResponse;
+import com.impulse.features.challenge.application.dto.CloneChallengeTemplateCommand;
+import com.impulse.features.challenge.application.dto.CloneChallengeTemplateResponse;
+import com.impulse.features.challenge.application.dto.CloseChallengeCommand;
 import com.impulse.features.challenge.application.dto.CreateChallengeCommand;
 import com.impulse.features.challenge.application.dto.OpenChallengeCommand;
 import com.impulse.features.challenge.application.dto.ChallengeResponse;
+import com.impulse.features.challenge.application.dto.ChallengeCountersResponse;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Mapper: ChallengeApiMapper
  * Maps between API DTOs and Application DTOs
@@ -21,7 +29,9 @@ public CreateChallengeCommand toCreateCommand(CreateChallengeRequest request, Lo
             userId,
             request.getTitle(),
             request.getDescription(),
-            request.getCategory()
+            request.getCategory(),
+            request.getScheduledOpenAt(),
+            request.getScheduledCloseAt()
         );
     }
 
@@ -34,6 +44,10 @@ public OpenChallengeCommand toOpenCommand(String challengeId, OpenChallengeReque
         );
     }
 
+    public CloseChallengeCommand toCloseCommand(String challengeId, Long userId) {
+        return new CloseChallengeCommand(challengeId, userId);
+    }
+
     public ChallengeApiResponse toApiResponse(ChallengeResponse response) {
         return new ChallengeApiResponse(
             response.getId(),
@@ -42,10 +56,35 @@ public ChallengeApiResponse toApiResponse(ChallengeResponse response) {
             response.getStatus(),
             response.getVisibility(),
             response.getCategory(),
+            response.getScheduledOpenAt(),
+            response.getScheduledCloseAt(),
             response.getOpenedAt(),
             response.getClosedAt(),
             response.getCreatedAt(),
             response.getUpdatedAt()
         );
     }
+
+    public ChallengeCountersApiResponse toCountersApiResponse(ChallengeCountersResponse response) {
+        return new ChallengeCountersApiResponse(
+            response.getChallengeId(),
+            response.getParticipants(),
+            response.getEvidencesTotal(),
+            response.getEvidencesPending(),
+            response.getEvidencesApproved(),
+            response.getEvidencesRejected()
+        );
+    }
+
+    public CloneChallengeTemplateCommand toCloneTemplateCommand(Long templateId, List<Long> ownerUserIds, Long userId) {
+        return new CloneChallengeTemplateCommand(templateId, userId, ownerUserIds);
+    }
+
+    public CloneTemplateApiResponse toCloneTemplateApiResponse(CloneChallengeTemplateResponse response) {
+        return new CloneTemplateApiResponse(
+            response.getTemplateId(),
+            response.getOwnerUserIds(),
+            response.getChallengeIds()
+        );
+    }
 }
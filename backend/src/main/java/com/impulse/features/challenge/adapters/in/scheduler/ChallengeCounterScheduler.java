@@ -0,0 +1,24 @@
+package com.impulse.features.challenge.adapters.in.scheduler;
+
+import com.impulse.features.challenge.application.usecase.RecordChallengeCountersUseCase;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler adapter: ChallengeCounterScheduler
+ * Triggers the write-behind flush of challenge_counters on every node
+ */
+@Component
+public class ChallengeCounterScheduler {
+
+    private final RecordChallengeCountersUseCase recordCounters;
+
+    public ChallengeCounterScheduler(RecordChallengeCountersUseCase recordCounters) {
+        this.recordCounters = recordCounters;
+    }
+
+    @Scheduled(fixedDelayString = "${impulse.counters.flush-interval-ms:1000}")
+    public void flush() {
+        recordCounters.flush();
+    }
+}
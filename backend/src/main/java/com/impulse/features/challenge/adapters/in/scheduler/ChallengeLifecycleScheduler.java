@@ -0,0 +1,26 @@
+package com.impulse.features.challenge.adapters.in.scheduler;
+
+import com.impulse.features.challenge.application.usecase.TransitionDueChallengesUseCase;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler adapter: ChallengeLifecycleScheduler
+ * Periodically applies scheduled auto-open/auto-close transitions
+ */
+@Component
+public class ChallengeLifecycleScheduler {
+
+    private final TransitionDueChallengesUseCase transitionDueChallenges;
+
+    public ChallengeLifecycleScheduler(TransitionDueChallengesUseCase transitionDueChallenges) {
+        this.transitionDueChallenges = transitionDueChallenges;
+    }
+
+    @Scheduled(fixedDelayString = "${impulse.challenges.lifecycle.sweep-interval-ms:60000}")
+    public void sweep() {
+        // Close first so a challenge scheduled to open and close in the same window ends CLOSED next run
+        transitionDueChallenges.closeDue();
+        transitionDueChallenges.openDue();
+    }
+}
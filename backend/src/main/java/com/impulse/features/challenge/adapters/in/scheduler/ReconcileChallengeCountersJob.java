@@ -0,0 +1,51 @@
+package com.impulse.features.challenge.adapters.in.scheduler;
+
+import com.impulse.features.challenge.application.usecase.ReconcileChallengeCountersUseCase;
+import com.impulse.features.jobs.application.port.out.ChunkedJob;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Job adapter: ReconcileChallengeCountersJob
+ * Nightly drift reconciliation of challenge_counters in checkpointed chunks of challenge ids
+ */
+@Component
+public class ReconcileChallengeCountersJob implements ChunkedJob<Long, Long> {
+
+    private final ReconcileChallengeCountersUseCase reconcileCounters;
+
+    public ReconcileChallengeCountersJob(ReconcileChallengeCountersUseCase reconcileCounters) {
+        this.reconcileCounters = reconcileCounters;
+    }
+
+    @Override
+    public String jobName() {
+        return "challenge-counter-reconcile";
+    }
+
+    @Override
+    public void open() {
+        reconcileCounters.prepare();
+    }
+
+    @Override
+    public List<Long> read(String afterKey, int limit) {
+        return reconcileCounters.findBatch(afterKey == null ? 0L : Long.parseLong(afterKey), limit);
+    }
+
+    @Override
+    public String keyOf(Long challengeId) {
+        return String.valueOf(challengeId);
+    }
+
+    @Override
+    public Long process(Long challengeId) {
+        return challengeId;
+    }
+
+    @Override
+    public void write(List<Long> challengeIds) {
+        reconcileCounters.reconcile(challengeIds);
+    }
+}
@@ -0,0 +1,261 @@
+package com.impulse.features.challenge.adapters.out.persistence;
+
+import com.impulse.features.challenge.application.port.out.ChallengeCounterRepository;
+import com.impulse.features.challenge.domain.ChallengeCounterDelta;
+import com.impulse.features.challenge.domain.ChallengeCounters;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * JDBC implementation of ChallengeCounterRepository port
+ * Counter maintenance is set-based SQL; JPA would load and dirty-check every row.
+ * Write-behind deltas are rows of challenge_counter_deltas, committed with the change they
+ * count. A reconcile locks the logged rows of its challenges before recounting, which also
+ * holds back new ones, so the rows it deletes are exactly the ones its snapshot includes.
+ */
+@Repository
+@Transactional
+public class ChallengeCounterRepositoryImpl implements ChallengeCounterRepository {
+
+    private static final String UPSERT_DELTA_SQL =
+        "INSERT INTO challenge_counters (challenge_id, participants, evidences_total, evidences_pending, " +
+        "evidences_approved, evidences_rejected) VALUES (?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE " +
+        "participants = participants + VALUES(participants), " +
+        "evidences_total = evidences_total + VALUES(evidences_total), " +
+        "evidences_pending = evidences_pending + VALUES(evidences_pending), " +
+        "evidences_approved = evidences_approved + VALUES(evidences_approved), " +
+        "evidences_rejected = evidences_rejected + VALUES(evidences_rejected)";
+
+    private static final String UPSERT_ABSOLUTE_SQL =
+        "INSERT INTO challenge_counters (challenge_id, participants, evidences_total, evidences_pending, " +
+        "evidences_approved, evidences_rejected, reconciled_at) VALUES (?, ?, ?, ?, ?, ?, NOW(3)) " +
+        "ON DUPLICATE KEY UPDATE " +
+        "participants = VALUES(participants), " +
+        "evidences_total = VALUES(evidences_total), " +
+        "evidences_pending = VALUES(evidences_pending), " +
+        "evidences_approved = VALUES(evidences_approved), " +
+        "evidences_rejected = VALUES(evidences_rejected), " +
+        "reconciled_at = VALUES(reconciled_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public ChallengeCounterRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                          NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ChallengeCounters> findByChallengeId(Long challengeId) {
+        List<ChallengeCounters> rows = jdbcTemplate.query(
+            "SELECT challenge_id, participants, evidences_total, evidences_pending, evidences_approved, " +
+            "evidences_rejected, reconciled_at FROM challenge_counters WHERE challenge_id = ?",
+            (rs, rowNum) -> {
+                Timestamp reconciledAt = rs.getTimestamp("reconciled_at");
+                return new ChallengeCounters(
+                    rs.getLong("challenge_id"),
+                    rs.getInt("participants"),
+                    rs.getInt("evidences_total"),
+                    rs.getInt("evidences_pending"),
+                    rs.getInt("evidences_approved"),
+                    rs.getInt("evidences_rejected"),
+                    reconciledAt != null ? reconciledAt.toLocalDateTime() : null
+                );
+            },
+            challengeId
+        );
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        ChallengeCounterDelta logged = jdbcTemplate.query(
+            "SELECT COALESCE(SUM(participants), 0) AS participants, COALESCE(SUM(evidences_total), 0) AS evidences_total, " +
+            "COALESCE(SUM(evidences_pending), 0) AS evidences_pending, COALESCE(SUM(evidences_approved), 0) AS evidences_approved, " +
+            "COALESCE(SUM(evidences_rejected), 0) AS evidences_rejected FROM challenge_counter_deltas WHERE challenge_id = ?",
+            (rs, rowNum) -> deltaOf(rs),
+            challengeId
+        ).get(0);
+        return Optional.of(rows.get(0).plus(logged));
+    }
+
+    @Override
+    public void applyDeltas(Map<Long, ChallengeCounterDelta> deltasByChallengeId) {
+        if (deltasByChallengeId.isEmpty()) {
+            return;
+        }
+
+        // Key order keeps row-lock acquisition consistent across concurrent flushers
+        List<Object[]> args = new ArrayList<>(deltasByChallengeId.size());
+        new TreeMap<>(deltasByChallengeId).forEach((challengeId, delta) -> args.add(new Object[] {
+            challengeId,
+            delta.getParticipants(),
+            delta.getEvidencesTotal(),
+            delta.getEvidencesPending(),
+            delta.getEvidencesApproved(),
+            delta.getEvidencesRejected()
+        }));
+        jdbcTemplate.batchUpdate(UPSERT_DELTA_SQL, args);
+    }
+
+    @Override
+    public void logDelta(Long challengeId, ChallengeCounterDelta delta) {
+        jdbcTemplate.update(
+            "INSERT INTO challenge_counter_deltas (challenge_id, participants, evidences_total, evidences_pending, " +
+            "evidences_approved, evidences_rejected) VALUES (?, ?, ?, ?, ?, ?)",
+            challengeId,
+            delta.getParticipants(),
+            delta.getEvidencesTotal(),
+            delta.getEvidencesPending(),
+            delta.getEvidencesApproved(),
+            delta.getEvidencesRejected());
+    }
+
+    /**
+     * READ COMMITTED: a locking scan that reaches the end of the log would otherwise gap-lock
+     * it and stall every business transaction appending a delta until the flush commits
+     */
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public int flushLoggedDeltas(int limit) {
+        List<Long> ids = new ArrayList<>();
+        Map<Long, ChallengeCounterDelta> deltas = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT id, challenge_id, participants, evidences_total, evidences_pending, evidences_approved, " +
+            "evidences_rejected FROM challenge_counter_deltas ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED",
+            rs -> {
+                ids.add(rs.getLong("id"));
+                deltas.merge(rs.getLong("challenge_id"), deltaOf(rs), ChallengeCounterDelta::plus);
+            },
+            limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        applyDeltas(deltas);
+        namedJdbcTemplate.update("DELETE FROM challenge_counter_deltas WHERE id IN (:ids)",
+            new MapSqlParameterSource("ids", ids));
+        return ids.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findChallengeIdsAfter(long afterChallengeId, int limit) {
+        return jdbcTemplate.queryForList(
+            "SELECT id FROM challenges WHERE id > ? ORDER BY id LIMIT ?",
+            Long.class, afterChallengeId, limit);
+    }
+
+    /**
+     * REPEATABLE READ: the next-key locks on ix_counter_deltas_challenge keep new deltas of
+     * these challenges out until the rewrite commits, and the recount reads one snapshot
+     */
+    @Override
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int reconcile(List<Long> challengeIds) {
+        if (challengeIds.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", challengeIds);
+
+        // Waits for writers of logged deltas to finish and blocks new ones: every locked row
+        // belongs to a committed change the recount below sees, every later one is excluded
+        List<Long> loggedIds = new ArrayList<>();
+        Map<Long, ChallengeCounterDelta> logged = new HashMap<>();
+        namedJdbcTemplate.query(
+            "SELECT id, challenge_id, participants, evidences_total, evidences_pending, evidences_approved, " +
+            "evidences_rejected FROM challenge_counter_deltas WHERE challenge_id IN (:ids) FOR UPDATE",
+            params,
+            rs -> {
+                loggedIds.add(rs.getLong("id"));
+                logged.merge(rs.getLong("challenge_id"), deltaOf(rs), ChallengeCounterDelta::plus);
+            });
+
+        // Lock the counter rows so transactional-mode upserts wait for the rewrite
+        Map<Long, int[]> stored = new HashMap<>();
+        namedJdbcTemplate.query(
+            "SELECT challenge_id, participants, evidences_total, evidences_pending, evidences_approved, " +
+            "evidences_rejected FROM challenge_counters WHERE challenge_id IN (:ids) FOR UPDATE",
+            params,
+            rs -> {
+                // Logged deltas are part of the current value; only the rest is drift
+                ChallengeCounterDelta pending = logged.getOrDefault(rs.getLong("challenge_id"), ChallengeCounterDelta.ZERO);
+                stored.put(rs.getLong("challenge_id"), new int[] {
+                    rs.getInt("participants") + pending.getParticipants(),
+                    rs.getInt("evidences_total") + pending.getEvidencesTotal(),
+                    rs.getInt("evidences_pending") + pending.getEvidencesPending(),
+                    rs.getInt("evidences_approved") + pending.getEvidencesApproved(),
+                    rs.getInt("evidences_rejected") + pending.getEvidencesRejected()
+                });
+            });
+
+        // Locking reads do not open the snapshot; the first plain SELECT below does
+        Map<Long, int[]> actual = new HashMap<>();
+        for (Long id : challengeIds) {
+            actual.put(id, new int[5]);
+        }
+
+        namedJdbcTemplate.query(
+            "SELECT challenge_id, COUNT(*) AS total FROM participations " +
+            "WHERE challenge_id IN (:ids) AND deleted_at IS NULL GROUP BY challenge_id",
+            params,
+            rs -> { actual.get(rs.getLong("challenge_id"))[0] = rs.getInt("total"); });
+
+        namedJdbcTemplate.query(
+            "SELECT challenge_id, status, COUNT(*) AS total FROM evidences " +
+            "WHERE challenge_id IN (:ids) AND deleted_at IS NULL GROUP BY challenge_id, status",
+            params,
+            rs -> {
+                int[] values = actual.get(rs.getLong("challenge_id"));
+                int total = rs.getInt("total");
+                values[1] += total;
+                switch (rs.getString("status")) {
+                    case "PENDING": values[2] = total; break;
+                    case "APPROVED": values[3] = total; break;
+                    case "REJECTED": values[4] = total; break;
+                    default: break;
+                }
+            });
+
+        int drifted = 0;
+        List<Object[]> args = new ArrayList<>(challengeIds.size());
+        for (Long id : challengeIds) {
+            int[] values = actual.get(id);
+            if (!Arrays.equals(values, stored.get(id))) {
+                drifted++;
+            }
+            args.add(new Object[] { id, values[0], values[1], values[2], values[3], values[4] });
+        }
+        jdbcTemplate.batchUpdate(UPSERT_ABSOLUTE_SQL, args);
+        if (!loggedIds.isEmpty()) {
+            namedJdbcTemplate.update("DELETE FROM challenge_counter_deltas WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", loggedIds));
+        }
+        return drifted;
+    }
+
+    private static ChallengeCounterDelta deltaOf(ResultSet rs) throws SQLException {
+        return new ChallengeCounterDelta(
+            rs.getInt("participants"),
+            rs.getInt("evidences_total"),
+            rs.getInt("evidences_pending"),
+            rs.getInt("evidences_approved"),
+            rs.getInt("evidences_rejected"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.impulse.features.challenge.adapters.out.persistence;
+
+import com.impulse.features.challenge.application.port.out.ChallengeLifecycleRepository;
+import com.impulse.shared.enums.Visibility;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC implementation of ChallengeLifecycleRepository port
+ * WHERE clauses mirror Challenge.canBeOpened()/open() and Challenge.canBeClosed()
+ * so batch transitions never produce a state the domain would reject. The consent rule for
+ * PUBLIC challenges lives in privacy and is applied by the caller between claim and openAll.
+ */
+@Repository
+@Transactional
+public class ChallengeLifecycleRepositoryImpl implements ChallengeLifecycleRepository {
+
+    private static final String OPENABLE =
+        "status = 'DRAFT' AND deleted_at IS NULL " +
+        "AND CHAR_LENGTH(TRIM(title)) > 0 " +
+        "AND description IS NOT NULL AND CHAR_LENGTH(TRIM(description)) > 0";
+
+    private static final String CLOSABLE =
+        "status = 'OPEN' AND deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public ChallengeLifecycleRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                            NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    @Override
+    public List<DueOpening> claimDueForOpening(LocalDateTime now, long afterChallengeId, int limit) {
+        return jdbcTemplate.query(
+            "SELECT id, owner_user_id, visibility, public_consent_version FROM challenges WHERE " + OPENABLE +
+            " AND scheduled_open_at <= ? AND id > ? ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED",
+            (rs, rowNum) -> new DueOpening(
+                rs.getLong("id"),
+                rs.getLong("owner_user_id"),
+                Visibility.valueOf(rs.getString("visibility")),
+                rs.getString("public_consent_version")),
+            Timestamp.valueOf(now), afterChallengeId, limit);
+    }
+
+    @Override
+    public List<Long> claimDueForClosing(LocalDateTime now, long afterChallengeId, int limit) {
+        return jdbcTemplate.queryForList(
+            "SELECT id FROM challenges WHERE " + CLOSABLE +
+            " AND scheduled_close_at <= ? AND id > ? ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED",
+            Long.class, Timestamp.valueOf(now), afterChallengeId, limit);
+    }
+
+    @Override
+    public int openAll(List<Long> challengeIds, LocalDateTime openedAt) {
+        if (challengeIds.isEmpty()) {
+            return 0;
+        }
+        return namedJdbcTemplate.update(
+            "UPDATE challenges SET status = 'OPEN', opened_at = :at, updated_at = :at " +
+            "WHERE id IN (:ids) AND " + OPENABLE,
+            new MapSqlParameterSource("ids", challengeIds).addValue("at", Timestamp.valueOf(openedAt)));
+    }
+
+    @Override
+    public int unscheduleOpening(List<Long> challengeIds, LocalDateTime updatedAt) {
+        if (challengeIds.isEmpty()) {
+            return 0;
+        }
+        return namedJdbcTemplate.update(
+            "UPDATE challenges SET scheduled_open_at = NULL, updated_at = :at WHERE id IN (:ids) AND status = 'DRAFT'",
+            new MapSqlParameterSource("ids", challengeIds).addValue("at", Timestamp.valueOf(updatedAt)));
+    }
+
+    @Override
+    public int closeAll(List<Long> challengeIds, LocalDateTime closedAt) {
+        if (challengeIds.isEmpty()) {
+            return 0;
+        }
+        return namedJdbcTemplate.update(
+            "UPDATE challenges SET status = 'CLOSED', closed_at = :at, updated_at = :at " +
+            "WHERE id IN (:ids) AND " + CLOSABLE,
+            new MapSqlParameterSource("ids", challengeIds).addValue("at", Timestamp.valueOf(closedAt)));
+    }
+}
@@ -0,0 +1,108 @@
+package com.impulse.features.challenge.adapters.out.persistence;
+
+import com.impulse.features.challenge.application.port.out.ChallengeTemplateRepository;
+import com.impulse.features.challenge.domain.ChallengeTemplate;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC implementation of ChallengeTemplateRepository port
+ * Instances are written in JDBC batches of INSERT_BATCH_SIZE rows, collecting generated keys per batch.
+ */
+@Repository
+@Transactional
+public class ChallengeTemplateRepositoryImpl implements ChallengeTemplateRepository {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private static final String TEMPLATE_COLUMNS =
+        "SELECT id, title, description, category, updated_at FROM challenges ";
+
+    private static final String LIVE_TEMPLATES = "WHERE is_template = TRUE AND deleted_at IS NULL";
+
+    private static final String INSERT_INSTANCE_SQL =
+        "INSERT INTO challenges (owner_user_id, title, description, status, visibility, category, " +
+        "template_id, is_demo, is_template, created_at, updated_at) " +
+        "VALUES (?, ?, ?, 'DRAFT', 'PRIVATE', ?, ?, FALSE, FALSE, ?, ?)";
+
+    private static final RowMapper<ChallengeTemplate> TEMPLATE_MAPPER = (rs, rowNum) -> new ChallengeTemplate(
+        rs.getLong("id"),
+        rs.getString("title"),
+        rs.getString("description"),
+        rs.getString("category"),
+        rs.getTimestamp("updated_at").toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChallengeTemplateRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChallengeTemplate> findAllTemplates() {
+        return jdbcTemplate.query(TEMPLATE_COLUMNS + LIVE_TEMPLATES, TEMPLATE_MAPPER);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String templatesFingerprint() {
+        return jdbcTemplate.queryForObject(
+            "SELECT CONCAT(COUNT(*), ':', COALESCE(MAX(id), 0), ':', COALESCE(MAX(updated_at), '')) " +
+            "FROM challenges " + LIVE_TEMPLATES,
+            String.class);
+    }
+
+    @Override
+    public List<Long> insertInstances(ChallengeTemplate template, List<Long> ownerUserIds, LocalDateTime createdAt) {
+        List<Long> ids = new ArrayList<>(ownerUserIds.size());
+        Timestamp now = Timestamp.valueOf(createdAt);
+
+        for (int from = 0; from < ownerUserIds.size(); from += INSERT_BATCH_SIZE) {
+            List<Long> chunk = ownerUserIds.subList(from, Math.min(from + INSERT_BATCH_SIZE, ownerUserIds.size()));
+            List<Long> generated = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+                // JdbcTemplate.batchUpdate does not expose generated keys for batches
+                try (PreparedStatement ps = connection.prepareStatement(INSERT_INSTANCE_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                    for (Long ownerUserId : chunk) {
+                        ps.setLong(1, ownerUserId);
+                        ps.setString(2, template.getTitle());
+                        ps.setString(3, template.getDescription());
+                        ps.setString(4, template.getCategory());
+                        ps.setLong(5, template.getTemplateId());
+                        ps.setTimestamp(6, now);
+                        ps.setTimestamp(7, now);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+
+                    List<Long> keys = new ArrayList<>(chunk.size());
+                    try (ResultSet rs = ps.getGeneratedKeys()) {
+                        while (rs.next()) {
+                            keys.add(rs.getLong(1));
+                        }
+                    }
+                    return keys;
+                }
+            });
+            if (generated == null || generated.size() != chunk.size()) {
+                throw new IncorrectResultSizeDataAccessException("Generated keys do not match inserted template instances",
+                    chunk.size(), generated == null ? 0 : generated.size());
+            }
+            ids.addAll(generated);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,32 @@
+package com.impulse.features.challenge.application.dto;
+
+/**
+ * Response DTO: ChallengeCountersResponse
+ * Participant and evidence totals shown on challenge cards
+ */
+public class ChallengeCountersResponse {
+    private final Long challengeId;
+    private final int participants;
+    private final int evidencesTotal;
+    private final int evidencesPending;
+    private final int evidencesApproved;
+    private final int evidencesRejected;
+
+    public ChallengeCountersResponse(Long challengeId, int participants, int evidencesTotal,
+                                     int evidencesPending, int evidencesApproved, int evidencesRejected) {
+        this.challengeId = challengeId;
+        this.participants = participants;
+        this.evidencesTotal = evidencesTotal;
+        this.evidencesPending = evidencesPending;
+        this.evidencesApproved = evidencesApproved;
+        this.evidencesRejected = evidencesRejected;
+    }
+
+    // Getters
+    public Long getChallengeId() { return challengeId; }
+    public int getParticipants() { return participants; }
+    public int getEvidencesTotal() { return evidencesTotal; }
+    public int getEvidencesPending() { return evidencesPending; }
+    public int getEvidencesApproved() { return evidencesApproved; }
+    public int getEvidencesRejected() { return evidencesRejected; }
+}
@@ -18,6 +18,8 @@ public class ChallengeResponse {
     private final Visibility visibility;
     private final String category;
     private final String publicConsentVersion;
+    private final LocalDateTime scheduledOpenAt;
+    private final LocalDateTime scheduledCloseAt;
     private final LocalDateTime openedAt;
     private final LocalDateTime closedAt;
     private final LocalDateTime createdAt;
@@ -27,7 +29,8 @@ public class ChallengeResponse {
 
     public ChallengeResponse(String id, Long ownerUserId, String title, String description,
                            ChallengeStatus status, Visibility visibility, String category,
-                           String publicConsentVersion, LocalDateTime openedAt, LocalDateTime closedAt,
+                           String publicConsentVersion, LocalDateTime scheduledOpenAt, LocalDateTime scheduledCloseAt,
+                           LocalDateTime openedAt, LocalDateTime closedAt,
                            LocalDateTime createdAt, LocalDateTime updatedAt,
                            boolean isDemo, boolean isTemplate) {
         this.id = id;
@@ -38,6 +41,8 @@ public ChallengeResponse(String id, Long ownerUserId, String title, String descr
         this.visibility = visibility;
         this.category = category;
         this.publicConsentVersion = publicConsentVersion;
+        this.scheduledOpenAt = scheduledOpenAt;
+        this.scheduledCloseAt = scheduledCloseAt;
         this.openedAt = openedAt;
         this.closedAt = closedAt;
         this.createdAt = createdAt;
@@ -55,6 +60,8 @@ public ChallengeResponse(String id, Long ownerUserId, String title, String descr
     public Visibility getVisibility() { return visibility; }
     public String getCategory() { return category; }
     public String getPublicConsentVersion() { return publicConsentVersion; }
+    public LocalDateTime getScheduledOpenAt() { return scheduledOpenAt; }
+    public LocalDateTime getScheduledCloseAt() { return scheduledCloseAt; }
     public LocalDateTime getOpenedAt() { return openedAt; }
     public LocalDateTime getClosedAt() { return closedAt; }
     public LocalDateTime getCreatedAt() { return createdAt; }
@@ -0,0 +1,24 @@
+package com.impulse.features.challenge.application.dto;
+
+import java.util.List;
+
+/**
+ * Command DTO: CloneChallengeTemplateCommand
+ * Instantiates a template for one or more owners (a coach may target many users at once)
+ */
+public class CloneChallengeTemplateCommand {
+    private final Long templateId;
+    private final Long requestingUserId;
+    private final List<Long> ownerUserIds;
+
+    public CloneChallengeTemplateCommand(Long templateId, Long requestingUserId, List<Long> ownerUserIds) {
+        this.templateId = templateId;
+        this.requestingUserId = requestingUserId;
+        this.ownerUserIds = ownerUserIds == null ? List.of() : List.copyOf(ownerUserIds);
+    }
+
+    // Getters
+    public Long getTemplateId() { return templateId; }
+    public Long getRequestingUserId() { return requestingUserId; }
+    public List<Long> getOwnerUserIds() { return ownerUserIds; }
+}
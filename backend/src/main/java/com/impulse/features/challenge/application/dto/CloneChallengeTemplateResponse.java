@@ -0,0 +1,24 @@
+package com.impulse.features.challenge.application.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO: CloneChallengeTemplateResponse
+ * Ids of the challenges created from a template, index-aligned with the requested owners
+ */
+public class CloneChallengeTemplateResponse {
+    private final Long templateId;
+    private final List<Long> ownerUserIds;
+    private final List<Long> challengeIds;
+
+    public CloneChallengeTemplateResponse(Long templateId, List<Long> ownerUserIds, List<Long> challengeIds) {
+        this.templateId = templateId;
+        this.ownerUserIds = List.copyOf(ownerUserIds);
+        this.challengeIds = List.copyOf(challengeIds);
+    }
+
+    // Getters
+    public Long getTemplateId() { return templateId; }
+    public List<Long> getOwnerUserIds() { return ownerUserIds; }
+    public List<Long> getChallengeIds() { return challengeIds; }
+}
@@ -0,0 +1,19 @@
+package com.impulse.features.challenge.application.dto;
+
+/**
+ * Command DTO: CloseChallengeCommand
+ * Represents a command to close a challenge
+ */
+public class CloseChallengeCommand {
+    private final String challengeId;
+    private final Long requestingUserId;
+
+    public CloseChallengeCommand(String challengeId, Long requestingUserId) {
+        this.challengeId = challengeId;
+        this.requestingUserId = requestingUserId;
+    }
+
+    // Getters
+    public String getChallengeId() { return challengeId; }
+    public Long getRequestingUserId() { return requestingUserId; }
+}
@@ -12,13 +12,22 @@ public class CreateChallengeCommand {
     private final String title;
     private final String description;
     private final String category;
+    private final LocalDateTime scheduledOpenAt;
+    private final LocalDateTime scheduledCloseAt;
     private final LocalDateTime timestamp;
 
     public CreateChallengeCommand(Long ownerUserId, String title, String description, String category) {
+        this(ownerUserId, title, description, category, null, null);
+    }
+
+    public CreateChallengeCommand(Long ownerUserId, String title, String description, String category,
+                                  LocalDateTime scheduledOpenAt, LocalDateTime scheduledCloseAt) {
         this.ownerUserId = ownerUserId;
         this.title = title;
         this.description = description;
         this.category = category;
+        this.scheduledOpenAt = scheduledOpenAt;
+        this.scheduledCloseAt = scheduledCloseAt;
         this.timestamp = LocalDateTime.now();
     }
 
@@ -27,6 +36,8 @@ public CreateChallengeCommand(Long ownerUserId, String title, String description
     public String getTitle() { return title; }
     public String getDescription() { return description; }
     public String getCategory() { return category; }
+    public LocalDateTime getScheduledOpenAt() { return scheduledOpenAt; }
+    public LocalDateTime getScheduledCloseAt() { return scheduledCloseAt; }
     public LocalDateTime getTimestamp() { return timestamp; }
 
     @Override
@@ -35,6 +46,8 @@ public String toString() {
                 "ownerUserId=" + ownerUserId +
                 ", title='" + title + '\'' +
                 ", category='" + category + '\'' +
+                ", scheduledOpenAt=" + scheduledOpenAt +
+                ", scheduledCloseAt=" + scheduledCloseAt +
                 ", timestamp=" + timestamp +
                 '}';
     }
@@ -0,0 +1,13 @@
+package com.impulse.features.challenge.application.port.in;
+
+import com.impulse.features.challenge.application.dto.CloneChallengeTemplateCommand;
+import com.impulse.features.challenge.application.dto.CloneChallengeTemplateResponse;
+import com.impulse.shared.utils.IdempotencyKey;
+
+/**
+ * Input Port: CloneChallengeTemplatePort
+ * Defines contract for starting challenges from a template
+ */
+public interface CloneChallengeTemplatePort {
+    CloneChallengeTemplateResponse execute(CloneChallengeTemplateCommand command, IdempotencyKey idempotencyKey);
+}
@@ -0,0 +1,13 @@
+package com.impulse.features.challenge.application.port.in;
+
+import com.impulse.features.challenge.application.dto.CloseChallengeCommand;
+import com.impulse.features.challenge.application.dto.ChallengeResponse;
+import com.impulse.shared.utils.IdempotencyKey;
+
+/**
+ * Input Port: CloseChallengePort
+ * Defines contract for closing challenges
+ */
+public interface CloseChallengePort {
+    ChallengeResponse execute(CloseChallengeCommand command, IdempotencyKey idempotencyKey);
+}
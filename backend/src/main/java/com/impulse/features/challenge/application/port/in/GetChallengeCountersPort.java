@@ -0,0 +1,12 @@
+package com.impulse.features.challenge.application.port.in;
+
+import com.impulse.features.challenge.application.dto.ChallengeCountersResponse;
+
+/**
+ * Input Port: GetChallengeCountersPort
+ * Defines contract for reading the participant/evidence totals of a challenge the
+ * requesting user is allowed to see
+ */
+public interface GetChallengeCountersPort {
+    ChallengeCountersResponse execute(Long challengeId, Long requestingUserId);
+}
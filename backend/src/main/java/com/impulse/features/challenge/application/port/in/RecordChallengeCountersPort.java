@@ -0,0 +1,11 @@
+package com.impulse.features.challenge.application.port.in;
+
+import com.impulse.features.challenge.domain.ChallengeCounterDelta;
+
+/**
+ * Input Port: RecordChallengeCountersPort
+ * Defines contract for registering counter changes from submit/decide/participate transactions
+ */
+public interface RecordChallengeCountersPort {
+    void record(Long challengeId, ChallengeCounterDelta delta);
+}
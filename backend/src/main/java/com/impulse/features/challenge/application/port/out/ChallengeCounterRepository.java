@@ -0,0 +1,48 @@
+package com.impulse.features.challenge.application.port.out;
+
+import com.impulse.features.challenge.domain.ChallengeCounterDelta;
+import com.impulse.features.challenge.domain.ChallengeCounters;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Output Port: ChallengeCounterRepository
+ * Defines contract for the materialized challenge_counters table
+ */
+public interface ChallengeCounterRepository {
+
+    /**
+     * Stored counters plus the logged deltas not yet folded into them
+     */
+    Optional<ChallengeCounters> findByChallengeId(Long challengeId);
+
+    /**
+     * Adds the given deltas to the stored counters in a single batch (upsert per challenge).
+     */
+    void applyDeltas(Map<Long, ChallengeCounterDelta> deltasByChallengeId);
+
+    /**
+     * Appends a delta to challenge_counter_deltas in the caller's transaction (write-behind).
+     */
+    void logDelta(Long challengeId, ChallengeCounterDelta delta);
+
+    /**
+     * Folds up to limit logged deltas into the stored counters and deletes them.
+     * Rows another flusher or a reconcile has locked are skipped.
+     * @return number of logged deltas consumed
+     */
+    int flushLoggedDeltas(int limit);
+
+    /**
+     * Next page of challenge ids in key order, used by reconciliation (keyset pagination).
+     */
+    List<Long> findChallengeIdsAfter(long afterChallengeId, int limit);
+
+    /**
+     * Recomputes the counters of the given challenges from participations/evidences and
+     * deletes the logged deltas the recount already includes.
+     * @return number of rows whose stored values had drifted
+     */
+    int reconcile(List<Long> challengeIds);
+}
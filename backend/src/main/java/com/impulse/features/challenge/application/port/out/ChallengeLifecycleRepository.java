@@ -0,0 +1,39 @@
+package com.impulse.features.challenge.application.port.out;
+
+import com.impulse.shared.enums.Visibility;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Output Port: ChallengeLifecycleRepository
+ * Set-based lifecycle transitions for scheduled challenges.
+ * Claim methods lock the returned rows (SKIP LOCKED) until the surrounding transaction ends,
+ * so several nodes can sweep concurrently without touching the same challenges.
+ */
+public interface ChallengeLifecycleRepository {
+
+    /**
+     * DRAFT challenges whose scheduled_open_at has passed and that satisfy the
+     * opening invariants (not deleted, non-blank title and description), in key order.
+     */
+    List<DueOpening> claimDueForOpening(LocalDateTime now, long afterChallengeId, int limit);
+
+    /**
+     * Ids of OPEN, non-deleted challenges whose scheduled_close_at has passed, in key order.
+     */
+    List<Long> claimDueForClosing(LocalDateTime now, long afterChallengeId, int limit);
+
+    int openAll(List<Long> challengeIds, LocalDateTime openedAt);
+
+    /**
+     * Clears scheduled_open_at of DRAFT challenges the sweep refused to open
+     */
+    int unscheduleOpening(List<Long> challengeIds, LocalDateTime updatedAt);
+
+    int closeAll(List<Long> challengeIds, LocalDateTime closedAt);
+
+    /**
+     * What the sweep needs to check the owner's consent before opening a claimed challenge
+     */
+    record DueOpening(long id, long ownerUserId, Visibility visibility, String publicConsentVersion) {}
+}
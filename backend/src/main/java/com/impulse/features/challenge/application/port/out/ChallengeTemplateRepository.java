@@ -0,0 +1,26 @@
+package com.impulse.features.challenge.application.port.out;
+
+import com.impulse.features.challenge.domain.ChallengeTemplate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Output Port: ChallengeTemplateRepository
+ * Loads template snapshots and inserts template instances in bulk
+ */
+public interface ChallengeTemplateRepository {
+
+    List<ChallengeTemplate> findAllTemplates();
+
+    /**
+     * Cheap change detector over all live templates (count + latest update),
+     * compared by the cache before deciding to reload.
+     */
+    String templatesFingerprint();
+
+    /**
+     * Inserts one DRAFT copy of the template per owner, in order.
+     * @return generated challenge ids, index-aligned with ownerUserIds
+     */
+    List<Long> insertInstances(ChallengeTemplate template, List<Long> ownerUserIds, LocalDateTime createdAt);
+}
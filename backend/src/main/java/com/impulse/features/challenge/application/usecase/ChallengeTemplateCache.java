@@ -0,0 +1,65 @@
+package com.impulse.features.challenge.application.usecase;
+
+import com.impulse.features.challenge.application.port.out.ChallengeTemplateRepository;
+import com.impulse.features.challenge.domain.ChallengeTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Copy-on-write cache of template snapshots.
+ * Readers dereference one volatile immutable map and never lock; writers build a new
+ * map and swap it in. The cache is poll-only: templates are written by seeds and SQL,
+ * never through the API, so a periodic fingerprint check reloads the map when they change.
+ * A new or edited template is visible to clones after at most one refresh interval.
+ */
+@Component
+public class ChallengeTemplateCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChallengeTemplateCache.class);
+
+    private final ChallengeTemplateRepository templateRepository;
+
+    private volatile Map<Long, ChallengeTemplate> templates = Map.of();
+    private volatile String fingerprint;
+
+    public ChallengeTemplateCache(ChallengeTemplateRepository templateRepository) {
+        this.templateRepository = templateRepository;
+    }
+
+    public Optional<ChallengeTemplate> get(Long templateId) {
+        return Optional.ofNullable(templates.get(templateId));
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reloadAll() {
+        String current = templateRepository.templatesFingerprint();
+        List<ChallengeTemplate> loaded = templateRepository.findAllTemplates();
+        Map<Long, ChallengeTemplate> next = new HashMap<>(loaded.size() * 2);
+        for (ChallengeTemplate template : loaded) {
+            next.put(template.getTemplateId(), template);
+        }
+        templates = Map.copyOf(next);
+        fingerprint = current;
+        logger.debug("Loaded {} challenge templates", next.size());
+    }
+
+    @Scheduled(fixedDelayString = "${impulse.challenges.templates.refresh-interval-ms:300000}")
+    public void reloadIfChanged() {
+        if (!templateRepository.templatesFingerprint().equals(fingerprint)) {
+            reloadAll();
+        }
+    }
+}
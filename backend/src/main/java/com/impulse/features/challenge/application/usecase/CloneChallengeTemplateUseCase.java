@@ -0,0 +1,99 @@
+package com.impulse.features.challenge.application.usecase;
+
+import com.impulse.features.challenge.application.dto.CloneChallengeTemplateCommand;
+import com.impulse.features.challenge.application.dto.CloneChallengeTemplateResponse;
+import com.impulse.features.challenge.application.port.in.CloneChallengeTemplatePort;
+import com.impulse.features.challenge.application.port.out.ChallengeTemplateRepository;
+import com.impulse.features.challenge.domain.ChallengeTemplate;
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ValidationException;
+import com.impulse.shared.utils.IdempotencyKey;
+import com.impulse.infrastructure.services.IdempotencyService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Use Case: CloneChallengeTemplateUseCase
+ * Starts challenges from a template: one DRAFT copy per owner
+ * The template is read from ChallengeTemplateCache, so a clone costs only its insert
+ */
+@Service
+@Transactional
+public class CloneChallengeTemplateUseCase implements CloneChallengeTemplatePort {
+
+    private final ChallengeTemplateCache templateCache;
+    private final ChallengeTemplateRepository templateRepository;
+    private final IdempotencyService idempotencyService;
+    private final int maxOwnersPerRequest;
+
+    public CloneChallengeTemplateUseCase(ChallengeTemplateCache templateCache,
+                                         ChallengeTemplateRepository templateRepository,
+                                         IdempotencyService idempotencyService,
+                                         @Value("${impulse.challenges.templates.max-bulk-owners:1000}") int maxOwnersPerRequest) {
+        this.templateCache = templateCache;
+        this.templateRepository = templateRepository;
+        this.idempotencyService = idempotencyService;
+        this.maxOwnersPerRequest = maxOwnersPerRequest;
+    }
+
+    @Override
+    public CloneChallengeTemplateResponse execute(CloneChallengeTemplateCommand command, IdempotencyKey idempotencyKey) {
+        // Idempotency check
+        if (idempotencyKey != null) {
+            var existingResult = idempotencyService.getResult(idempotencyKey, CloneChallengeTemplateResponse.class);
+            if (existingResult.isPresent()) {
+                return existingResult.get();
+            }
+        }
+
+        validateCommand(command);
+
+        ChallengeTemplate template = templateCache.get(command.getTemplateId())
+            .orElseThrow(() -> new DomainException("Challenge template not found"));
+
+        // Default to the requester; duplicates would only create identical drafts
+        List<Long> owners = command.getOwnerUserIds().isEmpty()
+            ? List.of(command.getRequestingUserId())
+            : new ArrayList<>(new LinkedHashSet<>(command.getOwnerUserIds()));
+
+        List<Long> challengeIds = templateRepository.insertInstances(template, owners, LocalDateTime.now());
+
+        CloneChallengeTemplateResponse response =
+            new CloneChallengeTemplateResponse(template.getTemplateId(), owners, challengeIds);
+
+        if (idempotencyKey != null) {
+            idempotencyService.storeResult(idempotencyKey, response);
+        }
+        return response;
+    }
+
+    private void validateCommand(CloneChallengeTemplateCommand command) {
+        if (command == null) {
+            throw new ValidationException("CloneChallengeTemplateCommand cannot be null");
+        }
+
+        if (command.getTemplateId() == null || command.getTemplateId() <= 0) {
+            throw new ValidationException("Valid template ID is required");
+        }
+
+        if (command.getRequestingUserId() == null || command.getRequestingUserId() <= 0) {
+            throw new ValidationException("Valid requesting user ID is required");
+        }
+
+        if (command.getOwnerUserIds().size() > maxOwnersPerRequest) {
+            throw new ValidationException("Cannot instantiate a template for more than " + maxOwnersPerRequest + " users at once");
+        }
+
+        for (Long ownerUserId : command.getOwnerUserIds()) {
+            if (ownerUserId == null || ownerUserId <= 0) {
+                throw new ValidationException("Owner user IDs must be positive");
+            }
+        }
+    }
+}
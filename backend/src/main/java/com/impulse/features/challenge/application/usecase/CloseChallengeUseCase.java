@@ -0,0 +1,113 @@
+package com.impulse.features.challenge.application.usecase;
+
+import com.impulse.features.challenge.application.dto.CloseChallengeCommand;
+import com.impulse.features.challenge.application.dto.ChallengeResponse;
+import com.impulse.features.challenge.application.port.in.CloseChallengePort;
+import com.impulse.features.challenge.application.port.out.ChallengeRepository;
+import com.impulse.features.challenge.domain.Challenge;
+import com.impulse.features.challenge.domain.ChallengeId;
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ValidationException;
+import com.impulse.shared.utils.IdempotencyKey;
+import com.impulse.infrastructure.services.IdempotencyService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use Case: CloseChallengeUseCase
+ * Handles manual closing of challenges (OPEN → CLOSED)
+ * Scheduled closes go through TransitionDueChallengesUseCase instead
+ */
+@Service
+@Transactional
+public class CloseChallengeUseCase implements CloseChallengePort {
+
+    private final ChallengeRepository challengeRepository;
+    private final IdempotencyService idempotencyService;
+
+    public CloseChallengeUseCase(ChallengeRepository challengeRepository,
+                                IdempotencyService idempotencyService) {
+        this.challengeRepository = challengeRepository;
+        this.idempotencyService = idempotencyService;
+    }
+
+    @Override
+    public ChallengeResponse execute(CloseChallengeCommand command, IdempotencyKey idempotencyKey) {
+        // Idempotency check
+        if (idempotencyKey != null) {
+            var existingResult = idempotencyService.getResult(idempotencyKey, ChallengeResponse.class);
+            if (existingResult.isPresent()) {
+                return existingResult.get();
+            }
+        }
+
+        // Validate command
+        validateCommand(command);
+
+        // Find challenge
+        ChallengeId challengeId = ChallengeId.of(command.getChallengeId());
+        Challenge challenge = challengeRepository.findById(challengeId)
+            .orElseThrow(() -> new DomainException("Challenge not found"));
+
+        // Check ownership
+        if (!challenge.getOwnerUserId().equals(command.getRequestingUserId())) {
+            throw new DomainException("Only challenge owner can close the challenge");
+        }
+
+        try {
+            challenge.close();
+
+            Challenge savedChallenge = challengeRepository.save(challenge);
+
+            ChallengeResponse response = toResponse(savedChallenge);
+
+            // Store idempotency result if provided
+            if (idempotencyKey != null) {
+                idempotencyService.storeResult(idempotencyKey, response);
+            }
+
+            return response;
+
+        } catch (Exception e) {
+            if (e instanceof DomainException || e instanceof ValidationException) {
+                throw e;
+            }
+            throw new DomainException("Failed to close challenge: " + e.getMessage());
+        }
+    }
+
+    private void validateCommand(CloseChallengeCommand command) {
+        if (command == null) {
+            throw new ValidationException("CloseChallengeCommand cannot be null");
+        }
+
+        if (command.getChallengeId() == null || command.getChallengeId().trim().isEmpty()) {
+            throw new ValidationException("Challenge ID is required");
+        }
+
+        if (command.getRequestingUserId() == null || command.getRequestingUserId() <= 0) {
+            throw new ValidationException("Valid requesting user ID is required");
+        }
+    }
+
+    private ChallengeResponse toResponse(Challenge challenge) {
+        return new ChallengeResponse(
+            challenge.getId().getValue(),
+            challenge.getOwnerUserId(),
+            challenge.getTitle(),
+            challenge.getDescription(),
+            challenge.getStatus(),
+            challenge.getVisibility(),
+            challenge.getCategory(),
+            challenge.getPublicConsentVersion(),
+            challenge.getScheduledOpenAt(),
+            challenge.getScheduledCloseAt(),
+            challenge.getOpenedAt(),
+            challenge.getClosedAt(),
+            challenge.getCreatedAt(),
+            challenge.getUpdatedAt(),
+            challenge.isDemo(),
+            challenge.isTemplate()
+        );
+    }
+}
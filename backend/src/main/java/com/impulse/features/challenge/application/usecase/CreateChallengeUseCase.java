@@ -52,6 +52,11 @@ public ChallengeResponse execute(CreateChallengeCommand command, IdempotencyKey
                 command.getCategory()
             );
 
+            // Optional automatic transitions, applied by the lifecycle sweeper
+            if (command.getScheduledOpenAt() != null || command.getScheduledCloseAt() != null) {
+                challenge.schedule(command.getScheduledOpenAt(), command.getScheduledCloseAt());
+            }
+
             // Persist challenge
             Challenge savedChallenge = challengeRepository.save(challenge);
 
@@ -97,6 +102,11 @@ private void validateCommand(CreateChallengeCommand command) {
         if (command.getCategory() != null && command.getCategory().length() > 100) {
             throw new ValidationException("Challenge category cannot exceed 100 characters");
         }
+
+        if (command.getScheduledOpenAt() != null && command.getScheduledCloseAt() != null &&
+            !command.getScheduledCloseAt().isAfter(command.getScheduledOpenAt())) {
+            throw new ValidationException("Scheduled close must be after scheduled open");
+        }
     }
 
     private ChallengeResponse toResponse(Challenge challenge) {
@@ -109,10 +119,14 @@ private ChallengeResponse toResponse(Challenge challenge) {
             challenge.getVisibility(),
             challenge.getCategory(),
             challenge.getPublicConsentVersion(),
+            challenge.getScheduledOpenAt(),
+            challenge.getScheduledCloseAt(),
             challenge.getOpenedAt(),
             challenge.getClosedAt(),
             challenge.getCreatedAt(),
-            challenge.getUpdatedAt()
+            challenge.getUpdatedAt(),
+            challenge.isDemo(),
+            challenge.isTemplate()
         );
     }
 }
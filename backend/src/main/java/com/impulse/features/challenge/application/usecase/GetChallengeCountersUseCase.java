@@ -0,0 +1,80 @@
+package com.impulse.features.challenge.application.usecase;
+
+import com.impulse.features.challenge.application.dto.ChallengeCountersResponse;
+import com.impulse.features.challenge.application.port.in.GetChallengeCountersPort;
+import com.impulse.features.challenge.application.port.out.ChallengeCounterRepository;
+import com.impulse.features.challenge.application.port.out.ChallengeRepository;
+import com.impulse.features.challenge.domain.Challenge;
+import com.impulse.features.challenge.domain.ChallengeCounters;
+import com.impulse.features.challenge.domain.ChallengeId;
+import com.impulse.features.privacy.application.port.in.CheckConsentPort;
+import com.impulse.shared.enums.Visibility;
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ErrorCodes;
+import com.impulse.shared.error.ValidationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use Case: GetChallengeCountersUseCase
+ * Reads the materialized counters of a challenge (single indexed row)
+ * merged with the logged deltas not flushed yet.
+ * Owners always see their counters; others only for LINK challenges and for PUBLIC ones
+ * whose owner still allows public content. A challenge the user may not see is reported
+ * as not found, so its existence does not leak.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetChallengeCountersUseCase implements GetChallengeCountersPort {
+
+    private final ChallengeCounterRepository counterRepository;
+    private final ChallengeRepository challengeRepository;
+    private final CheckConsentPort checkConsent;
+
+    public GetChallengeCountersUseCase(ChallengeCounterRepository counterRepository,
+                                       ChallengeRepository challengeRepository,
+                                       CheckConsentPort checkConsent) {
+        this.counterRepository = counterRepository;
+        this.challengeRepository = challengeRepository;
+        this.checkConsent = checkConsent;
+    }
+
+    @Override
+    public ChallengeCountersResponse execute(Long challengeId, Long requestingUserId) {
+        if (challengeId == null || challengeId <= 0) {
+            throw new ValidationException("Valid challenge ID is required");
+        }
+
+        if (requestingUserId == null || requestingUserId <= 0) {
+            throw new ValidationException("Valid requesting user ID is required");
+        }
+
+        challengeRepository.findById(ChallengeId.of(challengeId))
+            .filter(found -> !found.isDeleted())
+            .filter(found -> canView(found, requestingUserId))
+            .orElseThrow(() -> new DomainException("Challenge not found", ErrorCodes.CHALLENGE_NOT_FOUND));
+
+        ChallengeCounters counters = counterRepository.findByChallengeId(challengeId)
+            .orElseGet(() -> ChallengeCounters.empty(challengeId));
+
+        return new ChallengeCountersResponse(
+            counters.getChallengeId(),
+            counters.getParticipants(),
+            counters.getEvidencesTotal(),
+            counters.getEvidencesPending(),
+            counters.getEvidencesApproved(),
+            counters.getEvidencesRejected()
+        );
+    }
+
+    private boolean canView(Challenge challenge, Long userId) {
+        if (challenge.getOwnerUserId().equals(userId)) {
+            return true;
+        }
+        if (challenge.getVisibility() == Visibility.LINK) {
+            return true;
+        }
+        return challenge.getVisibility() == Visibility.PUBLIC
+            && checkConsent.getSnapshot(challenge.getOwnerUserId()).allowsPublicContent();
+    }
+}
@@ -6,6 +6,8 @@
 import com.impulse.features.challenge.application.port.out.ChallengeRepository;
 import com.impulse.features.challenge.domain.Challenge;
 import com.impulse.features.challenge.domain.ChallengeId;
+import com.impulse.features.privacy.application.port.in.CheckConsentPort;
+import com.impulse.shared.enums.ConsentKey;
 import com.impulse.shared.error.DomainException;
 import com.impulse.shared.error.ValidationException;
 import com.impulse.shared.enums.Visibility;
@@ -25,11 +27,14 @@ public class OpenChallengeUseCase implements OpenChallengePort {
 
     private final ChallengeRepository challengeRepository;
     private final IdempotencyService idempotencyService;
+    private final CheckConsentPort checkConsent;
 
     public OpenChallengeUseCase(ChallengeRepository challengeRepository,
-                               IdempotencyService idempotencyService) {
+                               IdempotencyService idempotencyService,
+                               CheckConsentPort checkConsent) {
         this.challengeRepository = challengeRepository;
         this.idempotencyService = idempotencyService;
+        this.checkConsent = checkConsent;
     }
 
     @Override
@@ -55,6 +60,14 @@ public ChallengeResponse execute(OpenChallengeCommand command, IdempotencyKey id
             throw new DomainException("Only challenge owner can open the challenge");
         }
 
+        // A public challenge must cite the privacy consent its owner actually holds
+        Visibility targetVisibility = command.getVisibility() != null ? command.getVisibility() : challenge.getVisibility();
+        if (targetVisibility == Visibility.PUBLIC &&
+            !checkConsent.getSnapshot(challenge.getOwnerUserId())
+                .isGrantedAt(ConsentKey.PRIVACY, command.getConsentVersion() != null ? command.getConsentVersion().trim() : null)) {
+            throw new ValidationException("consentVersion", "does not match an active privacy consent");
+        }
+
         try {
             // Open challenge with consent version
             challenge.open(command.getConsentVersion());
@@ -114,10 +127,14 @@ private ChallengeResponse toResponse(Challenge challenge) {
             challenge.getVisibility(),
             challenge.getCategory(),
             challenge.getPublicConsentVersion(),
+            challenge.getScheduledOpenAt(),
+            challenge.getScheduledCloseAt(),
             challenge.getOpenedAt(),
             challenge.getClosedAt(),
             challenge.getCreatedAt(),
-            challenge.getUpdatedAt()
+            challenge.getUpdatedAt(),
+            challenge.isDemo(),
+            challenge.isTemplate()
         );
     }
 }
@@ -0,0 +1,53 @@
+package com.impulse.features.challenge.application.usecase;
+
+import com.impulse.features.challenge.application.port.out.ChallengeCounterRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Use Case: ReconcileChallengeCountersUseCase
+ * Walks all challenges in key order and rewrites counters that drifted from the source tables.
+ * Each batch runs in its own short transaction so reconciliation never holds locks for long;
+ * batching, checkpointing and throttling are driven by the challenge-counter-reconcile job.
+ */
+@Service
+public class ReconcileChallengeCountersUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReconcileChallengeCountersUseCase.class);
+
+    private final ChallengeCounterRepository counterRepository;
+    private final RecordChallengeCountersUseCase recordCounters;
+
+    public ReconcileChallengeCountersUseCase(ChallengeCounterRepository counterRepository,
+                                             RecordChallengeCountersUseCase recordCounters) {
+        this.counterRepository = counterRepository;
+        this.recordCounters = recordCounters;
+    }
+
+    /**
+     * Fold the logged deltas first so each batch has fewer rows to lock; deltas logged
+     * later are either deleted by the recount that includes them or flushed afterwards
+     */
+    public void prepare() {
+        recordCounters.flush();
+    }
+
+    public List<Long> findBatch(long afterChallengeId, int limit) {
+        return counterRepository.findChallengeIdsAfter(afterChallengeId, limit);
+    }
+
+    /**
+     * @return number of challenges whose counters were corrected
+     */
+    public int reconcile(List<Long> challengeIds) {
+        int corrected = counterRepository.reconcile(challengeIds);
+        if (corrected > 0) {
+            logger.info("Challenge counters corrected: {} of {} challenges up to id {}",
+                corrected, challengeIds.size(), challengeIds.get(challengeIds.size() - 1));
+        }
+        return corrected;
+    }
+}
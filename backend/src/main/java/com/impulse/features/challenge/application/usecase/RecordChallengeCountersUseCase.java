@@ -0,0 +1,64 @@
+package com.impulse.features.challenge.application.usecase;
+
+import com.impulse.features.challenge.application.port.in.RecordChallengeCountersPort;
+import com.impulse.features.challenge.application.port.out.ChallengeCounterRepository;
+import com.impulse.features.challenge.domain.ChallengeCounterDelta;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * Use Case: RecordChallengeCountersUseCase
+ * Maintains challenge_counters from the submit/decide/participate transactions.
+ * Two write modes (impulse.counters.write-mode):
+ *  - write-behind (default): the caller's transaction appends the delta to
+ *    challenge_counter_deltas and flush folds the log into the counters in batches, so hot
+ *    challenges do not serialize on their counter row
+ *  - transactional: the delta upsert runs inside the caller's transaction
+ * A logged delta commits or rolls back with the change it counts, so nothing is lost on a
+ * crash and a reconcile can tell exactly which deltas its recount includes.
+ */
+@Service
+public class RecordChallengeCountersUseCase implements RecordChallengeCountersPort {
+
+    private final ChallengeCounterRepository counterRepository;
+    private final boolean writeBehind;
+    private final int flushBatchSize;
+
+    public RecordChallengeCountersUseCase(ChallengeCounterRepository counterRepository,
+                                          @Value("${impulse.counters.write-mode:write-behind}") String writeMode,
+                                          @Value("${impulse.counters.flush-batch-size:1000}") int flushBatchSize) {
+        this.counterRepository = counterRepository;
+        this.writeBehind = !"transactional".equalsIgnoreCase(writeMode);
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    @Override
+    public void record(Long challengeId, ChallengeCounterDelta delta) {
+        if (challengeId == null || delta == null || delta.isZero()) {
+            return;
+        }
+
+        if (writeBehind) {
+            counterRepository.logDelta(challengeId, delta);
+        } else {
+            counterRepository.applyDeltas(Map.of(challengeId, delta));
+        }
+    }
+
+    /**
+     * Folds the logged deltas into the counters, one transaction per batch.
+     * Every node may run it; concurrent flushers take disjoint rows.
+     * @return number of logged deltas folded
+     */
+    public int flush() {
+        int flushed = 0;
+        int batch;
+        do {
+            batch = counterRepository.flushLoggedDeltas(flushBatchSize);
+            flushed += batch;
+        } while (batch == flushBatchSize);
+        return flushed;
+    }
+}
@@ -0,0 +1,159 @@
+package com.impulse.features.challenge.application.usecase;
+
+import com.impulse.features.challenge.application.port.out.ChallengeLifecycleRepository;
+import com.impulse.features.challenge.application.port.out.ChallengeLifecycleRepository.DueOpening;
+import com.impulse.features.challenge.domain.ChallengesTransitionedEvent;
+import com.impulse.features.privacy.application.port.in.CheckConsentPort;
+import com.impulse.features.privacy.domain.ConsentSnapshot;
+import com.impulse.shared.enums.ChallengeStatus;
+import com.impulse.shared.enums.ConsentKey;
+import com.impulse.shared.enums.Visibility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use Case: TransitionDueChallengesUseCase
+ * Opens/closes challenges whose scheduled instant has passed.
+ * Due rows are swept in key-ordered batches; each batch is one transaction with one
+ * set-based UPDATE and one ChallengesTransitionedEvent, so a midnight wave of thousands
+ * of challenges costs a handful of transactions instead of one per challenge.
+ * As in OpenChallengeUseCase, a PUBLIC challenge opens only while its owner holds the privacy
+ * consent version it cites; the owners of a batch are checked with one consent lookup, and
+ * refused challenges are unscheduled so the owner has to open them again by hand.
+ */
+@Service
+public class TransitionDueChallengesUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransitionDueChallengesUseCase.class);
+
+    private final ChallengeLifecycleRepository lifecycleRepository;
+    private final CheckConsentPort checkConsent;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public TransitionDueChallengesUseCase(ChallengeLifecycleRepository lifecycleRepository,
+                                          CheckConsentPort checkConsent,
+                                          ApplicationEventPublisher eventPublisher,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${impulse.challenges.lifecycle.batch-size:500}") int batchSize) {
+        this.lifecycleRepository = lifecycleRepository;
+        this.checkConsent = checkConsent;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return number of challenges opened
+     */
+    public int openDue() {
+        return sweep(ChallengeStatus.OPEN);
+    }
+
+    /**
+     * @return number of challenges closed
+     */
+    public int closeDue() {
+        return sweep(ChallengeStatus.CLOSED);
+    }
+
+    private int sweep(ChallengeStatus target) {
+        LocalDateTime now = LocalDateTime.now();
+        long afterId = 0L;
+        int transitioned = 0;
+
+        while (true) {
+            final long cursor = afterId;
+            Batch batch = transactionTemplate.execute(status -> target == ChallengeStatus.OPEN
+                ? openBatch(now, cursor)
+                : closeBatch(now, cursor));
+            if (batch == null || batch.claimed() == 0) {
+                break;
+            }
+            transitioned += batch.transitioned();
+            afterId = batch.lastId();
+            if (batch.claimed() < batchSize) {
+                break;
+            }
+        }
+
+        if (transitioned > 0) {
+            logger.info("Scheduled lifecycle sweep moved {} challenges to {}", transitioned, target);
+        }
+        return transitioned;
+    }
+
+    private Batch openBatch(LocalDateTime now, long afterId) {
+        List<DueOpening> due = lifecycleRepository.claimDueForOpening(now, afterId, batchSize);
+        if (due.isEmpty()) {
+            return Batch.EMPTY;
+        }
+
+        Map<Long, ConsentSnapshot> consents = checkConsent.getSnapshots(due.stream()
+            .filter(opening -> opening.visibility() == Visibility.PUBLIC)
+            .map(DueOpening::ownerUserId)
+            .distinct()
+            .toList());
+        List<Long> ids = new ArrayList<>(due.size());
+        List<Long> refused = new ArrayList<>();
+        for (DueOpening opening : due) {
+            if (opening.visibility() == Visibility.PUBLIC
+                && !consents.get(opening.ownerUserId()).isGrantedAt(ConsentKey.PRIVACY, opening.publicConsentVersion())) {
+                refused.add(opening.id());
+            } else {
+                ids.add(opening.id());
+            }
+        }
+        if (!refused.isEmpty()) {
+            lifecycleRepository.unscheduleOpening(refused, now);
+            logger.info("Scheduled opening cancelled for {} public challenges whose owner no longer holds the cited consent: {}",
+                refused.size(), refused);
+        }
+
+        transition(ChallengeStatus.OPEN, ids, now);
+        return new Batch(due.size(), ids.size(), due.get(due.size() - 1).id());
+    }
+
+    private Batch closeBatch(LocalDateTime now, long afterId) {
+        List<Long> ids = lifecycleRepository.claimDueForClosing(now, afterId, batchSize);
+        if (ids.isEmpty()) {
+            return Batch.EMPTY;
+        }
+        transition(ChallengeStatus.CLOSED, ids, now);
+        return new Batch(ids.size(), ids.size(), ids.get(ids.size() - 1));
+    }
+
+    private void transition(ChallengeStatus target, List<Long> ids, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        // Rows are locked by the claim, so the guarded UPDATE transitions all of them
+        int updated = target == ChallengeStatus.OPEN
+            ? lifecycleRepository.openAll(ids, now)
+            : lifecycleRepository.closeAll(ids, now);
+        if (updated != ids.size()) {
+            logger.warn("Lifecycle batch to {} claimed {} challenges but updated {}", target, ids.size(), updated);
+        }
+
+        eventPublisher.publishEvent(new ChallengesTransitionedEvent(target, ids, now));
+    }
+
+    /**
+     * claimed drives the keyset cursor, transitioned the sweep total
+     */
+    private record Batch(int claimed, int transitioned, long lastId) {
+        static final Batch EMPTY = new Batch(0, 0, 0L);
+    }
+}
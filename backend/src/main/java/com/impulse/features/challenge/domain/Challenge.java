@@ -11,6 +11,7 @@
  * Business logic for challenge lifecycle and rules
  * Challenge: DRAFT → OPEN → CLOSED
  * visibility: PRIVATE|PUBLIC|LINK (default PRIVATE)
+ * Optional scheduledOpenAt/scheduledCloseAt drive automatic transitions
  */
 public class Challenge {
     private final ChallengeId id;
@@ -21,6 +22,8 @@ public class Challenge {
     private Visibility visibility;
     private String category;
     private String publicConsentVersion;
+    private LocalDateTime scheduledOpenAt;
+    private LocalDateTime scheduledCloseAt;
     private LocalDateTime openedAt;
     private LocalDateTime closedAt;
     private final LocalDateTime createdAt;
@@ -50,7 +53,8 @@ public Challenge(ChallengeId id, Long ownerUserId, String title, String descript
     // Constructor for reconstruction
     public Challenge(ChallengeId id, Long ownerUserId, String title, String description,
                     ChallengeStatus status, Visibility visibility, String category,
-                    String publicConsentVersion, LocalDateTime openedAt, LocalDateTime closedAt,
+                    String publicConsentVersion, LocalDateTime scheduledOpenAt, LocalDateTime scheduledCloseAt,
+                    LocalDateTime openedAt, LocalDateTime closedAt,
                     LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime deletedAt,
                     boolean isDemo, boolean isTemplate) {
         this.id = id;
@@ -61,6 +65,8 @@ public Challenge(ChallengeId id, Long ownerUserId, String title, String descript
         this.visibility = visibility;
         this.category = category;
         this.publicConsentVersion = publicConsentVersion;
+        this.scheduledOpenAt = scheduledOpenAt;
+        this.scheduledCloseAt = scheduledCloseAt;
         this.openedAt = openedAt;
         this.closedAt = closedAt;
         this.createdAt = createdAt;
@@ -81,7 +87,9 @@ public static Challenge create(Long ownerUserId, String title, String descriptio
             title,
             description,
             category,
-            LocalDateTime.now()
+            LocalDateTime.now(),
+            false,
+            false
         );
     }
 
@@ -113,6 +121,27 @@ public void close() {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Plans automatic transitions; null clears the corresponding instant.
+     * Invariants are re-checked when the sweeper applies them (see canBeOpened/canBeClosed).
+     */
+    public void schedule(LocalDateTime openAt, LocalDateTime closeAt) {
+        if (status == ChallengeStatus.CLOSED) {
+            throw new DomainException("Cannot schedule a closed challenge");
+        }
+        if (openAt != null && status != ChallengeStatus.DRAFT) {
+            throw new DomainException("Only DRAFT challenges can be scheduled to open");
+        }
+        LocalDateTime effectiveOpen = openAt != null ? openAt : openedAt;
+        if (closeAt != null && effectiveOpen != null && !closeAt.isAfter(effectiveOpen)) {
+            throw new DomainException("Scheduled close must be after the opening time");
+        }
+
+        this.scheduledOpenAt = openAt;
+        this.scheduledCloseAt = closeAt;
+        this.updatedAt = LocalDateTime.now();
+    }
+
     public void changeVisibility(Visibility newVisibility, String consentVersion) {
         if (newVisibility == null) {
             throw new DomainException("Visibility cannot be null");
@@ -192,6 +221,8 @@ private void setDescription(String description) {
     public Visibility getVisibility() { return visibility; }
     public String getCategory() { return category; }
     public String getPublicConsentVersion() { return publicConsentVersion; }
+    public LocalDateTime getScheduledOpenAt() { return scheduledOpenAt; }
+    public LocalDateTime getScheduledCloseAt() { return scheduledCloseAt; }
     public LocalDateTime getOpenedAt() { return openedAt; }
     public LocalDateTime getClosedAt() { return closedAt; }
     public LocalDateTime getCreatedAt() { return createdAt; }
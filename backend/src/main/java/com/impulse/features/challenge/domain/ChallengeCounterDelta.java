@@ -0,0 +1,106 @@
+package com.impulse.features.challenge.domain;
+
+import com.impulse.shared.enums.EvidenceStatus;
+import java.util.Objects;
+
+/**
+ * Value Object: ChallengeCounterDelta
+ * Signed change to the materialized counters of one challenge.
+ * Deltas are additive, so many of them can be merged before hitting the database.
+ */
+public final class ChallengeCounterDelta {
+
+    public static final ChallengeCounterDelta ZERO = new ChallengeCounterDelta(0, 0, 0, 0, 0);
+
+    private final int participants;
+    private final int evidencesTotal;
+    private final int evidencesPending;
+    private final int evidencesApproved;
+    private final int evidencesRejected;
+
+    public ChallengeCounterDelta(int participants, int evidencesTotal, int evidencesPending,
+                                 int evidencesApproved, int evidencesRejected) {
+        this.participants = participants;
+        this.evidencesTotal = evidencesTotal;
+        this.evidencesPending = evidencesPending;
+        this.evidencesApproved = evidencesApproved;
+        this.evidencesRejected = evidencesRejected;
+    }
+
+    // Factory methods for the transitions that move counters
+    public static ChallengeCounterDelta participantJoined() {
+        return new ChallengeCounterDelta(1, 0, 0, 0, 0);
+    }
+
+    public static ChallengeCounterDelta participantLeft() {
+        return new ChallengeCounterDelta(-1, 0, 0, 0, 0);
+    }
+
+    public static ChallengeCounterDelta evidenceSubmitted() {
+        return new ChallengeCounterDelta(0, 1, 1, 0, 0);
+    }
+
+    public static ChallengeCounterDelta evidenceDecided(EvidenceStatus decision) {
+        Objects.requireNonNull(decision, "Decision cannot be null");
+        switch (decision) {
+            case APPROVED:
+                return new ChallengeCounterDelta(0, 0, -1, 1, 0);
+            case REJECTED:
+                return new ChallengeCounterDelta(0, 0, -1, 0, 1);
+            default:
+                throw new IllegalArgumentException("Evidence can only be decided as APPROVED or REJECTED");
+        }
+    }
+
+    /** PENDING evidence held for matching banned media leaves the pending count */
+    public static ChallengeCounterDelta evidenceHeld() {
+        return new ChallengeCounterDelta(0, 0, -1, 0, 0);
+    }
+
+    public static ChallengeCounterDelta heldEvidenceReleased() {
+        return new ChallengeCounterDelta(0, 0, 1, 0, 0);
+    }
+
+    public static ChallengeCounterDelta heldEvidenceRejected() {
+        return new ChallengeCounterDelta(0, 0, 0, 0, 1);
+    }
+
+    public ChallengeCounterDelta plus(ChallengeCounterDelta other) {
+        return new ChallengeCounterDelta(
+            participants + other.participants,
+            evidencesTotal + other.evidencesTotal,
+            evidencesPending + other.evidencesPending,
+            evidencesApproved + other.evidencesApproved,
+            evidencesRejected + other.evidencesRejected
+        );
+    }
+
+    public boolean isZero() {
+        return participants == 0 && evidencesTotal == 0 && evidencesPending == 0
+            && evidencesApproved == 0 && evidencesRejected == 0;
+    }
+
+    // Getters
+    public int getParticipants() { return participants; }
+    public int getEvidencesTotal() { return evidencesTotal; }
+    public int getEvidencesPending() { return evidencesPending; }
+    public int getEvidencesApproved() { return evidencesApproved; }
+    public int getEvidencesRejected() { return evidencesRejected; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ChallengeCounterDelta that = (ChallengeCounterDelta) o;
+        return participants == that.participants
+            && evidencesTotal == that.evidencesTotal
+            && evidencesPending == that.evidencesPending
+            && evidencesApproved == that.evidencesApproved
+            && evidencesRejected == that.evidencesRejected;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(participants, evidencesTotal, evidencesPending, evidencesApproved, evidencesRejected);
+    }
+}
@@ -0,0 +1,61 @@
+package com.impulse.features.challenge.domain;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Read model: ChallengeCounters
+ * Materialized participant/evidence totals of a challenge (one row in challenge_counters).
+ * Counters are clamped at zero when exposed, drift is fixed by reconciliation.
+ */
+public final class ChallengeCounters {
+    private final Long challengeId;
+    private final int participants;
+    private final int evidencesTotal;
+    private final int evidencesPending;
+    private final int evidencesApproved;
+    private final int evidencesRejected;
+    private final LocalDateTime reconciledAt;
+
+    public ChallengeCounters(Long challengeId, int participants, int evidencesTotal, int evidencesPending,
+                             int evidencesApproved, int evidencesRejected, LocalDateTime reconciledAt) {
+        this.challengeId = Objects.requireNonNull(challengeId, "Challenge ID cannot be null");
+        this.participants = participants;
+        this.evidencesTotal = evidencesTotal;
+        this.evidencesPending = evidencesPending;
+        this.evidencesApproved = evidencesApproved;
+        this.evidencesRejected = evidencesRejected;
+        this.reconciledAt = reconciledAt;
+    }
+
+    public static ChallengeCounters empty(Long challengeId) {
+        return new ChallengeCounters(challengeId, 0, 0, 0, 0, 0, null);
+    }
+
+    /**
+     * Applies logged deltas not yet folded into the stored row (read-your-writes).
+     */
+    public ChallengeCounters plus(ChallengeCounterDelta delta) {
+        if (delta == null || delta.isZero()) {
+            return this;
+        }
+        return new ChallengeCounters(
+            challengeId,
+            participants + delta.getParticipants(),
+            evidencesTotal + delta.getEvidencesTotal(),
+            evidencesPending + delta.getEvidencesPending(),
+            evidencesApproved + delta.getEvidencesApproved(),
+            evidencesRejected + delta.getEvidencesRejected(),
+            reconciledAt
+        );
+    }
+
+    // Getters
+    public Long getChallengeId() { return challengeId; }
+    public int getParticipants() { return Math.max(0, participants); }
+    public int getEvidencesTotal() { return Math.max(0, evidencesTotal); }
+    public int getEvidencesPending() { return Math.max(0, evidencesPending); }
+    public int getEvidencesApproved() { return Math.max(0, evidencesApproved); }
+    public int getEvidencesRejected() { return Math.max(0, evidencesRejected); }
+    public LocalDateTime getReconciledAt() { return reconciledAt; }
+}
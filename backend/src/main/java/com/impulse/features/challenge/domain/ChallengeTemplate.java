@@ -0,0 +1,51 @@
+package com.impulse.features.challenge.domain;
+
+import com.impulse.shared.error.DomainException;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Value Object: ChallengeTemplate
+ * Immutable snapshot of a template challenge; safe to share between threads
+ * Instances are DRAFT, PRIVATE copies owned by the target user
+ */
+public final class ChallengeTemplate {
+    private static final String DEFAULT_CATEGORY = "General";
+
+    private final Long templateId;
+    private final String title;
+    private final String description;
+    private final String category;
+    private final LocalDateTime version;
+
+    public ChallengeTemplate(Long templateId, String title, String description, String category,
+                             LocalDateTime version) {
+        this.templateId = Objects.requireNonNull(templateId, "Template ID cannot be null");
+        if (title == null || title.trim().isEmpty()) {
+            throw new DomainException("Template title cannot be empty");
+        }
+        this.title = title;
+        this.description = description;
+        this.category = category == null || category.isBlank() ? DEFAULT_CATEGORY : category;
+        this.version = version;
+    }
+
+    public Long getTemplateId() { return templateId; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public String getCategory() { return category; }
+    public LocalDateTime getVersion() { return version; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ChallengeTemplate that = (ChallengeTemplate) o;
+        return Objects.equals(templateId, that.templateId) && Objects.equals(version, that.version);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(templateId, version);
+    }
+}
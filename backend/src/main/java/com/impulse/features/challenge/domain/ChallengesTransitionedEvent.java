@@ -0,0 +1,35 @@
+package com.impulse.features.challenge.domain;
+
+import com.impulse.shared.enums.ChallengeStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Domain event: ChallengesTransitionedEvent
+ * Emitted once per batch of challenges moved to the same status by the lifecycle sweeper
+ */
+public final class ChallengesTransitionedEvent {
+    private final ChallengeStatus newStatus;
+    private final List<Long> challengeIds;
+    private final LocalDateTime occurredAt;
+
+    public ChallengesTransitionedEvent(ChallengeStatus newStatus, List<Long> challengeIds, LocalDateTime occurredAt) {
+        this.newStatus = Objects.requireNonNull(newStatus, "New status cannot be null");
+        this.challengeIds = List.copyOf(challengeIds);
+        this.occurredAt = Objects.requireNonNull(occurredAt, "Occurred at cannot be null");
+    }
+
+    public ChallengeStatus getNewStatus() { return newStatus; }
+    public List<Long> getChallengeIds() { return challengeIds; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+
+    @Override
+    public String toString() {
+        return "ChallengesTransitionedEvent{" +
+                "newStatus=" + newStatus +
+                ", count=" + challengeIds.size() +
+                ", occurredAt=" + occurredAt +
+                '}';
+    }
+}
@@ -0,0 +1,91 @@
+package com.impulse.features.events.adapters.in.rest;
+
+import com.impulse.features.events.adapters.in.rest.dto.EventRollupSeriesApiResponse;
+import com.impulse.features.events.adapters.in.rest.dto.IngestEventsApiResponse;
+import com.impulse.features.events.adapters.in.rest.dto.IngestEventsRequest;
+import com.impulse.features.events.adapters.in.rest.mapper.EventApiMapper;
+import com.impulse.features.events.application.port.in.GetEventRollupsPort;
+import com.impulse.features.events.application.port.in.IngestEventsPort;
+import com.impulse.features.events.domain.RollupGranularity;
+import com.impulse.shared.utils.CorrelationId;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+
+/**
+ * REST Controller: EventController
+ * Batch telemetry ingestion. Answers 202 once events are queued; the body lists
+ * events rejected by schema (fix and drop) or by backpressure (retryable).
+ * Rollups expose precomputed per-bucket counts and distinct users for dashboards
+ */
+@RestController
+@RequestMapping("/api/v1/events")
+public class EventController {
+
+    private final IngestEventsPort ingestEventsPort;
+    private final GetEventRollupsPort getEventRollupsPort;
+    private final EventApiMapper mapper;
+
+    public EventController(IngestEventsPort ingestEventsPort,
+                           GetEventRollupsPort getEventRollupsPort,
+                           EventApiMapper mapper) {
+        this.ingestEventsPort = ingestEventsPort;
+        this.getEventRollupsPort = getEventRollupsPort;
+        this.mapper = mapper;
+    }
+
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<IngestEventsApiResponse> ingest(
+            @Valid @RequestBody IngestEventsRequest request,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            Authentication authentication) {
+
+        CorrelationId.set(correlationId);
+
+        try {
+            var command = mapper.toCommand(request, getUserId(authentication), correlationId);
+            var response = ingestEventsPort.execute(command);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(mapper.toApiResponse(response));
+
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+
+    @GetMapping("/rollups")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<EventRollupSeriesApiResponse> rollups(
+            @RequestParam String eventKey,
+            @RequestParam(defaultValue = "HOUR") RollupGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId) {
+
+        CorrelationId.set(correlationId);
+
+        try {
+            var response = getEventRollupsPort.execute(eventKey, granularity, from, to);
+            return ResponseEntity.ok(mapper.toApiResponse(response));
+
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+
+    private Long getUserId(Authentication authentication) {
+        Principal principal = authentication;
+        try {
+            return Long.parseLong(principal.getName());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Invalid user ID in authentication: " + principal.getName());
+        }
+    }
+}
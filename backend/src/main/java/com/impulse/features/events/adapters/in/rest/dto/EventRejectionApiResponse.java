@@ -0,0 +1,31 @@
+package com.impulse.features.events.adapters.in.rest.dto;
+
+/**
+ * API DTO: EventRejectionApiResponse
+ * Why one event of a batch was not accepted; retryable events may be sent again
+ */
+public class EventRejectionApiResponse {
+
+    private int index;
+    private String reason;
+    private boolean retryable;
+
+    // Constructors
+    public EventRejectionApiResponse() {}
+
+    public EventRejectionApiResponse(int index, String reason, boolean retryable) {
+        this.index = index;
+        this.reason = reason;
+        this.retryable = retryable;
+    }
+
+    // Getters and Setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public String getReason() { return reason; }
+    public void setReason(String reason) { this.reason = reason; }
+
+    public boolean isRetryable() { return retryable; }
+    public void setRetryable(boolean retryable) { this.retryable = retryable; }
+}
@@ -0,0 +1,34 @@
+package com.impulse.features.events.adapters.in.rest.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.util.Map;
+
+/**
+ * API DTO: EventRequest
+ * One telemetry event inside an ingestion batch
+ */
+public class EventRequest {
+
+    @NotBlank(message = "Event key is required")
+    @Size(max = 64, message = "Event key cannot exceed 64 characters")
+    private String eventKey;
+
+    private Map<String, Object> properties;
+
+    // Constructors
+    public EventRequest() {}
+
+    public EventRequest(String eventKey, Map<String, Object> properties) {
+        this.eventKey = eventKey;
+        this.properties = properties;
+    }
+
+    // Getters and Setters
+    public String getEventKey() { return eventKey; }
+    public void setEventKey(String eventKey) { this.eventKey = eventKey; }
+
+    public Map<String, Object> getProperties() { return properties; }
+    public void setProperties(Map<String, Object> properties) { this.properties = properties; }
+}
@@ -0,0 +1,71 @@
+package com.impulse.features.events.adapters.in.rest.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * API DTO: EventRollupSeriesApiResponse
+ * Time series of one event key with range totals
+ */
+public class EventRollupSeriesApiResponse {
+
+    private String eventKey;
+    private String granularity;
+    private List<Bucket> buckets;
+    private long totalEvents;
+    private long distinctUsers;
+
+    // Constructors
+    public EventRollupSeriesApiResponse() {}
+
+    public EventRollupSeriesApiResponse(String eventKey, String granularity, List<Bucket> buckets,
+                                        long totalEvents, long distinctUsers) {
+        this.eventKey = eventKey;
+        this.granularity = granularity;
+        this.buckets = buckets;
+        this.totalEvents = totalEvents;
+        this.distinctUsers = distinctUsers;
+    }
+
+    // Getters and Setters
+    public String getEventKey() { return eventKey; }
+    public void setEventKey(String eventKey) { this.eventKey = eventKey; }
+
+    public String getGranularity() { return granularity; }
+    public void setGranularity(String granularity) { this.granularity = granularity; }
+
+    public List<Bucket> getBuckets() { return buckets; }
+    public void setBuckets(List<Bucket> buckets) { this.buckets = buckets; }
+
+    public long getTotalEvents() { return totalEvents; }
+    public void setTotalEvents(long totalEvents) { this.totalEvents = totalEvents; }
+
+    public long getDistinctUsers() { return distinctUsers; }
+    public void setDistinctUsers(long distinctUsers) { this.distinctUsers = distinctUsers; }
+
+    /**
+     * One time bucket
+     */
+    public static class Bucket {
+        private LocalDateTime bucketStart;
+        private long eventCount;
+        private long distinctUsers;
+
+        public Bucket() {}
+
+        public Bucket(LocalDateTime bucketStart, long eventCount, long distinctUsers) {
+            this.bucketStart = bucketStart;
+            this.eventCount = eventCount;
+            this.distinctUsers = distinctUsers;
+        }
+
+        public LocalDateTime getBucketStart() { return bucketStart; }
+        public void setBucketStart(LocalDateTime bucketStart) { this.bucketStart = bucketStart; }
+
+        public long getEventCount() { return eventCount; }
+        public void setEventCount(long eventCount) { this.eventCount = eventCount; }
+
+        public long getDistinctUsers() { return distinctUsers; }
+        public void setDistinctUsers(long distinctUsers) { this.distinctUsers = distinctUsers; }
+    }
+}
@@ -0,0 +1,28 @@
+package com.impulse.features.events.adapters.in.rest.dto;
+
+import java.util.List;
+
+/**
+ * API DTO: IngestEventsApiResponse
+ * Accepted count plus the events that were not queued, by request index
+ */
+public class IngestEventsApiResponse {
+
+    private int accepted;
+    private List<EventRejectionApiResponse> rejected;
+
+    // Constructors
+    public IngestEventsApiResponse() {}
+
+    public IngestEventsApiResponse(int accepted, List<EventRejectionApiResponse> rejected) {
+        this.accepted = accepted;
+        this.rejected = rejected;
+    }
+
+    // Getters and Setters
+    public int getAccepted() { return accepted; }
+    public void setAccepted(int accepted) { this.accepted = accepted; }
+
+    public List<EventRejectionApiResponse> getRejected() { return rejected; }
+    public void setRejected(List<EventRejectionApiResponse> rejected) { this.rejected = rejected; }
+}
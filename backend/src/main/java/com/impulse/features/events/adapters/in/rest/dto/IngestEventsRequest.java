@@ -0,0 +1,27 @@
+package com.impulse.features.events.adapters.in.rest.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * API DTO: IngestEventsRequest
+ * HTTP request body for a batch of telemetry events
+ */
+public class IngestEventsRequest {
+
+    @NotEmpty(message = "At least one event is required")
+    private List<@Valid EventRequest> events;
+
+    // Constructors
+    public IngestEventsRequest() {}
+
+    public IngestEventsRequest(List<EventRequest> events) {
+        this.events = events;
+    }
+
+    // Getters and Setters
+    public List<EventRequest> getEvents() { return events; }
+    public void setEvents(List<EventRequest> events) { this.events = events; }
+}
@@ -0,0 +1,43 @@
+package com.impulse.features.events.adapters.in.rest.mapper;
+
+import com.impulse.features.events.adapters.in.rest.dto.EventRejectionApiResponse;
+import com.impulse.features.events.adapters.in.rest.dto.EventRollupSeriesApiResponse;
+import com.impulse.features.events.adapters.in.rest.dto.IngestEventsApiResponse;
+import com.impulse.features.events.adapters.in.rest.dto.IngestEventsRequest;
+import com.impulse.features.events.application.dto.EventPayload;
+import com.impulse.features.events.application.dto.EventRollupSeriesResponse;
+import com.impulse.features.events.application.dto.IngestEventsCommand;
+import com.impulse.features.events.application.dto.IngestEventsResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Mapper: EventApiMapper
+ * Maps between API DTOs and Application DTOs for telemetry ingestion and rollups
+ */
+@Component
+public class EventApiMapper {
+
+    public IngestEventsCommand toCommand(IngestEventsRequest request, Long userId, String correlationId) {
+        List<EventPayload> events = request.getEvents().stream()
+            .map(event -> new EventPayload(event.getEventKey(), event.getProperties()))
+            .toList();
+        return new IngestEventsCommand(userId, correlationId, events);
+    }
+
+    public IngestEventsApiResponse toApiResponse(IngestEventsResponse response) {
+        List<EventRejectionApiResponse> rejected = response.getRejected().stream()
+            .map(r -> new EventRejectionApiResponse(r.getIndex(), r.getReason(), r.isRetryable()))
+            .toList();
+        return new IngestEventsApiResponse(response.getAccepted(), rejected);
+    }
+
+    public EventRollupSeriesApiResponse toApiResponse(EventRollupSeriesResponse response) {
+        List<EventRollupSeriesApiResponse.Bucket> buckets = response.getBuckets().stream()
+            .map(b -> new EventRollupSeriesApiResponse.Bucket(b.getBucketStart(), b.getEventCount(), b.getDistinctUsers()))
+            .toList();
+        return new EventRollupSeriesApiResponse(response.getEventKey(), response.getGranularity(), buckets,
+            response.getTotalEvents(), response.getDistinctUsers());
+    }
+}
@@ -0,0 +1,31 @@
+package com.impulse.features.events.adapters.in.scheduler;
+
+import com.impulse.features.events.application.usecase.RecordEventRollupsUseCase;
+import com.impulse.features.jobs.application.port.out.JobHandler;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Job adapter: EventRollupPurgeJob
+ * Daily purge of expired fine-grained rollup buckets, run on one node per fire
+ */
+@Component
+public class EventRollupPurgeJob implements JobHandler {
+
+    private final RecordEventRollupsUseCase recordEventRollups;
+
+    public EventRollupPurgeJob(RecordEventRollupsUseCase recordEventRollups) {
+        this.recordEventRollups = recordEventRollups;
+    }
+
+    @Override
+    public String jobName() {
+        return "event-rollup-purge";
+    }
+
+    @Override
+    public void run(LocalDateTime scheduledFor) {
+        recordEventRollups.purge();
+    }
+}
@@ -0,0 +1,24 @@
+package com.impulse.features.events.adapters.in.scheduler;
+
+import com.impulse.features.events.application.usecase.RecordEventRollupsUseCase;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler adapter: EventRollupScheduler
+ * Periodically flushes closed rollup buckets on every node
+ */
+@Component
+public class EventRollupScheduler {
+
+    private final RecordEventRollupsUseCase recordEventRollups;
+
+    public EventRollupScheduler(RecordEventRollupsUseCase recordEventRollups) {
+        this.recordEventRollups = recordEventRollups;
+    }
+
+    @Scheduled(fixedDelayString = "${impulse.events.rollups.flush-interval-ms:10000}")
+    public void flush() {
+        recordEventRollups.flush();
+    }
+}
@@ -0,0 +1,74 @@
+package com.impulse.features.events.adapters.out.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.impulse.features.events.application.port.out.EventRepository;
+import com.impulse.features.events.domain.Event;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * JDBC implementation of EventRepository port.
+ * Writes each flush as multi-row INSERTs of up to ROWS_PER_STATEMENT rows inside one
+ * transaction, so a batch costs a handful of round trips and a single commit.
+ */
+@Repository
+@Transactional
+public class EventRepositoryImpl implements EventRepository {
+
+    private static final int ROWS_PER_STATEMENT = 500;
+    private static final int COLUMNS = 5;
+    private static final String INSERT_PREFIX =
+        "INSERT INTO events (user_id, event_key, correlation_id, properties, created_at) VALUES ";
+    private static final String FULL_STATEMENT = insertSql(ROWS_PER_STATEMENT);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public EventRepositoryImpl(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void insertAll(List<Event> events) {
+        for (int from = 0; from < events.size(); from += ROWS_PER_STATEMENT) {
+            List<Event> chunk = events.subList(from, Math.min(from + ROWS_PER_STATEMENT, events.size()));
+            Object[] args = new Object[chunk.size() * COLUMNS];
+            int i = 0;
+            for (Event event : chunk) {
+                args[i++] = event.getUserId();
+                args[i++] = event.getEventKey();
+                args[i++] = event.getCorrelationId();
+                args[i++] = toJson(event);
+                args[i++] = Timestamp.valueOf(event.getCreatedAt());
+            }
+            String sql = chunk.size() == ROWS_PER_STATEMENT ? FULL_STATEMENT : insertSql(chunk.size());
+            jdbcTemplate.update(sql, args);
+        }
+    }
+
+    private String toJson(Event event) {
+        if (event.getProperties() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(event.getProperties());
+        } catch (JsonProcessingException e) {
+            // Sanitized properties are plain strings, numbers and booleans
+            throw new IllegalStateException("Unserializable properties for event " + event.getEventKey(), e);
+        }
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * 16).append(INSERT_PREFIX);
+        for (int row = 0; row < rows; row++) {
+            sql.append(row == 0 ? "(?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?)");
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,120 @@
+package com.impulse.features.events.adapters.out.persistence;
+
+import com.impulse.features.events.application.port.out.EventRollupRepository;
+import com.impulse.features.events.domain.EventRollup;
+import com.impulse.features.events.domain.RollupGranularity;
+import com.impulse.shared.utils.HyperLogLog;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC implementation of EventRollupRepository port.
+ * Sketches cannot be merged in SQL, so mergeAll locks the stored rows of the batch,
+ * merges in memory and writes the combined values back in one transaction.
+ */
+@Repository
+@Transactional
+public class EventRollupRepositoryImpl implements EventRollupRepository {
+
+    private static final int ROWS_PER_LOCK = 200;
+
+    private static final RowMapper<EventRollup> MAPPER = (rs, rowNum) -> new EventRollup(
+        rs.getString("event_key"),
+        RollupGranularity.valueOf(rs.getString("granularity")),
+        rs.getTimestamp("bucket_start").toLocalDateTime(),
+        rs.getLong("event_count"),
+        HyperLogLog.fromBytes(rs.getBytes("users_sketch"))
+    );
+
+    // Consistent lock order across nodes flushing the same buckets
+    private static final Comparator<EventRollup> KEY_ORDER = Comparator
+        .comparing(EventRollup::getGranularity)
+        .thenComparing(EventRollup::getEventKey)
+        .thenComparing(EventRollup::getBucketStart);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventRollupRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void mergeAll(Collection<EventRollup> rollups) {
+        List<EventRollup> sorted = rollups.stream().sorted(KEY_ORDER).collect(Collectors.toList());
+        for (int from = 0; from < sorted.size(); from += ROWS_PER_LOCK) {
+            List<EventRollup> chunk = sorted.subList(from, Math.min(from + ROWS_PER_LOCK, sorted.size()));
+            Map<String, EventRollup> stored = lockStored(chunk);
+
+            List<Object[]> args = new ArrayList<>(chunk.size());
+            for (EventRollup rollup : chunk) {
+                // Merge into a copy; the caller restores the original if this transaction fails
+                EventRollup merged = new EventRollup(rollup.getEventKey(), rollup.getGranularity(),
+                    rollup.getBucketStart(), 0, null);
+                EventRollup existing = stored.get(key(rollup));
+                if (existing != null) {
+                    merged.merge(existing);
+                }
+                merged.merge(rollup);
+                args.add(new Object[] {
+                    merged.getGranularity().name(), merged.getEventKey(), Timestamp.valueOf(merged.getBucketStart()),
+                    merged.getEventCount(), merged.getDistinctUsers(), merged.getUsers().toBytes()
+                });
+            }
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO event_rollups (granularity, event_key, bucket_start, event_count, distinct_users, users_sketch) " +
+                "VALUES (?, ?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE event_count = VALUES(event_count), distinct_users = VALUES(distinct_users), " +
+                "users_sketch = VALUES(users_sketch)",
+                args);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventRollup> findRange(String eventKey, RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+            "SELECT granularity, event_key, bucket_start, event_count, users_sketch FROM event_rollups " +
+            "WHERE granularity = ? AND event_key = ? AND bucket_start >= ? AND bucket_start < ? ORDER BY bucket_start",
+            MAPPER, granularity.name(), eventKey, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    @Override
+    public int deleteOlderThan(RollupGranularity granularity, LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(
+            "DELETE FROM event_rollups WHERE granularity = ? AND bucket_start < ? LIMIT ?",
+            granularity.name(), Timestamp.valueOf(cutoff), limit);
+    }
+
+    private Map<String, EventRollup> lockStored(List<EventRollup> chunk) {
+        String tuples = chunk.stream().map(r -> "(?, ?, ?)").collect(Collectors.joining(", "));
+        Object[] args = new Object[chunk.size() * 3];
+        int i = 0;
+        for (EventRollup rollup : chunk) {
+            args[i++] = rollup.getGranularity().name();
+            args[i++] = rollup.getEventKey();
+            args[i++] = Timestamp.valueOf(rollup.getBucketStart());
+        }
+        Map<String, EventRollup> stored = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT granularity, event_key, bucket_start, event_count, users_sketch FROM event_rollups " +
+            "WHERE (granularity, event_key, bucket_start) IN (" + tuples + ") FOR UPDATE",
+            MAPPER, args).forEach(rollup -> stored.put(key(rollup), rollup));
+        return stored;
+    }
+
+    private static String key(EventRollup rollup) {
+        return rollup.getGranularity() + "|" + rollup.getEventKey() + "|" + rollup.getBucketStart();
+    }
+}
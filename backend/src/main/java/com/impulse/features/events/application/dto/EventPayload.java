@@ -0,0 +1,22 @@
+package com.impulse.features.events.application.dto;
+
+import java.util.Map;
+
+/**
+ * Application DTO: EventPayload
+ * One client event as received, before schema validation
+ */
+public class EventPayload {
+
+    private final String eventKey;
+    private final Map<String, Object> properties;
+
+    public EventPayload(String eventKey, Map<String, Object> properties) {
+        this.eventKey = eventKey;
+        this.properties = properties;
+    }
+
+    // Getters
+    public String getEventKey() { return eventKey; }
+    public Map<String, Object> getProperties() { return properties; }
+}
@@ -0,0 +1,54 @@
+package com.impulse.features.events.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Application DTO: EventRollupSeriesResponse
+ * Rollup buckets of one event key plus range totals; distinctUsers over the range is
+ * the union of the bucket sketches, not the sum of per-bucket estimates
+ */
+public class EventRollupSeriesResponse {
+
+    private final String eventKey;
+    private final String granularity;
+    private final List<Bucket> buckets;
+    private final long totalEvents;
+    private final long distinctUsers;
+
+    public EventRollupSeriesResponse(String eventKey, String granularity, List<Bucket> buckets,
+                                     long totalEvents, long distinctUsers) {
+        this.eventKey = eventKey;
+        this.granularity = granularity;
+        this.buckets = buckets;
+        this.totalEvents = totalEvents;
+        this.distinctUsers = distinctUsers;
+    }
+
+    // Getters
+    public String getEventKey() { return eventKey; }
+    public String getGranularity() { return granularity; }
+    public List<Bucket> getBuckets() { return buckets; }
+    public long getTotalEvents() { return totalEvents; }
+    public long getDistinctUsers() { return distinctUsers; }
+
+    /**
+     * One time bucket
+     */
+    public static class Bucket {
+        private final LocalDateTime bucketStart;
+        private final long eventCount;
+        private final long distinctUsers;
+
+        public Bucket(LocalDateTime bucketStart, long eventCount, long distinctUsers) {
+            this.bucketStart = bucketStart;
+            this.eventCount = eventCount;
+            this.distinctUsers = distinctUsers;
+        }
+
+        // Getters
+        public LocalDateTime getBucketStart() { return bucketStart; }
+        public long getEventCount() { return eventCount; }
+        public long getDistinctUsers() { return distinctUsers; }
+    }
+}
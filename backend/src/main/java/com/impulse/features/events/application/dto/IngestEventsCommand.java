@@ -0,0 +1,25 @@
+package com.impulse.features.events.application.dto;
+
+import java.util.List;
+
+/**
+ * Application DTO: IngestEventsCommand
+ * A batch of telemetry events sent by one user
+ */
+public class IngestEventsCommand {
+
+    private final Long userId;
+    private final String correlationId;
+    private final List<EventPayload> events;
+
+    public IngestEventsCommand(Long userId, String correlationId, List<EventPayload> events) {
+        this.userId = userId;
+        this.correlationId = correlationId;
+        this.events = events;
+    }
+
+    // Getters
+    public Long getUserId() { return userId; }
+    public String getCorrelationId() { return correlationId; }
+    public List<EventPayload> getEvents() { return events; }
+}
@@ -0,0 +1,43 @@
+package com.impulse.features.events.application.dto;
+
+import java.util.List;
+
+/**
+ * Application DTO: IngestEventsResponse
+ * Outcome of a batch: how many events were queued and why the others were not.
+ * Rejections with retryable=true were valid but hit backpressure and may be resent.
+ */
+public class IngestEventsResponse {
+
+    private final int accepted;
+    private final List<Rejection> rejected;
+
+    public IngestEventsResponse(int accepted, List<Rejection> rejected) {
+        this.accepted = accepted;
+        this.rejected = rejected;
+    }
+
+    // Getters
+    public int getAccepted() { return accepted; }
+    public List<Rejection> getRejected() { return rejected; }
+
+    /**
+     * One rejected event by its position in the request
+     */
+    public static class Rejection {
+        private final int index;
+        private final String reason;
+        private final boolean retryable;
+
+        public Rejection(int index, String reason, boolean retryable) {
+            this.index = index;
+            this.reason = reason;
+            this.retryable = retryable;
+        }
+
+        // Getters
+        public int getIndex() { return index; }
+        public String getReason() { return reason; }
+        public boolean isRetryable() { return retryable; }
+    }
+}
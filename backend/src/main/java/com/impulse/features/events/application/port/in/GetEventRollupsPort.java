@@ -0,0 +1,14 @@
+package com.impulse.features.events.application.port.in;
+
+import com.impulse.features.events.application.dto.EventRollupSeriesResponse;
+import com.impulse.features.events.domain.RollupGranularity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Input Port: GetEventRollupsPort
+ * Defines contract for reading precomputed event metrics of one key over a time range
+ */
+public interface GetEventRollupsPort {
+    EventRollupSeriesResponse execute(String eventKey, RollupGranularity granularity, LocalDateTime from, LocalDateTime to);
+}
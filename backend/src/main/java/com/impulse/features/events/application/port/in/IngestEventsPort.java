@@ -0,0 +1,12 @@
+package com.impulse.features.events.application.port.in;
+
+import com.impulse.features.events.application.dto.IngestEventsCommand;
+import com.impulse.features.events.application.dto.IngestEventsResponse;
+
+/**
+ * Input Port: IngestEventsPort
+ * Validates a batch of telemetry events and queues the accepted ones for storage
+ */
+public interface IngestEventsPort {
+    IngestEventsResponse execute(IngestEventsCommand command);
+}
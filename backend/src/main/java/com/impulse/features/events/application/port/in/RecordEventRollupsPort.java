@@ -0,0 +1,13 @@
+package com.impulse.features.events.application.port.in;
+
+import com.impulse.features.events.domain.Event;
+
+import java.util.List;
+
+/**
+ * Input Port: RecordEventRollupsPort
+ * Defines contract for folding stored events into the per-bucket rollups
+ */
+public interface RecordEventRollupsPort {
+    void record(List<Event> events);
+}
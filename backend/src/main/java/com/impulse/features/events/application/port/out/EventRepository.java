@@ -0,0 +1,17 @@
+package com.impulse.features.events.application.port.out;
+
+import com.impulse.features.events.domain.Event;
+
+import java.util.List;
+
+/**
+ * Output Port: EventRepository
+ * Append-only storage of telemetry events
+ */
+public interface EventRepository {
+
+    /**
+     * Inserts all events with multi-row INSERT statements, without per-event transactions
+     */
+    void insertAll(List<Event> events);
+}
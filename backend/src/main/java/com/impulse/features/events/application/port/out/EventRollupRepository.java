@@ -0,0 +1,30 @@
+package com.impulse.features.events.application.port.out;
+
+import com.impulse.features.events.domain.EventRollup;
+import com.impulse.features.events.domain.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Output Port: EventRollupRepository
+ */
+public interface EventRollupRepository {
+
+    /**
+     * Merges each rollup into its stored bucket (count added, sketch unioned), creating missing rows
+     */
+    void mergeAll(Collection<EventRollup> rollups);
+
+    /**
+     * Buckets of one key with bucket_start in [from, to), oldest first
+     */
+    List<EventRollup> findRange(String eventKey, RollupGranularity granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Deletes up to limit buckets older than the cutoff
+     * @return rows deleted
+     */
+    int deleteOlderThan(RollupGranularity granularity, LocalDateTime cutoff, int limit);
+}
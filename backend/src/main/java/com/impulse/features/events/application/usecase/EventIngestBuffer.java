@@ -0,0 +1,144 @@
+package com.impulse.features.events.application.usecase;
+
+import com.impulse.features.events.application.port.in.RecordEventRollupsPort;
+import com.impulse.features.events.application.port.out.EventRepository;
+import com.impulse.features.events.domain.Event;
+import com.impulse.shared.utils.RingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-memory queue between ingestion requests and the events table.
+ * Request threads offer into a lock-free ring buffer; one flusher thread writes a batch
+ * once batch-size events are waiting or flush-interval-ms has passed, whichever comes
+ * first. Telemetry is best effort: a failed batch is counted and dropped, and a full
+ * buffer is reported back to the client as retryable. Stored batches feed the rollups.
+ */
+@Component
+public class EventIngestBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventIngestBuffer.class);
+
+    private final EventRepository eventRepository;
+    private final RecordEventRollupsPort recordEventRollups;
+    private final RingBuffer<Event> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public EventIngestBuffer(EventRepository eventRepository,
+                             RecordEventRollupsPort recordEventRollups,
+                             MeterRegistry meterRegistry,
+                             @Value("${impulse.events.buffer-capacity:65536}") int bufferCapacity,
+                             @Value("${impulse.events.batch-size:1000}") int batchSize,
+                             @Value("${impulse.events.flush-interval-ms:250}") long flushIntervalMillis) {
+        this.eventRepository = eventRepository;
+        this.recordEventRollups = recordEventRollups;
+        this.buffer = new RingBuffer<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+
+        Gauge.builder("impulse.events.buffer.size", buffer, RingBuffer::size)
+            .description("Telemetry events accepted but not yet written")
+            .register(meterRegistry);
+        this.writtenCounter = Counter.builder("impulse.events.written").register(meterRegistry);
+        this.droppedCounter = Counter.builder("impulse.events.dropped")
+            .description("Accepted telemetry events lost to a failed batch insert")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("impulse.events.flush").register(meterRegistry);
+    }
+
+    /**
+     * O(1) and non-blocking; false when the buffer is full
+     */
+    boolean offer(Event event) {
+        if (!buffer.offer(event)) {
+            return false;
+        }
+        // Wake the flusher early once a full batch is waiting
+        if (buffer.size() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+        return true;
+    }
+
+    public int pendingEvents() {
+        return buffer.size();
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        flusher = new Thread(this::flushLoop, "event-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        if (flusher.isAlive()) {
+            logger.warn("Event flusher still busy at shutdown, {} events may be lost", buffer.size());
+        }
+    }
+
+    private void flushLoop() {
+        List<Event> batch = new ArrayList<>(batchSize);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (running) {
+            long now = System.nanoTime();
+            if (buffer.size() >= batchSize || now - deadline >= 0) {
+                while (buffer.drainTo(batch, batchSize) > 0) {
+                    write(batch);
+                    batch.clear();
+                    if (buffer.size() < batchSize) {
+                        break;
+                    }
+                }
+                deadline = System.nanoTime() + flushIntervalNanos;
+                continue;
+            }
+            LockSupport.parkNanos(deadline - now);
+        }
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Event> batch) {
+        long started = System.nanoTime();
+        try {
+            eventRepository.insertAll(batch);
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            droppedCounter.increment(batch.size());
+            logger.warn("Dropped {} telemetry events after a failed insert: {}", batch.size(), e.getMessage());
+            return;
+        } finally {
+            flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+        recordEventRollups.record(batch);
+    }
+}
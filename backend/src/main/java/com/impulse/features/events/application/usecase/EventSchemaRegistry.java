@@ -0,0 +1,83 @@
+package com.impulse.features.events.application.usecase;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.impulse.features.events.domain.EventPropertyType;
+import com.impulse.features.events.domain.EventSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per event_key schemas, read from impulse.events.schema-location and compiled once at
+ * startup. A malformed or privacy-violating schema fails the application context, so a
+ * bad deploy never starts accepting events it cannot validate. Lookups are a plain map read.
+ */
+@Component
+public class EventSchemaRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventSchemaRegistry.class);
+
+    private static final int DEFAULT_MAX_LENGTH = 256;
+
+    private final Map<String, EventSchema> schemas;
+
+    public EventSchemaRegistry(ResourceLoader resourceLoader,
+                               ObjectMapper objectMapper,
+                               @Value("${impulse.events.schema-location:classpath:events/event-schemas.json}") String location) {
+        Resource resource = resourceLoader.getResource(location);
+        try (InputStream in = resource.getInputStream()) {
+            this.schemas = compile(objectMapper.readTree(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read event schemas from " + location, e);
+        }
+        logger.info("Compiled {} event schemas from {}", schemas.size(), location);
+    }
+
+    /**
+     * Schema for the key, or null when the event is not registered
+     */
+    public EventSchema find(String eventKey) {
+        return eventKey == null ? null : schemas.get(eventKey);
+    }
+
+    public int size() {
+        return schemas.size();
+    }
+
+    private static Map<String, EventSchema> compile(JsonNode root) {
+        if (root == null || !root.isObject()) {
+            throw new IllegalStateException("Event schemas must be a JSON object keyed by event_key");
+        }
+        Map<String, EventSchema> compiled = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> events = root.fields();
+        while (events.hasNext()) {
+            Map.Entry<String, JsonNode> event = events.next();
+            List<EventSchema.Property> properties = new ArrayList<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = event.getValue().fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode spec = field.getValue();
+                EventPropertyType type = EventPropertyType.valueOf(
+                    spec.path("type").asText("string").toUpperCase(Locale.ROOT));
+                properties.add(new EventSchema.Property(field.getKey(), type,
+                    spec.path("required").asBoolean(false), spec.path("maxLength").asInt(DEFAULT_MAX_LENGTH)));
+            }
+            compiled.put(event.getKey(), EventSchema.compile(event.getKey(), properties));
+        }
+        return Map.copyOf(compiled);
+    }
+}
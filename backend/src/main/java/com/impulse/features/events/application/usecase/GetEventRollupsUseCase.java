@@ -0,0 +1,72 @@
+package com.impulse.features.events.application.usecase;
+
+import com.impulse.features.events.application.dto.EventRollupSeriesResponse;
+import com.impulse.features.events.application.port.in.GetEventRollupsPort;
+import com.impulse.features.events.application.port.out.EventRollupRepository;
+import com.impulse.features.events.domain.EventRollup;
+import com.impulse.features.events.domain.RollupGranularity;
+import com.impulse.shared.error.ValidationException;
+import com.impulse.shared.utils.HyperLogLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Use Case: GetEventRollupsUseCase
+ * Reads precomputed buckets; cost grows with the number of buckets in the range,
+ * never with raw event volume. Buckets still open in memory appear after their next flush.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetEventRollupsUseCase implements GetEventRollupsPort {
+
+    private final EventRollupRepository rollupRepository;
+    private final EventSchemaRegistry schemaRegistry;
+    private final long maxBuckets;
+
+    public GetEventRollupsUseCase(EventRollupRepository rollupRepository,
+                                  EventSchemaRegistry schemaRegistry,
+                                  @Value("${impulse.events.rollups.max-buckets:2000}") long maxBuckets) {
+        this.rollupRepository = rollupRepository;
+        this.schemaRegistry = schemaRegistry;
+        this.maxBuckets = maxBuckets;
+    }
+
+    @Override
+    public EventRollupSeriesResponse execute(String eventKey, RollupGranularity granularity,
+                                             LocalDateTime from, LocalDateTime to) {
+        validate(eventKey, granularity, from, to);
+
+        List<EventRollup> rollups = rollupRepository.findRange(eventKey, granularity, from, to);
+        List<EventRollupSeriesResponse.Bucket> buckets = new ArrayList<>(rollups.size());
+        HyperLogLog rangeUsers = new HyperLogLog();
+        long totalEvents = 0;
+        for (EventRollup rollup : rollups) {
+            buckets.add(new EventRollupSeriesResponse.Bucket(
+                rollup.getBucketStart(), rollup.getEventCount(), rollup.getDistinctUsers()));
+            totalEvents += rollup.getEventCount();
+            rangeUsers.merge(rollup.getUsers());
+        }
+        return new EventRollupSeriesResponse(eventKey, granularity.name(), buckets, totalEvents, rangeUsers.estimate());
+    }
+
+    private void validate(String eventKey, RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        if (schemaRegistry.find(eventKey) == null) {
+            throw new ValidationException("eventKey", "unknown event key");
+        }
+
+        if (granularity == null || from == null || to == null || !from.isBefore(to)) {
+            throw new ValidationException("A granularity and a non-empty from/to range are required");
+        }
+
+        Duration bucket = Duration.between(granularity.bucketStart(from), granularity.bucketEnd(granularity.bucketStart(from)));
+        if (Duration.between(from, to).dividedBy(bucket) > maxBuckets) {
+            throw new ValidationException("Range spans more than " + maxBuckets + " buckets; use a coarser granularity");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.impulse.features.events.application.usecase;
+
+import com.impulse.features.events.application.dto.EventPayload;
+import com.impulse.features.events.application.dto.IngestEventsCommand;
+import com.impulse.features.events.application.dto.IngestEventsResponse;
+import com.impulse.features.events.application.port.in.IngestEventsPort;
+import com.impulse.features.events.domain.Event;
+import com.impulse.features.events.domain.EventSchema;
+import com.impulse.infrastructure.tracing.TraceActivityRing;
+import com.impulse.shared.error.ValidationException;
+import com.impulse.shared.utils.Result;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use Case: IngestEventsUseCase
+ * Validates each event of a batch against the schema of its event_key, applies the
+ * schema's privacy filtering and hands accepted events to EventIngestBuffer.
+ * Not transactional: events reach the database later in multi-row batches.
+ * One bad event never fails the batch; it is reported back by index.
+ */
+@Service
+public class IngestEventsUseCase implements IngestEventsPort {
+
+    private final EventSchemaRegistry schemaRegistry;
+    private final EventIngestBuffer ingestBuffer;
+    private final TraceActivityRing activityRing;
+    private final int maxBatchSize;
+    private final Counter acceptedCounter;
+    private final Counter invalidCounter;
+    private final Counter throttledCounter;
+
+    public IngestEventsUseCase(EventSchemaRegistry schemaRegistry,
+                               EventIngestBuffer ingestBuffer,
+                               TraceActivityRing activityRing,
+                               MeterRegistry meterRegistry,
+                               @Value("${impulse.events.max-batch-size:500}") int maxBatchSize) {
+        this.schemaRegistry = schemaRegistry;
+        this.ingestBuffer = ingestBuffer;
+        this.activityRing = activityRing;
+        this.maxBatchSize = maxBatchSize;
+        this.acceptedCounter = Counter.builder("impulse.events.ingested").tag("result", "accepted").register(meterRegistry);
+        this.invalidCounter = Counter.builder("impulse.events.ingested").tag("result", "invalid").register(meterRegistry);
+        this.throttledCounter = Counter.builder("impulse.events.ingested").tag("result", "throttled").register(meterRegistry);
+    }
+
+    @Override
+    public IngestEventsResponse execute(IngestEventsCommand command) {
+        validateCommand(command);
+
+        List<EventPayload> events = command.getEvents();
+        List<IngestEventsResponse.Rejection> rejected = new ArrayList<>();
+        int accepted = 0;
+        for (int i = 0; i < events.size(); i++) {
+            EventPayload payload = events.get(i);
+            EventSchema schema = payload == null ? null : schemaRegistry.find(payload.getEventKey());
+            if (schema == null) {
+                rejected.add(new IngestEventsResponse.Rejection(i, "Unknown event key", false));
+                continue;
+            }
+
+            Result<Map<String, Object>, String> sanitized = schema.sanitize(payload.getProperties());
+            if (sanitized.isErr()) {
+                rejected.add(new IngestEventsResponse.Rejection(i,
+                    ((Result.Err<Map<String, Object>, String>) sanitized).error(), false));
+                continue;
+            }
+
+            Event event = Event.accepted(command.getUserId(), schema, command.getCorrelationId(),
+                sanitized.getOrElse(null));
+            if (ingestBuffer.offer(event)) {
+                accepted++;
+            } else {
+                rejected.add(new IngestEventsResponse.Rejection(i, "Ingestion is saturated", true));
+            }
+        }
+
+        acceptedCounter.increment(accepted);
+        // One trace entry per batch keeps the ring cheap at ingest volume
+        activityRing.record(command.getCorrelationId(), "event", "telemetry batch",
+            Map.of("accepted", accepted, "rejected", rejected.size()));
+        for (IngestEventsResponse.Rejection rejection : rejected) {
+            (rejection.isRetryable() ? throttledCounter : invalidCounter).increment();
+        }
+        return new IngestEventsResponse(accepted, rejected);
+    }
+
+    private void validateCommand(IngestEventsCommand command) {
+        if (command == null) {
+            throw new ValidationException("IngestEventsCommand cannot be null");
+        }
+
+        if (command.getUserId() == null || command.getUserId() <= 0) {
+            throw new ValidationException("Valid user ID is required");
+        }
+
+        if (command.getEvents() == null || command.getEvents().isEmpty()) {
+            throw new ValidationException("At least one event is required");
+        }
+
+        if (command.getEvents().size() > maxBatchSize) {
+            throw new ValidationException("events", "at most " + maxBatchSize + " events per batch");
+        }
+    }
+}
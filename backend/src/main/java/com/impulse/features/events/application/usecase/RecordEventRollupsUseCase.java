@@ -0,0 +1,167 @@
+package com.impulse.features.events.application.usecase;
+
+import com.impulse.features.events.application.port.in.RecordEventRollupsPort;
+import com.impulse.features.events.application.port.out.EventRollupRepository;
+import com.impulse.features.events.domain.Event;
+import com.impulse.features.events.domain.EventRollup;
+import com.impulse.features.events.domain.RollupGranularity;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use Case: RecordEventRollupsUseCase
+ * Incremental aggregation of stored events into minute/hour/day buckets per event_key:
+ * an event count plus a HyperLogLog sketch of distinct users. Open buckets live in
+ * memory; a bucket is flushed once it closes, or earlier once held longer than
+ * max-hold-ms so long buckets (hour, day) do not sit in memory until they end.
+ * Flushing merges into the stored row, so events arriving after their bucket was
+ * flushed, partial flushes and other nodes' buckets all add up. Dashboards then read
+ * a number of rows proportional to buckets, not raw events.
+ */
+@Service
+public class RecordEventRollupsUseCase implements RecordEventRollupsPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordEventRollupsUseCase.class);
+
+    private final EventRollupRepository rollupRepository;
+    private final long maxHoldMillis;
+    private final int minuteRetentionDays;
+    private final int hourRetentionDays;
+    private final int purgeBatchSize;
+
+    private final Map<BucketKey, Held> open = new HashMap<>();
+
+    public RecordEventRollupsUseCase(EventRollupRepository rollupRepository,
+                                     @Value("${impulse.events.rollups.max-hold-ms:300000}") long maxHoldMillis,
+                                     @Value("${impulse.events.rollups.minute-retention-days:14}") int minuteRetentionDays,
+                                     @Value("${impulse.events.rollups.hour-retention-days:180}") int hourRetentionDays,
+                                     @Value("${impulse.events.rollups.purge-batch-size:5000}") int purgeBatchSize) {
+        this.rollupRepository = rollupRepository;
+        this.maxHoldMillis = maxHoldMillis;
+        this.minuteRetentionDays = minuteRetentionDays;
+        this.hourRetentionDays = hourRetentionDays;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    /**
+     * Called by the event flusher after each stored batch; only counts events that reached the table
+     */
+    @Override
+    public synchronized void record(List<Event> events) {
+        long now = System.currentTimeMillis();
+        for (Event event : events) {
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                BucketKey key = new BucketKey(event.getEventKey(), granularity,
+                    granularity.bucketStart(event.getCreatedAt()));
+                open.computeIfAbsent(key, k -> new Held(
+                    EventRollup.empty(k.eventKey(), k.granularity(), k.bucketStart()), now))
+                    .rollup.record(event);
+            }
+        }
+    }
+
+    /**
+     * Writes closed and long-held buckets; on failure they are merged back for the next run
+     * @return number of buckets flushed
+     */
+    public int flush() {
+        return flush(false);
+    }
+
+    /**
+     * Deletes fine-grained buckets past their retention; day buckets are kept
+     */
+    public int purge() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = 0;
+        if (minuteRetentionDays > 0) {
+            deleted += purge(RollupGranularity.MINUTE, now.minusDays(minuteRetentionDays));
+        }
+        if (hourRetentionDays > 0) {
+            deleted += purge(RollupGranularity.HOUR, now.minusDays(hourRetentionDays));
+        }
+        return deleted;
+    }
+
+    private int purge(RollupGranularity granularity, LocalDateTime cutoff) {
+        // Short DELETE ... LIMIT statements keep each transaction and its locks small
+        int total = 0;
+        int deleted;
+        do {
+            deleted = rollupRepository.deleteOlderThan(granularity, cutoff, purgeBatchSize);
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+        return total;
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        try {
+            flush(true);
+        } catch (RuntimeException e) {
+            logger.warn("Could not flush event rollups on shutdown", e);
+        }
+    }
+
+    private int flush(boolean all) {
+        List<EventRollup> due = drain(LocalDateTime.now(), System.currentTimeMillis() - maxHoldMillis, all);
+        if (due.isEmpty()) {
+            return 0;
+        }
+        try {
+            rollupRepository.mergeAll(due);
+            return due.size();
+        } catch (RuntimeException e) {
+            restore(due);
+            throw e;
+        }
+    }
+
+    private synchronized List<EventRollup> drain(LocalDateTime now, long heldSinceCutoff, boolean all) {
+        List<EventRollup> due = new ArrayList<>();
+        Iterator<Held> it = open.values().iterator();
+        while (it.hasNext()) {
+            Held held = it.next();
+            if (all || held.rollup.isClosedAt(now) || held.sinceMillis <= heldSinceCutoff) {
+                due.add(held.rollup);
+                it.remove();
+            }
+        }
+        return due;
+    }
+
+    private synchronized void restore(List<EventRollup> rollups) {
+        long now = System.currentTimeMillis();
+        for (EventRollup rollup : rollups) {
+            BucketKey key = new BucketKey(rollup.getEventKey(), rollup.getGranularity(), rollup.getBucketStart());
+            Held held = open.get(key);
+            if (held == null) {
+                open.put(key, new Held(rollup, now));
+            } else {
+                held.rollup.merge(rollup);
+            }
+        }
+    }
+
+    private record BucketKey(String eventKey, RollupGranularity granularity, LocalDateTime bucketStart) {}
+
+    private static final class Held {
+        private final EventRollup rollup;
+        private final long sinceMillis;
+
+        Held(EventRollup rollup, long sinceMillis) {
+            this.rollup = rollup;
+            this.sinceMillis = sinceMillis;
+        }
+    }
+}
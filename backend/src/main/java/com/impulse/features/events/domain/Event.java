@@ -1,13 +1,48 @@
 package com.impulse.features.events.domain;
 
-import com.impulse.shared.annotations.Generated;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Domain entity: Event
- * Telemetry and analytics event modeling
+ * Telemetry and analytics event modeling.
+ * Instances only exist once their properties passed the schema of their event key
+ * and its privacy filtering (see EventSchema#sanitize); the user comes from the
+ * authenticated caller, never from the payload.
  */
-@Generated
 public class Event {
-    // TODO: Implement domain logic - event validation, correlation tracking
-    // JSON properties structure and privacy filtering
+
+    private final Long userId;
+    private final String eventKey;
+    private final String correlationId;
+    private final Map<String, Object> properties;
+    private final LocalDateTime createdAt;
+
+    private Event(Long userId, String eventKey, String correlationId,
+                  Map<String, Object> properties, LocalDateTime createdAt) {
+        this.userId = userId;
+        this.eventKey = eventKey;
+        this.correlationId = correlationId;
+        this.properties = properties;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Factory for an accepted event; properties must already be sanitized by the schema
+     */
+    public static Event accepted(Long userId, EventSchema schema, String correlationId,
+                                 Map<String, Object> sanitizedProperties) {
+        Objects.requireNonNull(schema, "Schema cannot be null");
+        return new Event(userId, schema.getEventKey(), correlationId,
+            sanitizedProperties == null || sanitizedProperties.isEmpty() ? null : sanitizedProperties,
+            LocalDateTime.now());
+    }
+
+    // Getters
+    public Long getUserId() { return userId; }
+    public String getEventKey() { return eventKey; }
+    public String getCorrelationId() { return correlationId; }
+    public Map<String, Object> getProperties() { return properties; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
 }
@@ -0,0 +1,12 @@
+package com.impulse.features.events.domain;
+
+/**
+ * Value types an event schema can declare for a property
+ */
+public enum EventPropertyType {
+    STRING,
+    INTEGER,
+    NUMBER,
+    BOOLEAN,
+    STRING_ARRAY
+}
@@ -0,0 +1,69 @@
+package com.impulse.features.events.domain;
+
+import com.impulse.shared.utils.HyperLogLog;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Domain entity: EventRollup
+ * Event count and distinct-user sketch of one event key in one time bucket.
+ * Rollups of the same bucket merge losslessly (sum of counts, union of sketches),
+ * which is what lets late events and partial flushes land in an already stored row.
+ */
+public class EventRollup {
+
+    private final String eventKey;
+    private final RollupGranularity granularity;
+    private final LocalDateTime bucketStart;
+    private long eventCount;
+    private final HyperLogLog users;
+
+    public EventRollup(String eventKey, RollupGranularity granularity, LocalDateTime bucketStart,
+                       long eventCount, HyperLogLog users) {
+        this.eventKey = Objects.requireNonNull(eventKey, "Event key cannot be null");
+        this.granularity = Objects.requireNonNull(granularity, "Granularity cannot be null");
+        this.bucketStart = Objects.requireNonNull(bucketStart, "Bucket start cannot be null");
+        this.eventCount = eventCount;
+        this.users = users != null ? users : new HyperLogLog();
+    }
+
+    public static EventRollup empty(String eventKey, RollupGranularity granularity, LocalDateTime instant) {
+        return new EventRollup(eventKey, granularity, granularity.bucketStart(instant), 0, new HyperLogLog());
+    }
+
+    public void record(Event event) {
+        eventCount++;
+        if (event.getUserId() != null) {
+            users.add(event.getUserId());
+        }
+    }
+
+    public void merge(EventRollup other) {
+        if (!sameBucket(other)) {
+            throw new IllegalArgumentException("Cannot merge rollups of different buckets");
+        }
+        eventCount += other.eventCount;
+        users.merge(other.users);
+    }
+
+    public boolean sameBucket(EventRollup other) {
+        return eventKey.equals(other.eventKey) && granularity == other.granularity
+            && bucketStart.equals(other.bucketStart);
+    }
+
+    public boolean isClosedAt(LocalDateTime instant) {
+        return !granularity.bucketEnd(bucketStart).isAfter(instant);
+    }
+
+    public long getDistinctUsers() {
+        return users.estimate();
+    }
+
+    // Getters
+    public String getEventKey() { return eventKey; }
+    public RollupGranularity getGranularity() { return granularity; }
+    public LocalDateTime getBucketStart() { return bucketStart; }
+    public long getEventCount() { return eventCount; }
+    public HyperLogLog getUsers() { return users; }
+}
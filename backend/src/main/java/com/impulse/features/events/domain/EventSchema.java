@@ -0,0 +1,146 @@
+package com.impulse.features.events.domain;
+
+import com.impulse.shared.utils.Result;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Value Object: EventSchema
+ * Compiled schema of one event key: declared properties with type, size limit and
+ * required flag. Sanitizing is also the privacy filter:
+ *  - undeclared properties are dropped (allowlist), so identifiers a client adds are never stored
+ *  - schemas may not declare identity/contact property names (see FORBIDDEN_PROPERTIES)
+ *  - email addresses and phone-like digit runs inside string values are masked
+ * Sanitizing returns a Result instead of throwing; rejections are routine at ingest volume.
+ */
+public final class EventSchema {
+
+    /** Property names no schema may declare: identity comes from the token, contact data never enters telemetry */
+    public static final Set<String> FORBIDDEN_PROPERTIES = Set.of(
+        "userid", "user_id", "email", "phone", "name", "username", "address", "ip", "ipaddress",
+        "password", "token", "accesstoken", "refreshtoken");
+
+    private static final Pattern EVENT_KEY = Pattern.compile("[a-z][a-z0-9_.]{0,63}");
+    private static final Pattern EMAIL = Pattern.compile("[\\w.%+-]+@[\\w.-]+\\.[A-Za-z]{2,}");
+    // 9 to 15 digits with optional separators; times (10:20) and longer identifiers do not match
+    private static final Pattern PHONE = Pattern.compile("(?<![\\w:-])\\+?\\d(?:[ .-]?\\d){8,14}(?![\\w:-])");
+    private static final String MASK = "[redacted]";
+    private static final int MAX_ARRAY_ITEMS = 50;
+
+    private final String eventKey;
+    private final Map<String, Property> properties;
+
+    private EventSchema(String eventKey, Map<String, Property> properties) {
+        this.eventKey = eventKey;
+        this.properties = properties;
+    }
+
+    /**
+     * Validates and freezes a schema definition; fails fast so bad schemas stop startup
+     */
+    public static EventSchema compile(String eventKey, Collection<Property> declared) {
+        if (eventKey == null || !EVENT_KEY.matcher(eventKey).matches()) {
+            throw new IllegalArgumentException("Invalid event key: " + eventKey);
+        }
+        Map<String, Property> byName = new LinkedHashMap<>();
+        for (Property property : declared) {
+            if (FORBIDDEN_PROPERTIES.contains(property.name.toLowerCase())) {
+                throw new IllegalArgumentException("Event " + eventKey + " may not declare property " + property.name);
+            }
+            if (byName.put(property.name, property) != null) {
+                throw new IllegalArgumentException("Event " + eventKey + " declares " + property.name + " twice");
+            }
+        }
+        return new EventSchema(eventKey, Map.copyOf(byName));
+    }
+
+    /**
+     * Keeps declared properties that match their type, masks contact data in strings
+     * @return the sanitized properties, or the reason the event is rejected
+     */
+    public Result<Map<String, Object>, String> sanitize(Map<String, Object> raw) {
+        Map<String, Object> clean = new LinkedHashMap<>();
+        for (Property property : properties.values()) {
+            Object value = raw == null ? null : raw.get(property.name);
+            if (value == null) {
+                if (property.required) {
+                    return Result.err("Missing required property " + property.name);
+                }
+                continue;
+            }
+            Object accepted = property.accept(value);
+            if (accepted == null) {
+                return Result.err("Property " + property.name + " must be " + property.type);
+            }
+            clean.put(property.name, accepted);
+        }
+        return Result.ok(clean);
+    }
+
+    static String mask(String value) {
+        if (value.indexOf('@') >= 0) {
+            value = EMAIL.matcher(value).replaceAll(MASK);
+        }
+        return PHONE.matcher(value).replaceAll(MASK);
+    }
+
+    public String getEventKey() { return eventKey; }
+
+    /**
+     * One declared property
+     */
+    public static final class Property {
+        private final String name;
+        private final EventPropertyType type;
+        private final boolean required;
+        private final int maxLength;
+
+        public Property(String name, EventPropertyType type, boolean required, int maxLength) {
+            if (name == null || name.isBlank() || type == null || maxLength <= 0) {
+                throw new IllegalArgumentException("Invalid property definition: " + name);
+            }
+            this.name = name;
+            this.type = type;
+            this.required = required;
+            this.maxLength = maxLength;
+        }
+
+        /** Normalized value, or null when it does not fit the declared type */
+        private Object accept(Object value) {
+            switch (type) {
+                case STRING:
+                    return value instanceof String s ? truncate(mask(s)) : null;
+                case INTEGER:
+                    return value instanceof Integer || value instanceof Long ? ((Number) value).longValue() : null;
+                case NUMBER:
+                    return value instanceof Number n && Double.isFinite(n.doubleValue()) ? n : null;
+                case BOOLEAN:
+                    return value instanceof Boolean ? value : null;
+                case STRING_ARRAY:
+                    if (!(value instanceof List<?> items) || items.size() > MAX_ARRAY_ITEMS) {
+                        return null;
+                    }
+                    List<String> strings = new ArrayList<>(items.size());
+                    for (Object item : items) {
+                        if (!(item instanceof String s)) {
+                            return null;
+                        }
+                        strings.add(truncate(mask(s)));
+                    }
+                    return strings;
+                default:
+                    return null;
+            }
+        }
+
+        private String truncate(String value) {
+            return value.length() <= maxLength ? value : value.substring(0, maxLength);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.impulse.features.events.domain;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Time bucket sizes of event rollups
+ */
+public enum RollupGranularity {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /** Start of the bucket containing the instant */
+    public LocalDateTime bucketStart(LocalDateTime instant) {
+        return instant.truncatedTo(unit);
+    }
+
+    /** Exclusive end of the bucket starting at bucketStart */
+    public LocalDateTime bucketEnd(LocalDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+}
@@ -0,0 +1,152 @@
+package com.impulse.features.evidencereview.adapters.in.rest;
+
+import com.impulse.features.evidencereview.adapters.in.rest.dto.BanEvidenceMediaRequest;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.EvidenceMediaApiResponse;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.EvidenceUploadUrlApiResponse;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.ResolveHeldEvidenceRequest;
+import com.impulse.features.evidencereview.adapters.in.rest.mapper.EvidenceReviewApiMapper;
+import com.impulse.features.evidencereview.application.port.in.BanEvidenceMediaPort;
+import com.impulse.features.evidencereview.application.port.in.PresignEvidenceUploadPort;
+import com.impulse.features.evidencereview.application.port.in.ResolveHeldEvidencePort;
+import com.impulse.features.evidencereview.application.port.in.UploadEvidenceMediaPort;
+import com.impulse.shared.utils.CorrelationId;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.security.Principal;
+
+/**
+ * REST Controller: EvidenceMediaController
+ * Raw-body media upload: the request stream is handed to storage untouched,
+ * bypassing multipart parsing and its temp-file spool, or a presigned URL to PUT it to
+ * the storage endpoint directly. Moderators ban images here so
+ * near-duplicate uploads are caught by the fingerprint index, and release or reject the
+ * evidence the index held.
+ */
+@RestController
+@RequestMapping("/api/v1/evidence-media")
+public class EvidenceMediaController {
+
+    private final UploadEvidenceMediaPort uploadEvidenceMediaPort;
+    private final PresignEvidenceUploadPort presignEvidenceUploadPort;
+    private final BanEvidenceMediaPort banEvidenceMediaPort;
+    private final ResolveHeldEvidencePort resolveHeldEvidencePort;
+    private final EvidenceReviewApiMapper mapper;
+
+    public EvidenceMediaController(UploadEvidenceMediaPort uploadEvidenceMediaPort,
+                                  PresignEvidenceUploadPort presignEvidenceUploadPort,
+                                  BanEvidenceMediaPort banEvidenceMediaPort,
+                                  ResolveHeldEvidencePort resolveHeldEvidencePort,
+                                  EvidenceReviewApiMapper mapper) {
+        this.uploadEvidenceMediaPort = uploadEvidenceMediaPort;
+        this.presignEvidenceUploadPort = presignEvidenceUploadPort;
+        this.banEvidenceMediaPort = banEvidenceMediaPort;
+        this.resolveHeldEvidencePort = resolveHeldEvidencePort;
+        this.mapper = mapper;
+    }
+
+    @PutMapping(consumes = "*/*")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<EvidenceMediaApiResponse> upload(
+            @RequestParam String fileName,
+            @RequestHeader(value = "X-Content-SHA256", required = false) String contentSha256,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+
+        // Set correlation ID for tracing
+        CorrelationId.set(correlationId);
+
+        try {
+            var command = mapper.toUploadMediaCommand(
+                getUserId(authentication),
+                fileName,
+                request.getContentType(),
+                request.getContentLengthLong(),
+                contentSha256,
+                request.getInputStream()
+            );
+
+            var response = uploadEvidenceMediaPort.execute(command);
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toApiResponse(response));
+
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+
+    @PostMapping("/upload-urls")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<EvidenceUploadUrlApiResponse> presignUpload(
+            @RequestParam String fileName,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            Authentication authentication) {
+
+        // Set correlation ID for tracing
+        CorrelationId.set(correlationId);
+
+        try {
+            var response = presignEvidenceUploadPort.execute(getUserId(authentication), fileName);
+            return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toApiResponse(response));
+
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+
+    @PostMapping("/bans")
+    @PreAuthorize("hasAnyRole('MODERATOR','ADMIN')")
+    public ResponseEntity<Void> ban(
+            @Valid @RequestBody BanEvidenceMediaRequest request,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            Authentication authentication) {
+
+        // Set correlation ID for tracing
+        CorrelationId.set(correlationId);
+
+        try {
+            banEvidenceMediaPort.execute(mapper.toBanMediaCommand(request, getUserId(authentication)));
+            return ResponseEntity.noContent().build();
+
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+
+    @PostMapping("/held/{evidenceId}")
+    @PreAuthorize("hasAnyRole('MODERATOR','ADMIN')")
+    public ResponseEntity<Void> resolveHeld(
+            @PathVariable Long evidenceId,
+            @Valid @RequestBody ResolveHeldEvidenceRequest request,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            Authentication authentication) {
+
+        // Set correlation ID for tracing
+        CorrelationId.set(correlationId);
+
+        try {
+            resolveHeldEvidencePort.execute(
+                mapper.toResolveHeldCommand(evidenceId, request, getUserId(authentication)));
+            return ResponseEntity.noContent().build();
+
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+
+    private Long getUserId(Authentication authentication) {
+        Principal principal = authentication;
+        try {
+            return Long.parseLong(principal.getName());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Invalid user ID in authentication: " + principal.getName());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.impulse.features.evidencereview.adapters.in.rest;
+
+import com.impulse.features.evidencereview.adapters.in.rest.dto.BatchDecideEvidenceApiResponse;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.BatchDecideEvidenceRequest;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.DecideEvidenceRequest;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.EvidenceApiResponse;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.ReviewQueuePageApiResponse;
+import com.impulse.features.evidencereview.adapters.in.rest.mapper.EvidenceReviewApiMapper;
+import com.impulse.features.evidencereview.application.port.in.BatchDecideEvidencePort;
+import com.impulse.features.evidencereview.application.port.in.ClaimEvidenceReviewsPort;
+import com.impulse.features.evidencereview.application.port.in.DecideEvidencePort;
+import com.impulse.features.evidencereview.application.port.in.GetReviewQueuePort;
+import com.impulse.shared.utils.IdempotencyKey;
+import com.impulse.shared.utils.CorrelationId;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import jakarta.validation.Valid;
+import java.security.Principal;
+
+/**
+ * REST Controller: EvidenceReviewController
+ * Validator work queue: claim pending evidence, page through leased items, decide one or many
+ */
+@RestController
+@RequestMapping("/api/v1/evidence-reviews")
+public class EvidenceReviewController {
+
+    private final ClaimEvidenceReviewsPort claimEvidenceReviewsPort;
+    private final GetReviewQueuePort getReviewQueuePort;
+    private final DecideEvidencePort decideEvidencePort;
+    private final BatchDecideEvidencePort batchDecideEvidencePort;
+    private final EvidenceReviewApiMapper mapper;
+
+    public EvidenceReviewController(ClaimEvidenceReviewsPort claimEvidenceReviewsPort,
+                                   GetReviewQueuePort getReviewQueuePort,
+                                   DecideEvidencePort decideEvidencePort,
+                                   BatchDecideEvidencePort batchDecideEvidencePort,
+                                   EvidenceReviewApiMapper mapper) {
+        this.claimEvidenceReviewsPort = claimEvidenceReviewsPort;
+        this.getReviewQueuePort = getReviewQueuePort;
+        this.decideEvidencePort = decideEvidencePort;
+        this.batchDecideEvidencePort = batchDecideEvidencePort;
+        this.mapper = mapper;
+    }
+
+    @PostMapping("/claims")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<ReviewQueuePageApiResponse> claim(
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication) {
+        var response = claimEvidenceReviewsPort.execute(mapper.toClaimCommand(getUserId(authentication), size));
+        return ResponseEntity.ok(mapper.toApiResponse(response));
+    }
+
+    @GetMapping("/queue")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<ReviewQueuePageApiResponse> getQueue(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        var response = getReviewQueuePort.execute(getUserId(authentication), after, size);
+        return ResponseEntity.ok(mapper.toApiResponse(response));
+    }
+
+    @PutMapping("/{evidenceId}/decision")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<EvidenceApiResponse> decide(
+            @PathVariable String evidenceId,
+            @Valid @RequestBody DecideEvidenceRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            Authentication authentication) {
+
+        // Set correlation ID for tracing
+        CorrelationId.set(correlationId);
+
+        try {
+            var command = mapper.toDecideCommand(evidenceId, request, getUserId(authentication));
+
+            var response = decideEvidencePort.execute(
+                command,
+                idempotencyKey != null ? IdempotencyKey.of(idempotencyKey) : null
+            );
+
+            return ResponseEntity.ok(mapper.toApiResponse(response));
+
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+
+    @PostMapping("/decisions")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<BatchDecideEvidenceApiResponse> decideBatch(
+            @Valid @RequestBody BatchDecideEvidenceRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            Authentication authentication) {
+
+        // Set correlation ID for tracing
+        CorrelationId.set(correlationId);
+
+        try {
+            var command = mapper.toBatchDecideCommand(request, getUserId(authentication));
+
+            var response = batchDecideEvidencePort.execute(
+                command,
+                idempotencyKey != null ? IdempotencyKey.of(idempotencyKey) : null
+            );
+
+            return ResponseEntity.ok(mapper.toApiResponse(response));
+
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+
+    private Long getUserId(Authentication authentication) {
+        Principal principal = authentication;
+        try {
+            return Long.parseLong(principal.getName());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Invalid user ID in authentication: " + principal.getName());
+        }
+    }
+}
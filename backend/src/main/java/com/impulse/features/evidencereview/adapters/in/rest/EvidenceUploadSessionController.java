@@ -0,0 +1,142 @@
+package com.impulse.features.evidencereview.adapters.in.rest;
+
+import com.impulse.features.evidencereview.adapters.in.rest.dto.CreateUploadSessionRequest;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.EvidenceMediaApiResponse;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.UploadSessionApiResponse;
+import com.impulse.features.evidencereview.adapters.in.rest.mapper.EvidenceReviewApiMapper;
+import com.impulse.features.evidencereview.application.port.in.CreateUploadSessionPort;
+import com.impulse.features.evidencereview.application.port.in.FinalizeUploadSessionPort;
+import com.impulse.features.evidencereview.application.port.in.GetUploadSessionPort;
+import com.impulse.features.evidencereview.application.port.in.UploadChunkPort;
+import com.impulse.shared.utils.CorrelationId;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.security.Principal;
+
+/**
+ * REST Controller: EvidenceUploadSessionController
+ * Resumable media upload: open a session, PUT fixed-size chunks by index (in any
+ * order, retried freely), GET the session to learn what is missing, then finalize
+ * with the SHA-256 of the whole file
+ */
+@RestController
+@RequestMapping("/api/v1/evidence-media/sessions")
+public class EvidenceUploadSessionController {
+
+    private final CreateUploadSessionPort createUploadSessionPort;
+    private final GetUploadSessionPort getUploadSessionPort;
+    private final UploadChunkPort uploadChunkPort;
+    private final FinalizeUploadSessionPort finalizeUploadSessionPort;
+    private final EvidenceReviewApiMapper mapper;
+
+    public EvidenceUploadSessionController(CreateUploadSessionPort createUploadSessionPort,
+                                           GetUploadSessionPort getUploadSessionPort,
+                                           UploadChunkPort uploadChunkPort,
+                                           FinalizeUploadSessionPort finalizeUploadSessionPort,
+                                           EvidenceReviewApiMapper mapper) {
+        this.createUploadSessionPort = createUploadSessionPort;
+        this.getUploadSessionPort = getUploadSessionPort;
+        this.uploadChunkPort = uploadChunkPort;
+        this.finalizeUploadSessionPort = finalizeUploadSessionPort;
+        this.mapper = mapper;
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<UploadSessionApiResponse> create(
+            @Valid @RequestBody CreateUploadSessionRequest request,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            Authentication authentication) {
+
+        CorrelationId.set(correlationId);
+
+        try {
+            var command = mapper.toCreateUploadSessionCommand(request, getUserId(authentication));
+            var response = createUploadSessionPort.execute(command);
+            return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toApiResponse(response));
+
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+
+    @GetMapping("/{sessionId}")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<UploadSessionApiResponse> get(
+            @PathVariable String sessionId,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            Authentication authentication) {
+
+        CorrelationId.set(correlationId);
+
+        try {
+            var response = getUploadSessionPort.execute(getUserId(authentication), sessionId);
+            return ResponseEntity.ok(mapper.toApiResponse(response));
+
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+
+    @PutMapping(value = "/{sessionId}/chunks/{chunkIndex}", consumes = "*/*")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<UploadSessionApiResponse> uploadChunk(
+            @PathVariable String sessionId,
+            @PathVariable int chunkIndex,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+
+        CorrelationId.set(correlationId);
+
+        try {
+            var command = mapper.toUploadChunkCommand(
+                getUserId(authentication),
+                sessionId,
+                chunkIndex,
+                request.getContentLengthLong(),
+                request.getInputStream()
+            );
+            var response = uploadChunkPort.execute(command);
+            return ResponseEntity.ok(mapper.toApiResponse(response));
+
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+
+    @PostMapping("/{sessionId}/finalize")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<EvidenceMediaApiResponse> finalizeUpload(
+            @PathVariable String sessionId,
+            @RequestHeader(value = "X-Content-SHA256", required = false) String contentSha256,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            Authentication authentication) {
+
+        CorrelationId.set(correlationId);
+
+        try {
+            var response = finalizeUploadSessionPort.execute(getUserId(authentication), sessionId, contentSha256);
+            return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toApiResponse(response));
+
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+
+    private Long getUserId(Authentication authentication) {
+        Principal principal = authentication;
+        try {
+            return Long.parseLong(principal.getName());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Invalid user ID in authentication: " + principal.getName());
+        }
+    }
+}
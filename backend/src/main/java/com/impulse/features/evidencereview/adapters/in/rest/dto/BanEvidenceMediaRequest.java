@@ -0,0 +1,34 @@
+package com.impulse.features.evidencereview.adapters.in.rest.dto;
+
+import com.impulse.shared.enums.ReportReason;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * API DTO: BanEvidenceMediaRequest
+ * HTTP request body for banning an evidence's image
+ */
+public class BanEvidenceMediaRequest {
+
+    @NotNull(message = "Evidence ID is required")
+    @Positive(message = "Evidence ID must be positive")
+    private Long evidenceId;
+
+    @NotNull(message = "Reason is required")
+    private ReportReason reason;
+
+    // Constructors
+    public BanEvidenceMediaRequest() {}
+
+    public BanEvidenceMediaRequest(Long evidenceId, ReportReason reason) {
+        this.evidenceId = evidenceId;
+        this.reason = reason;
+    }
+
+    // Getters and Setters
+    public Long getEvidenceId() { return evidenceId; }
+    public void setEvidenceId(Long evidenceId) { this.evidenceId = evidenceId; }
+
+    public ReportReason getReason() { return reason; }
+    public void setReason(ReportReason reason) { this.reason = reason; }
+}
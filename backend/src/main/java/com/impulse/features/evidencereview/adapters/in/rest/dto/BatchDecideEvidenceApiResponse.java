@@ -0,0 +1,65 @@
+package com.impulse.features.evidencereview.adapters.in.rest.dto;
+
+import com.impulse.shared.enums.EvidenceStatus;
+import java.util.List;
+
+/**
+ * API DTO: BatchDecideEvidenceApiResponse
+ * HTTP response body with one result per submitted decision, in request order
+ */
+public class BatchDecideEvidenceApiResponse {
+
+    private int applied;
+    private int failed;
+    private List<ItemResult> results;
+
+    // Constructors
+    public BatchDecideEvidenceApiResponse() {}
+
+    public BatchDecideEvidenceApiResponse(int applied, int failed, List<ItemResult> results) {
+        this.applied = applied;
+        this.failed = failed;
+        this.results = results;
+    }
+
+    // Getters and Setters
+    public int getApplied() { return applied; }
+    public void setApplied(int applied) { this.applied = applied; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public List<ItemResult> getResults() { return results; }
+    public void setResults(List<ItemResult> results) { this.results = results; }
+
+    /**
+     * Outcome of one decision; code and message are set only on failure
+     */
+    public static class ItemResult {
+        private Long evidenceId;
+        private EvidenceStatus status;
+        private String code;
+        private String message;
+
+        public ItemResult() {}
+
+        public ItemResult(Long evidenceId, EvidenceStatus status, String code, String message) {
+            this.evidenceId = evidenceId;
+            this.status = status;
+            this.code = code;
+            this.message = message;
+        }
+
+        public Long getEvidenceId() { return evidenceId; }
+        public void setEvidenceId(Long evidenceId) { this.evidenceId = evidenceId; }
+
+        public EvidenceStatus getStatus() { return status; }
+        public void setStatus(EvidenceStatus status) { this.status = status; }
+
+        public String getCode() { return code; }
+        public void setCode(String code) { this.code = code; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
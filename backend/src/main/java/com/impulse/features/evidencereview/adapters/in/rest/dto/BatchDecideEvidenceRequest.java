@@ -0,0 +1,56 @@
+package com.impulse.features.evidencereview.adapters.in.rest.dto;
+
+import com.impulse.shared.enums.EvidenceStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * API DTO: BatchDecideEvidenceRequest
+ * HTTP request body for deciding several evidences at once
+ */
+public class BatchDecideEvidenceRequest {
+
+    @NotEmpty(message = "At least one decision is required")
+    private List<@Valid Item> decisions;
+
+    // Constructors
+    public BatchDecideEvidenceRequest() {}
+
+    public BatchDecideEvidenceRequest(List<Item> decisions) {
+        this.decisions = decisions;
+    }
+
+    // Getters and Setters
+    public List<Item> getDecisions() { return decisions; }
+    public void setDecisions(List<Item> decisions) { this.decisions = decisions; }
+
+    /**
+     * One decision; per-item business errors are reported in the response, not as a 400
+     */
+    public static class Item {
+
+        private Long evidenceId;
+
+        private EvidenceStatus decision;
+
+        private String comments;
+
+        public Item() {}
+
+        public Item(Long evidenceId, EvidenceStatus decision, String comments) {
+            this.evidenceId = evidenceId;
+            this.decision = decision;
+            this.comments = comments;
+        }
+
+        public Long getEvidenceId() { return evidenceId; }
+        public void setEvidenceId(Long evidenceId) { this.evidenceId = evidenceId; }
+
+        public EvidenceStatus getDecision() { return decision; }
+        public void setDecision(EvidenceStatus decision) { this.decision = decision; }
+
+        public String getComments() { return comments; }
+        public void setComments(String comments) { this.comments = comments; }
+    }
+}
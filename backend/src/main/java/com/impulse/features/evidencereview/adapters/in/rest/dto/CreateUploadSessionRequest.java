@@ -0,0 +1,41 @@
+package com.impulse.features.evidencereview.adapters.in.rest.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * API DTO: CreateUploadSessionRequest
+ * HTTP request body for starting a resumable media upload
+ */
+public class CreateUploadSessionRequest {
+
+    @NotBlank(message = "File name is required")
+    @Size(max = 255, message = "File name cannot exceed 255 characters")
+    private String fileName;
+
+    @Size(max = 128, message = "Content type cannot exceed 128 characters")
+    private String contentType;
+
+    @Positive(message = "Total size must be positive")
+    private long totalBytes;
+
+    // Constructors
+    public CreateUploadSessionRequest() {}
+
+    public CreateUploadSessionRequest(String fileName, String contentType, long totalBytes) {
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.totalBytes = totalBytes;
+    }
+
+    // Getters and Setters
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+
+    public long getTotalBytes() { return totalBytes; }
+    public void setTotalBytes(long totalBytes) { this.totalBytes = totalBytes; }
+}
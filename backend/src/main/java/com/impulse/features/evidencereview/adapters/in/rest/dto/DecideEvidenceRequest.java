@@ -0,0 +1,33 @@
+package com.impulse.features.evidencereview.adapters.in.rest.dto;
+
+import com.impulse.shared.enums.EvidenceStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * API DTO: DecideEvidenceRequest
+ * HTTP request body for approving or rejecting evidence
+ */
+public class DecideEvidenceRequest {
+
+    @NotNull(message = "Decision is required")
+    private EvidenceStatus decision;
+
+    @Size(max = 500, message = "Comments cannot exceed 500 characters")
+    private String comments;
+
+    // Constructors
+    public DecideEvidenceRequest() {}
+
+    public DecideEvidenceRequest(EvidenceStatus decision, String comments) {
+        this.decision = decision;
+        this.comments = comments;
+    }
+
+    // Getters and Setters
+    public EvidenceStatus getDecision() { return decision; }
+    public void setDecision(EvidenceStatus decision) { this.decision = decision; }
+
+    public String getComments() { return comments; }
+    public void setComments(String comments) { this.comments = comments; }
+}
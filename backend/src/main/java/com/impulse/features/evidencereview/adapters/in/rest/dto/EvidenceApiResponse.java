@@ -0,0 +1,55 @@
+package com.impulse.features.evidencereview.adapters.in.rest.dto;
+
+import com.impulse.shared.enums.EvidenceStatus;
+import java.time.LocalDateTime;
+
+/**
+ * API DTO: EvidenceApiResponse
+ * HTTP response body for evidence review operations
+ */
+public class EvidenceApiResponse {
+
+    private String id;
+    private Long challengeId;
+    private EvidenceStatus status;
+    private Long reviewerUserId;
+    private String reviewComments;
+    private LocalDateTime reviewedAt;
+    private LocalDateTime submittedAt;
+
+    // Constructors
+    public EvidenceApiResponse() {}
+
+    public EvidenceApiResponse(String id, Long challengeId, EvidenceStatus status, Long reviewerUserId,
+                               String reviewComments, LocalDateTime reviewedAt, LocalDateTime submittedAt) {
+        this.id = id;
+        this.challengeId = challengeId;
+        this.status = status;
+        this.reviewerUserId = reviewerUserId;
+        this.reviewComments = reviewComments;
+        this.reviewedAt = reviewedAt;
+        this.submittedAt = submittedAt;
+    }
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public Long getChallengeId() { return challengeId; }
+    public void setChallengeId(Long challengeId) { this.challengeId = challengeId; }
+
+    public EvidenceStatus getStatus() { return status; }
+    public void setStatus(EvidenceStatus status) { this.status = status; }
+
+    public Long getReviewerUserId() { return reviewerUserId; }
+    public void setReviewerUserId(Long reviewerUserId) { this.reviewerUserId = reviewerUserId; }
+
+    public String getReviewComments() { return reviewComments; }
+    public void setReviewComments(String reviewComments) { this.reviewComments = reviewComments; }
+
+    public LocalDateTime getReviewedAt() { return reviewedAt; }
+    public void setReviewedAt(LocalDateTime reviewedAt) { this.reviewedAt = reviewedAt; }
+
+    public LocalDateTime getSubmittedAt() { return submittedAt; }
+    public void setSubmittedAt(LocalDateTime submittedAt) { this.submittedAt = submittedAt; }
+}
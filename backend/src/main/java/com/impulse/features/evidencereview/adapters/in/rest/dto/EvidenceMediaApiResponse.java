@@ -0,0 +1,36 @@
+package com.impulse.features.evidencereview.adapters.in.rest.dto;
+
+/**
+ * API DTO: EvidenceMediaApiResponse
+ * HTTP response body for a stored evidence media upload
+ */
+public class EvidenceMediaApiResponse {
+
+    private String mediaKey;
+    private String mediaMime;
+    private long sizeBytes;
+    private String sha256;
+
+    // Constructors
+    public EvidenceMediaApiResponse() {}
+
+    public EvidenceMediaApiResponse(String mediaKey, String mediaMime, long sizeBytes, String sha256) {
+        this.mediaKey = mediaKey;
+        this.mediaMime = mediaMime;
+        this.sizeBytes = sizeBytes;
+        this.sha256 = sha256;
+    }
+
+    // Getters and Setters
+    public String getMediaKey() { return mediaKey; }
+    public void setMediaKey(String mediaKey) { this.mediaKey = mediaKey; }
+
+    public String getMediaMime() { return mediaMime; }
+    public void setMediaMime(String mediaMime) { this.mediaMime = mediaMime; }
+
+    public long getSizeBytes() { return sizeBytes; }
+    public void setSizeBytes(long sizeBytes) { this.sizeBytes = sizeBytes; }
+
+    public String getSha256() { return sha256; }
+    public void setSha256(String sha256) { this.sha256 = sha256; }
+}
@@ -0,0 +1,26 @@
+package com.impulse.features.evidencereview.adapters.in.rest.dto;
+
+/**
+ * API DTO: EvidenceUploadUrlApiResponse
+ * HTTP response body for an issued presigned upload URL
+ */
+public class EvidenceUploadUrlApiResponse {
+
+    private String uploadUrl;
+    private int expirySeconds;
+
+    // Constructors
+    public EvidenceUploadUrlApiResponse() {}
+
+    public EvidenceUploadUrlApiResponse(String uploadUrl, int expirySeconds) {
+        this.uploadUrl = uploadUrl;
+        this.expirySeconds = expirySeconds;
+    }
+
+    // Getters and Setters
+    public String getUploadUrl() { return uploadUrl; }
+    public void setUploadUrl(String uploadUrl) { this.uploadUrl = uploadUrl; }
+
+    public int getExpirySeconds() { return expirySeconds; }
+    public void setExpirySeconds(int expirySeconds) { this.expirySeconds = expirySeconds; }
+}
@@ -0,0 +1,60 @@
+package com.impulse.features.evidencereview.adapters.in.rest.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * API DTO: ReviewQueueItemApiResponse
+ * One evidence in the validator's review queue
+ */
+public class ReviewQueueItemApiResponse {
+
+    private Long evidenceId;
+    private Long challengeId;
+    private String text;
+    private String mediaUrl;
+    private String mediaMime;
+    private String previewUrl;
+    private LocalDateTime submittedAt;
+    private LocalDateTime leaseExpiresAt;
+
+    // Constructors
+    public ReviewQueueItemApiResponse() {}
+
+    public ReviewQueueItemApiResponse(Long evidenceId, Long challengeId, String text, String mediaUrl,
+                                      String mediaMime, String previewUrl, LocalDateTime submittedAt,
+                                      LocalDateTime leaseExpiresAt) {
+        this.evidenceId = evidenceId;
+        this.challengeId = challengeId;
+        this.text = text;
+        this.mediaUrl = mediaUrl;
+        this.mediaMime = mediaMime;
+        this.previewUrl = previewUrl;
+        this.submittedAt = submittedAt;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    // Getters and Setters
+    public Long getEvidenceId() { return evidenceId; }
+    public void setEvidenceId(Long evidenceId) { this.evidenceId = evidenceId; }
+
+    public Long getChallengeId() { return challengeId; }
+    public void setChallengeId(Long challengeId) { this.challengeId = challengeId; }
+
+    public String getText() { return text; }
+    public void setText(String text) { this.text = text; }
+
+    public String getMediaUrl() { return mediaUrl; }
+    public void setMediaUrl(String mediaUrl) { this.mediaUrl = mediaUrl; }
+
+    public String getMediaMime() { return mediaMime; }
+    public void setMediaMime(String mediaMime) { this.mediaMime = mediaMime; }
+
+    public String getPreviewUrl() { return previewUrl; }
+    public void setPreviewUrl(String previewUrl) { this.previewUrl = previewUrl; }
+
+    public LocalDateTime getSubmittedAt() { return submittedAt; }
+    public void setSubmittedAt(LocalDateTime submittedAt) { this.submittedAt = submittedAt; }
+
+    public LocalDateTime getLeaseExpiresAt() { return leaseExpiresAt; }
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) { this.leaseExpiresAt = leaseExpiresAt; }
+}
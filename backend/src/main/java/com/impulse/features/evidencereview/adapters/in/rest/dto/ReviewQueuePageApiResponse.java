@@ -0,0 +1,28 @@
+package com.impulse.features.evidencereview.adapters.in.rest.dto;
+
+import java.util.List;
+
+/**
+ * API DTO: ReviewQueuePageApiResponse
+ * A page of the review queue; pass nextCursor as "after" to fetch the next page
+ */
+public class ReviewQueuePageApiResponse {
+
+    private List<ReviewQueueItemApiResponse> items;
+    private Long nextCursor;
+
+    // Constructors
+    public ReviewQueuePageApiResponse() {}
+
+    public ReviewQueuePageApiResponse(List<ReviewQueueItemApiResponse> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<ReviewQueueItemApiResponse> getItems() { return items; }
+    public void setItems(List<ReviewQueueItemApiResponse> items) { this.items = items; }
+
+    public Long getNextCursor() { return nextCursor; }
+    public void setNextCursor(Long nextCursor) { this.nextCursor = nextCursor; }
+}
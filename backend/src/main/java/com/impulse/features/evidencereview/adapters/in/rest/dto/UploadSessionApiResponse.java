@@ -0,0 +1,50 @@
+package com.impulse.features.evidencereview.adapters.in.rest.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * API DTO: UploadSessionApiResponse
+ * Progress of a resumable upload
+ */
+public class UploadSessionApiResponse {
+
+    private String sessionId;
+    private long totalBytes;
+    private int chunkBytes;
+    private int chunkCount;
+    private List<Integer> missingChunks;
+    private LocalDateTime expiresAt;
+
+    // Constructors
+    public UploadSessionApiResponse() {}
+
+    public UploadSessionApiResponse(String sessionId, long totalBytes, int chunkBytes, int chunkCount,
+                                    List<Integer> missingChunks, LocalDateTime expiresAt) {
+        this.sessionId = sessionId;
+        this.totalBytes = totalBytes;
+        this.chunkBytes = chunkBytes;
+        this.chunkCount = chunkCount;
+        this.missingChunks = missingChunks;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public String getSessionId() { return sessionId; }
+    public void setSessionId(String sessionId) { this.sessionId = sessionId; }
+
+    public long getTotalBytes() { return totalBytes; }
+    public void setTotalBytes(long totalBytes) { this.totalBytes = totalBytes; }
+
+    public int getChunkBytes() { return chunkBytes; }
+    public void setChunkBytes(int chunkBytes) { this.chunkBytes = chunkBytes; }
+
+    public int getChunkCount() { return chunkCount; }
+    public void setChunkCount(int chunkCount) { this.chunkCount = chunkCount; }
+
+    public List<Integer> getMissingChunks() { return missingChunks; }
+    public void setMissingChunks(List<Integer> missingChunks) { this.missingChunks = missingChunks; }
+
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+}
@@ -0,0 +1,155 @@
+package com.impulse.features.evidencereview.adapters.in.rest.mapper;
+
+import com.impulse.features.evidencereview.adapters.in.rest.dto.BanEvidenceMediaRequest;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.BatchDecideEvidenceApiResponse;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.BatchDecideEvidenceRequest;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.CreateUploadSessionRequest;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.DecideEvidenceRequest;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.EvidenceApiResponse;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.EvidenceMediaApiResponse;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.EvidenceUploadUrlApiResponse;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.ResolveHeldEvidenceRequest;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.ReviewQueueItemApiResponse;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.ReviewQueuePageApiResponse;
+import com.impulse.features.evidencereview.adapters.in.rest.dto.UploadSessionApiResponse;
+import com.impulse.features.evidencereview.application.dto.BanEvidenceMediaCommand;
+import com.impulse.features.evidencereview.application.dto.BatchDecideEvidenceCommand;
+import com.impulse.features.evidencereview.application.dto.BatchDecideEvidenceResponse;
+import com.impulse.features.evidencereview.application.dto.ClaimEvidenceReviewsCommand;
+import com.impulse.features.evidencereview.application.dto.CreateUploadSessionCommand;
+import com.impulse.features.evidencereview.application.dto.DecideEvidenceCommand;
+import com.impulse.features.evidencereview.application.dto.EvidenceMediaResponse;
+import com.impulse.features.evidencereview.application.dto.EvidenceResponse;
+import com.impulse.features.evidencereview.application.dto.EvidenceUploadUrlResponse;
+import com.impulse.features.evidencereview.application.dto.ResolveHeldEvidenceCommand;
+import com.impulse.features.evidencereview.application.dto.ReviewQueuePageResponse;
+import com.impulse.features.evidencereview.application.dto.UploadChunkCommand;
+import com.impulse.features.evidencereview.application.dto.UploadEvidenceMediaCommand;
+import com.impulse.features.evidencereview.application.dto.UploadSessionResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+
+/**
+ * Mapper: EvidenceReviewApiMapper
+ * Maps between API DTOs and Application DTOs for evidence review and media
+ */
+@Component
+public class EvidenceReviewApiMapper {
+
+    public ClaimEvidenceReviewsCommand toClaimCommand(Long userId, int size) {
+        return new ClaimEvidenceReviewsCommand(userId, size);
+    }
+
+    public DecideEvidenceCommand toDecideCommand(String evidenceId, DecideEvidenceRequest request, Long userId) {
+        return new DecideEvidenceCommand(
+            evidenceId,
+            userId,
+            request.getDecision(),
+            request.getComments()
+        );
+    }
+
+    public EvidenceApiResponse toApiResponse(EvidenceResponse response) {
+        return new EvidenceApiResponse(
+            response.getId(),
+            response.getChallengeId(),
+            response.getStatus(),
+            response.getReviewerUserId(),
+            response.getReviewComments(),
+            response.getReviewedAt(),
+            response.getSubmittedAt()
+        );
+    }
+
+    public ReviewQueuePageApiResponse toApiResponse(ReviewQueuePageResponse response) {
+        return new ReviewQueuePageApiResponse(
+            response.getItems().stream()
+                .map(item -> new ReviewQueueItemApiResponse(
+                    item.getEvidenceId(),
+                    item.getChallengeId(),
+                    item.getText(),
+                    item.getMediaUrl(),
+                    item.getMediaMime(),
+                    item.getPreviewUrl(),
+                    item.getSubmittedAt(),
+                    item.getLeaseExpiresAt()))
+                .toList(),
+            response.getNextCursor()
+        );
+    }
+
+    public BatchDecideEvidenceCommand toBatchDecideCommand(BatchDecideEvidenceRequest request, Long userId) {
+        return new BatchDecideEvidenceCommand(
+            userId,
+            request.getDecisions().stream()
+                .map(item -> new BatchDecideEvidenceCommand.Item(
+                    item.getEvidenceId(),
+                    item.getDecision(),
+                    item.getComments()))
+                .toList()
+        );
+    }
+
+    public BatchDecideEvidenceApiResponse toApiResponse(BatchDecideEvidenceResponse response) {
+        return new BatchDecideEvidenceApiResponse(
+            response.getApplied(),
+            response.getFailed(),
+            response.getResults().stream()
+                .map(result -> new BatchDecideEvidenceApiResponse.ItemResult(
+                    result.getEvidenceId(),
+                    result.getStatus(),
+                    result.getErrorCode(),
+                    result.getMessage()))
+                .toList()
+        );
+    }
+
+    public UploadEvidenceMediaCommand toUploadMediaCommand(Long userId, String fileName, String contentType,
+                                                           long contentLength, String sha256, InputStream body) {
+        return new UploadEvidenceMediaCommand(userId, fileName, contentType, contentLength, sha256, body);
+    }
+
+    public EvidenceMediaApiResponse toApiResponse(EvidenceMediaResponse response) {
+        return new EvidenceMediaApiResponse(
+            response.getMediaKey(),
+            response.getMediaMime(),
+            response.getSizeBytes(),
+            response.getSha256()
+        );
+    }
+
+    public EvidenceUploadUrlApiResponse toApiResponse(EvidenceUploadUrlResponse response) {
+        return new EvidenceUploadUrlApiResponse(response.getUploadUrl(), response.getExpirySeconds());
+    }
+
+    public CreateUploadSessionCommand toCreateUploadSessionCommand(CreateUploadSessionRequest request, Long userId) {
+        return new CreateUploadSessionCommand(userId, request.getFileName(), request.getContentType(),
+            request.getTotalBytes());
+    }
+
+    public UploadChunkCommand toUploadChunkCommand(Long userId, String sessionId, int chunkIndex,
+                                                   long contentLength, InputStream body) {
+        return new UploadChunkCommand(userId, sessionId, chunkIndex, contentLength, body);
+    }
+
+    public UploadSessionApiResponse toApiResponse(UploadSessionResponse response) {
+        return new UploadSessionApiResponse(
+            response.getSessionId(),
+            response.getTotalBytes(),
+            response.getChunkBytes(),
+            response.getChunkCount(),
+            response.getMissingChunks(),
+            response.getExpiresAt()
+        );
+    }
+
+    public ResolveHeldEvidenceCommand toResolveHeldCommand(Long evidenceId, ResolveHeldEvidenceRequest request,
+                                                           Long moderatorUserId) {
+        return new ResolveHeldEvidenceCommand(evidenceId, moderatorUserId, request.getDecision(), request.getComments());
+    }
+
+    public BanEvidenceMediaCommand toBanMediaCommand(BanEvidenceMediaRequest request, Long moderatorUserId) {
+        return new BanEvidenceMediaCommand(request.getEvidenceId(), moderatorUserId, request.getReason());
+    }
+}
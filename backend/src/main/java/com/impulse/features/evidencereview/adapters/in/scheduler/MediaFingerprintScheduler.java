@@ -0,0 +1,25 @@
+package com.impulse.features.evidencereview.adapters.in.scheduler;
+
+import com.impulse.features.evidencereview.application.usecase.MediaFingerprintIndex;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler adapter: MediaFingerprintScheduler
+ * Builds the fingerprint index at startup and rebuilds it to pick up other nodes' fingerprints,
+ * bans and erasures
+ */
+@Component
+public class MediaFingerprintScheduler {
+
+    private final MediaFingerprintIndex fingerprintIndex;
+
+    public MediaFingerprintScheduler(MediaFingerprintIndex fingerprintIndex) {
+        this.fingerprintIndex = fingerprintIndex;
+    }
+
+    @Scheduled(fixedDelayString = "${impulse.media-fingerprint.refresh-interval-ms:30000}")
+    public void refresh() {
+        fingerprintIndex.refresh();
+    }
+}
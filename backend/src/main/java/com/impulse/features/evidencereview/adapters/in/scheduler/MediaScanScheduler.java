@@ -0,0 +1,24 @@
+package com.impulse.features.evidencereview.adapters.in.scheduler;
+
+import com.impulse.features.evidencereview.application.usecase.ScanPendingMediaUseCase;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler adapter: MediaScanScheduler
+ * Periodically drains the evidence media scan queue
+ */
+@Component
+public class MediaScanScheduler {
+
+    private final ScanPendingMediaUseCase scanPendingMedia;
+
+    public MediaScanScheduler(ScanPendingMediaUseCase scanPendingMedia) {
+        this.scanPendingMedia = scanPendingMedia;
+    }
+
+    @Scheduled(fixedDelayString = "${impulse.media-scan.sweep-interval-ms:5000}")
+    public void sweep() {
+        scanPendingMedia.scanPending();
+    }
+}
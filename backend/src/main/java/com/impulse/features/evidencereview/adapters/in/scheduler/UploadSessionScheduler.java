@@ -0,0 +1,24 @@
+package com.impulse.features.evidencereview.adapters.in.scheduler;
+
+import com.impulse.features.evidencereview.application.usecase.ExpireUploadSessionsUseCase;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler adapter: UploadSessionScheduler
+ * Periodically removes abandoned resumable uploads and their staging files
+ */
+@Component
+public class UploadSessionScheduler {
+
+    private final ExpireUploadSessionsUseCase expireUploadSessions;
+
+    public UploadSessionScheduler(ExpireUploadSessionsUseCase expireUploadSessions) {
+        this.expireUploadSessions = expireUploadSessions;
+    }
+
+    @Scheduled(fixedDelayString = "${impulse.storage.resumable.gc-interval-ms:900000}")
+    public void sweep() {
+        expireUploadSessions.expire();
+    }
+}
@@ -0,0 +1,215 @@
+package com.impulse.features.evidencereview.adapters.out.persistence;
+
+import com.impulse.features.evidencereview.application.port.out.EvidenceReviewRepository;
+import com.impulse.features.evidencereview.domain.EvidenceDecision;
+import com.impulse.features.evidencereview.domain.EvidenceReviewTarget;
+import com.impulse.features.evidencereview.domain.ReviewQueueItem;
+import com.impulse.shared.enums.EvidenceStatus;
+import com.impulse.shared.enums.MediaScanStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * JDBC implementation of EvidenceReviewRepository port
+ * Claims use FOR UPDATE SKIP LOCKED so concurrent validators never wait on each other's rows.
+ */
+@Repository
+@Transactional
+public class EvidenceReviewRepositoryImpl implements EvidenceReviewRepository {
+
+    private static final String QUEUE_COLUMNS =
+        "SELECT e.id, e.challenge_id, e.participation_id, e.text, e.media_key, e.media_mime, " +
+        "e.created_at, e.review_lease_expires_at FROM evidences e ";
+
+    private static final String CLAIMABLE =
+        "FROM evidences e " +
+        "JOIN validators v ON v.challenge_id = e.challenge_id AND v.user_id = :validator " +
+        "JOIN participations p ON p.id = e.participation_id " +
+        "WHERE e.status = 'PENDING' AND e.deleted_at IS NULL AND p.user_id <> :validator " +
+        "AND e.media_scan_status = 'CLEAN' " +
+        "AND (e.review_lease_expires_at IS NULL OR e.review_lease_expires_at <= :now) ";
+
+    private static final RowMapper<ReviewQueueItem> QUEUE_MAPPER = (rs, rowNum) -> new ReviewQueueItem(
+        rs.getLong("id"),
+        rs.getLong("challenge_id"),
+        rs.getLong("participation_id"),
+        rs.getString("text"),
+        rs.getString("media_key"),
+        rs.getString("media_mime"),
+        toLocalDateTime(rs.getTimestamp("created_at")),
+        toLocalDateTime(rs.getTimestamp("review_lease_expires_at"))
+    );
+
+    private static final String TARGET_COLUMNS =
+        "SELECT e.id, e.challenge_id, e.participation_id, p.user_id, e.text, e.status, e.media_scan_status, " +
+        "e.review_lease_owner, e.review_lease_expires_at, e.created_at, e.is_demo " +
+        "FROM evidences e JOIN participations p ON p.id = e.participation_id ";
+
+    private static final RowMapper<EvidenceReviewTarget> TARGET_MAPPER = (rs, rowNum) ->
+        new EvidenceReviewTarget(
+            rs.getLong("id"),
+            rs.getLong("challenge_id"),
+            rs.getLong("participation_id"),
+            rs.getLong("user_id"),
+            rs.getString("text"),
+            EvidenceStatus.valueOf(rs.getString("status")),
+            MediaScanStatus.valueOf(rs.getString("media_scan_status")),
+            rs.getObject("review_lease_owner", Long.class),
+            toLocalDateTime(rs.getTimestamp("review_lease_expires_at")),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            rs.getBoolean("is_demo")
+        );
+
+    private static final String APPLY_DECISION_SQL =
+        "UPDATE evidences SET status = ?, decided_by_user_id = ?, decided_at = ?, decision_reason = ?, " +
+        "review_lease_owner = NULL, review_lease_expires_at = NULL " +
+        "WHERE id = ? AND status = 'PENDING' AND media_scan_status = 'CLEAN' AND deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public EvidenceReviewRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                        NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    @Override
+    public List<ReviewQueueItem> claim(Long validatorUserId, Integer shard, int shardCount,
+                                       LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("validator", validatorUserId)
+            .addValue("now", Timestamp.valueOf(now))
+            .addValue("limit", limit);
+
+        String shardPredicate = "";
+        if (shard != null) {
+            shardPredicate = "AND MOD(e.id, :shardCount) = :shard ";
+            params.addValue("shardCount", shardCount).addValue("shard", shard);
+        }
+
+        List<Long> ids = namedJdbcTemplate.queryForList(
+            "SELECT e.id " + CLAIMABLE + shardPredicate +
+            "ORDER BY e.id LIMIT :limit FOR UPDATE OF e SKIP LOCKED",
+            params, Long.class);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource lease = new MapSqlParameterSource("ids", ids)
+            .addValue("validator", validatorUserId)
+            .addValue("until", Timestamp.valueOf(leaseUntil));
+        namedJdbcTemplate.update(
+            "UPDATE evidences SET review_lease_owner = :validator, review_lease_expires_at = :until " +
+            "WHERE id IN (:ids)",
+            lease);
+
+        return namedJdbcTemplate.query(
+            QUEUE_COLUMNS + "WHERE e.id IN (:ids) ORDER BY e.id", lease, QUEUE_MAPPER);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReviewQueueItem> findLeasedBy(Long validatorUserId, LocalDateTime now, long afterEvidenceId, int limit) {
+        return jdbcTemplate.query(
+            QUEUE_COLUMNS +
+            "WHERE e.review_lease_owner = ? AND e.review_lease_expires_at > ? AND e.status = 'PENDING' " +
+            "AND e.deleted_at IS NULL AND e.id > ? ORDER BY e.id LIMIT ?",
+            QUEUE_MAPPER, validatorUserId, Timestamp.valueOf(now), afterEvidenceId, limit);
+    }
+
+    @Override
+    public Optional<EvidenceReviewTarget> lockForDecision(Long evidenceId) {
+        return jdbcTemplate.query(
+            TARGET_COLUMNS + "WHERE e.id = ? AND e.deleted_at IS NULL FOR UPDATE OF e",
+            TARGET_MAPPER, evidenceId
+        ).stream().findFirst();
+    }
+
+    @Override
+    public List<EvidenceReviewTarget> lockForDecision(Collection<Long> evidenceIds) {
+        if (evidenceIds.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.query(
+            TARGET_COLUMNS + "WHERE e.id IN (:ids) AND e.deleted_at IS NULL ORDER BY e.id FOR UPDATE OF e",
+            new MapSqlParameterSource("ids", evidenceIds), TARGET_MAPPER);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isValidator(Long challengeId, Long userId) {
+        Integer found = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM validators WHERE challenge_id = ? AND user_id = ?",
+            Integer.class, challengeId, userId);
+        return found != null && found > 0;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> findValidatedChallengeIds(Long userId, Collection<Long> challengeIds) {
+        if (challengeIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList(
+            "SELECT challenge_id FROM validators WHERE user_id = :user AND challenge_id IN (:ids)",
+            new MapSqlParameterSource("user", userId).addValue("ids", challengeIds),
+            Long.class));
+    }
+
+    @Override
+    public int applyDecision(EvidenceDecision decision, Long reviewerUserId, LocalDateTime decidedAt) {
+        return jdbcTemplate.update(APPLY_DECISION_SQL,
+            decision.getDecision().name(), reviewerUserId, Timestamp.valueOf(decidedAt),
+            decision.getReason(), decision.getEvidenceId());
+    }
+
+    @Override
+    public int[] applyDecisions(List<EvidenceDecision> decisions, Long reviewerUserId, LocalDateTime decidedAt) {
+        if (decisions.isEmpty()) {
+            return new int[0];
+        }
+        Timestamp at = Timestamp.valueOf(decidedAt);
+        List<Object[]> args = new ArrayList<>(decisions.size());
+        for (EvidenceDecision decision : decisions) {
+            args.add(new Object[] {
+                decision.getDecision().name(), reviewerUserId, at, decision.getReason(), decision.getEvidenceId()
+            });
+        }
+        return jdbcTemplate.batchUpdate(APPLY_DECISION_SQL, args);
+    }
+
+    @Override
+    public void recomputeParticipationStatus(Collection<Long> participationIds) {
+        if (participationIds.isEmpty()) {
+            return;
+        }
+        // Sorted ids keep participation lock order stable across concurrent reviewers
+        List<Long> ordered = new ArrayList<>(new TreeSet<>(participationIds));
+        namedJdbcTemplate.update(
+            "UPDATE participations p SET p.status = CASE " +
+            "WHEN EXISTS (SELECT 1 FROM evidences e WHERE e.participation_id = p.id AND e.deleted_at IS NULL AND e.status = 'APPROVED') THEN 'APPROVED' " +
+            "WHEN EXISTS (SELECT 1 FROM evidences e WHERE e.participation_id = p.id AND e.deleted_at IS NULL AND e.status = 'PENDING') THEN 'PENDING' " +
+            "WHEN EXISTS (SELECT 1 FROM evidences e WHERE e.participation_id = p.id AND e.deleted_at IS NULL AND e.status = 'REJECTED') THEN 'REJECTED' " +
+            "ELSE 'PENDING' END " +
+            "WHERE p.id IN (:ids)",
+            new MapSqlParameterSource("ids", ordered));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
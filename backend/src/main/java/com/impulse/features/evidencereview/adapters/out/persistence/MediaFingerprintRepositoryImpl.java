@@ -0,0 +1,133 @@
+package com.impulse.features.evidencereview.adapters.out.persistence;
+
+import com.impulse.features.evidencereview.application.port.out.MediaFingerprintRepository;
+import com.impulse.features.evidencereview.domain.MediaFingerprint;
+import com.impulse.shared.enums.ReportReason;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JDBC implementation of MediaFingerprintRepository port
+ */
+@Repository
+@Transactional
+public class MediaFingerprintRepositoryImpl implements MediaFingerprintRepository {
+
+    private static final String COLUMNS =
+        "SELECT id, evidence_id, phash, banned_reason, banned_by_user_id FROM media_fingerprints ";
+
+    private static final RowMapper<MediaFingerprint> MAPPER = (rs, rowNum) -> {
+        String reason = rs.getString("banned_reason");
+        return new MediaFingerprint(
+            rs.getLong("id"),
+            rs.getLong("evidence_id"),
+            rs.getLong("phash"),
+            reason != null ? ReportReason.valueOf(reason) : null,
+            rs.getObject("banned_by_user_id", Long.class)
+        );
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public MediaFingerprintRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                          NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    @Override
+    public void saveAll(Map<Long, Long> hashesByEvidenceId) {
+        if (hashesByEvidenceId.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = hashesByEvidenceId.entrySet().stream()
+            .map(entry -> new Object[] {entry.getKey(), entry.getValue()})
+            .toList();
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO media_fingerprints (evidence_id, phash) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE evidence_id = evidence_id",
+            args);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<MediaFingerprint> findByEvidenceId(Long evidenceId) {
+        return jdbcTemplate.query(COLUMNS + "WHERE evidence_id = ?", MAPPER, evidenceId).stream().findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MediaFingerprint> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query(COLUMNS + "WHERE id > ? ORDER BY id LIMIT ?", MAPPER, afterId, limit);
+    }
+
+    @Override
+    public void markBanned(Long evidenceId, ReportReason reason, Long bannedByUserId, LocalDateTime bannedAt) {
+        jdbcTemplate.update(
+            "UPDATE media_fingerprints SET banned_reason = ?, banned_by_user_id = ?, banned_at = ? " +
+            "WHERE evidence_id = ? AND banned_at IS NULL",
+            reason.name(), bannedByUserId, Timestamp.valueOf(bannedAt), evidenceId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findMediaKey(Long evidenceId) {
+        return jdbcTemplate.queryForList(
+            "SELECT media_key FROM evidences WHERE id = ? AND media_key IS NOT NULL", String.class, evidenceId)
+            .stream().findFirst();
+    }
+
+    @Override
+    public Map<Long, Long> holdEvidences(Collection<Long> evidenceIds) {
+        if (evidenceIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Long> held = new HashMap<>();
+        namedJdbcTemplate.query(
+            "SELECT id, challenge_id FROM evidences WHERE id IN (:ids) AND status = 'PENDING' " +
+            "ORDER BY id FOR UPDATE",
+            new MapSqlParameterSource("ids", evidenceIds),
+            rs -> {
+                held.put(rs.getLong("id"), rs.getLong("challenge_id"));
+            });
+        if (!held.isEmpty()) {
+            namedJdbcTemplate.update(
+                "UPDATE evidences SET status = 'HELD' WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", held.keySet()));
+        }
+        return held;
+    }
+
+    @Override
+    public Optional<Long> lockHeldEvidence(Long evidenceId) {
+        return jdbcTemplate.queryForList(
+            "SELECT challenge_id FROM evidences WHERE id = ? AND status = 'HELD' AND deleted_at IS NULL FOR UPDATE",
+            Long.class, evidenceId).stream().findFirst();
+    }
+
+    @Override
+    public void releaseHeldEvidence(Long evidenceId) {
+        jdbcTemplate.update("UPDATE evidences SET status = 'PENDING' WHERE id = ? AND status = 'HELD'", evidenceId);
+    }
+
+    @Override
+    public void rejectHeldEvidence(Long evidenceId, Long moderatorUserId, String reason, LocalDateTime decidedAt) {
+        jdbcTemplate.update(
+            "UPDATE evidences SET status = 'REJECTED', decided_by_user_id = ?, decided_at = ?, decision_reason = ? " +
+            "WHERE id = ? AND status = 'HELD'",
+            moderatorUserId, Timestamp.valueOf(decidedAt), reason, evidenceId);
+    }
+}
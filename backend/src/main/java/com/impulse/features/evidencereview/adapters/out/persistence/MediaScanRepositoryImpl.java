@@ -0,0 +1,107 @@
+package com.impulse.features.evidencereview.adapters.out.persistence;
+
+import com.impulse.features.evidencereview.application.port.out.MediaScanRepository;
+import com.impulse.features.evidencereview.domain.MediaScanTask;
+import com.impulse.shared.enums.MediaScanStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC implementation of MediaScanRepository port
+ * Claims use FOR UPDATE SKIP LOCKED so scanner workers on several nodes never overlap.
+ * Rows backing off after a failed attempt are not claimed until media_scan_next_attempt_at.
+ */
+@Repository
+@Transactional
+public class MediaScanRepositoryImpl implements MediaScanRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public MediaScanRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                   NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    @Override
+    public List<MediaScanTask> claim(LocalDateTime now, LocalDateTime staleBefore, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("staleBefore", Timestamp.valueOf(staleBefore))
+            .addValue("now", Timestamp.valueOf(now))
+            .addValue("limit", limit);
+
+        List<MediaScanTask> tasks = namedJdbcTemplate.query(
+            "SELECT id, media_key FROM evidences " +
+            "WHERE deleted_at IS NULL AND ((media_scan_status = 'PENDING' " +
+            "AND (media_scan_next_attempt_at IS NULL OR media_scan_next_attempt_at <= :now)) " +
+            "OR (media_scan_status = 'SCANNING' AND media_scan_claimed_at <= :staleBefore)) " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            params,
+            (rs, rowNum) -> new MediaScanTask(rs.getLong("id"), rs.getString("media_key")));
+        if (tasks.isEmpty()) {
+            return tasks;
+        }
+
+        namedJdbcTemplate.update(
+            "UPDATE evidences SET media_scan_status = 'SCANNING', media_scan_claimed_at = :now WHERE id IN (:ids)",
+            new MapSqlParameterSource("now", Timestamp.valueOf(now))
+                .addValue("ids", tasks.stream().map(MediaScanTask::getEvidenceId).toList()));
+        return tasks;
+    }
+
+    @Override
+    public int complete(MediaScanStatus status, Collection<Long> evidenceIds) {
+        if (evidenceIds.isEmpty()) {
+            return 0;
+        }
+        return namedJdbcTemplate.update(
+            "UPDATE evidences SET media_scan_status = :status, media_scan_claimed_at = NULL " +
+            "WHERE id IN (:ids) AND media_scan_status = 'SCANNING'",
+            new MapSqlParameterSource("status", status.name()).addValue("ids", evidenceIds));
+    }
+
+    @Override
+    public int retryLater(Collection<Long> evidenceIds, LocalDateTime now, int maxAttempts,
+                          long backoffSeconds, long maxBackoffSeconds) {
+        if (evidenceIds.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", evidenceIds)
+            .addValue("now", Timestamp.valueOf(now))
+            .addValue("maxAttempts", maxAttempts)
+            .addValue("backoff", backoffSeconds)
+            .addValue("maxBackoff", maxBackoffSeconds);
+
+        int failed = namedJdbcTemplate.update(
+            "UPDATE evidences SET media_scan_status = 'FAILED', media_scan_claimed_at = NULL, " +
+            "media_scan_next_attempt_at = NULL, media_scan_attempts = media_scan_attempts + 1 " +
+            "WHERE id IN (:ids) AND media_scan_status = 'SCANNING' AND media_scan_attempts + 1 >= :maxAttempts",
+            params);
+        // MySQL evaluates SET left to right, so the delay is computed from the attempts before this one
+        namedJdbcTemplate.update(
+            "UPDATE evidences SET media_scan_status = 'PENDING', media_scan_claimed_at = NULL, " +
+            "media_scan_next_attempt_at = DATE_ADD(:now, INTERVAL " +
+            "LEAST(:maxBackoff, :backoff * POW(2, LEAST(media_scan_attempts, 30))) SECOND), " +
+            "media_scan_attempts = media_scan_attempts + 1 " +
+            "WHERE id IN (:ids) AND media_scan_status = 'SCANNING'",
+            params);
+        return failed;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countBacklog() {
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM evidences WHERE media_scan_status IN ('PENDING', 'SCANNING') AND deleted_at IS NULL",
+            Long.class);
+        return count != null ? count : 0L;
+    }
+}
@@ -0,0 +1,98 @@
+package com.impulse.features.evidencereview.adapters.out.persistence;
+
+import com.impulse.features.evidencereview.application.port.out.UploadSessionRepository;
+import com.impulse.features.evidencereview.domain.UploadSession;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC implementation of UploadSessionRepository port
+ */
+@Repository
+@Transactional
+public class UploadSessionRepositoryImpl implements UploadSessionRepository {
+
+    private static final String COLUMNS =
+        "SELECT id, user_id, file_name, content_type, total_bytes, chunk_bytes, received_chunks, expires_at " +
+        "FROM upload_sessions ";
+
+    private static final RowMapper<UploadSession> MAPPER = (rs, rowNum) -> new UploadSession(
+        rs.getString("id"),
+        rs.getLong("user_id"),
+        rs.getString("file_name"),
+        rs.getString("content_type"),
+        rs.getLong("total_bytes"),
+        rs.getInt("chunk_bytes"),
+        BitSet.valueOf(rs.getBytes("received_chunks")),
+        rs.getTimestamp("expires_at").toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public UploadSessionRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                       NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    @Override
+    public void insert(UploadSession session) {
+        jdbcTemplate.update(
+            "INSERT INTO upload_sessions (id, user_id, file_name, content_type, total_bytes, chunk_bytes, " +
+            "received_chunks, expires_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+            session.getId(), session.getUserId(), session.getFileName(), session.getContentType(),
+            session.getTotalBytes(), session.getChunkBytes(), session.getReceivedChunks().toByteArray(),
+            Timestamp.valueOf(session.getExpiresAt()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<UploadSession> findById(String sessionId) {
+        return jdbcTemplate.query(COLUMNS + "WHERE id = ?", MAPPER, sessionId).stream().findFirst();
+    }
+
+    @Override
+    public Optional<UploadSession> lockById(String sessionId) {
+        return jdbcTemplate.query(COLUMNS + "WHERE id = ? FOR UPDATE", MAPPER, sessionId).stream().findFirst();
+    }
+
+    @Override
+    public void updateProgress(UploadSession session) {
+        jdbcTemplate.update(
+            "UPDATE upload_sessions SET received_chunks = ?, expires_at = ? WHERE id = ?",
+            session.getReceivedChunks().toByteArray(), Timestamp.valueOf(session.getExpiresAt()), session.getId());
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        jdbcTemplate.update("DELETE FROM upload_sessions WHERE id = ?", sessionId);
+    }
+
+    @Override
+    public List<UploadSession> findExpired(LocalDateTime now, int limit) {
+        return jdbcTemplate.query(
+            COLUMNS + "WHERE expires_at <= ? ORDER BY expires_at LIMIT ? FOR UPDATE SKIP LOCKED",
+            MAPPER, Timestamp.valueOf(now), limit);
+    }
+
+    @Override
+    public void deleteAll(Collection<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+        namedJdbcTemplate.update("DELETE FROM upload_sessions WHERE id IN (:ids)",
+            new MapSqlParameterSource("ids", sessionIds));
+    }
+}
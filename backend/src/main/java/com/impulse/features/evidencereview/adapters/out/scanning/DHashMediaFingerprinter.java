@@ -0,0 +1,99 @@
+package com.impulse.features.evidencereview.adapters.out.scanning;
+
+import com.impulse.features.evidencereview.application.port.out.MediaFingerprinter;
+import com.impulse.infrastructure.services.StorageService;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.OptionalLong;
+
+/**
+ * Difference hash (dHash): the image is reduced to 9x8 grey cells and each bit records
+ * whether a cell is darker than its right neighbour. Rescaling, recompression and
+ * metadata changes leave the gradients, so re-uploads land within a few bits.
+ * Decoding subsamples the source, so only a few thousand pixels are ever materialised.
+ */
+@Component
+public class DHashMediaFingerprinter implements MediaFingerprinter {
+
+    private static final int COLUMNS = 9;
+    private static final int ROWS = 8;
+    /** Decoded size to aim for: enough pixels per cell to average out noise */
+    private static final int TARGET_PIXELS_PER_CELL_SIDE = 8;
+
+    private final StorageService storageService;
+
+    public DHashMediaFingerprinter(StorageService storageService) {
+        this.storageService = storageService;
+    }
+
+    @Override
+    public OptionalLong fingerprint(String mediaKey) throws IOException {
+        try (InputStream in = storageService.openStream(mediaKey);
+             ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            if (input == null) {
+                return OptionalLong.empty();
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return OptionalLong.empty();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int step = Math.max(1, Math.min(width / (COLUMNS * TARGET_PIXELS_PER_CELL_SIDE),
+                    height / (ROWS * TARGET_PIXELS_PER_CELL_SIDE)));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage image = reader.read(0, param);
+                return OptionalLong.of(dHash(image));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    static long dHash(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double[] sums = new double[COLUMNS * ROWS];
+        int[] counts = new int[COLUMNS * ROWS];
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            int cellRow = y * ROWS / height;
+            for (int x = 0; x < width; x++) {
+                int rgb = row[x];
+                double luma = 0.299 * ((rgb >> 16) & 0xFF) + 0.587 * ((rgb >> 8) & 0xFF) + 0.114 * (rgb & 0xFF);
+                int cell = cellRow * COLUMNS + x * COLUMNS / width;
+                sums[cell] += luma;
+                counts[cell]++;
+            }
+        }
+
+        long hash = 0;
+        for (int r = 0; r < ROWS; r++) {
+            for (int c = 0; c < COLUMNS - 1; c++) {
+                int left = r * COLUMNS + c;
+                hash <<= 1;
+                if (mean(sums, counts, left) < mean(sums, counts, left + 1)) {
+                    hash |= 1;
+                }
+            }
+        }
+        return hash;
+    }
+
+    private static double mean(double[] sums, int[] counts, int cell) {
+        return counts[cell] == 0 ? 0 : sums[cell] / counts[cell];
+    }
+}
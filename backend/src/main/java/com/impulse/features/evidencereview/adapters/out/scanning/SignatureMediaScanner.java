@@ -0,0 +1,109 @@
+package com.impulse.features.evidencereview.adapters.out.scanning;
+
+import com.impulse.features.evidencereview.application.port.out.MediaScanner;
+import com.impulse.infrastructure.services.StorageService;
+import com.impulse.shared.enums.MediaScanStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Local stand-in for a real AV engine: streams the file once and looks for byte signatures
+ * (the EICAR test string by default, plus impulse.media-scan.signatures as hex), and flags
+ * executables disguised as media by their leading magic bytes.
+ * Replace by registering another MediaScanner with impulse.media-scan.scanner set to its name.
+ */
+@Component
+@ConditionalOnProperty(name = "impulse.media-scan.scanner", havingValue = "signature", matchIfMissing = true)
+public class SignatureMediaScanner implements MediaScanner {
+
+    private static final byte[] EICAR =
+        "X5O!P%@AP[4\\PZX54(P^)7CC)7}$EICAR-STANDARD-ANTIVIRUS-TEST-FILE!$H+H*".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[][] EXECUTABLE_MAGIC = {
+        {'M', 'Z'},                 // PE / DOS
+        {0x7F, 'E', 'L', 'F'},      // ELF
+        {'#', '!'}                  // script
+    };
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final StorageService storageService;
+    private final List<byte[]> signatures;
+    private final int longestSignature;
+
+    public SignatureMediaScanner(StorageService storageService,
+                                 @Value("${impulse.media-scan.signatures:}") String[] extraSignaturesHex) {
+        this.storageService = storageService;
+        List<byte[]> all = new ArrayList<>();
+        all.add(EICAR);
+        for (String hex : extraSignaturesHex) {
+            if (!hex.isBlank()) {
+                all.add(HexFormat.of().parseHex(hex.trim()));
+            }
+        }
+        this.signatures = List.copyOf(all);
+        this.longestSignature = all.stream().mapToInt(s -> s.length).max().orElse(1);
+    }
+
+    @Override
+    public MediaScanStatus scan(String mediaKey) throws IOException {
+        // Window = carried tail of the previous read + the new read, so matches across reads are found
+        byte[] window = new byte[longestSignature - 1 + BUFFER_BYTES];
+        int carried = 0;
+        boolean first = true;
+
+        try (InputStream in = storageService.openStream(mediaKey)) {
+            int read;
+            while ((read = in.read(window, carried, BUFFER_BYTES)) != -1) {
+                int length = carried + read;
+                if (first && startsWithExecutableMagic(window, length)) {
+                    return MediaScanStatus.INFECTED;
+                }
+                first = false;
+                for (byte[] signature : signatures) {
+                    if (indexOf(window, length, signature) >= 0) {
+                        return MediaScanStatus.INFECTED;
+                    }
+                }
+                carried = Math.min(longestSignature - 1, length);
+                System.arraycopy(window, length - carried, window, 0, carried);
+            }
+        }
+        return MediaScanStatus.CLEAN;
+    }
+
+    private static boolean startsWithExecutableMagic(byte[] data, int length) {
+        for (byte[] magic : EXECUTABLE_MAGIC) {
+            if (length >= magic.length && indexOf(data, magic.length, magic) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int indexOf(byte[] data, int length, byte[] pattern) {
+        byte head = pattern[0];
+        int last = length - pattern.length;
+        outer:
+        for (int i = 0; i <= last; i++) {
+            if (data[i] != head) {
+                continue;
+            }
+            for (int j = 1; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,24 @@
+package com.impulse.features.evidencereview.application.dto;
+
+import com.impulse.shared.enums.ReportReason;
+
+/**
+ * Command DTO: BanEvidenceMediaCommand
+ * Represents a moderator banning an evidence's image so near-duplicates are caught on upload
+ */
+public class BanEvidenceMediaCommand {
+    private final Long evidenceId;
+    private final Long moderatorUserId;
+    private final ReportReason reason;
+
+    public BanEvidenceMediaCommand(Long evidenceId, Long moderatorUserId, ReportReason reason) {
+        this.evidenceId = evidenceId;
+        this.moderatorUserId = moderatorUserId;
+        this.reason = reason;
+    }
+
+    // Getters
+    public Long getEvidenceId() { return evidenceId; }
+    public Long getModeratorUserId() { return moderatorUserId; }
+    public ReportReason getReason() { return reason; }
+}
@@ -0,0 +1,42 @@
+package com.impulse.features.evidencereview.application.dto;
+
+import com.impulse.shared.enums.EvidenceStatus;
+import java.util.List;
+
+/**
+ * Command DTO: BatchDecideEvidenceCommand
+ * Represents several approve/reject decisions by the same reviewer
+ */
+public class BatchDecideEvidenceCommand {
+    private final Long reviewerUserId;
+    private final List<Item> items;
+
+    public BatchDecideEvidenceCommand(Long reviewerUserId, List<Item> items) {
+        this.reviewerUserId = reviewerUserId;
+        this.items = items == null ? List.of() : List.copyOf(items);
+    }
+
+    // Getters
+    public Long getReviewerUserId() { return reviewerUserId; }
+    public List<Item> getItems() { return items; }
+
+    /**
+     * One decision within the batch
+     */
+    public static class Item {
+        private final Long evidenceId;
+        private final EvidenceStatus decision;
+        private final String comments;
+
+        public Item(Long evidenceId, EvidenceStatus decision, String comments) {
+            this.evidenceId = evidenceId;
+            this.decision = decision;
+            this.comments = comments;
+        }
+
+        // Getters
+        public Long getEvidenceId() { return evidenceId; }
+        public EvidenceStatus getDecision() { return decision; }
+        public String getComments() { return comments; }
+    }
+}
@@ -0,0 +1,55 @@
+package com.impulse.features.evidencereview.application.dto;
+
+import com.impulse.shared.enums.EvidenceStatus;
+import java.util.List;
+
+/**
+ * Response DTO: BatchDecideEvidenceResponse
+ * Per-item outcome of a batch decision, in request order
+ */
+public class BatchDecideEvidenceResponse {
+    private final List<ItemResult> results;
+    private final int applied;
+
+    public BatchDecideEvidenceResponse(List<ItemResult> results) {
+        this.results = List.copyOf(results);
+        this.applied = (int) results.stream().filter(ItemResult::isApplied).count();
+    }
+
+    // Getters
+    public List<ItemResult> getResults() { return results; }
+    public int getApplied() { return applied; }
+    public int getFailed() { return results.size() - applied; }
+
+    /**
+     * Outcome of one decision; errorCode is null when applied
+     */
+    public static class ItemResult {
+        private final Long evidenceId;
+        private final EvidenceStatus status;
+        private final String errorCode;
+        private final String message;
+
+        public ItemResult(Long evidenceId, EvidenceStatus status, String errorCode, String message) {
+            this.evidenceId = evidenceId;
+            this.status = status;
+            this.errorCode = errorCode;
+            this.message = message;
+        }
+
+        public static ItemResult applied(Long evidenceId, EvidenceStatus status) {
+            return new ItemResult(evidenceId, status, null, null);
+        }
+
+        public static ItemResult failed(Long evidenceId, String errorCode, String message) {
+            return new ItemResult(evidenceId, null, errorCode, message);
+        }
+
+        // Getters
+        public Long getEvidenceId() { return evidenceId; }
+        public EvidenceStatus getStatus() { return status; }
+        public String getErrorCode() { return errorCode; }
+        public String getMessage() { return message; }
+        public boolean isApplied() { return errorCode == null; }
+    }
+}
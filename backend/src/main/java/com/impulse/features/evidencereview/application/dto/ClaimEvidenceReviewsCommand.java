@@ -0,0 +1,19 @@
+package com.impulse.features.evidencereview.application.dto;
+
+/**
+ * Command DTO: ClaimEvidenceReviewsCommand
+ * Represents a validator asking for the next batch of evidence to review
+ */
+public class ClaimEvidenceReviewsCommand {
+    private final Long validatorUserId;
+    private final int size;
+
+    public ClaimEvidenceReviewsCommand(Long validatorUserId, int size) {
+        this.validatorUserId = validatorUserId;
+        this.size = size;
+    }
+
+    // Getters
+    public Long getValidatorUserId() { return validatorUserId; }
+    public int getSize() { return size; }
+}
@@ -0,0 +1,25 @@
+package com.impulse.features.evidencereview.application.dto;
+
+/**
+ * Command DTO: CreateUploadSessionCommand
+ * Announces a resumable upload of totalBytes
+ */
+public class CreateUploadSessionCommand {
+    private final Long uploaderUserId;
+    private final String fileName;
+    private final String contentType;
+    private final long totalBytes;
+
+    public CreateUploadSessionCommand(Long uploaderUserId, String fileName, String contentType, long totalBytes) {
+        this.uploaderUserId = uploaderUserId;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.totalBytes = totalBytes;
+    }
+
+    // Getters
+    public Long getUploaderUserId() { return uploaderUserId; }
+    public String getFileName() { return fileName; }
+    public String getContentType() { return contentType; }
+    public long getTotalBytes() { return totalBytes; }
+}
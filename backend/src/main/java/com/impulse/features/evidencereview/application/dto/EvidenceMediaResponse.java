@@ -0,0 +1,25 @@
+package com.impulse.features.evidencereview.application.dto;
+
+/**
+ * Response DTO: EvidenceMediaResponse
+ * Stored media reference to attach to an evidence (media_key, media_mime, media_size_bytes)
+ */
+public class EvidenceMediaResponse {
+    private final String mediaKey;
+    private final String mediaMime;
+    private final long sizeBytes;
+    private final String sha256;
+
+    public EvidenceMediaResponse(String mediaKey, String mediaMime, long sizeBytes, String sha256) {
+        this.mediaKey = mediaKey;
+        this.mediaMime = mediaMime;
+        this.sizeBytes = sizeBytes;
+        this.sha256 = sha256;
+    }
+
+    // Getters
+    public String getMediaKey() { return mediaKey; }
+    public String getMediaMime() { return mediaMime; }
+    public long getSizeBytes() { return sizeBytes; }
+    public String getSha256() { return sha256; }
+}
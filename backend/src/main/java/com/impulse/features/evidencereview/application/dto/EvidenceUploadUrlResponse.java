@@ -0,0 +1,19 @@
+package com.impulse.features.evidencereview.application.dto;
+
+/**
+ * Response DTO: EvidenceUploadUrlResponse
+ * Presigned URL the client PUTs the media body to, and how long it stays valid
+ */
+public class EvidenceUploadUrlResponse {
+    private final String uploadUrl;
+    private final int expirySeconds;
+
+    public EvidenceUploadUrlResponse(String uploadUrl, int expirySeconds) {
+        this.uploadUrl = uploadUrl;
+        this.expirySeconds = expirySeconds;
+    }
+
+    // Getters
+    public String getUploadUrl() { return uploadUrl; }
+    public int getExpirySeconds() { return expirySeconds; }
+}
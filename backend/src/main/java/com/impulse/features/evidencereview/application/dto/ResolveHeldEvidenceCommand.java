@@ -0,0 +1,27 @@
+package com.impulse.features.evidencereview.application.dto;
+
+import com.impulse.shared.enums.EvidenceStatus;
+
+/**
+ * Command DTO: ResolveHeldEvidenceCommand
+ * Represents a moderator releasing held evidence back to validators (PENDING) or rejecting it (REJECTED)
+ */
+public class ResolveHeldEvidenceCommand {
+    private final Long evidenceId;
+    private final Long moderatorUserId;
+    private final EvidenceStatus decision;
+    private final String comments;
+
+    public ResolveHeldEvidenceCommand(Long evidenceId, Long moderatorUserId, EvidenceStatus decision, String comments) {
+        this.evidenceId = evidenceId;
+        this.moderatorUserId = moderatorUserId;
+        this.decision = decision;
+        this.comments = comments;
+    }
+
+    // Getters
+    public Long getEvidenceId() { return evidenceId; }
+    public Long getModeratorUserId() { return moderatorUserId; }
+    public EvidenceStatus getDecision() { return decision; }
+    public String getComments() { return comments; }
+}
@@ -0,0 +1,41 @@
+package com.impulse.features.evidencereview.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO: ReviewQueueItemResponse
+ * One leased evidence in a validator's review queue
+ */
+public class ReviewQueueItemResponse {
+    private final Long evidenceId;
+    private final Long challengeId;
+    private final String text;
+    private final String mediaUrl;
+    private final String mediaMime;
+    private final String previewUrl;
+    private final LocalDateTime submittedAt;
+    private final LocalDateTime leaseExpiresAt;
+
+    public ReviewQueueItemResponse(Long evidenceId, Long challengeId, String text, String mediaUrl,
+                                   String mediaMime, String previewUrl, LocalDateTime submittedAt,
+                                   LocalDateTime leaseExpiresAt) {
+        this.evidenceId = evidenceId;
+        this.challengeId = challengeId;
+        this.text = text;
+        this.mediaUrl = mediaUrl;
+        this.mediaMime = mediaMime;
+        this.previewUrl = previewUrl;
+        this.submittedAt = submittedAt;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    // Getters
+    public Long getEvidenceId() { return evidenceId; }
+    public Long getChallengeId() { return challengeId; }
+    public String getText() { return text; }
+    public String getMediaUrl() { return mediaUrl; }
+    public String getMediaMime() { return mediaMime; }
+    public String getPreviewUrl() { return previewUrl; }
+    public LocalDateTime getSubmittedAt() { return submittedAt; }
+    public LocalDateTime getLeaseExpiresAt() { return leaseExpiresAt; }
+}
@@ -0,0 +1,21 @@
+package com.impulse.features.evidencereview.application.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO: ReviewQueuePageResponse
+ * A page of leased evidence; nextCursor is null on the last page
+ */
+public class ReviewQueuePageResponse {
+    private final List<ReviewQueueItemResponse> items;
+    private final Long nextCursor;
+
+    public ReviewQueuePageResponse(List<ReviewQueueItemResponse> items, Long nextCursor) {
+        this.items = List.copyOf(items);
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters
+    public List<ReviewQueueItemResponse> getItems() { return items; }
+    public Long getNextCursor() { return nextCursor; }
+}
@@ -13,15 +13,22 @@ public class SubmitEvidenceCommand {
     private final EvidenceType type;
     private final String content;
     private final String metadata;
+    private final String mediaKey;
     private final LocalDateTime timestamp;
 
     public SubmitEvidenceCommand(Long challengeId, Long participantUserId,
                                 EvidenceType type, String content, String metadata) {
+        this(challengeId, participantUserId, type, content, metadata, null);
+    }
+
+    public SubmitEvidenceCommand(Long challengeId, Long participantUserId,
+                                EvidenceType type, String content, String metadata, String mediaKey) {
         this.challengeId = challengeId;
         this.participantUserId = participantUserId;
         this.type = type;
         this.content = content;
         this.metadata = metadata;
+        this.mediaKey = mediaKey;
         this.timestamp = LocalDateTime.now();
     }
 
@@ -31,6 +38,7 @@ public SubmitEvidenceCommand(Long challengeId, Long participantUserId,
     public EvidenceType getType() { return type; }
     public String getContent() { return content; }
     public String getMetadata() { return metadata; }
+    public String getMediaKey() { return mediaKey; }
     public LocalDateTime getTimestamp() { return timestamp; }
 
     @Override
@@ -0,0 +1,32 @@
+package com.impulse.features.evidencereview.application.dto;
+
+import java.io.InputStream;
+
+/**
+ * Command DTO: UploadChunkCommand
+ * One fixed-size chunk of a resumable upload; the body is consumed exactly once
+ */
+public class UploadChunkCommand {
+    private final Long uploaderUserId;
+    private final String sessionId;
+    private final int chunkIndex;
+    private final long declaredLength;
+    private final InputStream body;
+
+    public UploadChunkCommand(Long uploaderUserId, String sessionId, int chunkIndex,
+                              long declaredLength, InputStream body) {
+        this.uploaderUserId = uploaderUserId;
+        this.sessionId = sessionId;
+        this.chunkIndex = chunkIndex;
+        this.declaredLength = declaredLength;
+        this.body = body;
+    }
+
+    // Getters
+    public Long getUploaderUserId() { return uploaderUserId; }
+    public String getSessionId() { return sessionId; }
+    public int getChunkIndex() { return chunkIndex; }
+    /** -1 when the client did not send Content-Length */
+    public long getDeclaredLength() { return declaredLength; }
+    public InputStream getBody() { return body; }
+}
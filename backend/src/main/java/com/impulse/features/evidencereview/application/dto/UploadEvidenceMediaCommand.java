@@ -0,0 +1,36 @@
+package com.impulse.features.evidencereview.application.dto;
+
+import java.io.InputStream;
+
+/**
+ * Command DTO: UploadEvidenceMediaCommand
+ * Represents a raw media upload; the body is consumed exactly once by the use case
+ */
+public class UploadEvidenceMediaCommand {
+    private final Long uploaderUserId;
+    private final String fileName;
+    private final String contentType;
+    private final long declaredLength;
+    private final String expectedSha256;
+    private final InputStream body;
+
+    public UploadEvidenceMediaCommand(Long uploaderUserId, String fileName, String contentType,
+                                     long declaredLength, String expectedSha256, InputStream body) {
+        this.uploaderUserId = uploaderUserId;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.declaredLength = declaredLength;
+        this.expectedSha256 = expectedSha256;
+        this.body = body;
+    }
+
+    // Getters
+    public Long getUploaderUserId() { return uploaderUserId; }
+    public String getFileName() { return fileName; }
+    public String getContentType() { return contentType; }
+    /** -1 when the client did not send Content-Length */
+    public long getDeclaredLength() { return declaredLength; }
+    /** Optional client-computed digest; lets duplicate uploads skip the disk write */
+    public String getExpectedSha256() { return expectedSha256; }
+    public InputStream getBody() { return body; }
+}
@@ -0,0 +1,35 @@
+package com.impulse.features.evidencereview.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Response DTO: UploadSessionResponse
+ * Progress of a resumable upload; missingChunks is what a resuming client still has to send
+ */
+public class UploadSessionResponse {
+    private final String sessionId;
+    private final long totalBytes;
+    private final int chunkBytes;
+    private final int chunkCount;
+    private final List<Integer> missingChunks;
+    private final LocalDateTime expiresAt;
+
+    public UploadSessionResponse(String sessionId, long totalBytes, int chunkBytes, int chunkCount,
+                                 List<Integer> missingChunks, LocalDateTime expiresAt) {
+        this.sessionId = sessionId;
+        this.totalBytes = totalBytes;
+        this.chunkBytes = chunkBytes;
+        this.chunkCount = chunkCount;
+        this.missingChunks = missingChunks;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters
+    public String getSessionId() { return sessionId; }
+    public long getTotalBytes() { return totalBytes; }
+    public int getChunkBytes() { return chunkBytes; }
+    public int getChunkCount() { return chunkCount; }
+    public List<Integer> getMissingChunks() { return missingChunks; }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+}
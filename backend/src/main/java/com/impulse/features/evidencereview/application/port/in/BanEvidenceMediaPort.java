@@ -0,0 +1,11 @@
+package com.impulse.features.evidencereview.application.port.in;
+
+import com.impulse.features.evidencereview.application.dto.BanEvidenceMediaCommand;
+
+/**
+ * Input Port: BanEvidenceMediaPort
+ * Defines contract for adding an evidence's media to the banned-media index
+ */
+public interface BanEvidenceMediaPort {
+    void execute(BanEvidenceMediaCommand command);
+}
@@ -0,0 +1,13 @@
+package com.impulse.features.evidencereview.application.port.in;
+
+import com.impulse.features.evidencereview.application.dto.BatchDecideEvidenceCommand;
+import com.impulse.features.evidencereview.application.dto.BatchDecideEvidenceResponse;
+import com.impulse.shared.utils.IdempotencyKey;
+
+/**
+ * Input Port: BatchDecideEvidencePort
+ * Defines contract for approving/rejecting many evidences in one call
+ */
+public interface BatchDecideEvidencePort {
+    BatchDecideEvidenceResponse execute(BatchDecideEvidenceCommand command, IdempotencyKey idempotencyKey);
+}
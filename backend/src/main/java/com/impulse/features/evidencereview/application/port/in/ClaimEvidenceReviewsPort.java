@@ -0,0 +1,12 @@
+package com.impulse.features.evidencereview.application.port.in;
+
+import com.impulse.features.evidencereview.application.dto.ClaimEvidenceReviewsCommand;
+import com.impulse.features.evidencereview.application.dto.ReviewQueuePageResponse;
+
+/**
+ * Input Port: ClaimEvidenceReviewsPort
+ * Defines contract for leasing the next batch of pending evidence to a validator
+ */
+public interface ClaimEvidenceReviewsPort {
+    ReviewQueuePageResponse execute(ClaimEvidenceReviewsCommand command);
+}
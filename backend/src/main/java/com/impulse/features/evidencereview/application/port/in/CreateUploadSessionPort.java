@@ -0,0 +1,12 @@
+package com.impulse.features.evidencereview.application.port.in;
+
+import com.impulse.features.evidencereview.application.dto.CreateUploadSessionCommand;
+import com.impulse.features.evidencereview.application.dto.UploadSessionResponse;
+
+/**
+ * Input Port: CreateUploadSessionPort
+ * Defines contract for starting a resumable media upload
+ */
+public interface CreateUploadSessionPort {
+    UploadSessionResponse execute(CreateUploadSessionCommand command);
+}
@@ -0,0 +1,11 @@
+package com.impulse.features.evidencereview.application.port.in;
+
+import com.impulse.features.evidencereview.application.dto.EvidenceMediaResponse;
+
+/**
+ * Input Port: FinalizeUploadSessionPort
+ * Defines contract for completing a resumable upload into stored media
+ */
+public interface FinalizeUploadSessionPort {
+    EvidenceMediaResponse execute(Long uploaderUserId, String sessionId, String expectedSha256);
+}
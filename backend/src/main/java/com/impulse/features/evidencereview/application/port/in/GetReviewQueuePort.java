@@ -0,0 +1,11 @@
+package com.impulse.features.evidencereview.application.port.in;
+
+import com.impulse.features.evidencereview.application.dto.ReviewQueuePageResponse;
+
+/**
+ * Input Port: GetReviewQueuePort
+ * Defines contract for paging through a validator's leased evidence
+ */
+public interface GetReviewQueuePort {
+    ReviewQueuePageResponse execute(Long validatorUserId, Long afterEvidenceId, int size);
+}
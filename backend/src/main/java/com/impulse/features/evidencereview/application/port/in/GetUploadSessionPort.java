@@ -0,0 +1,11 @@
+package com.impulse.features.evidencereview.application.port.in;
+
+import com.impulse.features.evidencereview.application.dto.UploadSessionResponse;
+
+/**
+ * Input Port: GetUploadSessionPort
+ * Defines contract for reading the progress of a resumable upload
+ */
+public interface GetUploadSessionPort {
+    UploadSessionResponse execute(Long uploaderUserId, String sessionId);
+}
@@ -0,0 +1,11 @@
+package com.impulse.features.evidencereview.application.port.in;
+
+import com.impulse.features.evidencereview.application.dto.EvidenceUploadUrlResponse;
+
+/**
+ * Input Port: PresignEvidenceUploadPort
+ * Defines contract for issuing a single-use presigned upload URL for evidence media
+ */
+public interface PresignEvidenceUploadPort {
+    EvidenceUploadUrlResponse execute(Long uploaderUserId, String fileName);
+}
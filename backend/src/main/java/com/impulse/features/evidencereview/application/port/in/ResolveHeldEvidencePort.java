@@ -0,0 +1,11 @@
+package com.impulse.features.evidencereview.application.port.in;
+
+import com.impulse.features.evidencereview.application.dto.ResolveHeldEvidenceCommand;
+
+/**
+ * Input Port: ResolveHeldEvidencePort
+ * Defines contract for moderators to release or reject evidence held for matching banned media
+ */
+public interface ResolveHeldEvidencePort {
+    void execute(ResolveHeldEvidenceCommand command);
+}
@@ -0,0 +1,12 @@
+package com.impulse.features.evidencereview.application.port.in;
+
+import com.impulse.features.evidencereview.application.dto.UploadChunkCommand;
+import com.impulse.features.evidencereview.application.dto.UploadSessionResponse;
+
+/**
+ * Input Port: UploadChunkPort
+ * Defines contract for writing one chunk of a resumable upload
+ */
+public interface UploadChunkPort {
+    UploadSessionResponse execute(UploadChunkCommand command);
+}
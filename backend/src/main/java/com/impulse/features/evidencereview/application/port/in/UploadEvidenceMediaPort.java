@@ -0,0 +1,12 @@
+package com.impulse.features.evidencereview.application.port.in;
+
+import com.impulse.features.evidencereview.application.dto.EvidenceMediaResponse;
+import com.impulse.features.evidencereview.application.dto.UploadEvidenceMediaCommand;
+
+/**
+ * Input Port: UploadEvidenceMediaPort
+ * Defines contract for streaming evidence media into storage
+ */
+public interface UploadEvidenceMediaPort {
+    EvidenceMediaResponse execute(UploadEvidenceMediaCommand command);
+}
@@ -0,0 +1,65 @@
+package com.impulse.features.evidencereview.application.port.out;
+
+import com.impulse.features.evidencereview.domain.EvidenceDecision;
+import com.impulse.features.evidencereview.domain.EvidenceReviewTarget;
+import com.impulse.features.evidencereview.domain.ReviewQueueItem;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Output Port: EvidenceReviewRepository
+ * Lease-based review queue over pending evidence
+ */
+public interface EvidenceReviewRepository {
+
+    /**
+     * Leases up to limit pending evidences of the validator's challenges until leaseUntil.
+     * Rows locked by concurrent claimers are skipped; only unleased or expired rows whose media
+     * scanned CLEAN are claimable.
+     * @param shard preferred slice (evidence id modulo shardCount), or null for any row
+     */
+    List<ReviewQueueItem> claim(Long validatorUserId, Integer shard, int shardCount,
+                                LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+    /**
+     * Live leases of a validator, keyset-paginated by evidence id.
+     */
+    List<ReviewQueueItem> findLeasedBy(Long validatorUserId, LocalDateTime now, long afterEvidenceId, int limit);
+
+    /**
+     * Loads and locks the evidence row for a decision.
+     */
+    Optional<EvidenceReviewTarget> lockForDecision(Long evidenceId);
+
+    /**
+     * Loads and locks several evidence rows in id order; missing or deleted ids are absent.
+     */
+    List<EvidenceReviewTarget> lockForDecision(Collection<Long> evidenceIds);
+
+    boolean isValidator(Long challengeId, Long userId);
+
+    /**
+     * Subset of challengeIds that userId validates, resolved in one query.
+     */
+    Set<Long> findValidatedChallengeIds(Long userId, Collection<Long> challengeIds);
+
+    /**
+     * Applies the decision if the evidence is still PENDING and its media scanned CLEAN,
+     * and releases its lease.
+     * @return rows updated (0 when another decision won or the media is not cleared)
+     */
+    int applyDecision(EvidenceDecision decision, Long reviewerUserId, LocalDateTime decidedAt);
+
+    /**
+     * JDBC batch of applyDecision; one update count per decision, in order.
+     */
+    int[] applyDecisions(List<EvidenceDecision> decisions, Long reviewerUserId, LocalDateTime decidedAt);
+
+    /**
+     * APPROVED once any evidence is approved, PENDING while any is pending, otherwise REJECTED.
+     */
+    void recomputeParticipationStatus(Collection<Long> participationIds);
+}
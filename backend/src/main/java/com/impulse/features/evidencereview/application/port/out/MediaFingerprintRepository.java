@@ -0,0 +1,52 @@
+package com.impulse.features.evidencereview.application.port.out;
+
+import com.impulse.features.evidencereview.domain.MediaFingerprint;
+import com.impulse.shared.enums.ReportReason;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Output Port: MediaFingerprintRepository
+ * media_fingerprints, one perceptual hash per evidence
+ */
+public interface MediaFingerprintRepository {
+
+    /**
+     * Stores hashes by evidence id; evidences already fingerprinted are left as they are
+     */
+    void saveAll(Map<Long, Long> hashesByEvidenceId);
+
+    Optional<MediaFingerprint> findByEvidenceId(Long evidenceId);
+
+    /**
+     * Keyset page in id order, for rebuilding the in-memory index
+     */
+    List<MediaFingerprint> findAfter(long afterId, int limit);
+
+    void markBanned(Long evidenceId, ReportReason reason, Long bannedByUserId, LocalDateTime bannedAt);
+
+    Optional<String> findMediaKey(Long evidenceId);
+
+    /**
+     * Moves PENDING evidences to HELD so validators no longer see them
+     * @return challenge id by evidence id of the evidences that were held
+     */
+    Map<Long, Long> holdEvidences(Collection<Long> evidenceIds);
+
+    /**
+     * Locks a HELD evidence for a moderator decision
+     * @return its challenge id, empty when the evidence is not HELD
+     */
+    Optional<Long> lockHeldEvidence(Long evidenceId);
+
+    /**
+     * Returns a HELD evidence to the validator queue
+     */
+    void releaseHeldEvidence(Long evidenceId);
+
+    void rejectHeldEvidence(Long evidenceId, Long moderatorUserId, String reason, LocalDateTime decidedAt);
+}
@@ -0,0 +1,19 @@
+package com.impulse.features.evidencereview.application.port.out;
+
+import java.io.IOException;
+import java.util.OptionalLong;
+
+/**
+ * Output Port: MediaFingerprinter
+ * 64-bit perceptual hash of stored media: visually similar images get hashes a small
+ * Hamming distance apart, whatever their encoding, size or metadata.
+ * Implementations must be thread-safe.
+ */
+public interface MediaFingerprinter {
+
+    /**
+     * @return empty when the media is not a decodable image
+     * @throws IOException when the media cannot be read
+     */
+    OptionalLong fingerprint(String mediaKey) throws IOException;
+}
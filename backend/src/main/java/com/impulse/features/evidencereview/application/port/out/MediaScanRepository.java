@@ -0,0 +1,41 @@
+package com.impulse.features.evidencereview.application.port.out;
+
+import com.impulse.features.evidencereview.domain.MediaScanTask;
+import com.impulse.shared.enums.MediaScanStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Output Port: MediaScanRepository
+ * Work queue over evidences.media_scan_status
+ */
+public interface MediaScanRepository {
+
+    /**
+     * Moves up to limit PENDING rows whose retry time has come (and SCANNING rows claimed
+     * before staleBefore) to SCANNING. Rows locked by concurrent workers are skipped.
+     */
+    List<MediaScanTask> claim(LocalDateTime now, LocalDateTime staleBefore, int limit);
+
+    /**
+     * Sets the final outcome of claimed rows, one statement per status.
+     * Rows no longer in SCANNING (e.g. soft-deleted meanwhile) are left untouched.
+     * @return rows updated
+     */
+    int complete(MediaScanStatus status, Collection<Long> evidenceIds);
+
+    /**
+     * Records a failed scan attempt of claimed rows. Rows that reached maxAttempts become
+     * FAILED; the others go back to PENDING, not claimable before now + backoff, which
+     * doubles with every attempt up to maxBackoffSeconds.
+     * @return rows moved to FAILED
+     */
+    int retryLater(Collection<Long> evidenceIds, LocalDateTime now, int maxAttempts,
+                   long backoffSeconds, long maxBackoffSeconds);
+
+    /**
+     * Rows waiting for or undergoing a scan
+     */
+    long countBacklog();
+}
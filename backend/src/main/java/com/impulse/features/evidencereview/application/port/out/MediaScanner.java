@@ -0,0 +1,18 @@
+package com.impulse.features.evidencereview.application.port.out;
+
+import com.impulse.shared.enums.MediaScanStatus;
+import java.io.IOException;
+
+/**
+ * Output Port: MediaScanner
+ * Malware scanner for stored evidence media. Implementations must be thread-safe;
+ * the pipeline calls them from several workers at once.
+ */
+public interface MediaScanner {
+
+    /**
+     * @return CLEAN or INFECTED
+     * @throws IOException when the media cannot be read; the row is retried later
+     */
+    MediaScanStatus scan(String mediaKey) throws IOException;
+}
@@ -0,0 +1,37 @@
+package com.impulse.features.evidencereview.application.port.out;
+
+import com.impulse.features.evidencereview.domain.UploadSession;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Output Port: UploadSessionRepository
+ */
+public interface UploadSessionRepository {
+
+    void insert(UploadSession session);
+
+    Optional<UploadSession> findById(String sessionId);
+
+    /**
+     * Reads the session holding its row lock until the transaction ends
+     */
+    Optional<UploadSession> lockById(String sessionId);
+
+    /**
+     * Persists the received-chunk bitmap and expiry
+     */
+    void updateProgress(UploadSession session);
+
+    void delete(String sessionId);
+
+    /**
+     * Locks up to limit sessions that expired before now, oldest first.
+     * Rows locked by a concurrent chunk commit are skipped.
+     */
+    List<UploadSession> findExpired(LocalDateTime now, int limit);
+
+    void deleteAll(Collection<String> sessionIds);
+}
@@ -0,0 +1,85 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.features.evidencereview.application.dto.BanEvidenceMediaCommand;
+import com.impulse.features.evidencereview.application.port.in.BanEvidenceMediaPort;
+import com.impulse.features.evidencereview.application.port.out.MediaFingerprintRepository;
+import com.impulse.features.evidencereview.application.port.out.MediaFingerprinter;
+import com.impulse.features.evidencereview.domain.MediaFingerprint;
+import com.impulse.infrastructure.audit.AuditService;
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ErrorCodes;
+import com.impulse.shared.error.ValidationException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Use Case: BanEvidenceMediaUseCase
+ * Marks an evidence's image as banned. Evidence fingerprinted before it was scanned
+ * (or before fingerprinting existed) is hashed on the spot.
+ */
+@Service
+public class BanEvidenceMediaUseCase implements BanEvidenceMediaPort {
+
+    private final MediaFingerprintRepository fingerprintRepository;
+    private final MediaFingerprinter fingerprinter;
+    private final MediaFingerprintIndex fingerprintIndex;
+    private final AuditService auditService;
+
+    public BanEvidenceMediaUseCase(MediaFingerprintRepository fingerprintRepository,
+                                   MediaFingerprinter fingerprinter,
+                                   MediaFingerprintIndex fingerprintIndex,
+                                   AuditService auditService) {
+        this.fingerprintRepository = fingerprintRepository;
+        this.fingerprinter = fingerprinter;
+        this.fingerprintIndex = fingerprintIndex;
+        this.auditService = auditService;
+    }
+
+    @Override
+    public void execute(BanEvidenceMediaCommand command) {
+        validateCommand(command);
+        Long evidenceId = command.getEvidenceId();
+
+        if (fingerprintRepository.findByEvidenceId(evidenceId).isEmpty()) {
+            String mediaKey = fingerprintRepository.findMediaKey(evidenceId)
+                .orElseThrow(() -> new DomainException("Evidence has no media", ErrorCodes.EVIDENCE_NOT_FOUND));
+            long hash;
+            try {
+                hash = fingerprinter.fingerprint(mediaKey)
+                    .orElseThrow(() -> new ValidationException("evidenceId", "media is not an image"));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read evidence media " + mediaKey, e);
+            }
+            fingerprintRepository.saveAll(Map.of(evidenceId, hash));
+        }
+
+        fingerprintRepository.markBanned(evidenceId, command.getReason(), command.getModeratorUserId(), LocalDateTime.now());
+        MediaFingerprint banned = fingerprintRepository.findByEvidenceId(evidenceId)
+            .orElseThrow(() -> new IllegalStateException("Fingerprint of evidence " + evidenceId + " vanished"));
+        fingerprintIndex.addBanned(banned);
+        auditService.logActionAfterCommit(command.getModeratorUserId(), "EVIDENCE_MEDIA_BANNED", "EVIDENCE",
+            evidenceId.toString(), command.getReason().name(), null);
+    }
+
+    private void validateCommand(BanEvidenceMediaCommand command) {
+        if (command == null) {
+            throw new ValidationException("BanEvidenceMediaCommand cannot be null");
+        }
+
+        if (command.getEvidenceId() == null || command.getEvidenceId() <= 0) {
+            throw new ValidationException("evidenceId", "must be a positive id");
+        }
+
+        if (command.getModeratorUserId() == null || command.getModeratorUserId() <= 0) {
+            throw new ValidationException("Valid moderator user ID is required");
+        }
+
+        if (command.getReason() == null) {
+            throw new ValidationException("reason", "is required");
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.features.challenge.application.port.in.RecordChallengeCountersPort;
+import com.impulse.features.challenge.domain.ChallengeCounterDelta;
+import com.impulse.features.evidencereview.application.dto.BatchDecideEvidenceCommand;
+import com.impulse.features.evidencereview.application.dto.BatchDecideEvidenceResponse;
+import com.impulse.features.evidencereview.application.dto.BatchDecideEvidenceResponse.ItemResult;
+import com.impulse.features.evidencereview.application.port.in.BatchDecideEvidencePort;
+import com.impulse.features.evidencereview.application.port.out.EvidenceReviewRepository;
+import com.impulse.features.evidencereview.domain.EvidenceDecision;
+import com.impulse.features.evidencereview.domain.EvidenceReviewTarget;
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ErrorCodes;
+import com.impulse.shared.error.ValidationException;
+import com.impulse.shared.utils.IdempotencyKey;
+import com.impulse.infrastructure.audit.AuditService;
+import com.impulse.infrastructure.services.IdempotencyService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: BatchDecideEvidenceUseCase
+ * Applies up to maxBatchSize decisions in one transaction.
+ * Every item is validated against the same rules as DecideEvidenceUseCase before any
+ * write, so an invalid item is reported and skipped without aborting the others.
+ * Validator membership is resolved once per challenge and participations are
+ * recomputed once each, however many of their evidences were decided.
+ */
+@Service
+@Transactional
+public class BatchDecideEvidenceUseCase implements BatchDecideEvidencePort {
+
+    private final EvidenceReviewRepository reviewRepository;
+    private final IdempotencyService idempotencyService;
+    private final RecordChallengeCountersPort recordChallengeCounters;
+    private final AuditService auditService;
+    private final int maxBatchSize;
+
+    public BatchDecideEvidenceUseCase(EvidenceReviewRepository reviewRepository,
+                                      IdempotencyService idempotencyService,
+                                      RecordChallengeCountersPort recordChallengeCounters,
+                                      AuditService auditService,
+                                      @Value("${impulse.evidence.review.max-batch-decisions:100}") int maxBatchSize) {
+        this.reviewRepository = reviewRepository;
+        this.idempotencyService = idempotencyService;
+        this.recordChallengeCounters = recordChallengeCounters;
+        this.auditService = auditService;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public BatchDecideEvidenceResponse execute(BatchDecideEvidenceCommand command, IdempotencyKey idempotencyKey) {
+        // Idempotency check
+        if (idempotencyKey != null) {
+            var existingResult = idempotencyService.getResult(idempotencyKey, BatchDecideEvidenceResponse.class);
+            if (existingResult.isPresent()) {
+                return existingResult.get();
+            }
+        }
+
+        validateCommand(command);
+
+        Long reviewerUserId = command.getReviewerUserId();
+        List<BatchDecideEvidenceCommand.Item> items = command.getItems();
+        ItemResult[] results = new ItemResult[items.size()];
+
+        // 1. Stateless validation; the first occurrence of an evidence id wins
+        Map<Long, Integer> positionByEvidence = new LinkedHashMap<>();
+        Map<Long, EvidenceDecision> decisions = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            BatchDecideEvidenceCommand.Item item = items.get(i);
+            if (item == null || item.getEvidenceId() == null) {
+                results[i] = ItemResult.failed(null, ErrorCodes.VALIDATION_ERROR, "Evidence ID is required");
+                continue;
+            }
+            if (positionByEvidence.containsKey(item.getEvidenceId())) {
+                results[i] = ItemResult.failed(item.getEvidenceId(), ErrorCodes.CONFLICT, "Duplicate decision in batch");
+                continue;
+            }
+            try {
+                decisions.put(item.getEvidenceId(),
+                    EvidenceDecision.of(item.getEvidenceId(), item.getDecision(), item.getComments()));
+                positionByEvidence.put(item.getEvidenceId(), i);
+            } catch (DomainException e) {
+                results[i] = ItemResult.failed(item.getEvidenceId(), ErrorCodes.VALIDATION_ERROR, e.getMessage());
+            }
+        }
+
+        // 2. Lock all targets at once, in id order
+        Map<Long, EvidenceReviewTarget> targets = reviewRepository.lockForDecision(positionByEvidence.keySet())
+            .stream().collect(Collectors.toMap(EvidenceReviewTarget::getEvidenceId, Function.identity()));
+        Set<Long> validatedChallenges = reviewRepository.findValidatedChallengeIds(reviewerUserId,
+            targets.values().stream().map(EvidenceReviewTarget::getChallengeId).collect(Collectors.toSet()));
+
+        // 3. Per-item business checks
+        LocalDateTime now = LocalDateTime.now();
+        List<EvidenceDecision> accepted = new ArrayList<>(positionByEvidence.size());
+        for (Map.Entry<Long, Integer> entry : positionByEvidence.entrySet()) {
+            Long evidenceId = entry.getKey();
+            EvidenceReviewTarget target = targets.get(evidenceId);
+            if (target == null) {
+                results[entry.getValue()] = ItemResult.failed(evidenceId, ErrorCodes.EVIDENCE_NOT_FOUND, "Evidence not found");
+                continue;
+            }
+            if (!validatedChallenges.contains(target.getChallengeId())) {
+                results[entry.getValue()] = ItemResult.failed(evidenceId, ErrorCodes.EVIDENCE_REVIEW_FORBIDDEN,
+                    "Only validators of the challenge can decide evidence");
+                continue;
+            }
+            try {
+                target.assertDecidableBy(reviewerUserId, now);
+                accepted.add(decisions.get(evidenceId));
+            } catch (DomainException e) {
+                results[entry.getValue()] = ItemResult.failed(evidenceId, e.getCode(), e.getMessage());
+            }
+        }
+
+        // 4. One JDBC batch for all accepted decisions
+        int[] updateCounts = reviewRepository.applyDecisions(accepted, reviewerUserId, now);
+        Set<Long> participations = new HashSet<>();
+        Map<Long, ChallengeCounterDelta> counterDeltas = new HashMap<>();
+        for (int i = 0; i < accepted.size(); i++) {
+            EvidenceDecision decision = accepted.get(i);
+            int position = positionByEvidence.get(decision.getEvidenceId());
+            // Rows are locked and checked PENDING, so the driver's "no info" count means success
+            if (updateCounts[i] > 0 || updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                EvidenceReviewTarget target = targets.get(decision.getEvidenceId());
+                participations.add(target.getParticipationId());
+                counterDeltas.merge(target.getChallengeId(),
+                    ChallengeCounterDelta.evidenceDecided(decision.getDecision()), ChallengeCounterDelta::plus);
+                results[position] = ItemResult.applied(decision.getEvidenceId(), decision.getDecision());
+                auditService.logActionAfterCommit(reviewerUserId, "EVIDENCE_DECIDED", "EVIDENCE",
+                    decision.getEvidenceId().toString(), decision.getReason(),
+                    Map.of("decision", decision.getDecision().name(), "challengeId", target.getChallengeId()));
+            } else {
+                results[position] = ItemResult.failed(decision.getEvidenceId(), ErrorCodes.EVIDENCE_INVALID_STATUS,
+                    "Evidence has already been decided");
+            }
+        }
+
+        // 5. Derived state once per participation / challenge
+        reviewRepository.recomputeParticipationStatus(participations);
+        counterDeltas.forEach(recordChallengeCounters::record);
+
+        BatchDecideEvidenceResponse response = new BatchDecideEvidenceResponse(List.of(results));
+
+        // Store idempotency result if provided
+        if (idempotencyKey != null) {
+            idempotencyService.storeResult(idempotencyKey, response);
+        }
+
+        return response;
+    }
+
+    private void validateCommand(BatchDecideEvidenceCommand command) {
+        if (command == null) {
+            throw new ValidationException("BatchDecideEvidenceCommand cannot be null");
+        }
+
+        if (command.getReviewerUserId() == null || command.getReviewerUserId() <= 0) {
+            throw new ValidationException("Valid reviewer user ID is required");
+        }
+
+        if (command.getItems().isEmpty()) {
+            throw new ValidationException("At least one decision is required");
+        }
+
+        if (command.getItems().size() > maxBatchSize) {
+            throw new ValidationException("Cannot decide more than " + maxBatchSize + " evidences at once");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.features.evidencereview.application.dto.ClaimEvidenceReviewsCommand;
+import com.impulse.features.evidencereview.application.dto.ReviewQueuePageResponse;
+import com.impulse.features.evidencereview.application.port.in.ClaimEvidenceReviewsPort;
+import com.impulse.features.evidencereview.application.port.out.EvidenceReviewRepository;
+import com.impulse.features.evidencereview.domain.ReviewQueueItem;
+import com.impulse.infrastructure.services.StorageService;
+import com.impulse.infrastructure.storage.DerivativeCache;
+import com.impulse.shared.error.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Use Case: ClaimEvidenceReviewsUseCase
+ * Leases a small batch of pending evidence to a validator for a bounded time.
+ * Each validator starts on its own shard of the id space so concurrent claimers
+ * rarely scan the same rows; the remainder is filled from any shard.
+ */
+@Service
+@Transactional
+public class ClaimEvidenceReviewsUseCase implements ClaimEvidenceReviewsPort {
+
+    private final EvidenceReviewRepository reviewRepository;
+    private final StorageService storageService;
+    private final DerivativeCache derivativeCache;
+    private final int leaseSeconds;
+    private final int maxBatchSize;
+    private final int shardCount;
+
+    public ClaimEvidenceReviewsUseCase(EvidenceReviewRepository reviewRepository,
+                                       StorageService storageService,
+                                       DerivativeCache derivativeCache,
+                                       @Value("${impulse.evidence.review.lease-seconds:300}") int leaseSeconds,
+                                       @Value("${impulse.evidence.review.max-claim-size:25}") int maxBatchSize,
+                                       @Value("${impulse.evidence.review.shards:8}") int shardCount) {
+        this.reviewRepository = reviewRepository;
+        this.storageService = storageService;
+        this.derivativeCache = derivativeCache;
+        this.leaseSeconds = leaseSeconds;
+        this.maxBatchSize = maxBatchSize;
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public ReviewQueuePageResponse execute(ClaimEvidenceReviewsCommand command) {
+        validateCommand(command);
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        Long validatorUserId = command.getValidatorUserId();
+
+        List<ReviewQueueItem> claimed = new ArrayList<>(command.getSize());
+        if (shardCount > 1) {
+            int shard = Math.floorMod(Long.hashCode(validatorUserId), shardCount);
+            claimed.addAll(reviewRepository.claim(validatorUserId, shard, shardCount, now, leaseUntil, command.getSize()));
+        }
+        if (claimed.size() < command.getSize()) {
+            // Rows leased by the first pass now carry a live lease and are not claimable again
+            claimed.addAll(reviewRepository.claim(validatorUserId, null, shardCount, now, leaseUntil,
+                command.getSize() - claimed.size()));
+        }
+
+        return ReviewQueueMapper.toPage(claimed, Integer.MAX_VALUE, storageService::getFileUrl, derivativeCache::previewUrl);
+    }
+
+    private void validateCommand(ClaimEvidenceReviewsCommand command) {
+        if (command == null) {
+            throw new ValidationException("ClaimEvidenceReviewsCommand cannot be null");
+        }
+
+        if (command.getValidatorUserId() == null || command.getValidatorUserId() <= 0) {
+            throw new ValidationException("Valid validator user ID is required");
+        }
+
+        if (command.getSize() <= 0 || command.getSize() > maxBatchSize) {
+            throw new ValidationException("Claim size must be between 1 and " + maxBatchSize);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.features.evidencereview.application.dto.CreateUploadSessionCommand;
+import com.impulse.features.evidencereview.application.dto.UploadSessionResponse;
+import com.impulse.features.evidencereview.application.port.in.CreateUploadSessionPort;
+import com.impulse.features.evidencereview.application.port.out.UploadSessionRepository;
+import com.impulse.features.evidencereview.domain.UploadSession;
+import com.impulse.infrastructure.services.StorageQuotaService;
+import com.impulse.infrastructure.services.StorageService;
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ErrorCodes;
+import com.impulse.shared.error.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+/**
+ * Use Case: CreateUploadSessionUseCase
+ * Opens a resumable upload and preallocates its staging file at the announced size,
+ * so chunks can later be written in place in any order. The announced size is charged
+ * to the user's storage quota up front and trued up on finalize or refunded on expiry.
+ */
+@Service
+@Transactional
+public class CreateUploadSessionUseCase implements CreateUploadSessionPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(CreateUploadSessionUseCase.class);
+
+    private final UploadSessionRepository sessionRepository;
+    private final StorageService storageService;
+    private final StorageQuotaService quotaService;
+    private final MediaScanBacklog scanBacklog;
+    private final long maxSizeBytes;
+    private final int chunkBytes;
+    private final long sessionTtlSeconds;
+    private final String[] allowedTypes;
+
+    public CreateUploadSessionUseCase(UploadSessionRepository sessionRepository,
+                                      StorageService storageService,
+                                      StorageQuotaService quotaService,
+                                      MediaScanBacklog scanBacklog,
+                                      @Value("${impulse.storage.resumable.max-size-bytes:2147483648}") long maxSizeBytes,
+                                      @Value("${impulse.storage.resumable.chunk-bytes:8388608}") int chunkBytes,
+                                      @Value("${impulse.storage.resumable.session-ttl-seconds:86400}") long sessionTtlSeconds,
+                                      @Value("${impulse.storage.evidence.allowed-types:jpg,jpeg,png,webp,mp4,mov}") String[] allowedTypes) {
+        this.sessionRepository = sessionRepository;
+        this.storageService = storageService;
+        this.quotaService = quotaService;
+        this.scanBacklog = scanBacklog;
+        this.maxSizeBytes = maxSizeBytes;
+        this.chunkBytes = chunkBytes;
+        this.sessionTtlSeconds = sessionTtlSeconds;
+        this.allowedTypes = allowedTypes;
+    }
+
+    @Override
+    public UploadSessionResponse execute(CreateUploadSessionCommand command) {
+        validateCommand(command);
+        scanBacklog.assertAcceptingUploads();
+
+        UploadSession session = UploadSession.open(command.getUploaderUserId(), command.getFileName(),
+            command.getContentType(), command.getTotalBytes(), chunkBytes,
+            LocalDateTime.now().plusSeconds(sessionTtlSeconds));
+
+        quotaService.reserve(command.getUploaderUserId(), session.getTotalBytes());
+        try {
+            storageService.allocateStagedUpload(session.getId(), session.getTotalBytes());
+        } catch (IOException e) {
+            quotaService.adjust(command.getUploaderUserId(), -session.getTotalBytes());
+            throw new UncheckedIOException("Failed to allocate upload session storage", e);
+        }
+        try {
+            sessionRepository.insert(session);
+        } catch (RuntimeException e) {
+            discardQuietly(session.getId());
+            quotaService.adjust(command.getUploaderUserId(), -session.getTotalBytes());
+            throw e;
+        }
+
+        logger.debug("Opened upload session {} ({} bytes, {} chunks) for user {}",
+            session.getId(), session.getTotalBytes(), session.getChunkCount(), command.getUploaderUserId());
+        return UploadSessionMapper.toResponse(session);
+    }
+
+    private void discardQuietly(String sessionId) {
+        try {
+            storageService.discardStagedUpload(sessionId);
+        } catch (IOException e) {
+            logger.warn("Could not discard staging file of upload session {}: {}", sessionId, e.getMessage());
+        }
+    }
+
+    private void validateCommand(CreateUploadSessionCommand command) {
+        if (command == null) {
+            throw new ValidationException("CreateUploadSessionCommand cannot be null");
+        }
+
+        if (command.getUploaderUserId() == null || command.getUploaderUserId() <= 0) {
+            throw new ValidationException("Valid uploader user ID is required");
+        }
+
+        if (command.getFileName() == null || !command.getFileName().contains(".")
+            || command.getFileName().length() > 255
+            || !storageService.isValidFileType(command.getFileName(), allowedTypes)) {
+            throw new DomainException("File type not allowed", ErrorCodes.STORAGE_INVALID_TYPE);
+        }
+
+        if (command.getTotalBytes() <= 0) {
+            throw new ValidationException("Upload size must be positive");
+        }
+
+        if (!storageService.isValidFileSize(command.getTotalBytes(), maxSizeBytes)) {
+            throw new DomainException("File exceeds maximum size of " + maxSizeBytes + " bytes",
+                ErrorCodes.STORAGE_FILE_TOO_LARGE);
+        }
+    }
+}
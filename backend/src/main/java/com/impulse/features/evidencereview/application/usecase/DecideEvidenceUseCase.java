@@ -1,15 +1,131 @@
 package com.impulse.features.evidencereview.application.usecase;
 
-import com.impulse.shared.annotations.Generated;
+import com.impulse.features.challenge.application.port.in.RecordChallengeCountersPort;
+import com.impulse.features.challenge.domain.ChallengeCounterDelta;
+import com.impulse.features.evidencereview.application.dto.DecideEvidenceCommand;
+import com.impulse.features.evidencereview.application.dto.EvidenceResponse;
+import com.impulse.features.evidencereview.application.port.in.DecideEvidencePort;
+import com.impulse.features.evidencereview.application.port.out.EvidenceReviewRepository;
+import com.impulse.features.evidencereview.domain.EvidenceDecision;
+import com.impulse.features.evidencereview.domain.EvidenceId;
+import com.impulse.features.evidencereview.domain.EvidenceReviewTarget;
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ErrorCodes;
+import com.impulse.shared.error.ValidationException;
+import com.impulse.shared.utils.IdempotencyKey;
+import com.impulse.infrastructure.audit.AuditService;
+import com.impulse.infrastructure.services.IdempotencyService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Use case: Decide Evidence (approve/reject)
- * Business validation for evidence decisions
+ * Only validators of the evidence's challenge may decide, never on their own evidence
+ * and never on evidence leased to another validator. The participation status is
+ * recomputed from its evidences in the same transaction.
  */
-@Generated
 @Service
-public class DecideEvidenceUseCase {
-    // TODO: Implement decision logic - validator permissions, rejection reasons
-    // Update participations.status based on evidence decisions
+@Transactional
+public class DecideEvidenceUseCase implements DecideEvidencePort {
+
+    private final EvidenceReviewRepository reviewRepository;
+    private final IdempotencyService idempotencyService;
+    private final RecordChallengeCountersPort recordChallengeCounters;
+    private final AuditService auditService;
+
+    public DecideEvidenceUseCase(EvidenceReviewRepository reviewRepository,
+                                IdempotencyService idempotencyService,
+                                RecordChallengeCountersPort recordChallengeCounters,
+                                AuditService auditService) {
+        this.reviewRepository = reviewRepository;
+        this.idempotencyService = idempotencyService;
+        this.recordChallengeCounters = recordChallengeCounters;
+        this.auditService = auditService;
+    }
+
+    @Override
+    public EvidenceResponse execute(DecideEvidenceCommand command, IdempotencyKey idempotencyKey) {
+        // Idempotency check
+        if (idempotencyKey != null) {
+            var existingResult = idempotencyService.getResult(idempotencyKey, EvidenceResponse.class);
+            if (existingResult.isPresent()) {
+                return existingResult.get();
+            }
+        }
+
+        validateCommand(command);
+
+        Long evidenceId = EvidenceId.of(command.getEvidenceId()).toLong();
+        EvidenceDecision decision = EvidenceDecision.of(evidenceId, command.getDecision(), command.getComments());
+
+        EvidenceReviewTarget target = reviewRepository.lockForDecision(evidenceId)
+            .orElseThrow(() -> new DomainException("Evidence not found", ErrorCodes.EVIDENCE_NOT_FOUND));
+
+        if (!reviewRepository.isValidator(target.getChallengeId(), command.getReviewerUserId())) {
+            throw new DomainException("Only validators of the challenge can decide evidence", ErrorCodes.EVIDENCE_REVIEW_FORBIDDEN);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        target.assertDecidableBy(command.getReviewerUserId(), now);
+
+        if (reviewRepository.applyDecision(decision, command.getReviewerUserId(), now) == 0) {
+            throw new DomainException("Evidence has already been decided", ErrorCodes.EVIDENCE_INVALID_STATUS);
+        }
+
+        reviewRepository.recomputeParticipationStatus(List.of(target.getParticipationId()));
+        recordChallengeCounters.record(target.getChallengeId(), ChallengeCounterDelta.evidenceDecided(decision.getDecision()));
+        auditService.logActionAfterCommit(command.getReviewerUserId(), "EVIDENCE_DECIDED", "EVIDENCE",
+            evidenceId.toString(), decision.getReason(),
+            Map.of("decision", decision.getDecision().name(), "challengeId", target.getChallengeId()));
+
+        EvidenceResponse response = toResponse(target, decision, command.getReviewerUserId(), now);
+
+        // Store idempotency result if provided
+        if (idempotencyKey != null) {
+            idempotencyService.storeResult(idempotencyKey, response);
+        }
+
+        return response;
+    }
+
+    private void validateCommand(DecideEvidenceCommand command) {
+        if (command == null) {
+            throw new ValidationException("DecideEvidenceCommand cannot be null");
+        }
+
+        if (command.getEvidenceId() == null || command.getEvidenceId().trim().isEmpty()) {
+            throw new ValidationException("Evidence ID is required");
+        }
+
+        if (command.getReviewerUserId() == null || command.getReviewerUserId() <= 0) {
+            throw new ValidationException("Valid reviewer user ID is required");
+        }
+
+        if (command.getDecision() == null) {
+            throw new ValidationException("Decision is required");
+        }
+    }
+
+    private EvidenceResponse toResponse(EvidenceReviewTarget target, EvidenceDecision decision,
+                                        Long reviewerUserId, LocalDateTime decidedAt) {
+        return new EvidenceResponse(
+            target.getEvidenceId().toString(),
+            target.getChallengeId(),
+            target.getParticipantUserId(),
+            null,
+            target.getText(),
+            null,
+            decision.getDecision(),
+            reviewerUserId,
+            decision.getReason(),
+            decidedAt,
+            target.getSubmittedAt(),
+            decidedAt,
+            target.isDemo()
+        );
+    }
 }
@@ -0,0 +1,82 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.features.evidencereview.application.port.out.UploadSessionRepository;
+import com.impulse.features.evidencereview.domain.UploadSession;
+import com.impulse.infrastructure.services.StorageQuotaService;
+import com.impulse.infrastructure.services.StorageService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Use Case: ExpireUploadSessionsUseCase
+ * Garbage-collects abandoned resumable uploads: rows are deleted in batches and
+ * their preallocated staging files unlinked and reserved quota refunded once the
+ * delete has committed.
+ */
+@Service
+public class ExpireUploadSessionsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExpireUploadSessionsUseCase.class);
+
+    private final UploadSessionRepository sessionRepository;
+    private final StorageService storageService;
+    private final StorageQuotaService quotaService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ExpireUploadSessionsUseCase(UploadSessionRepository sessionRepository,
+                                       StorageService storageService,
+                                       StorageQuotaService quotaService,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${impulse.storage.resumable.gc-batch-size:200}") int batchSize) {
+        this.sessionRepository = sessionRepository;
+        this.storageService = storageService;
+        this.quotaService = quotaService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return number of sessions removed
+     */
+    public int expire() {
+        LocalDateTime now = LocalDateTime.now();
+        int expired = 0;
+
+        while (true) {
+            List<UploadSession> batch = transactionTemplate.execute(status -> {
+                List<UploadSession> sessions = sessionRepository.findExpired(now, batchSize);
+                sessionRepository.deleteAll(sessions.stream().map(UploadSession::getId).toList());
+                return sessions;
+            });
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            for (UploadSession session : batch) {
+                quotaService.adjust(session.getUserId(), -session.getTotalBytes());
+                try {
+                    storageService.discardStagedUpload(session.getId());
+                } catch (IOException e) {
+                    logger.warn("Could not discard staging file of upload session {}: {}", session.getId(), e.getMessage());
+                }
+            }
+            expired += batch.size();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (expired > 0) {
+            logger.info("Expired {} abandoned upload sessions", expired);
+        }
+        return expired;
+    }
+}
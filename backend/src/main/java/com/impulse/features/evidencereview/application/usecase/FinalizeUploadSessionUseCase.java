@@ -0,0 +1,110 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.features.evidencereview.application.dto.EvidenceMediaResponse;
+import com.impulse.features.evidencereview.application.port.in.FinalizeUploadSessionPort;
+import com.impulse.features.evidencereview.application.port.out.UploadSessionRepository;
+import com.impulse.features.evidencereview.domain.UploadSession;
+import com.impulse.infrastructure.services.StorageQuotaService;
+import com.impulse.infrastructure.services.StorageService;
+import com.impulse.infrastructure.storage.DerivativeCache;
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ErrorCodes;
+import com.impulse.shared.error.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Use Case: FinalizeUploadSessionUseCase
+ * Verifies the client's SHA-256 over the assembled file and moves it into the blob store.
+ * The staging file is consumed either way; after a digest mismatch the client starts a new session.
+ * Quota corrections run after commit: on rollback the session row survives and
+ * ExpireUploadSessionsUseCase refunds its reservation instead.
+ */
+@Service
+@Transactional(noRollbackFor = DomainException.class)
+public class FinalizeUploadSessionUseCase implements FinalizeUploadSessionPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(FinalizeUploadSessionUseCase.class);
+
+    private final UploadSessionRepository sessionRepository;
+    private final StorageService storageService;
+    private final StorageQuotaService quotaService;
+    private final DerivativeCache derivativeCache;
+    private final String[] stripMetadataTypes;
+
+    public FinalizeUploadSessionUseCase(UploadSessionRepository sessionRepository,
+                                        StorageService storageService,
+                                        StorageQuotaService quotaService,
+                                        DerivativeCache derivativeCache,
+                                        @Value("${impulse.storage.evidence.strip-metadata-types:jpg,jpeg,png,webp}") String[] stripMetadataTypes) {
+        this.sessionRepository = sessionRepository;
+        this.storageService = storageService;
+        this.quotaService = quotaService;
+        this.derivativeCache = derivativeCache;
+        this.stripMetadataTypes = stripMetadataTypes;
+    }
+
+    @Override
+    public EvidenceMediaResponse execute(Long uploaderUserId, String sessionId, String expectedSha256) {
+        if (uploaderUserId == null || uploaderUserId <= 0) {
+            throw new ValidationException("Valid uploader user ID is required");
+        }
+        if (expectedSha256 == null || expectedSha256.isBlank()) {
+            throw new ValidationException("X-Content-SHA256 is required to finalize an upload");
+        }
+
+        // Row lock keeps a concurrent finalize or chunk commit out while the file is consumed
+        UploadSession session = sessionRepository.lockById(sessionId)
+            .orElseThrow(() -> new DomainException("Upload session not found", ErrorCodes.NOT_FOUND));
+        session.assertOwnedBy(uploaderUserId);
+        if (!session.isComplete()) {
+            throw new DomainException("Upload is missing " + session.getMissingChunks().size() + " chunks",
+                ErrorCodes.VALIDATION_ERROR);
+        }
+
+        boolean stripMetadata = storageService.isValidFileType(session.getFileName(), stripMetadataTypes);
+        StorageService.StoredFile stored = null;
+        try {
+            stored = storageService.finalizeStagedUpload(session.getId(), expectedSha256, stripMetadata);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to finalize upload session", e);
+        } finally {
+            sessionRepository.delete(session.getId());
+            // Session bytes were reserved at creation; keep what was stored, refund the rest
+            long storedBytes = stored != null ? stored.getSizeBytes() : 0L;
+            adjustQuotaAfterCommit(session.getUserId(), storedBytes - session.getTotalBytes());
+        }
+
+        try {
+            storageService.holdUntilClaimed(session.getUserId(), stored);
+        } catch (RuntimeException e) {
+            adjustQuotaAfterCommit(session.getUserId(), -stored.getSizeBytes());
+            throw e;
+        }
+
+        if (stripMetadata) {
+            derivativeCache.warmAsync(stored.getSha256());
+        }
+        logger.debug("Finalized upload session {} into {} ({} bytes)",
+            session.getId(), stored.getPath(), stored.getSizeBytes());
+        return new EvidenceMediaResponse(stored.getPath(), session.getContentType(),
+            stored.getSizeBytes(), stored.getSha256());
+    }
+
+    private void adjustQuotaAfterCommit(Long userId, long deltaBytes) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                quotaService.adjust(userId, deltaBytes);
+            }
+        });
+    }
+}
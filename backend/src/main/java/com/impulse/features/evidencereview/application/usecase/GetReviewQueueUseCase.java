@@ -0,0 +1,49 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.features.evidencereview.application.dto.ReviewQueuePageResponse;
+import com.impulse.features.evidencereview.application.port.in.GetReviewQueuePort;
+import com.impulse.features.evidencereview.application.port.out.EvidenceReviewRepository;
+import com.impulse.infrastructure.services.StorageService;
+import com.impulse.infrastructure.storage.DerivativeCache;
+import com.impulse.shared.error.ValidationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Use Case: GetReviewQueueUseCase
+ * Keyset-paginated view of the evidence currently leased to a validator
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetReviewQueueUseCase implements GetReviewQueuePort {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final EvidenceReviewRepository reviewRepository;
+    private final StorageService storageService;
+    private final DerivativeCache derivativeCache;
+
+    public GetReviewQueueUseCase(EvidenceReviewRepository reviewRepository,
+                                 StorageService storageService,
+                                 DerivativeCache derivativeCache) {
+        this.reviewRepository = reviewRepository;
+        this.storageService = storageService;
+        this.derivativeCache = derivativeCache;
+    }
+
+    @Override
+    public ReviewQueuePageResponse execute(Long validatorUserId, Long afterEvidenceId, int size) {
+        if (validatorUserId == null || validatorUserId <= 0) {
+            throw new ValidationException("Valid validator user ID is required");
+        }
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        long cursor = afterEvidenceId != null ? afterEvidenceId : 0L;
+        var items = reviewRepository.findLeasedBy(validatorUserId, LocalDateTime.now(), cursor, size);
+        return ReviewQueueMapper.toPage(items, size, storageService::getFileUrl, derivativeCache::previewUrl);
+    }
+}
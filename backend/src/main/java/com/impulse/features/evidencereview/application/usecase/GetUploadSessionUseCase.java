@@ -0,0 +1,40 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.features.evidencereview.application.dto.UploadSessionResponse;
+import com.impulse.features.evidencereview.application.port.in.GetUploadSessionPort;
+import com.impulse.features.evidencereview.application.port.out.UploadSessionRepository;
+import com.impulse.features.evidencereview.domain.UploadSession;
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ErrorCodes;
+import com.impulse.shared.error.ValidationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Use Case: GetUploadSessionUseCase
+ * Lets a reconnecting client learn which chunks it still has to send
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetUploadSessionUseCase implements GetUploadSessionPort {
+
+    private final UploadSessionRepository sessionRepository;
+
+    public GetUploadSessionUseCase(UploadSessionRepository sessionRepository) {
+        this.sessionRepository = sessionRepository;
+    }
+
+    @Override
+    public UploadSessionResponse execute(Long uploaderUserId, String sessionId) {
+        if (uploaderUserId == null || uploaderUserId <= 0) {
+            throw new ValidationException("Valid uploader user ID is required");
+        }
+        UploadSession session = sessionRepository.findById(sessionId)
+            .filter(s -> !s.isExpired(LocalDateTime.now()))
+            .orElseThrow(() -> new DomainException("Upload session not found", ErrorCodes.NOT_FOUND));
+        session.assertOwnedBy(uploaderUserId);
+        return UploadSessionMapper.toResponse(session);
+    }
+}
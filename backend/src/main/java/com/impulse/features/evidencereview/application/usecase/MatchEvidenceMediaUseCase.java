@@ -0,0 +1,119 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.features.challenge.application.port.in.RecordChallengeCountersPort;
+import com.impulse.features.challenge.domain.ChallengeCounterDelta;
+import com.impulse.features.evidencereview.application.port.out.MediaFingerprintRepository;
+import com.impulse.features.moderation.application.dto.SubmitReportCommand;
+import com.impulse.features.moderation.application.port.in.SubmitReportPort;
+import com.impulse.shared.enums.ModerationResourceType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use Case: MatchEvidenceMediaUseCase
+ * Runs freshly scanned image evidence against the fingerprint index. A near-duplicate of
+ * banned media opens (or heats up) a moderation case on the new evidence, reported for
+ * the ban's reason, and with impulse.media-fingerprint.auto-hold the evidence is moved to
+ * HELD so it leaves the validator queue until a moderator releases or rejects it
+ * (ResolveHeldEvidenceUseCase). Runs inside the transaction that records the CLEAN verdicts,
+ * so the hold and the pending counter move commit together with them; new hashes join the
+ * in-memory index only after that commit.
+ */
+@Service
+public class MatchEvidenceMediaUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchEvidenceMediaUseCase.class);
+
+    private final MediaFingerprintRepository fingerprintRepository;
+    private final MediaFingerprintIndex fingerprintIndex;
+    private final SubmitReportPort submitReportPort;
+    private final RecordChallengeCountersPort recordChallengeCounters;
+    private final boolean autoHold;
+    private final Counter bannedCounter;
+    private final Counter duplicateCounter;
+
+    public MatchEvidenceMediaUseCase(MediaFingerprintRepository fingerprintRepository,
+                                     MediaFingerprintIndex fingerprintIndex,
+                                     SubmitReportPort submitReportPort,
+                                     RecordChallengeCountersPort recordChallengeCounters,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${impulse.media-fingerprint.auto-hold:false}") boolean autoHold) {
+        this.fingerprintRepository = fingerprintRepository;
+        this.fingerprintIndex = fingerprintIndex;
+        this.submitReportPort = submitReportPort;
+        this.recordChallengeCounters = recordChallengeCounters;
+        this.autoHold = autoHold;
+        this.bannedCounter = matchCounter(meterRegistry, "banned");
+        this.duplicateCounter = matchCounter(meterRegistry, "duplicate");
+    }
+
+    /**
+     * @param hashesByEvidenceId perceptual hashes of evidence media just scanned clean
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void execute(Map<Long, Long> hashesByEvidenceId) {
+        if (hashesByEvidenceId.isEmpty()) {
+            return;
+        }
+        fingerprintRepository.saveAll(hashesByEvidenceId);
+
+        List<Long> toHold = new ArrayList<>();
+        hashesByEvidenceId.forEach((evidenceId, hash) -> {
+            var bannedMatch = fingerprintIndex.findBanned(hash);
+            if (bannedMatch.isPresent()) {
+                var banned = bannedMatch.get().banned();
+                bannedCounter.increment();
+                logger.warn("Evidence {} matches media banned on evidence {} (distance {})",
+                    evidenceId, banned.getEvidenceId(), bannedMatch.get().distance());
+                submitReportPort.execute(new SubmitReportCommand(
+                    banned.getBannedByUserId(),
+                    ModerationResourceType.EVIDENCE,
+                    evidenceId,
+                    banned.getBannedReason(),
+                    "Near-duplicate of media banned on evidence " + banned.getEvidenceId()
+                        + " (distance " + bannedMatch.get().distance() + ")"));
+                toHold.add(evidenceId);
+            } else {
+                fingerprintIndex.findDuplicate(evidenceId, hash).ifPresent(match -> {
+                    duplicateCounter.increment();
+                    logger.debug("Evidence {} media near-duplicates evidence {} (distance {})",
+                        evidenceId, match.id(), match.distance());
+                });
+            }
+        });
+
+        if (autoHold && !toHold.isEmpty()) {
+            Map<Long, Long> held = fingerprintRepository.holdEvidences(toHold);
+            held.values().forEach(challengeId ->
+                recordChallengeCounters.record(challengeId, ChallengeCounterDelta.evidenceHeld()));
+            logger.info("Held {} evidences matching banned media", held.size());
+        }
+
+        // A rolled-back batch is scanned again, so its hashes must not linger in the index
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                hashesByEvidenceId.forEach(fingerprintIndex::add);
+            }
+        });
+    }
+
+    private static Counter matchCounter(MeterRegistry meterRegistry, String kind) {
+        return Counter.builder("impulse.media.fingerprint.matches")
+            .description("Evidence media matching known media")
+            .tag("kind", kind)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,173 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.features.evidencereview.application.port.out.MediaFingerprintRepository;
+import com.impulse.features.evidencereview.domain.MediaFingerprint;
+import com.impulse.features.privacy.domain.EvidenceMediaErasedEvent;
+import com.impulse.shared.utils.MultiIndexHashTable;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory near-duplicate index over media_fingerprints.
+ * Two multi-index hash tables: every known fingerprint, and the small set of banned ones
+ * (searched with a wider radius). Each refresh rebuilds both tables from the table in id
+ * order and swaps them in, so other nodes' fingerprints and bans arrive and erased ones
+ * disappear within one refresh interval. Fingerprints recorded or banned on this node are
+ * visible at once and carried over into the next rebuild; media erased on this node is
+ * hidden at once.
+ */
+@Service
+public class MediaFingerprintIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(MediaFingerprintIndex.class);
+
+    private static final int PAGE_SIZE = 10_000;
+
+    private final MediaFingerprintRepository fingerprintRepository;
+    private final int duplicateDistance;
+    private final int bannedDistance;
+
+    private volatile Tables tables = new Tables(0);
+    /** Local changes since the running (or last) rebuild started, replayed onto its result */
+    private final Map<Long, Long> addedLocally = new ConcurrentHashMap<>();
+    private final Map<Long, MediaFingerprint> bannedLocally = new ConcurrentHashMap<>();
+    /** Erased evidences that a rebuild may still have loaded */
+    private final Set<Long> erased = ConcurrentHashMap.newKeySet();
+    private final Object localChanges = new Object();
+
+    public MediaFingerprintIndex(MediaFingerprintRepository fingerprintRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${impulse.media-fingerprint.duplicate-distance:6}") int duplicateDistance,
+                                 @Value("${impulse.media-fingerprint.banned-distance:10}") int bannedDistance) {
+        this.fingerprintRepository = fingerprintRepository;
+        this.duplicateDistance = Math.min(duplicateDistance, MultiIndexHashTable.MAX_DISTANCE);
+        this.bannedDistance = Math.min(bannedDistance, MultiIndexHashTable.MAX_DISTANCE);
+        Gauge.builder("impulse.media.fingerprint.indexed", this, index -> index.tables.known.size())
+            .description("Fingerprints in the near-duplicate index")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Rebuilds the index from media_fingerprints and replaces the current one
+     * @return fingerprints indexed
+     */
+    public synchronized int refresh() {
+        Set<Long> erasedBefore = Set.copyOf(erased);
+        // Anything recorded before this point is committed and will be read below
+        addedLocally.clear();
+        bannedLocally.clear();
+
+        Tables next = new Tables(Math.max(tables.known.size(), PAGE_SIZE));
+        long afterId = 0;
+        List<MediaFingerprint> page;
+        do {
+            page = fingerprintRepository.findAfter(afterId, PAGE_SIZE);
+            for (MediaFingerprint fingerprint : page) {
+                next.known.add(fingerprint.getHash(), fingerprint.getEvidenceId());
+                if (fingerprint.isBanned()) {
+                    next.addBanned(fingerprint);
+                }
+                afterId = fingerprint.getId();
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        synchronized (localChanges) {
+            // Recorded while the rebuild ran, possibly behind its read position
+            addedLocally.forEach(next::add);
+            bannedLocally.values().forEach(next::addBanned);
+            tables = next;
+        }
+        erased.removeAll(erasedBefore);
+
+        logger.debug("Media fingerprint index rebuilt with {} fingerprints ({} banned)",
+            next.known.size(), next.bannedByEvidence.size());
+        return next.known.size();
+    }
+
+    /**
+     * Makes a just-stored fingerprint searchable before the next refresh
+     */
+    public void add(Long evidenceId, long hash) {
+        synchronized (localChanges) {
+            addedLocally.put(evidenceId, hash);
+            tables.add(evidenceId, hash);
+        }
+    }
+
+    public void addBanned(MediaFingerprint fingerprint) {
+        synchronized (localChanges) {
+            bannedLocally.put(fingerprint.getEvidenceId(), fingerprint);
+            tables.addBanned(fingerprint);
+        }
+    }
+
+    /**
+     * Hides fingerprints of erased media until the next rebuild drops them; bans outlive erasure
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEvidenceMediaErased(EvidenceMediaErasedEvent event) {
+        erased.addAll(event.getEvidenceIds());
+        event.getEvidenceIds().forEach(addedLocally::remove);
+    }
+
+    /**
+     * Closest banned media within the banned radius
+     */
+    public Optional<BannedMatch> findBanned(long hash) {
+        Tables current = tables;
+        MultiIndexHashTable.Match match = current.banned.nearest(hash, bannedDistance);
+        return match == null ? Optional.empty()
+            : Optional.of(new BannedMatch(current.bannedByEvidence.get(match.id()), match.distance()));
+    }
+
+    /**
+     * Closest other evidence with near-identical media
+     */
+    public Optional<MultiIndexHashTable.Match> findDuplicate(Long evidenceId, long hash) {
+        Tables current = tables;
+        return current.known.search(hash, duplicateDistance).stream()
+            .filter(match -> match.id() != evidenceId)
+            .filter(match -> !erased.contains(match.id()) || current.bannedByEvidence.containsKey(match.id()))
+            .findFirst();
+    }
+
+    public record BannedMatch(MediaFingerprint banned, int distance) {}
+
+    /**
+     * One generation of the index; tables are append-only, so dropping entries means a new generation
+     */
+    private static final class Tables {
+        private final MultiIndexHashTable known;
+        private final MultiIndexHashTable banned = new MultiIndexHashTable();
+        private final Map<Long, MediaFingerprint> bannedByEvidence = new ConcurrentHashMap<>();
+
+        Tables(int expectedEntries) {
+            this.known = new MultiIndexHashTable(expectedEntries);
+        }
+
+        /** Skips a fingerprint the rebuild already read; one evidence has one fingerprint */
+        void add(Long evidenceId, long hash) {
+            if (known.search(hash, 0).stream().noneMatch(match -> match.id() == evidenceId)) {
+                known.add(hash, evidenceId);
+            }
+        }
+
+        void addBanned(MediaFingerprint fingerprint) {
+            if (bannedByEvidence.putIfAbsent(fingerprint.getEvidenceId(), fingerprint) == null) {
+                banned.add(fingerprint.getHash(), fingerprint.getEvidenceId());
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ErrorCodes;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Last observed media scan backlog, refreshed by the scan pipeline.
+ * Uploads consult the cached value, so backpressure costs no query per request.
+ */
+@Component
+public class MediaScanBacklog {
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final long maxBacklog;
+
+    public MediaScanBacklog(MeterRegistry meterRegistry,
+                            @Value("${impulse.media-scan.max-backlog:5000}") long maxBacklog) {
+        this.maxBacklog = maxBacklog;
+        Gauge.builder("impulse.media.scan.backlog", backlog, AtomicLong::get)
+            .description("Evidence media waiting for or undergoing a malware scan")
+            .register(meterRegistry);
+    }
+
+    void update(long size) {
+        backlog.set(size);
+    }
+
+    /**
+     * Rejects new media while the scanner is too far behind
+     */
+    public void assertAcceptingUploads() {
+        if (maxBacklog > 0 && backlog.get() >= maxBacklog) {
+            throw new DomainException("Media scanning is behind; retry the upload later",
+                ErrorCodes.MEDIA_SCAN_BACKLOG);
+        }
+    }
+}
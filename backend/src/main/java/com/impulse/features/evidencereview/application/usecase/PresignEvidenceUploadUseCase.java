@@ -0,0 +1,48 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.features.evidencereview.application.dto.EvidenceUploadUrlResponse;
+import com.impulse.features.evidencereview.application.port.in.PresignEvidenceUploadPort;
+import com.impulse.infrastructure.services.StorageService;
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ErrorCodes;
+import com.impulse.shared.error.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use Case: PresignEvidenceUploadUseCase
+ * Issues a presigned upload URL so the media body goes straight to the storage endpoint.
+ * Only what is known up front is checked here; the PUT runs through UploadEvidenceMediaPort,
+ * which enforces size, quota and scan backpressure again against the actual body.
+ */
+@Service
+public class PresignEvidenceUploadUseCase implements PresignEvidenceUploadPort {
+
+    private final StorageService storageService;
+    private final MediaScanBacklog scanBacklog;
+    private final String[] allowedTypes;
+
+    public PresignEvidenceUploadUseCase(StorageService storageService,
+                                        MediaScanBacklog scanBacklog,
+                                        @Value("${impulse.storage.evidence.allowed-types:jpg,jpeg,png,webp,mp4,mov}") String[] allowedTypes) {
+        this.storageService = storageService;
+        this.scanBacklog = scanBacklog;
+        this.allowedTypes = allowedTypes;
+    }
+
+    @Override
+    public EvidenceUploadUrlResponse execute(Long uploaderUserId, String fileName) {
+        if (uploaderUserId == null || uploaderUserId <= 0) {
+            throw new ValidationException("Valid uploader user ID is required");
+        }
+        if (fileName == null || !fileName.contains(".") || !storageService.isValidFileType(fileName, allowedTypes)) {
+            throw new DomainException("File type not allowed", ErrorCodes.STORAGE_INVALID_TYPE);
+        }
+        // No point handing out a URL whose PUT would be refused
+        scanBacklog.assertAcceptingUploads();
+
+        StorageService.StorageUploadPresignResponse presigned =
+            storageService.generatePresignedUploadUrl(uploaderUserId, fileName);
+        return new EvidenceUploadUrlResponse(presigned.getUploadUrl(), presigned.getExpirySeconds());
+    }
+}
@@ -0,0 +1,78 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.features.challenge.application.port.in.RecordChallengeCountersPort;
+import com.impulse.features.challenge.domain.ChallengeCounterDelta;
+import com.impulse.features.evidencereview.application.dto.ResolveHeldEvidenceCommand;
+import com.impulse.features.evidencereview.application.port.in.ResolveHeldEvidencePort;
+import com.impulse.features.evidencereview.application.port.out.MediaFingerprintRepository;
+import com.impulse.infrastructure.audit.AuditService;
+import com.impulse.shared.enums.EvidenceStatus;
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ErrorCodes;
+import com.impulse.shared.error.ValidationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Use Case: ResolveHeldEvidenceUseCase
+ * Moderator way out of HELD: release the evidence back to the validator queue (PENDING)
+ * or reject it outright. The counter delta is recorded in the same transaction.
+ */
+@Service
+@Transactional
+public class ResolveHeldEvidenceUseCase implements ResolveHeldEvidencePort {
+
+    private final MediaFingerprintRepository fingerprintRepository;
+    private final RecordChallengeCountersPort recordChallengeCounters;
+    private final AuditService auditService;
+
+    public ResolveHeldEvidenceUseCase(MediaFingerprintRepository fingerprintRepository,
+                                      RecordChallengeCountersPort recordChallengeCounters,
+                                      AuditService auditService) {
+        this.fingerprintRepository = fingerprintRepository;
+        this.recordChallengeCounters = recordChallengeCounters;
+        this.auditService = auditService;
+    }
+
+    @Override
+    public void execute(ResolveHeldEvidenceCommand command) {
+        validateCommand(command);
+
+        Long challengeId = fingerprintRepository.lockHeldEvidence(command.getEvidenceId())
+            .orElseThrow(() -> new DomainException("Evidence is not held", ErrorCodes.EVIDENCE_INVALID_STATUS));
+
+        if (command.getDecision() == EvidenceStatus.PENDING) {
+            fingerprintRepository.releaseHeldEvidence(command.getEvidenceId());
+            recordChallengeCounters.record(challengeId, ChallengeCounterDelta.heldEvidenceReleased());
+        } else {
+            fingerprintRepository.rejectHeldEvidence(command.getEvidenceId(), command.getModeratorUserId(),
+                command.getComments(), LocalDateTime.now());
+            recordChallengeCounters.record(challengeId, ChallengeCounterDelta.heldEvidenceRejected());
+        }
+        String action = command.getDecision() == EvidenceStatus.PENDING
+            ? "HELD_EVIDENCE_RELEASED" : "HELD_EVIDENCE_REJECTED";
+        auditService.logActionAfterCommit(command.getModeratorUserId(), action, "EVIDENCE",
+            command.getEvidenceId().toString(), command.getComments(), Map.of("challengeId", challengeId));
+    }
+
+    private void validateCommand(ResolveHeldEvidenceCommand command) {
+        if (command == null) {
+            throw new ValidationException("ResolveHeldEvidenceCommand cannot be null");
+        }
+
+        if (command.getEvidenceId() == null || command.getEvidenceId() <= 0) {
+            throw new ValidationException("evidenceId", "must be a positive id");
+        }
+
+        if (command.getModeratorUserId() == null || command.getModeratorUserId() <= 0) {
+            throw new ValidationException("Valid moderator user ID is required");
+        }
+
+        if (command.getDecision() != EvidenceStatus.PENDING && command.getDecision() != EvidenceStatus.REJECTED) {
+            throw new ValidationException("decision", "must be PENDING (release) or REJECTED");
+        }
+    }
+}
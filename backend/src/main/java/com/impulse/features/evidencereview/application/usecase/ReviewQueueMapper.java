@@ -0,0 +1,45 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.features.evidencereview.application.dto.ReviewQueueItemResponse;
+import com.impulse.features.evidencereview.application.dto.ReviewQueuePageResponse;
+import com.impulse.features.evidencereview.domain.ReviewQueueItem;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Shared conversion of queue rows into page responses
+ */
+final class ReviewQueueMapper {
+
+    private ReviewQueueMapper() {}
+
+    /**
+     * Media keys stay server-side; validators only get short-lived signed URLs.
+     * @param mediaUrls signed download URL for a media key
+     * @param previewUrls signed preview URL for an image media key, or null
+     */
+    static ReviewQueuePageResponse toPage(List<ReviewQueueItem> items, int requestedSize,
+                                          Function<String, String> mediaUrls,
+                                          Function<String, String> previewUrls) {
+        List<ReviewQueueItemResponse> responses = items.stream()
+            .map(item -> new ReviewQueueItemResponse(
+                item.getEvidenceId(),
+                item.getChallengeId(),
+                item.getText(),
+                item.getMediaKey() != null ? mediaUrls.apply(item.getMediaKey()) : null,
+                item.getMediaMime(),
+                isImage(item) ? previewUrls.apply(item.getMediaKey()) : null,
+                item.getSubmittedAt(),
+                item.getLeaseExpiresAt()))
+            .toList();
+        Long nextCursor = items.size() == requestedSize && !items.isEmpty()
+            ? items.get(items.size() - 1).getEvidenceId()
+            : null;
+        return new ReviewQueuePageResponse(responses, nextCursor);
+    }
+
+    private static boolean isImage(ReviewQueueItem item) {
+        return item.getMediaKey() != null && item.getMediaMime() != null && item.getMediaMime().startsWith("image/");
+    }
+}
@@ -0,0 +1,242 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.features.evidencereview.application.port.out.MediaFingerprinter;
+import com.impulse.features.evidencereview.application.port.out.MediaScanRepository;
+import com.impulse.features.evidencereview.application.port.out.MediaScanner;
+import com.impulse.features.evidencereview.domain.MediaScanTask;
+import com.impulse.shared.enums.MediaScanStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Use Case: ScanPendingMediaUseCase
+ * Drains PENDING evidence media through the MediaScanner.
+ * Each round claims a batch in a short transaction, scans it on a fixed pool of workers
+ * (so at most batch-size files are in flight), then writes the verdicts with one UPDATE
+ * per outcome. Media shared by several evidences (same blob) is scanned once per batch.
+ * Rows whose media could not be read go back to PENDING with an exponential backoff, so
+ * a block of unreadable media cannot starve newer uploads, and become FAILED after
+ * max-attempts tries.
+ * Clean images are fingerprinted on the same workers and matched against known and
+ * banned media (MatchEvidenceMediaUseCase) in the transaction that stores the verdicts, so a
+ * near-duplicate of banned media is never CLEAN and claimable before it is held. If matching
+ * fails the verdicts roll back and the batch is scanned again once its claim times out.
+ */
+@Service
+public class ScanPendingMediaUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScanPendingMediaUseCase.class);
+
+    private final MediaScanRepository scanRepository;
+    private final MediaScanner scanner;
+    private final MediaFingerprinter fingerprinter;
+    private final MatchEvidenceMediaUseCase matchEvidenceMedia;
+    private final boolean fingerprintEnabled;
+    private final MediaScanBacklog backlog;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService workers;
+    private final int batchSize;
+    private final int maxBatchesPerSweep;
+    private final long claimTimeoutSeconds;
+    private final int maxAttempts;
+    private final long retryBackoffSeconds;
+    private final long retryBackoffMaxSeconds;
+
+    private final Counter cleanCounter;
+    private final Counter infectedCounter;
+    private final Counter failedCounter;
+    private final Counter abandonedCounter;
+    private final Timer batchTimer;
+
+    public ScanPendingMediaUseCase(MediaScanRepository scanRepository,
+                                   MediaScanner scanner,
+                                   MediaFingerprinter fingerprinter,
+                                   MatchEvidenceMediaUseCase matchEvidenceMedia,
+                                   MediaScanBacklog backlog,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${impulse.media-scan.workers:4}") int workerCount,
+                                   @Value("${impulse.media-scan.batch-size:50}") int batchSize,
+                                   @Value("${impulse.media-scan.max-batches-per-sweep:20}") int maxBatchesPerSweep,
+                                   @Value("${impulse.media-scan.claim-timeout-seconds:600}") long claimTimeoutSeconds,
+                                   @Value("${impulse.media-scan.max-attempts:5}") int maxAttempts,
+                                   @Value("${impulse.media-scan.retry-backoff-seconds:60}") long retryBackoffSeconds,
+                                   @Value("${impulse.media-scan.retry-backoff-max-seconds:3600}") long retryBackoffMaxSeconds,
+                                   @Value("${impulse.media-fingerprint.enabled:true}") boolean fingerprintEnabled) {
+        this.scanRepository = scanRepository;
+        this.scanner = scanner;
+        this.fingerprinter = fingerprinter;
+        this.matchEvidenceMedia = matchEvidenceMedia;
+        this.fingerprintEnabled = fingerprintEnabled;
+        this.backlog = backlog;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerSweep = maxBatchesPerSweep;
+        this.claimTimeoutSeconds = claimTimeoutSeconds;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffSeconds = retryBackoffSeconds;
+        this.retryBackoffMaxSeconds = retryBackoffMaxSeconds;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "media-scan-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.cleanCounter = scanCounter(meterRegistry, "clean");
+        this.infectedCounter = scanCounter(meterRegistry, "infected");
+        this.failedCounter = scanCounter(meterRegistry, "failed");
+        this.abandonedCounter = scanCounter(meterRegistry, "abandoned");
+        this.batchTimer = Timer.builder("impulse.media.scan.batch")
+            .description("Wall time to scan one claimed batch")
+            .register(meterRegistry);
+    }
+
+    /**
+     * @return number of evidences given a final scan status
+     */
+    public int scanPending() {
+        int completed = 0;
+        for (int round = 0; round < maxBatchesPerSweep; round++) {
+            LocalDateTime now = LocalDateTime.now();
+            List<MediaScanTask> batch = transactionTemplate.execute(status ->
+                scanRepository.claim(now, now.minusSeconds(claimTimeoutSeconds), batchSize));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            completed += batchTimer.record(() -> scanBatch(batch));
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+
+        backlog.update(scanRepository.countBacklog());
+        if (completed > 0) {
+            logger.info("Media scan sweep completed {} evidences", completed);
+        }
+        return completed;
+    }
+
+    private int scanBatch(List<MediaScanTask> batch) {
+        Map<String, CompletableFuture<MediaScanStatus>> scansByKey = new HashMap<>();
+        Map<String, CompletableFuture<OptionalLong>> fingerprintsByKey = new HashMap<>();
+        for (MediaScanTask task : batch) {
+            if (task.hasMedia()) {
+                CompletableFuture<MediaScanStatus> scan = scansByKey.computeIfAbsent(task.getMediaKey(), this::submitScan);
+                if (fingerprintEnabled) {
+                    fingerprintsByKey.computeIfAbsent(task.getMediaKey(), key -> fingerprintIfClean(key, scan));
+                }
+            }
+        }
+
+        Map<MediaScanStatus, List<Long>> outcomes = new EnumMap<>(MediaScanStatus.class);
+        for (MediaScanTask task : batch) {
+            MediaScanStatus verdict = task.hasMedia()
+                ? scansByKey.get(task.getMediaKey()).join()
+                : MediaScanStatus.CLEAN;
+            outcomes.computeIfAbsent(verdict, s -> new ArrayList<>()).add(task.getEvidenceId());
+        }
+
+        Map<Long, Long> hashes = fingerprintsByKey.isEmpty() ? Map.of() : collectFingerprints(batch, fingerprintsByKey);
+
+        LocalDateTime now = LocalDateTime.now();
+        int[] abandoned = new int[1];
+        Integer completed = transactionTemplate.execute(status -> {
+            int updated = 0;
+            for (Map.Entry<MediaScanStatus, List<Long>> outcome : outcomes.entrySet()) {
+                if (outcome.getKey() == MediaScanStatus.PENDING) {
+                    abandoned[0] = scanRepository.retryLater(outcome.getValue(), now, maxAttempts,
+                        retryBackoffSeconds, retryBackoffMaxSeconds);
+                    updated += abandoned[0];
+                } else {
+                    updated += scanRepository.complete(outcome.getKey(), outcome.getValue());
+                }
+            }
+            matchEvidenceMedia.execute(hashes);
+            return updated;
+        });
+
+        cleanCounter.increment(outcomes.getOrDefault(MediaScanStatus.CLEAN, List.of()).size());
+        infectedCounter.increment(outcomes.getOrDefault(MediaScanStatus.INFECTED, List.of()).size());
+        failedCounter.increment(outcomes.getOrDefault(MediaScanStatus.PENDING, List.of()).size());
+        abandonedCounter.increment(abandoned[0]);
+        if (abandoned[0] > 0) {
+            logger.warn("Media scan gave up on {} evidences after {} attempts", abandoned[0], maxAttempts);
+        }
+        if (outcomes.containsKey(MediaScanStatus.INFECTED)) {
+            logger.warn("Media scan flagged evidences {} as infected", outcomes.get(MediaScanStatus.INFECTED));
+        }
+        return completed != null ? completed : 0;
+    }
+
+    private Map<Long, Long> collectFingerprints(List<MediaScanTask> batch,
+                                                Map<String, CompletableFuture<OptionalLong>> fingerprintsByKey) {
+        Map<Long, Long> hashes = new HashMap<>();
+        for (MediaScanTask task : batch) {
+            CompletableFuture<OptionalLong> fingerprint = task.hasMedia() ? fingerprintsByKey.get(task.getMediaKey()) : null;
+            if (fingerprint != null) {
+                fingerprint.join().ifPresent(hash -> hashes.put(task.getEvidenceId(), hash));
+            }
+        }
+        return hashes;
+    }
+
+    private CompletableFuture<OptionalLong> fingerprintIfClean(String mediaKey, CompletableFuture<MediaScanStatus> scan) {
+        return scan.thenApplyAsync(verdict -> {
+            if (verdict != MediaScanStatus.CLEAN) {
+                return OptionalLong.empty();
+            }
+            try {
+                return fingerprinter.fingerprint(mediaKey);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Media fingerprint failed for {}: {}", mediaKey, e.getMessage());
+                return OptionalLong.empty();
+            }
+        }, workers);
+    }
+
+    private CompletableFuture<MediaScanStatus> submitScan(String mediaKey) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return scanner.scan(mediaKey);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Media scan failed for {}: {}", mediaKey, e.getMessage());
+                return MediaScanStatus.PENDING;
+            }
+        }, workers);
+    }
+
+    private static Counter scanCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("impulse.media.scan.completed")
+            .description("Evidence media scans by outcome")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+}
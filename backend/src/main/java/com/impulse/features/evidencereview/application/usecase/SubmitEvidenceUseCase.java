@@ -5,7 +5,9 @@
 import com.impulse.features.evidencereview.application.port.in.SubmitEvidencePort;
 import com.impulse.features.evidencereview.application.port.out.EvidenceRepository;
 import com.impulse.features.evidencereview.domain.Evidence;
+import com.impulse.features.challenge.application.port.in.RecordChallengeCountersPort;
 import com.impulse.features.challenge.application.port.out.ChallengeRepository;
+import com.impulse.features.challenge.domain.ChallengeCounterDelta;
 import com.impulse.features.challenge.domain.ChallengeId;
 import com.impulse.shared.error.DomainException;
 import com.impulse.shared.error.ValidationException;
@@ -13,6 +15,7 @@
 import com.impulse.shared.enums.EvidenceType;
 import com.impulse.shared.utils.IdempotencyKey;
 import com.impulse.infrastructure.services.IdempotencyService;
+import com.impulse.infrastructure.services.StorageService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,13 +31,19 @@ public class SubmitEvidenceUseCase implements SubmitEvidencePort {
     private final EvidenceRepository evidenceRepository;
     private final ChallengeRepository challengeRepository;
     private final IdempotencyService idempotencyService;
+    private final RecordChallengeCountersPort recordChallengeCounters;
+    private final StorageService storageService;
 
     public SubmitEvidenceUseCase(EvidenceRepository evidenceRepository,
                                 ChallengeRepository challengeRepository,
-                                IdempotencyService idempotencyService) {
+                                IdempotencyService idempotencyService,
+                                RecordChallengeCountersPort recordChallengeCounters,
+                                StorageService storageService) {
         this.evidenceRepository = evidenceRepository;
         this.challengeRepository = challengeRepository;
         this.idempotencyService = idempotencyService;
+        this.recordChallengeCounters = recordChallengeCounters;
+        this.storageService = storageService;
     }
 
     @Override
@@ -59,6 +68,12 @@ public EvidenceResponse execute(SubmitEvidenceCommand command, IdempotencyKey id
             throw new DomainException("Evidence can only be submitted to open challenges");
         }
 
+        // An uploaded blob only stays referenced once an evidence claims it
+        if (command.getMediaKey() != null
+            && !storageService.claimUpload(command.getParticipantUserId(), command.getMediaKey())) {
+            throw new ValidationException("mediaKey", "No unclaimed upload of this media");
+        }
+
         try {
             // Create evidence domain entity
             Evidence evidence = Evidence.submit(
@@ -72,6 +87,9 @@ public EvidenceResponse execute(SubmitEvidenceCommand command, IdempotencyKey id
             // Persist evidence
             Evidence savedEvidence = evidenceRepository.save(evidence);
 
+            // Update challenge card counters (applied once this transaction commits)
+            recordChallengeCounters.record(command.getChallengeId(), ChallengeCounterDelta.evidenceSubmitted());
+
             // Convert to response
             EvidenceResponse response = toResponse(savedEvidence);
 
@@ -136,7 +154,8 @@ private EvidenceResponse toResponse(Evidence evidence) {
             evidence.getReviewComments(),
             evidence.getReviewedAt(),
             evidence.getSubmittedAt(),
-            evidence.getUpdatedAt()
+            evidence.getUpdatedAt(),
+            evidence.isDemo()
         );
     }
 }
@@ -0,0 +1,102 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.features.evidencereview.application.dto.UploadChunkCommand;
+import com.impulse.features.evidencereview.application.dto.UploadSessionResponse;
+import com.impulse.features.evidencereview.application.port.in.UploadChunkPort;
+import com.impulse.features.evidencereview.application.port.out.UploadSessionRepository;
+import com.impulse.features.evidencereview.domain.UploadSession;
+import com.impulse.infrastructure.services.StorageService;
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ErrorCodes;
+import com.impulse.shared.error.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+/**
+ * Use Case: UploadChunkUseCase
+ * Writes one chunk at its offset in the preallocated staging file, then records it.
+ * The session row stays locked from before the write until the bitmap update commits, so a
+ * finalize can never hash or place the file while a chunk is still being written, and each
+ * chunk index is written once: once finalize has hashed the bytes they cannot change under it.
+ * Chunks of one session are therefore written one at a time; different sessions run in parallel.
+ */
+@Service
+public class UploadChunkUseCase implements UploadChunkPort {
+
+    private final UploadSessionRepository sessionRepository;
+    private final StorageService storageService;
+    private final TransactionTemplate transactionTemplate;
+    private final long sessionTtlSeconds;
+
+    public UploadChunkUseCase(UploadSessionRepository sessionRepository,
+                              StorageService storageService,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${impulse.storage.resumable.session-ttl-seconds:86400}") long sessionTtlSeconds) {
+        this.sessionRepository = sessionRepository;
+        this.storageService = storageService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sessionTtlSeconds = sessionTtlSeconds;
+    }
+
+    @Override
+    public UploadSessionResponse execute(UploadChunkCommand command) {
+        validateCommand(command);
+
+        UploadSession updated = transactionTemplate.execute(status -> {
+            // A finalize deletes the row under the same lock, so a finalized session is simply not found
+            UploadSession locked = lockLiveSession(command.getSessionId(), command.getUploaderUserId());
+            int chunkIndex = command.getChunkIndex();
+            long length = locked.lengthOf(chunkIndex);
+            if (command.getDeclaredLength() >= 0 && command.getDeclaredLength() != length) {
+                throw new DomainException("Chunk " + chunkIndex + " must be exactly " + length + " bytes",
+                    ErrorCodes.VALIDATION_ERROR);
+            }
+            if (locked.isReceived(chunkIndex)) {
+                throw new DomainException("Chunk " + chunkIndex + " was already received", ErrorCodes.CONFLICT);
+            }
+
+            try {
+                storageService.writeChunk(locked.getId(), locked.offsetOf(chunkIndex), length, command.getBody());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write upload chunk", e);
+            }
+
+            locked.markReceived(chunkIndex, LocalDateTime.now().plusSeconds(sessionTtlSeconds));
+            sessionRepository.updateProgress(locked);
+            return locked;
+        });
+        return UploadSessionMapper.toResponse(updated);
+    }
+
+    private UploadSession lockLiveSession(String sessionId, Long uploaderUserId) {
+        UploadSession session = sessionRepository.lockById(sessionId)
+            .filter(s -> !s.isExpired(LocalDateTime.now()))
+            .orElseThrow(() -> new DomainException("Upload session not found", ErrorCodes.NOT_FOUND));
+        session.assertOwnedBy(uploaderUserId);
+        return session;
+    }
+
+    private void validateCommand(UploadChunkCommand command) {
+        if (command == null) {
+            throw new ValidationException("UploadChunkCommand cannot be null");
+        }
+
+        if (command.getUploaderUserId() == null || command.getUploaderUserId() <= 0) {
+            throw new ValidationException("Valid uploader user ID is required");
+        }
+
+        if (command.getSessionId() == null || command.getSessionId().isBlank()) {
+            throw new ValidationException("Upload session ID is required");
+        }
+
+        if (command.getBody() == null) {
+            throw new ValidationException("Chunk body is required");
+        }
+    }
+}
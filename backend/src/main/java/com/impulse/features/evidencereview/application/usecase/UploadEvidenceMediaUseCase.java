@@ -0,0 +1,116 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.features.evidencereview.application.dto.EvidenceMediaResponse;
+import com.impulse.features.evidencereview.application.dto.UploadEvidenceMediaCommand;
+import com.impulse.features.evidencereview.application.port.in.UploadEvidenceMediaPort;
+import com.impulse.infrastructure.services.StorageQuotaService;
+import com.impulse.infrastructure.services.StorageService;
+import com.impulse.infrastructure.storage.DerivativeCache;
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ErrorCodes;
+import com.impulse.shared.error.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Use Case: UploadEvidenceMediaUseCase
+ * Streams evidence media to storage without spooling it through multipart handling.
+ * Not transactional: the blob reference commits on its own and is recorded as pending;
+ * submitting an evidence with the media claims it, otherwise a sweep releases it after a TTL.
+ * Image metadata (EXIF GPS, XMP, comments) is stripped on the way in per §8.
+ */
+@Service
+public class UploadEvidenceMediaUseCase implements UploadEvidenceMediaPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadEvidenceMediaUseCase.class);
+
+    private final StorageService storageService;
+    private final StorageQuotaService quotaService;
+    private final MediaScanBacklog scanBacklog;
+    private final DerivativeCache derivativeCache;
+    private final long maxSizeBytes;
+    private final String[] allowedTypes;
+    private final String[] stripMetadataTypes;
+
+    public UploadEvidenceMediaUseCase(StorageService storageService,
+                                      StorageQuotaService quotaService,
+                                      MediaScanBacklog scanBacklog,
+                                      DerivativeCache derivativeCache,
+                                      @Value("${impulse.storage.evidence.max-size-bytes:104857600}") long maxSizeBytes,
+                                      @Value("${impulse.storage.evidence.allowed-types:jpg,jpeg,png,webp,mp4,mov}") String[] allowedTypes,
+                                      @Value("${impulse.storage.evidence.strip-metadata-types:jpg,jpeg,png,webp}") String[] stripMetadataTypes) {
+        this.storageService = storageService;
+        this.quotaService = quotaService;
+        this.scanBacklog = scanBacklog;
+        this.derivativeCache = derivativeCache;
+        this.maxSizeBytes = maxSizeBytes;
+        this.allowedTypes = allowedTypes;
+        this.stripMetadataTypes = stripMetadataTypes;
+    }
+
+    @Override
+    public EvidenceMediaResponse execute(UploadEvidenceMediaCommand command) {
+        validateCommand(command);
+        // Every stored file queues a scan; stop accepting work the scanner cannot keep up with
+        scanBacklog.assertAcceptingUploads();
+
+        // Charge the announced size before reading a byte; without Content-Length only an
+        // exhausted quota is rejected and the actual size is charged afterwards
+        long reserved = Math.max(command.getDeclaredLength(), 0L);
+        quotaService.reserve(command.getUploaderUserId(), reserved);
+
+        StorageService.StoredFile stored;
+        try {
+            boolean stripMetadata = storageService.isValidFileType(command.getFileName(), stripMetadataTypes);
+            stored = storageService.storeStream(
+                command.getBody(), command.getExpectedSha256(), maxSizeBytes, stripMetadata);
+            storageService.holdUntilClaimed(command.getUploaderUserId(), stored);
+            if (stripMetadata) {
+                // Render previews off the request thread so the first review page load finds them
+                derivativeCache.warmAsync(stored.getSha256());
+            }
+        } catch (IOException e) {
+            quotaService.adjust(command.getUploaderUserId(), -reserved);
+            throw new UncheckedIOException("Failed to store evidence media", e);
+        } catch (RuntimeException e) {
+            quotaService.adjust(command.getUploaderUserId(), -reserved);
+            throw e;
+        }
+        quotaService.adjust(command.getUploaderUserId(), stored.getSizeBytes() - reserved);
+
+        logger.debug("Stored evidence media {} ({} bytes) for user {}",
+            stored.getPath(), stored.getSizeBytes(), command.getUploaderUserId());
+        return new EvidenceMediaResponse(stored.getPath(), command.getContentType(),
+            stored.getSizeBytes(), stored.getSha256());
+    }
+
+    private void validateCommand(UploadEvidenceMediaCommand command) {
+        if (command == null) {
+            throw new ValidationException("UploadEvidenceMediaCommand cannot be null");
+        }
+
+        if (command.getUploaderUserId() == null || command.getUploaderUserId() <= 0) {
+            throw new ValidationException("Valid uploader user ID is required");
+        }
+
+        if (command.getBody() == null) {
+            throw new ValidationException("Upload body is required");
+        }
+
+        if (command.getFileName() == null || !command.getFileName().contains(".")
+            || !storageService.isValidFileType(command.getFileName(), allowedTypes)) {
+            throw new DomainException("File type not allowed", ErrorCodes.STORAGE_INVALID_TYPE);
+        }
+
+        // Reject before reading a byte when the client announces an oversized body
+        if (command.getDeclaredLength() >= 0 && !storageService.isValidFileSize(command.getDeclaredLength(), maxSizeBytes)) {
+            throw new DomainException("File exceeds maximum size of " + maxSizeBytes + " bytes",
+                ErrorCodes.STORAGE_FILE_TOO_LARGE);
+        }
+    }
+}
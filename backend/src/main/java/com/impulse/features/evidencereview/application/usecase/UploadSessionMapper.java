@@ -0,0 +1,22 @@
+package com.impulse.features.evidencereview.application.usecase;
+
+import com.impulse.features.evidencereview.application.dto.UploadSessionResponse;
+import com.impulse.features.evidencereview.domain.UploadSession;
+
+/**
+ * Shared conversion of upload sessions into progress responses
+ */
+final class UploadSessionMapper {
+
+    private UploadSessionMapper() {}
+
+    static UploadSessionResponse toResponse(UploadSession session) {
+        return new UploadSessionResponse(
+            session.getId(),
+            session.getTotalBytes(),
+            session.getChunkBytes(),
+            session.getChunkCount(),
+            session.getMissingChunks(),
+            session.getExpiresAt());
+    }
+}
@@ -77,7 +77,8 @@ public static Evidence submit(Long challengeId, Long participantUserId,
             type,
             content,
             metadata,
-            LocalDateTime.now()
+            LocalDateTime.now(),
+            false
         );
     }
 
@@ -0,0 +1,43 @@
+package com.impulse.features.evidencereview.domain;
+
+import com.impulse.shared.enums.EvidenceStatus;
+import com.impulse.shared.error.DomainException;
+import java.util.Objects;
+
+/**
+ * Value Object: EvidenceDecision
+ * A reviewer's verdict on one evidence; enforces the same rules as
+ * chk_ev_reject_reason so the database never rejects a validated decision
+ */
+public final class EvidenceDecision {
+    private static final int MAX_REASON_LENGTH = 500;
+
+    private final Long evidenceId;
+    private final EvidenceStatus decision;
+    private final String reason;
+
+    private EvidenceDecision(Long evidenceId, EvidenceStatus decision, String reason) {
+        this.evidenceId = evidenceId;
+        this.decision = decision;
+        this.reason = reason;
+    }
+
+    public static EvidenceDecision of(Long evidenceId, EvidenceStatus decision, String reason) {
+        Objects.requireNonNull(evidenceId, "Evidence ID cannot be null");
+        if (decision != EvidenceStatus.APPROVED && decision != EvidenceStatus.REJECTED) {
+            throw new DomainException("Decision must be APPROVED or REJECTED");
+        }
+        String trimmed = reason == null || reason.trim().isEmpty() ? null : reason.trim();
+        if (decision == EvidenceStatus.REJECTED && trimmed == null) {
+            throw new DomainException("Comments are required when rejecting evidence");
+        }
+        if (trimmed != null && trimmed.length() > MAX_REASON_LENGTH) {
+            throw new DomainException("Decision reason cannot exceed " + MAX_REASON_LENGTH + " characters");
+        }
+        return new EvidenceDecision(evidenceId, decision, trimmed);
+    }
+
+    public Long getEvidenceId() { return evidenceId; }
+    public EvidenceStatus getDecision() { return decision; }
+    public String getReason() { return reason; }
+}
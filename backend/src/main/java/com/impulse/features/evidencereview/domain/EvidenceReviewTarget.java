@@ -0,0 +1,77 @@
+package com.impulse.features.evidencereview.domain;
+
+import com.impulse.shared.enums.EvidenceStatus;
+import com.impulse.shared.enums.MediaScanStatus;
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ErrorCodes;
+import java.time.LocalDateTime;
+
+/**
+ * Read model: EvidenceReviewTarget
+ * The columns of an evidence row that a decision depends on
+ */
+public final class EvidenceReviewTarget {
+    private final Long evidenceId;
+    private final Long challengeId;
+    private final Long participationId;
+    private final Long participantUserId;
+    private final String text;
+    private final EvidenceStatus status;
+    private final MediaScanStatus mediaScanStatus;
+    private final Long leaseOwner;
+    private final LocalDateTime leaseExpiresAt;
+    private final LocalDateTime submittedAt;
+    private final boolean isDemo;
+
+    public EvidenceReviewTarget(Long evidenceId, Long challengeId, Long participationId, Long participantUserId,
+                                String text, EvidenceStatus status, MediaScanStatus mediaScanStatus, Long leaseOwner,
+                                LocalDateTime leaseExpiresAt, LocalDateTime submittedAt, boolean isDemo) {
+        this.evidenceId = evidenceId;
+        this.challengeId = challengeId;
+        this.participationId = participationId;
+        this.participantUserId = participantUserId;
+        this.text = text;
+        this.status = status;
+        this.mediaScanStatus = mediaScanStatus;
+        this.leaseOwner = leaseOwner;
+        this.leaseExpiresAt = leaseExpiresAt;
+        this.submittedAt = submittedAt;
+        this.isDemo = isDemo;
+    }
+
+    /**
+     * Same rules as Evidence.approve/reject, plus: media must have scanned CLEAN, and a live
+     * lease held by someone else blocks the decision.
+     */
+    public void assertDecidableBy(Long reviewerUserId, LocalDateTime now) {
+        if (status != EvidenceStatus.PENDING) {
+            throw new DomainException("Evidence can only be decided from PENDING status", ErrorCodes.EVIDENCE_INVALID_STATUS);
+        }
+        if (mediaScanStatus != MediaScanStatus.CLEAN) {
+            throw new DomainException("Evidence media has not been cleared by the scanner", ErrorCodes.EVIDENCE_INVALID_STATUS);
+        }
+        if (reviewerUserId.equals(participantUserId)) {
+            throw new DomainException("Participants cannot review their own evidence", ErrorCodes.EVIDENCE_REVIEW_FORBIDDEN);
+        }
+        if (isLeasedToOther(reviewerUserId, now)) {
+            throw new DomainException("Evidence is being reviewed by another validator", ErrorCodes.EVIDENCE_LEASED);
+        }
+    }
+
+    public boolean isLeasedToOther(Long reviewerUserId, LocalDateTime now) {
+        return leaseOwner != null && !leaseOwner.equals(reviewerUserId)
+            && leaseExpiresAt != null && leaseExpiresAt.isAfter(now);
+    }
+
+    public Long getEvidenceId() { return evidenceId; }
+    public Long getChallengeId() { return challengeId; }
+    public Long getParticipationId() { return participationId; }
+    public Long getParticipantUserId() { return participantUserId; }
+    public String getText() { return text; }
+    public EvidenceStatus getStatus() { return status; }
+    public MediaScanStatus getMediaScanStatus() { return mediaScanStatus; }
+    public Long getLeaseOwner() { return leaseOwner; }
+    public LocalDateTime getLeaseExpiresAt() { return leaseExpiresAt; }
+    public LocalDateTime getSubmittedAt() { return submittedAt; }
+    public boolean isDemo() { return isDemo; }
+}
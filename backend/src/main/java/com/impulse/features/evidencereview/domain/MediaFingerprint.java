@@ -0,0 +1,36 @@
+package com.impulse.features.evidencereview.domain;
+
+import com.impulse.shared.enums.ReportReason;
+
+/**
+ * Perceptual hash of one evidence's image media.
+ * A banned fingerprint marks removed media: near-duplicates uploaded later are
+ * reported on behalf of the moderator who banned it, for the same reason.
+ */
+public class MediaFingerprint {
+
+    private final Long id;
+    private final Long evidenceId;
+    private final long hash;
+    private final ReportReason bannedReason;
+    private final Long bannedByUserId;
+
+    public MediaFingerprint(Long id, Long evidenceId, long hash, ReportReason bannedReason, Long bannedByUserId) {
+        this.id = id;
+        this.evidenceId = evidenceId;
+        this.hash = hash;
+        this.bannedReason = bannedReason;
+        this.bannedByUserId = bannedByUserId;
+    }
+
+    public boolean isBanned() {
+        return bannedReason != null;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public Long getEvidenceId() { return evidenceId; }
+    public long getHash() { return hash; }
+    public ReportReason getBannedReason() { return bannedReason; }
+    public Long getBannedByUserId() { return bannedByUserId; }
+}
@@ -0,0 +1,24 @@
+package com.impulse.features.evidencereview.domain;
+
+/**
+ * Evidence media claimed by a scanner worker.
+ * mediaKey is null for text-only evidence, which has nothing to scan.
+ */
+public class MediaScanTask {
+
+    private final Long evidenceId;
+    private final String mediaKey;
+
+    public MediaScanTask(Long evidenceId, String mediaKey) {
+        this.evidenceId = evidenceId;
+        this.mediaKey = mediaKey;
+    }
+
+    public boolean hasMedia() {
+        return mediaKey != null && !mediaKey.isBlank();
+    }
+
+    // Getters
+    public Long getEvidenceId() { return evidenceId; }
+    public String getMediaKey() { return mediaKey; }
+}
@@ -0,0 +1,40 @@
+package com.impulse.features.evidencereview.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model: ReviewQueueItem
+ * Pending evidence currently leased to a validator
+ */
+public final class ReviewQueueItem {
+    private final Long evidenceId;
+    private final Long challengeId;
+    private final Long participationId;
+    private final String text;
+    private final String mediaKey;
+    private final String mediaMime;
+    private final LocalDateTime submittedAt;
+    private final LocalDateTime leaseExpiresAt;
+
+    public ReviewQueueItem(Long evidenceId, Long challengeId, Long participationId, String text,
+                           String mediaKey, String mediaMime, LocalDateTime submittedAt,
+                           LocalDateTime leaseExpiresAt) {
+        this.evidenceId = evidenceId;
+        this.challengeId = challengeId;
+        this.participationId = participationId;
+        this.text = text;
+        this.mediaKey = mediaKey;
+        this.mediaMime = mediaMime;
+        this.submittedAt = submittedAt;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public Long getEvidenceId() { return evidenceId; }
+    public Long getChallengeId() { return challengeId; }
+    public Long getParticipationId() { return participationId; }
+    public String getText() { return text; }
+    public String getMediaKey() { return mediaKey; }
+    public String getMediaMime() { return mediaMime; }
+    public LocalDateTime getSubmittedAt() { return submittedAt; }
+    public LocalDateTime getLeaseExpiresAt() { return leaseExpiresAt; }
+}
@@ -0,0 +1,118 @@
+package com.impulse.features.evidencereview.domain;
+
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ErrorCodes;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Entity: UploadSession
+ * A resumable upload split into fixed-size chunks; only the last chunk may be shorter.
+ * Tracks which chunks have been written so clients can resume after a dropped connection
+ * and re-send only what is missing.
+ */
+public class UploadSession {
+    /** received_chunks is VARBINARY(1024) */
+    public static final int MAX_CHUNKS = 1024 * 8;
+
+    private final String id;
+    private final Long userId;
+    private final String fileName;
+    private final String contentType;
+    private final long totalBytes;
+    private final int chunkBytes;
+    private final BitSet receivedChunks;
+    private LocalDateTime expiresAt;
+
+    public UploadSession(String id, Long userId, String fileName, String contentType, long totalBytes,
+                         int chunkBytes, BitSet receivedChunks, LocalDateTime expiresAt) {
+        this.id = id;
+        this.userId = userId;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.totalBytes = totalBytes;
+        this.chunkBytes = chunkBytes;
+        this.receivedChunks = receivedChunks;
+        this.expiresAt = expiresAt;
+    }
+
+    public static UploadSession open(Long userId, String fileName, String contentType, long totalBytes,
+                                     int chunkBytes, LocalDateTime expiresAt) {
+        if (totalBytes <= 0) {
+            throw new DomainException("Upload size must be positive", ErrorCodes.VALIDATION_ERROR);
+        }
+        long chunks = (totalBytes + chunkBytes - 1) / chunkBytes;
+        if (chunks > MAX_CHUNKS) {
+            throw new DomainException("Upload needs more than " + MAX_CHUNKS + " chunks",
+                ErrorCodes.STORAGE_FILE_TOO_LARGE);
+        }
+        return new UploadSession(UUID.randomUUID().toString(), userId, fileName, contentType, totalBytes,
+            chunkBytes, new BitSet((int) chunks), expiresAt);
+    }
+
+    public int getChunkCount() {
+        return (int) ((totalBytes + chunkBytes - 1) / chunkBytes);
+    }
+
+    public long offsetOf(int chunkIndex) {
+        assertValidChunk(chunkIndex);
+        return (long) chunkIndex * chunkBytes;
+    }
+
+    public long lengthOf(int chunkIndex) {
+        assertValidChunk(chunkIndex);
+        return Math.min(chunkBytes, totalBytes - offsetOf(chunkIndex));
+    }
+
+    public boolean isReceived(int chunkIndex) {
+        assertValidChunk(chunkIndex);
+        return receivedChunks.get(chunkIndex);
+    }
+
+    public void markReceived(int chunkIndex, LocalDateTime newExpiry) {
+        assertValidChunk(chunkIndex);
+        receivedChunks.set(chunkIndex);
+        expiresAt = newExpiry;
+    }
+
+    public boolean isComplete() {
+        return receivedChunks.cardinality() == getChunkCount();
+    }
+
+    public List<Integer> getMissingChunks() {
+        List<Integer> missing = new ArrayList<>();
+        for (int i = receivedChunks.nextClearBit(0); i < getChunkCount(); i = receivedChunks.nextClearBit(i + 1)) {
+            missing.add(i);
+        }
+        return missing;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public void assertOwnedBy(Long requesterUserId) {
+        if (!userId.equals(requesterUserId)) {
+            throw new DomainException("Upload session not found", ErrorCodes.NOT_FOUND);
+        }
+    }
+
+    private void assertValidChunk(int chunkIndex) {
+        if (chunkIndex < 0 || chunkIndex >= getChunkCount()) {
+            throw new DomainException("Chunk index out of range", ErrorCodes.VALIDATION_ERROR);
+        }
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public Long getUserId() { return userId; }
+    public String getFileName() { return fileName; }
+    public String getContentType() { return contentType; }
+    public long getTotalBytes() { return totalBytes; }
+    public int getChunkBytes() { return chunkBytes; }
+    public BitSet getReceivedChunks() { return (BitSet) receivedChunks.clone(); }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+}
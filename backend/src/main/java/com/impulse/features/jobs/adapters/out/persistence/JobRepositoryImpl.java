@@ -0,0 +1,150 @@
+package com.impulse.features.jobs.adapters.out.persistence;
+
+import com.impulse.features.jobs.application.port.out.JobRepository;
+import com.impulse.features.jobs.domain.JobCheckpoint;
+import com.impulse.features.jobs.domain.JobDefinition;
+import com.impulse.features.jobs.domain.JobRun;
+import com.impulse.shared.enums.JobMisfirePolicy;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * JDBC implementation of JobRepository port
+ */
+@Repository
+@Transactional
+public class JobRepositoryImpl implements JobRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public JobRepositoryImpl(JdbcTemplate jdbcTemplate,
+                             NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<JobDefinition> findActiveDefinitions() {
+        return jdbcTemplate.query(
+            "SELECT id, name, cron_expr, owner, is_active, misfire_policy FROM job_definitions WHERE is_active = TRUE",
+            (rs, rowNum) -> new JobDefinition(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("cron_expr"),
+                rs.getString("owner"),
+                rs.getBoolean("is_active"),
+                JobMisfirePolicy.valueOf(rs.getString("misfire_policy"))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, LocalDateTime> findLastScheduledFor() {
+        Map<Long, LocalDateTime> last = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT job_definition_id, MAX(scheduled_for) AS last_fire FROM job_runs " +
+            "WHERE scheduled_for IS NOT NULL GROUP BY job_definition_id",
+            rs -> {
+                last.put(rs.getLong("job_definition_id"), rs.getTimestamp("last_fire").toLocalDateTime());
+            });
+        return last;
+    }
+
+    @Override
+    public Optional<JobRun> claim(Long jobDefinitionId, LocalDateTime scheduledFor, String leaseOwner,
+                                  LocalDateTime startedAt, LocalDateTime leaseExpiresAt) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO job_runs (job_definition_id, scheduled_for, status, lease_owner, lease_expires_at, started_at) " +
+                    "VALUES (?, ?, 'RUNNING', ?, ?, ?)", Statement.RETURN_GENERATED_KEYS);
+                statement.setLong(1, jobDefinitionId);
+                statement.setTimestamp(2, Timestamp.valueOf(scheduledFor));
+                statement.setString(3, leaseOwner);
+                statement.setTimestamp(4, Timestamp.valueOf(leaseExpiresAt));
+                statement.setTimestamp(5, Timestamp.valueOf(startedAt));
+                return statement;
+            }, keys);
+        } catch (DuplicateKeyException e) {
+            // Another node inserted this fire first
+            return Optional.empty();
+        }
+        return Optional.of(JobRun.claimed(keys.getKey().longValue(), jobDefinitionId, scheduledFor, startedAt));
+    }
+
+    @Override
+    public void renewLeases(String leaseOwner, Collection<Long> runIds, LocalDateTime leaseExpiresAt) {
+        if (runIds.isEmpty()) {
+            return;
+        }
+        namedJdbcTemplate.update(
+            "UPDATE job_runs SET lease_expires_at = :expiresAt " +
+            "WHERE id IN (:ids) AND lease_owner = :owner AND status = 'RUNNING'",
+            new MapSqlParameterSource()
+                .addValue("expiresAt", Timestamp.valueOf(leaseExpiresAt))
+                .addValue("ids", runIds)
+                .addValue("owner", leaseOwner));
+    }
+
+    @Override
+    public void complete(JobRun run) {
+        jdbcTemplate.update(
+            "UPDATE job_runs SET status = ?, finished_at = ?, duration_ms = ?, error_message = ?, lease_expires_at = NULL " +
+            "WHERE id = ? AND status = 'RUNNING'",
+            run.getStatus().name(), Timestamp.valueOf(run.getFinishedAt()), run.getDurationMillis(),
+            run.getErrorMessage(), run.getId());
+    }
+
+    @Override
+    public int failExpiredLeases(LocalDateTime now) {
+        return jdbcTemplate.update(
+            "UPDATE job_runs SET status = 'FAILED', finished_at = ?, lease_expires_at = NULL, " +
+            "error_message = CONCAT('Lease expired on ', lease_owner) " +
+            "WHERE status = 'RUNNING' AND lease_expires_at < ?",
+            Timestamp.valueOf(now), Timestamp.valueOf(now));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<JobCheckpoint> findResumeCheckpoint(Long jobDefinitionId, Long currentRunId) {
+        return jdbcTemplate.query(
+            "SELECT status, JSON_UNQUOTE(JSON_EXTRACT(result, '$.checkpoint')) AS checkpoint, " +
+            "JSON_EXTRACT(result, '$.processed') AS processed, JSON_EXTRACT(result, '$.chunks') AS chunks " +
+            "FROM job_runs WHERE job_definition_id = ? AND id < ? ORDER BY id DESC LIMIT 1",
+            (rs, rowNum) -> {
+                String checkpoint = rs.getString("checkpoint");
+                if (!"FAILED".equals(rs.getString("status")) || checkpoint == null || "null".equals(checkpoint)) {
+                    return null;
+                }
+                return new JobCheckpoint(checkpoint, rs.getLong("processed"), rs.getInt("chunks"));
+            },
+            jobDefinitionId, currentRunId).stream().filter(Objects::nonNull).findFirst();
+    }
+
+    @Override
+    public boolean saveCheckpoint(Long runId, JobCheckpoint checkpoint) {
+        return jdbcTemplate.update(
+            "UPDATE job_runs SET result = JSON_OBJECT('checkpoint', ?, 'processed', ?, 'chunks', ?) " +
+            "WHERE id = ? AND status = 'RUNNING'",
+            checkpoint.getLastKey(), checkpoint.getProcessed(), checkpoint.getChunks(), runId) == 1;
+    }
+}
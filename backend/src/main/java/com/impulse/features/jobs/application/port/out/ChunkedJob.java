@@ -0,0 +1,42 @@
+package com.impulse.features.jobs.application.port.out;
+
+import java.util.List;
+
+/**
+ * Output Port: ChunkedJob
+ * Long-running job split into key-ordered chunks: read after the last key, process
+ * each item, write the chunk. The key of the last item read is checkpointed after every
+ * write, so a run that dies resumes where it stopped instead of from zero.
+ * A chunk may be written twice after a crash, so write must be idempotent.
+ *
+ * @param <I> item read
+ * @param <O> item written
+ */
+public interface ChunkedJob<I, O> {
+
+    /**
+     * Matches job_definitions.name
+     */
+    String jobName();
+
+    /**
+     * Called once per run before the first chunk, fresh or resumed
+     */
+    default void open() {
+    }
+
+    /**
+     * @param afterKey key of the last item already handled, null on a fresh run
+     * @return up to limit items in key order; fewer than limit ends the run
+     */
+    List<I> read(String afterKey, int limit);
+
+    String keyOf(I item);
+
+    /**
+     * @return item to write, or null to skip it
+     */
+    O process(I item);
+
+    void write(List<O> items);
+}
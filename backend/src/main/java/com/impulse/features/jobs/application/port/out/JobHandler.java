@@ -0,0 +1,18 @@
+package com.impulse.features.jobs.application.port.out;
+
+import java.time.LocalDateTime;
+
+/**
+ * Output Port: JobHandler
+ * Work behind a job definition, contributed by the owning feature as a bean.
+ * The cluster scheduler calls it on exactly one node per fire.
+ */
+public interface JobHandler {
+
+    /**
+     * Matches job_definitions.name
+     */
+    String jobName();
+
+    void run(LocalDateTime scheduledFor);
+}
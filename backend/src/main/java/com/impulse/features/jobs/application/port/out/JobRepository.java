@@ -0,0 +1,50 @@
+package com.impulse.features.jobs.application.port.out;
+
+import com.impulse.features.jobs.domain.JobCheckpoint;
+import com.impulse.features.jobs.domain.JobDefinition;
+import com.impulse.features.jobs.domain.JobRun;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Output Port: JobRepository
+ */
+public interface JobRepository {
+
+    List<JobDefinition> findActiveDefinitions();
+
+    /**
+     * Latest scheduled fire recorded per definition id
+     */
+    Map<Long, LocalDateTime> findLastScheduledFor();
+
+    /**
+     * Inserts the run row of one fire; empty when another node already claimed it
+     */
+    Optional<JobRun> claim(Long jobDefinitionId, LocalDateTime scheduledFor, String leaseOwner,
+                           LocalDateTime startedAt, LocalDateTime leaseExpiresAt);
+
+    void renewLeases(String leaseOwner, Collection<Long> runIds, LocalDateTime leaseExpiresAt);
+
+    void complete(JobRun run);
+
+    /**
+     * Fails RUNNING rows whose owner stopped renewing the lease
+     * @return number of runs failed
+     */
+    int failExpiredLeases(LocalDateTime now);
+
+    /**
+     * Checkpoint of the latest earlier run of the definition if that run failed midway
+     */
+    Optional<JobCheckpoint> findResumeCheckpoint(Long jobDefinitionId, Long currentRunId);
+
+    /**
+     * @return false when the run is no longer RUNNING (lease lost), so the caller must stop
+     */
+    boolean saveCheckpoint(Long runId, JobCheckpoint checkpoint);
+}
@@ -0,0 +1,111 @@
+package com.impulse.features.jobs.application.usecase;
+
+import com.impulse.features.jobs.application.port.out.ChunkedJob;
+import com.impulse.features.jobs.application.port.out.JobRepository;
+import com.impulse.features.jobs.domain.JobCheckpoint;
+import com.impulse.features.jobs.domain.JobRun;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Use Case: ChunkedJobExecutor
+ * Drives a ChunkedJob for one claimed run: read, process and write chunk by chunk,
+ * checkpointing the last key into job_runs.result after each write. A run following a
+ * failed one resumes from that run's checkpoint. Chunk size and the pause between
+ * chunks are tunable per job (impulse.jobs.chunk.&lt;job-name&gt;.size / .throttle-ms)
+ * so background passes leave room for request traffic.
+ */
+@Service
+public class ChunkedJobExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedJobExecutor.class);
+
+    private final JobRepository jobRepository;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final int defaultChunkSize;
+    private final long defaultThrottleMillis;
+
+    public ChunkedJobExecutor(JobRepository jobRepository,
+                              MeterRegistry meterRegistry,
+                              Environment environment,
+                              @Value("${impulse.jobs.chunk.default-size:1000}") int defaultChunkSize,
+                              @Value("${impulse.jobs.chunk.default-throttle-ms:50}") long defaultThrottleMillis) {
+        this.jobRepository = jobRepository;
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+        this.defaultChunkSize = defaultChunkSize;
+        this.defaultThrottleMillis = defaultThrottleMillis;
+    }
+
+    public <I, O> void execute(ChunkedJob<I, O> job, JobRun run) {
+        String name = job.jobName();
+        int chunkSize = Math.max(1, environment.getProperty("impulse.jobs.chunk." + name + ".size", Integer.class, defaultChunkSize));
+        long throttleMillis = environment.getProperty("impulse.jobs.chunk." + name + ".throttle-ms", Long.class, defaultThrottleMillis);
+        Timer chunkTimer = Timer.builder("impulse.jobs.chunk").tag("job", name).register(meterRegistry);
+        Counter items = Counter.builder("impulse.jobs.chunk.items").tag("job", name).register(meterRegistry);
+
+        JobCheckpoint checkpoint = jobRepository.findResumeCheckpoint(run.getJobDefinitionId(), run.getId())
+            .orElse(JobCheckpoint.start());
+        if (!checkpoint.isStart()) {
+            logger.info("Job {} resumes after key {} ({} items done)", name, checkpoint.getLastKey(), checkpoint.getProcessed());
+            // Carry the resume point over so a failure before the first chunk does not lose it
+            saveOrAbort(run, checkpoint);
+        }
+
+        job.open();
+        List<I> chunk;
+        do {
+            long started = System.nanoTime();
+            chunk = job.read(checkpoint.getLastKey(), chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            List<O> output = new ArrayList<>(chunk.size());
+            for (I item : chunk) {
+                O processed = job.process(item);
+                if (processed != null) {
+                    output.add(processed);
+                }
+            }
+            if (!output.isEmpty()) {
+                job.write(output);
+            }
+            checkpoint = checkpoint.advance(job.keyOf(chunk.get(chunk.size() - 1)), chunk.size());
+            saveOrAbort(run, checkpoint);
+            chunkTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            items.increment(chunk.size());
+
+            if (chunk.size() == chunkSize && throttleMillis > 0) {
+                pause(throttleMillis);
+            }
+        } while (chunk.size() == chunkSize);
+
+        logger.info("Job {} finished: items={}, chunks={}", name, checkpoint.getProcessed(), checkpoint.getChunks());
+    }
+
+    private void saveOrAbort(JobRun run, JobCheckpoint checkpoint) {
+        if (!jobRepository.saveCheckpoint(run.getId(), checkpoint)) {
+            throw new IllegalStateException("Job run " + run.getId() + " lost its lease");
+        }
+    }
+
+    private void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted between chunks", e);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.impulse.features.jobs.application.usecase;
+
+import com.impulse.features.jobs.application.port.out.ChunkedJob;
+import com.impulse.features.jobs.application.port.out.JobHandler;
+import com.impulse.features.jobs.application.port.out.JobRepository;
+import com.impulse.features.jobs.domain.JobDefinition;
+import com.impulse.features.jobs.domain.JobRun;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Cluster-wide cron scheduler over job_definitions / job_runs.
+ * Every node parses each cron_expr once and keeps the next fire of every job in a
+ * min-heap; one thread sleeps until the head is due. Fire times are a pure function of
+ * the cron and the previous fire, so all nodes agree on them, and the first node to
+ * insert the (definition, scheduled_for) run row owns that fire: exactly one execution
+ * per fire with no coordinator beyond the database. A node only competes for a fire
+ * while it has a free worker, so load spreads to idle nodes. The owner renews its
+ * lease while running; runs whose lease lapses (node died) are failed by any node.
+ * Missed fires (all nodes down) follow the definition's misfire policy.
+ */
+@Component
+public class ClusterJobScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterJobScheduler.class);
+
+    private static final long IDLE_WAIT_MILLIS = 200;
+
+    private final JobRepository jobRepository;
+    private final Map<String, Consumer<JobRun>> handlers = new HashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final String nodeId;
+    private final Semaphore capacity;
+    private final ExecutorService workers;
+    private final long leaseMillis;
+    private final long refreshMillis;
+    private final int maxCatchUp;
+
+    private final Object monitor = new Object();
+    private final PriorityQueue<Fire> heap = new PriorityQueue<>(Comparator.comparing(Fire::at));
+    private final Map<Long, JobRun> running = new ConcurrentHashMap<>();
+    private final Set<String> warnedWithoutHandler = new HashSet<>();
+
+    private volatile boolean active;
+    private Thread loop;
+
+    public ClusterJobScheduler(JobRepository jobRepository,
+                               List<JobHandler> handlers,
+                               List<ChunkedJob<?, ?>> chunkedJobs,
+                               ChunkedJobExecutor chunkedJobExecutor,
+                               MeterRegistry meterRegistry,
+                               @Value("${impulse.jobs.workers:4}") int workerCount,
+                               @Value("${impulse.jobs.lease-seconds:120}") long leaseSeconds,
+                               @Value("${impulse.jobs.refresh-interval-ms:60000}") long refreshMillis,
+                               @Value("${impulse.jobs.max-catch-up:24}") int maxCatchUp) {
+        this.jobRepository = jobRepository;
+        handlers.forEach(handler -> register(handler.jobName(), run -> handler.run(run.getScheduledFor())));
+        chunkedJobs.forEach(job -> register(job.jobName(), run -> chunkedJobExecutor.execute(job, run)));
+        this.meterRegistry = meterRegistry;
+        this.nodeId = nodeId();
+        this.capacity = new Semaphore(workerCount);
+        this.leaseMillis = TimeUnit.SECONDS.toMillis(leaseSeconds);
+        this.refreshMillis = refreshMillis;
+        this.maxCatchUp = Math.max(1, maxCatchUp);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "job-worker-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private void register(String jobName, Consumer<JobRun> handler) {
+        if (handlers.putIfAbsent(jobName, handler) != null) {
+            throw new IllegalStateException("Duplicate handler for job " + jobName);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        active = true;
+        loop = new Thread(this::loop, "job-scheduler");
+        loop.setDaemon(true);
+        loop.start();
+        logger.info("Cluster job scheduler started as {} with handlers {}", nodeId, handlers.keySet());
+    }
+
+    @PreDestroy
+    void stop() {
+        active = false;
+        if (loop != null) {
+            loop.interrupt();
+        }
+        workers.shutdown();
+    }
+
+    private void loop() {
+        long nextRefresh = 0;
+        long nextHeartbeat = 0;
+        while (active) {
+            try {
+                long nowMillis = System.currentTimeMillis();
+                if (nowMillis >= nextRefresh) {
+                    refresh();
+                    int expired = jobRepository.failExpiredLeases(LocalDateTime.now());
+                    if (expired > 0) {
+                        logger.warn("Failed {} job runs whose lease expired", expired);
+                    }
+                    nextRefresh = nowMillis + refreshMillis;
+                }
+                if (nowMillis >= nextHeartbeat) {
+                    if (!running.isEmpty()) {
+                        jobRepository.renewLeases(nodeId, running.keySet(), LocalDateTime.now().plus(leaseMillis, ChronoUnit.MILLIS));
+                    }
+                    nextHeartbeat = nowMillis + leaseMillis / 3;
+                }
+
+                Fire due;
+                synchronized (monitor) {
+                    Fire head = heap.peek();
+                    LocalDateTime now = LocalDateTime.now();
+                    if (head == null || head.at().isAfter(now)) {
+                        long untilHead = head == null ? Long.MAX_VALUE : ChronoUnit.MILLIS.between(now, head.at()) + 1;
+                        long untilHousekeeping = Math.min(nextRefresh, nextHeartbeat) - System.currentTimeMillis();
+                        monitor.wait(Math.max(1, Math.min(untilHead, untilHousekeeping)));
+                        continue;
+                    }
+                    if (!capacity.tryAcquire()) {
+                        // No free worker: let another node take the fire
+                        monitor.wait(IDLE_WAIT_MILLIS);
+                        continue;
+                    }
+                    due = heap.poll();
+                }
+                fire(due);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("Job scheduler iteration failed: {}", e.getMessage());
+                sleepQuietly();
+            }
+        }
+    }
+
+    private void fire(Fire fire) {
+        LocalDateTime now = LocalDateTime.now();
+        JobDefinition definition = fire.definition();
+        boolean submitted = false;
+        try {
+            var claimed = jobRepository.claim(definition.getId(), fire.at(), nodeId, now,
+                now.plus(leaseMillis, ChronoUnit.MILLIS));
+            if (claimed.isPresent()) {
+                JobRun run = claimed.get();
+                running.put(run.getId(), run);
+                workers.execute(() -> execute(definition, run));
+                submitted = true;
+            }
+        } finally {
+            if (!submitted) {
+                capacity.release();
+            }
+            // Winner or not, every node moves on to the same next fire
+            schedule(new Fire(plan(definition, fire.cron(), fire.at(), LocalDateTime.now()), definition, fire.cron()));
+        }
+    }
+
+    private void execute(JobDefinition definition, JobRun run) {
+        long started = System.nanoTime();
+        try {
+            handlers.get(definition.getName()).accept(run);
+            run.succeed(LocalDateTime.now());
+        } catch (Throwable e) {
+            logger.error("Job {} fire {} failed", definition.getName(), run.getScheduledFor(), e);
+            run.fail(LocalDateTime.now(), e);
+        } finally {
+            running.remove(run.getId());
+            capacity.release();
+            Timer.builder("impulse.jobs.run")
+                .tag("job", definition.getName())
+                .tag("status", run.getStatus().name())
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+        try {
+            jobRepository.complete(run);
+        } catch (RuntimeException e) {
+            // The lease lapses and the run is failed by the expiry sweep
+            logger.warn("Could not record outcome of job run {}: {}", run.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Reloads definitions; unchanged jobs keep their pending fire, new or edited ones are planned
+     */
+    private void refresh() {
+        List<JobDefinition> definitions = jobRepository.findActiveDefinitions();
+        Map<Long, LocalDateTime> lastFires = jobRepository.findLastScheduledFor();
+        LocalDateTime now = LocalDateTime.now();
+
+        synchronized (monitor) {
+            Map<Long, Fire> pending = new HashMap<>();
+            heap.forEach(fire -> pending.put(fire.definition().getId(), fire));
+            heap.clear();
+
+            for (JobDefinition definition : definitions) {
+                if (!handlers.containsKey(definition.getName())) {
+                    if (warnedWithoutHandler.add(definition.getName())) {
+                        logger.warn("No handler bean for job {}, it will not run on this node", definition.getName());
+                    }
+                    continue;
+                }
+                Fire current = pending.get(definition.getId());
+                if (current != null && current.definition().getCronExpr().equals(definition.getCronExpr())
+                    && current.definition().getMisfirePolicy() == definition.getMisfirePolicy()) {
+                    heap.add(new Fire(current.at(), definition, current.cron()));
+                    continue;
+                }
+                CronExpression cron;
+                try {
+                    cron = CronExpression.parse(definition.getSecondsCronExpr());
+                } catch (IllegalArgumentException e) {
+                    logger.error("Invalid cron '{}' for job {}: {}", definition.getCronExpr(), definition.getName(), e.getMessage());
+                    continue;
+                }
+                // A job that never ran starts from now: nothing to catch up
+                LocalDateTime after = lastFires.getOrDefault(definition.getId(), now);
+                LocalDateTime next = plan(definition, cron, after, now);
+                if (next != null) {
+                    heap.add(new Fire(next, definition, cron));
+                }
+            }
+            monitor.notifyAll();
+        }
+    }
+
+    /**
+     * Next fire after the given one; fires already in the past are the misfire policy's call
+     */
+    LocalDateTime plan(JobDefinition definition, CronExpression cron, LocalDateTime after, LocalDateTime now) {
+        LocalDateTime next = cron.next(after);
+        if (next == null || next.isAfter(now)) {
+            return next;
+        }
+        switch (definition.getMisfirePolicy()) {
+            case SKIP:
+                return cron.next(now);
+            case FIRE_ALL: {
+                // Oldest of the last maxCatchUp missed fires; later ones follow in turn
+                Deque<LocalDateTime> window = new ArrayDeque<>(maxCatchUp);
+                for (LocalDateTime missed = next; missed != null && !missed.isAfter(now); missed = cron.next(missed)) {
+                    if (window.size() == maxCatchUp) {
+                        window.removeFirst();
+                    }
+                    window.addLast(missed);
+                }
+                return window.peekFirst();
+            }
+            case FIRE_ONCE:
+            default: {
+                LocalDateTime latest = next;
+                for (LocalDateTime missed = cron.next(next); missed != null && !missed.isAfter(now); missed = cron.next(missed)) {
+                    latest = missed;
+                }
+                return latest;
+            }
+        }
+    }
+
+    private void schedule(Fire fire) {
+        if (fire.at() == null) {
+            return;
+        }
+        synchronized (monitor) {
+            heap.add(fire);
+            monitor.notifyAll();
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String nodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        String id = host + "-" + ProcessHandle.current().pid() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        return id.length() > 100 ? id.substring(id.length() - 100) : id;
+    }
+
+    private record Fire(LocalDateTime at, JobDefinition definition, CronExpression cron) {}
+}
@@ -0,0 +1,39 @@
+package com.impulse.features.jobs.domain;
+
+/**
+ * Value object: JobCheckpoint
+ * Progress of a chunked run, persisted in job_runs.result after every chunk.
+ * lastKey is the key of the last item written; a later run of the same job
+ * resumes strictly after it. A null lastKey means start from the beginning.
+ */
+public final class JobCheckpoint {
+
+    private static final JobCheckpoint START = new JobCheckpoint(null, 0, 0);
+
+    private final String lastKey;
+    private final long processed;
+    private final int chunks;
+
+    public JobCheckpoint(String lastKey, long processed, int chunks) {
+        this.lastKey = lastKey;
+        this.processed = processed;
+        this.chunks = chunks;
+    }
+
+    public static JobCheckpoint start() {
+        return START;
+    }
+
+    public JobCheckpoint advance(String lastKey, int items) {
+        return new JobCheckpoint(lastKey, processed + items, chunks + 1);
+    }
+
+    public boolean isStart() {
+        return lastKey == null;
+    }
+
+    // Getters
+    public String getLastKey() { return lastKey; }
+    public long getProcessed() { return processed; }
+    public int getChunks() { return chunks; }
+}
@@ -0,0 +1,46 @@
+package com.impulse.features.jobs.domain;
+
+import com.impulse.shared.enums.JobMisfirePolicy;
+
+import java.util.Objects;
+
+/**
+ * Domain entity: JobDefinition
+ * A named job with its cron expression and what to do with fires missed while no node
+ * was running: SKIP them, FIRE_ONCE for the latest, or FIRE_ALL in order.
+ */
+public class JobDefinition {
+
+    private final Long id;
+    private final String name;
+    private final String cronExpr;
+    private final String owner;
+    private final boolean active;
+    private final JobMisfirePolicy misfirePolicy;
+
+    public JobDefinition(Long id, String name, String cronExpr, String owner, boolean active,
+                         JobMisfirePolicy misfirePolicy) {
+        this.id = Objects.requireNonNull(id, "Job definition ID cannot be null");
+        this.name = Objects.requireNonNull(name, "Job name cannot be null");
+        this.cronExpr = Objects.requireNonNull(cronExpr, "Cron expression cannot be null");
+        this.owner = owner;
+        this.active = active;
+        this.misfirePolicy = misfirePolicy != null ? misfirePolicy : JobMisfirePolicy.FIRE_ONCE;
+    }
+
+    /**
+     * Cron in the six-field form (with seconds); classic five-field expressions fire at second 0
+     */
+    public String getSecondsCronExpr() {
+        String trimmed = cronExpr.trim();
+        return trimmed.split("\\s+").length == 5 ? "0 " + trimmed : trimmed;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getName() { return name; }
+    public String getCronExpr() { return cronExpr; }
+    public String getOwner() { return owner; }
+    public boolean isActive() { return active; }
+    public JobMisfirePolicy getMisfirePolicy() { return misfirePolicy; }
+}
@@ -1,13 +1,74 @@
 package com.impulse.features.jobs.domain;
 
-import com.impulse.shared.annotations.Generated;
+import com.impulse.shared.enums.JobStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
 
 /**
  * Domain entity: JobRun
- * Background job execution and scheduling rules
+ * Background job execution and scheduling rules.
+ * One run per (definition, scheduled fire); the node that inserts the row holds its
+ * lease and is the only one executing that fire. RUNNING moves to SUCCESS or FAILED once.
  */
-@Generated
 public class JobRun {
-    // TODO: Implement domain logic - job status transitions, error handling
-    // Cron expression validation and execution tracking
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final Long id;
+    private final Long jobDefinitionId;
+    private final LocalDateTime scheduledFor;
+    private final LocalDateTime startedAt;
+    private JobStatus status;
+    private LocalDateTime finishedAt;
+    private String errorMessage;
+
+    private JobRun(Long id, Long jobDefinitionId, LocalDateTime scheduledFor, LocalDateTime startedAt, JobStatus status) {
+        this.id = id;
+        this.jobDefinitionId = jobDefinitionId;
+        this.scheduledFor = scheduledFor;
+        this.startedAt = startedAt;
+        this.status = status;
+    }
+
+    /**
+     * Factory for a freshly claimed fire
+     */
+    public static JobRun claimed(Long id, Long jobDefinitionId, LocalDateTime scheduledFor, LocalDateTime startedAt) {
+        Objects.requireNonNull(id, "Run ID cannot be null");
+        return new JobRun(id, jobDefinitionId, scheduledFor, startedAt, JobStatus.RUNNING);
+    }
+
+    public void succeed(LocalDateTime now) {
+        finish(JobStatus.SUCCESS, now, null);
+    }
+
+    public void fail(LocalDateTime now, Throwable error) {
+        String message = error.getMessage() != null ? error.getClass().getSimpleName() + ": " + error.getMessage()
+            : error.getClass().getSimpleName();
+        finish(JobStatus.FAILED, now, message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+    }
+
+    private void finish(JobStatus outcome, LocalDateTime now, String error) {
+        if (status != JobStatus.RUNNING) {
+            throw new IllegalStateException("Job run " + id + " already finished as " + status);
+        }
+        this.status = outcome;
+        this.finishedAt = now;
+        this.errorMessage = error;
+    }
+
+    public long getDurationMillis() {
+        return finishedAt == null ? 0 : Duration.between(startedAt, finishedAt).toMillis();
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public Long getJobDefinitionId() { return jobDefinitionId; }
+    public LocalDateTime getScheduledFor() { return scheduledFor; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public JobStatus getStatus() { return status; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public String getErrorMessage() { return errorMessage; }
 }
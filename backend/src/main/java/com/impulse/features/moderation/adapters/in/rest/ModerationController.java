@@ -0,0 +1,76 @@
+package com.impulse.features.moderation.adapters.in.rest;
+
+import com.impulse.features.moderation.adapters.in.rest.dto.ReportCaseApiResponse;
+import com.impulse.features.moderation.adapters.in.rest.dto.SubmitReportRequest;
+import com.impulse.features.moderation.adapters.in.rest.mapper.ModerationApiMapper;
+import com.impulse.features.moderation.application.port.in.ClaimReportCasesPort;
+import com.impulse.features.moderation.application.port.in.SubmitReportPort;
+import com.impulse.shared.utils.CorrelationId;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import jakarta.validation.Valid;
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * REST Controller: ModerationController
+ * Report intake for users and the priority-ordered case queue for moderators
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class ModerationController {
+
+    private final SubmitReportPort submitReportPort;
+    private final ClaimReportCasesPort claimReportCasesPort;
+    private final ModerationApiMapper mapper;
+
+    public ModerationController(SubmitReportPort submitReportPort,
+                                ClaimReportCasesPort claimReportCasesPort,
+                                ModerationApiMapper mapper) {
+        this.submitReportPort = submitReportPort;
+        this.claimReportCasesPort = claimReportCasesPort;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Accepted reports are aggregated and stored within the intake window
+     */
+    @PostMapping("/reports")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<Void> submitReport(
+            @Valid @RequestBody SubmitReportRequest request,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            Authentication authentication) {
+
+        // Set correlation ID for tracing
+        CorrelationId.set(correlationId);
+
+        try {
+            submitReportPort.execute(mapper.toCommand(request, getUserId(authentication)));
+            return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+
+    @PostMapping("/moderation/claims")
+    @PreAuthorize("hasAnyRole('MODERATOR','ADMIN')")
+    public ResponseEntity<List<ReportCaseApiResponse>> claim(
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication) {
+        var response = claimReportCasesPort.execute(mapper.toClaimCommand(getUserId(authentication), size));
+        return ResponseEntity.ok(response.stream().map(mapper::toApiResponse).toList());
+    }
+
+    private Long getUserId(Authentication authentication) {
+        Principal principal = authentication;
+        try {
+            return Long.parseLong(principal.getName());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Invalid user ID in authentication: " + principal.getName());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.impulse.features.moderation.adapters.in.rest.dto;
+
+import com.impulse.shared.enums.ModerationResourceType;
+import com.impulse.shared.enums.ReportReason;
+
+import java.time.LocalDateTime;
+
+/**
+ * API DTO: ReportCaseApiResponse
+ * One aggregated report case in the moderator's queue
+ */
+public class ReportCaseApiResponse {
+
+    private Long id;
+    private ModerationResourceType resourceType;
+    private Long resourceId;
+    private ReportReason reason;
+    private String context;
+    private int reportCount;
+    private double priority;
+    private LocalDateTime firstReportedAt;
+    private LocalDateTime lastReportedAt;
+    private LocalDateTime leaseExpiresAt;
+
+    // Constructors
+    public ReportCaseApiResponse() {}
+
+    public ReportCaseApiResponse(Long id, ModerationResourceType resourceType, Long resourceId, ReportReason reason,
+                                 String context, int reportCount, double priority, LocalDateTime firstReportedAt,
+                                 LocalDateTime lastReportedAt, LocalDateTime leaseExpiresAt) {
+        this.id = id;
+        this.resourceType = resourceType;
+        this.resourceId = resourceId;
+        this.reason = reason;
+        this.context = context;
+        this.reportCount = reportCount;
+        this.priority = priority;
+        this.firstReportedAt = firstReportedAt;
+        this.lastReportedAt = lastReportedAt;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public ModerationResourceType getResourceType() { return resourceType; }
+    public void setResourceType(ModerationResourceType resourceType) { this.resourceType = resourceType; }
+
+    public Long getResourceId() { return resourceId; }
+    public void setResourceId(Long resourceId) { this.resourceId = resourceId; }
+
+    public ReportReason getReason() { return reason; }
+    public void setReason(ReportReason reason) { this.reason = reason; }
+
+    public String getContext() { return context; }
+    public void setContext(String context) { this.context = context; }
+
+    public int getReportCount() { return reportCount; }
+    public void setReportCount(int reportCount) { this.reportCount = reportCount; }
+
+    public double getPriority() { return priority; }
+    public void setPriority(double priority) { this.priority = priority; }
+
+    public LocalDateTime getFirstReportedAt() { return firstReportedAt; }
+    public void setFirstReportedAt(LocalDateTime firstReportedAt) { this.firstReportedAt = firstReportedAt; }
+
+    public LocalDateTime getLastReportedAt() { return lastReportedAt; }
+    public void setLastReportedAt(LocalDateTime lastReportedAt) { this.lastReportedAt = lastReportedAt; }
+
+    public LocalDateTime getLeaseExpiresAt() { return leaseExpiresAt; }
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) { this.leaseExpiresAt = leaseExpiresAt; }
+}
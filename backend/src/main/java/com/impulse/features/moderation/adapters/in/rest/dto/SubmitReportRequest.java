@@ -0,0 +1,50 @@
+package com.impulse.features.moderation.adapters.in.rest.dto;
+
+import com.impulse.shared.enums.ModerationResourceType;
+import com.impulse.shared.enums.ReportReason;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * API DTO: SubmitReportRequest
+ * HTTP request body for reporting a user, challenge or evidence
+ */
+public class SubmitReportRequest {
+
+    @NotNull(message = "Resource type is required")
+    private ModerationResourceType resourceType;
+
+    @NotNull(message = "Resource ID is required")
+    @Positive(message = "Resource ID must be positive")
+    private Long resourceId;
+
+    @NotNull(message = "Reason is required")
+    private ReportReason reason;
+
+    @Size(max = 2000, message = "Context cannot exceed 2000 characters")
+    private String context;
+
+    // Constructors
+    public SubmitReportRequest() {}
+
+    public SubmitReportRequest(ModerationResourceType resourceType, Long resourceId, ReportReason reason, String context) {
+        this.resourceType = resourceType;
+        this.resourceId = resourceId;
+        this.reason = reason;
+        this.context = context;
+    }
+
+    // Getters and Setters
+    public ModerationResourceType getResourceType() { return resourceType; }
+    public void setResourceType(ModerationResourceType resourceType) { this.resourceType = resourceType; }
+
+    public Long getResourceId() { return resourceId; }
+    public void setResourceId(Long resourceId) { this.resourceId = resourceId; }
+
+    public ReportReason getReason() { return reason; }
+    public void setReason(ReportReason reason) { this.reason = reason; }
+
+    public String getContext() { return context; }
+    public void setContext(String context) { this.context = context; }
+}
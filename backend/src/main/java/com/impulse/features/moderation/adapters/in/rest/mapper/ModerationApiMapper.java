@@ -0,0 +1,45 @@
+package com.impulse.features.moderation.adapters.in.rest.mapper;
+
+import com.impulse.features.moderation.adapters.in.rest.dto.ReportCaseApiResponse;
+import com.impulse.features.moderation.adapters.in.rest.dto.SubmitReportRequest;
+import com.impulse.features.moderation.application.dto.ClaimReportCasesCommand;
+import com.impulse.features.moderation.application.dto.ReportCaseResponse;
+import com.impulse.features.moderation.application.dto.SubmitReportCommand;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper: ModerationApiMapper
+ * Maps between API DTOs and Application DTOs for report intake and the moderation queue
+ */
+@Component
+public class ModerationApiMapper {
+
+    public SubmitReportCommand toCommand(SubmitReportRequest request, Long userId) {
+        return new SubmitReportCommand(
+            userId,
+            request.getResourceType(),
+            request.getResourceId(),
+            request.getReason(),
+            request.getContext()
+        );
+    }
+
+    public ClaimReportCasesCommand toClaimCommand(Long userId, int size) {
+        return new ClaimReportCasesCommand(userId, size);
+    }
+
+    public ReportCaseApiResponse toApiResponse(ReportCaseResponse response) {
+        return new ReportCaseApiResponse(
+            response.getId(),
+            response.getResourceType(),
+            response.getResourceId(),
+            response.getReason(),
+            response.getContext(),
+            response.getReportCount(),
+            response.getPriority(),
+            response.getFirstReportedAt(),
+            response.getLastReportedAt(),
+            response.getLeaseExpiresAt()
+        );
+    }
+}
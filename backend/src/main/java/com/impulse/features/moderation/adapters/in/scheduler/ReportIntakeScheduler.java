@@ -0,0 +1,24 @@
+package com.impulse.features.moderation.adapters.in.scheduler;
+
+import com.impulse.features.moderation.application.usecase.SubmitReportUseCase;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler adapter: ReportIntakeScheduler
+ * Closes the report intake window on every node, merging it into the stored cases
+ */
+@Component
+public class ReportIntakeScheduler {
+
+    private final SubmitReportUseCase submitReport;
+
+    public ReportIntakeScheduler(SubmitReportUseCase submitReport) {
+        this.submitReport = submitReport;
+    }
+
+    @Scheduled(fixedDelayString = "${impulse.moderation.reports.window-ms:5000}")
+    public void flush() {
+        submitReport.flush();
+    }
+}
@@ -0,0 +1,147 @@
+package com.impulse.features.moderation.adapters.out.persistence;
+
+import com.impulse.features.moderation.application.port.out.ReportRepository;
+import com.impulse.features.moderation.domain.Report;
+import com.impulse.features.moderation.domain.ReportAggregate;
+import com.impulse.features.moderation.domain.ReportKey;
+import com.impulse.shared.enums.ModerationResourceType;
+import com.impulse.shared.enums.ReportReason;
+import com.impulse.shared.enums.ReportStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JDBC implementation of ReportRepository port.
+ * Cases are keyed by the open_case_key generated column (V15). Merging a window opens or
+ * locks the case with one upsert, checks which reporters report_reporters (V23) already
+ * holds for it, and adds only the others; heats add in linear space via log-sum-exp in SQL.
+ */
+@Repository
+@Transactional
+public class ReportRepositoryImpl implements ReportRepository {
+
+    // Opens an empty case or locks the existing one; LAST_INSERT_ID() then holds its id either way
+    private static final String OPEN_CASE_SQL =
+        "INSERT INTO reports (resource_type, resource_id, reporter_user_id, reason, context, report_count, heat, " +
+        "created_at, last_reported_at) VALUES (?, ?, ?, ?, ?, 0, 0, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id)";
+
+    // heat is assigned before report_count, so an empty case takes the new heat as is
+    private static final String ADD_REPORTS_SQL =
+        "UPDATE reports SET " +
+        "heat = IF(report_count = 0, ?, GREATEST(heat, ?) + LN(1 + EXP(-ABS(heat - ?)))), " +
+        "report_count = report_count + ?, " +
+        "last_reported_at = GREATEST(last_reported_at, ?) " +
+        "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public ReportRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    @Override
+    public void mergeAll(Collection<ReportAggregate> aggregates) {
+        if (aggregates.isEmpty()) {
+            return;
+        }
+        // Same key order on every node so concurrent flushes cannot deadlock
+        List<ReportAggregate> ordered = aggregates.stream()
+            .sorted(Comparator.comparing(aggregate -> aggregate.getKey().toString()))
+            .toList();
+        for (ReportAggregate aggregate : ordered) {
+            merge(aggregate);
+        }
+    }
+
+    private void merge(ReportAggregate aggregate) {
+        jdbcTemplate.update(OPEN_CASE_SQL,
+            aggregate.getKey().getResourceType().name(),
+            aggregate.getKey().getResourceId(),
+            aggregate.getFirstReporterUserId(),
+            aggregate.getKey().getReason().name(),
+            aggregate.getContext(),
+            Timestamp.valueOf(aggregate.getFirstReportedAt()),
+            Timestamp.valueOf(aggregate.getFirstReportedAt()));
+        Long caseId = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+
+        // The case row stays locked until commit, so no other flush can add the same reporter meanwhile
+        Set<Long> known = new HashSet<>(namedJdbcTemplate.queryForList(
+            "SELECT reporter_user_id FROM report_reporters " +
+            "WHERE report_id = :caseId AND reporter_user_id IN (:reporters)",
+            new MapSqlParameterSource()
+                .addValue("caseId", caseId)
+                .addValue("reporters", aggregate.getReporterUserIds()),
+            Long.class));
+        List<Long> newReporters = aggregate.getReporterUserIds().stream()
+            .filter(reporter -> !known.contains(reporter))
+            .toList();
+        if (newReporters.isEmpty()) {
+            return;
+        }
+
+        ReportAggregate added = aggregate.restrictedTo(newReporters);
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO report_reporters (report_id, reporter_user_id, reported_at) VALUES (?, ?, ?)",
+            newReporters.stream()
+                .map(reporter -> new Object[] {
+                    caseId, reporter, Timestamp.valueOf(added.getReportedAt(reporter))})
+                .toList());
+        double heat = added.getHeat();
+        jdbcTemplate.update(ADD_REPORTS_SQL, heat, heat, heat, added.getCount(),
+            Timestamp.valueOf(added.getLastReportedAt()), caseId);
+    }
+
+    @Override
+    public List<Report> claim(Long moderatorUserId, LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("now", Timestamp.valueOf(now))
+            .addValue("limit", limit);
+        List<Report> candidates = namedJdbcTemplate.query(
+            "SELECT id, resource_type, resource_id, reporter_user_id, reason, context, report_count, heat, status, " +
+            "created_at, last_reported_at FROM reports " +
+            "WHERE status = 'PENDING' AND (lease_expires_at IS NULL OR lease_expires_at <= :now) " +
+            "ORDER BY heat DESC LIMIT :limit FOR UPDATE SKIP LOCKED",
+            params,
+            (rs, rowNum) -> new Report(
+                rs.getLong("id"),
+                new ReportKey(
+                    ModerationResourceType.valueOf(rs.getString("resource_type")),
+                    rs.getLong("resource_id"),
+                    ReportReason.valueOf(rs.getString("reason"))),
+                rs.getLong("reporter_user_id"),
+                rs.getString("context"),
+                rs.getInt("report_count"),
+                rs.getDouble("heat"),
+                ReportStatus.valueOf(rs.getString("status")),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getTimestamp("last_reported_at").toLocalDateTime(),
+                moderatorUserId,
+                leaseUntil));
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        namedJdbcTemplate.update(
+            "UPDATE reports SET assigned_to = :moderator, lease_expires_at = :leaseUntil WHERE id IN (:ids)",
+            new MapSqlParameterSource()
+                .addValue("moderator", moderatorUserId)
+                .addValue("leaseUntil", Timestamp.valueOf(leaseUntil))
+                .addValue("ids", candidates.stream().map(Report::getId).toList()));
+        return candidates;
+    }
+}
@@ -0,0 +1,19 @@
+package com.impulse.features.moderation.application.dto;
+
+/**
+ * Command DTO: ClaimReportCasesCommand
+ * Represents a moderator asking for the hottest open report cases
+ */
+public class ClaimReportCasesCommand {
+    private final Long moderatorUserId;
+    private final int size;
+
+    public ClaimReportCasesCommand(Long moderatorUserId, int size) {
+        this.moderatorUserId = moderatorUserId;
+        this.size = size;
+    }
+
+    // Getters
+    public Long getModeratorUserId() { return moderatorUserId; }
+    public int getSize() { return size; }
+}
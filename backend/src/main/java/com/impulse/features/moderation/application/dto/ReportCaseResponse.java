@@ -0,0 +1,50 @@
+package com.impulse.features.moderation.application.dto;
+
+import com.impulse.shared.enums.ModerationResourceType;
+import com.impulse.shared.enums.ReportReason;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO: ReportCaseResponse
+ * One aggregated report case leased to a moderator
+ */
+public class ReportCaseResponse {
+    private final Long id;
+    private final ModerationResourceType resourceType;
+    private final Long resourceId;
+    private final ReportReason reason;
+    private final String context;
+    private final int reportCount;
+    private final double priority;
+    private final LocalDateTime firstReportedAt;
+    private final LocalDateTime lastReportedAt;
+    private final LocalDateTime leaseExpiresAt;
+
+    public ReportCaseResponse(Long id, ModerationResourceType resourceType, Long resourceId, ReportReason reason,
+                              String context, int reportCount, double priority, LocalDateTime firstReportedAt,
+                              LocalDateTime lastReportedAt, LocalDateTime leaseExpiresAt) {
+        this.id = id;
+        this.resourceType = resourceType;
+        this.resourceId = resourceId;
+        this.reason = reason;
+        this.context = context;
+        this.reportCount = reportCount;
+        this.priority = priority;
+        this.firstReportedAt = firstReportedAt;
+        this.lastReportedAt = lastReportedAt;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public ModerationResourceType getResourceType() { return resourceType; }
+    public Long getResourceId() { return resourceId; }
+    public ReportReason getReason() { return reason; }
+    public String getContext() { return context; }
+    public int getReportCount() { return reportCount; }
+    public double getPriority() { return priority; }
+    public LocalDateTime getFirstReportedAt() { return firstReportedAt; }
+    public LocalDateTime getLastReportedAt() { return lastReportedAt; }
+    public LocalDateTime getLeaseExpiresAt() { return leaseExpiresAt; }
+}
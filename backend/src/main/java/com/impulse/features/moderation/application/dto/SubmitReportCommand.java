@@ -0,0 +1,32 @@
+package com.impulse.features.moderation.application.dto;
+
+import com.impulse.shared.enums.ModerationResourceType;
+import com.impulse.shared.enums.ReportReason;
+
+/**
+ * Command DTO: SubmitReportCommand
+ * Represents a user reporting a user, challenge or evidence
+ */
+public class SubmitReportCommand {
+    private final Long reporterUserId;
+    private final ModerationResourceType resourceType;
+    private final Long resourceId;
+    private final ReportReason reason;
+    private final String context;
+
+    public SubmitReportCommand(Long reporterUserId, ModerationResourceType resourceType, Long resourceId,
+                               ReportReason reason, String context) {
+        this.reporterUserId = reporterUserId;
+        this.resourceType = resourceType;
+        this.resourceId = resourceId;
+        this.reason = reason;
+        this.context = context;
+    }
+
+    // Getters
+    public Long getReporterUserId() { return reporterUserId; }
+    public ModerationResourceType getResourceType() { return resourceType; }
+    public Long getResourceId() { return resourceId; }
+    public ReportReason getReason() { return reason; }
+    public String getContext() { return context; }
+}
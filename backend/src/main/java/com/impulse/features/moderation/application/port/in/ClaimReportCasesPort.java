@@ -0,0 +1,14 @@
+package com.impulse.features.moderation.application.port.in;
+
+import com.impulse.features.moderation.application.dto.ClaimReportCasesCommand;
+import com.impulse.features.moderation.application.dto.ReportCaseResponse;
+
+import java.util.List;
+
+/**
+ * Input Port: ClaimReportCasesPort
+ * Defines contract for leasing the highest-priority open report cases to a moderator
+ */
+public interface ClaimReportCasesPort {
+    List<ReportCaseResponse> execute(ClaimReportCasesCommand command);
+}
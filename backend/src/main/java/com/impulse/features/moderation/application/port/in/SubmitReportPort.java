@@ -0,0 +1,14 @@
+package com.impulse.features.moderation.application.port.in;
+
+import com.impulse.features.moderation.application.dto.SubmitReportCommand;
+
+/**
+ * Input Port: SubmitReportPort
+ * Defines contract for accepting a user report into its aggregated case
+ */
+public interface SubmitReportPort {
+    /**
+     * @return false when the reporter already reported this target for this reason recently
+     */
+    boolean execute(SubmitReportCommand command);
+}
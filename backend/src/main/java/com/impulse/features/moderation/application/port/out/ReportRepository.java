@@ -0,0 +1,25 @@
+package com.impulse.features.moderation.application.port.out;
+
+import com.impulse.features.moderation.domain.Report;
+import com.impulse.features.moderation.domain.ReportAggregate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Output Port: ReportRepository
+ */
+public interface ReportRepository {
+
+    /**
+     * Folds each aggregate into the open case of its key, opening the case if there is none.
+     * Only reporters the case has not counted before add to its count and heat.
+     */
+    void mergeAll(Collection<ReportAggregate> aggregates);
+
+    /**
+     * Leases open cases without a live lease, hottest first
+     */
+    List<Report> claim(Long moderatorUserId, LocalDateTime now, LocalDateTime leaseUntil, int limit);
+}
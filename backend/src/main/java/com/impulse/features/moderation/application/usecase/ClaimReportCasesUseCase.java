@@ -0,0 +1,87 @@
+package com.impulse.features.moderation.application.usecase;
+
+import com.impulse.features.moderation.application.dto.ClaimReportCasesCommand;
+import com.impulse.features.moderation.application.dto.ReportCaseResponse;
+import com.impulse.features.moderation.application.port.in.ClaimReportCasesPort;
+import com.impulse.features.moderation.application.port.out.ReportRepository;
+import com.impulse.features.moderation.domain.Report;
+import com.impulse.infrastructure.audit.AuditService;
+import com.impulse.shared.error.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use Case: ClaimReportCasesUseCase
+ * Leases the hottest open report cases to a moderator for a bounded time.
+ * The queue order is the stored heat (see Report), so the pull is an index scan
+ * and cases still gaining reports overtake ones that went quiet.
+ */
+@Service
+@Transactional
+public class ClaimReportCasesUseCase implements ClaimReportCasesPort {
+
+    private final ReportRepository reportRepository;
+    private final AuditService auditService;
+    private final Duration halfLife;
+    private final int leaseSeconds;
+    private final int maxClaimSize;
+
+    public ClaimReportCasesUseCase(ReportRepository reportRepository,
+                                   AuditService auditService,
+                                   @Value("${impulse.moderation.reports.heat-half-life-minutes:60}") long halfLifeMinutes,
+                                   @Value("${impulse.moderation.reports.lease-seconds:600}") int leaseSeconds,
+                                   @Value("${impulse.moderation.reports.max-claim-size:25}") int maxClaimSize) {
+        this.reportRepository = reportRepository;
+        this.auditService = auditService;
+        this.halfLife = Duration.ofMinutes(halfLifeMinutes);
+        this.leaseSeconds = leaseSeconds;
+        this.maxClaimSize = maxClaimSize;
+    }
+
+    @Override
+    public List<ReportCaseResponse> execute(ClaimReportCasesCommand command) {
+        validateCommand(command);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Report> claimed = reportRepository.claim(command.getModeratorUserId(), now,
+            now.plusSeconds(leaseSeconds), command.getSize());
+        for (Report report : claimed) {
+            auditService.logActionAfterCommit(command.getModeratorUserId(), "REPORT_CASE_CLAIMED", "REPORT",
+                report.getId().toString(), null, Map.of("leaseExpiresAt", report.getLeaseExpiresAt().toString()));
+        }
+
+        return claimed.stream()
+            .map(report -> new ReportCaseResponse(
+                report.getId(),
+                report.getKey().getResourceType(),
+                report.getKey().getResourceId(),
+                report.getKey().getReason(),
+                report.getContext(),
+                report.getReportCount(),
+                report.priorityAt(now, halfLife),
+                report.getCreatedAt(),
+                report.getLastReportedAt(),
+                report.getLeaseExpiresAt()))
+            .toList();
+    }
+
+    private void validateCommand(ClaimReportCasesCommand command) {
+        if (command == null) {
+            throw new ValidationException("ClaimReportCasesCommand cannot be null");
+        }
+
+        if (command.getModeratorUserId() == null || command.getModeratorUserId() <= 0) {
+            throw new ValidationException("Valid moderator user ID is required");
+        }
+
+        if (command.getSize() <= 0 || command.getSize() > maxClaimSize) {
+            throw new ValidationException("Claim size must be between 1 and " + maxClaimSize);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.impulse.features.moderation.application.usecase;
+
+import com.impulse.features.moderation.application.dto.SubmitReportCommand;
+import com.impulse.features.moderation.application.port.in.SubmitReportPort;
+import com.impulse.features.moderation.application.port.out.ReportRepository;
+import com.impulse.features.moderation.domain.ReportAggregate;
+import com.impulse.features.moderation.domain.ReportKey;
+import com.impulse.shared.error.ValidationException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Use Case: SubmitReportUseCase
+ * Report intake with in-memory aggregation: reports are folded per (target, reason) for one
+ * intake window and flushed as a single upsert per key into the open case. A viral target
+ * reported thousands of times costs one row and a few writes instead of thousands of inserts.
+ * A reporter counts once per open case, across windows and nodes: the merge checks the
+ * case's stored reporters and only new ones add to the count and heat.
+ * Reports still in memory on a crash are lost; the same content keeps being reported.
+ */
+@Service
+public class SubmitReportUseCase implements SubmitReportPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubmitReportUseCase.class);
+
+    private final ReportRepository reportRepository;
+    private final Duration halfLife;
+    private final int maxPendingCases;
+    private final int maxReportersPerCase;
+    private final Map<ReportKey, ReportAggregate> pending = new ConcurrentHashMap<>();
+
+    public SubmitReportUseCase(ReportRepository reportRepository,
+                               @Value("${impulse.moderation.reports.heat-half-life-minutes:60}") long halfLifeMinutes,
+                               @Value("${impulse.moderation.reports.max-pending-cases:10000}") int maxPendingCases,
+                               @Value("${impulse.moderation.reports.max-tracked-reporters:1000}") int maxReportersPerCase) {
+        this.reportRepository = reportRepository;
+        this.halfLife = Duration.ofMinutes(halfLifeMinutes);
+        this.maxPendingCases = maxPendingCases;
+        this.maxReportersPerCase = maxReportersPerCase;
+    }
+
+    @Override
+    public boolean execute(SubmitReportCommand command) {
+        validateCommand(command);
+
+        LocalDateTime now = LocalDateTime.now();
+        ReportKey key = new ReportKey(command.getResourceType(), command.getResourceId(), command.getReason());
+        boolean[] accepted = new boolean[1];
+        boolean[] full = new boolean[1];
+        pending.compute(key, (k, aggregate) -> {
+            ReportAggregate target = aggregate != null ? aggregate
+                : new ReportAggregate(k, command.getReporterUserId(), command.getContext(), now, maxReportersPerCase);
+            accepted[0] = target.add(command.getReporterUserId(), now, halfLife);
+            full[0] = target.isFull();
+            return target;
+        });
+
+        if (pending.size() > maxPendingCases || full[0]) {
+            // Too many distinct targets or reporters in one window: write through instead of growing
+            flush();
+        }
+        return accepted[0];
+    }
+
+    /**
+     * Drains the current window and merges it into the stored cases.
+     * On failure the drained aggregates are merged back so no report is lost.
+     * @return number of cases written
+     */
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<ReportAggregate> batch = new ArrayList<>();
+        for (ReportKey key : pending.keySet()) {
+            ReportAggregate aggregate = pending.remove(key);
+            if (aggregate != null && aggregate.getCount() > 0) {
+                batch.add(aggregate);
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            reportRepository.mergeAll(batch);
+            return batch.size();
+        } catch (RuntimeException e) {
+            batch.forEach(aggregate -> pending.merge(aggregate.getKey(), aggregate, (current, failed) -> {
+                current.absorb(failed);
+                return current;
+            }));
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.warn("Could not flush {} pending report cases on shutdown", pending.size(), e);
+        }
+    }
+
+    private void validateCommand(SubmitReportCommand command) {
+        if (command == null) {
+            throw new ValidationException("SubmitReportCommand cannot be null");
+        }
+
+        if (command.getReporterUserId() == null || command.getReporterUserId() <= 0) {
+            throw new ValidationException("Valid reporter user ID is required");
+        }
+
+        if (command.getResourceType() == null) {
+            throw new ValidationException("resourceType", "is required");
+        }
+
+        if (command.getResourceId() == null || command.getResourceId() <= 0) {
+            throw new ValidationException("resourceId", "must be a positive id");
+        }
+
+        if (command.getReason() == null) {
+            throw new ValidationException("reason", "is required");
+        }
+    }
+}
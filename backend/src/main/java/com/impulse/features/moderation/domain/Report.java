@@ -1,13 +1,90 @@
 package com.impulse.features.moderation.domain;
 
-import com.impulse.shared.annotations.Generated;
+import com.impulse.shared.enums.ReportStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
 
 /**
  * Domain entity: Report
- * DSA compliance and moderation workflow rules
+ * One open moderation case per (target, reason); every further report of the same target
+ * for the same reason folds into it instead of adding a row.
+ *
+ * Priority is severity-weighted report velocity with exponential decay: each report adds
+ * severity * 2^-(age / half-life). Stored as heat, the log of that sum scaled to a fixed
+ * epoch (forward decay), so decay never needs rewriting: the order of two cases by heat is
+ * their order by current priority at any moment, and the queue is a plain index scan.
  */
-@Generated
 public class Report {
-    // TODO: Implement domain logic - report validation, escalation rules
-    // DSA transparency and moderation action tracking
+
+    /** Forward-decay origin; heat values are relative to it */
+    public static final LocalDateTime HEAT_EPOCH = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private final Long id;
+    private final ReportKey key;
+    private final Long firstReporterUserId;
+    private final String context;
+    private final int reportCount;
+    private final double heat;
+    private final ReportStatus status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime lastReportedAt;
+    private final Long assignedTo;
+    private final LocalDateTime leaseExpiresAt;
+
+    public Report(Long id, ReportKey key, Long firstReporterUserId, String context, int reportCount, double heat,
+                  ReportStatus status, LocalDateTime createdAt, LocalDateTime lastReportedAt,
+                  Long assignedTo, LocalDateTime leaseExpiresAt) {
+        this.id = id;
+        this.key = key;
+        this.firstReporterUserId = firstReporterUserId;
+        this.context = context;
+        this.reportCount = reportCount;
+        this.heat = heat;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.lastReportedAt = lastReportedAt;
+        this.assignedTo = assignedTo;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    /**
+     * Heat contributed by one report of the given severity at the given time
+     */
+    public static double heatOf(int severity, LocalDateTime at, Duration halfLife) {
+        return Math.log(severity) + decayRate(halfLife) * Duration.between(HEAT_EPOCH, at).toMillis();
+    }
+
+    /**
+     * log(e^a + e^b) without overflow: heats of separate reports add up in linear space
+     */
+    public static double combineHeat(double a, double b) {
+        if (Double.isInfinite(a) && a < 0) return b;
+        if (Double.isInfinite(b) && b < 0) return a;
+        return Math.max(a, b) + Math.log1p(Math.exp(-Math.abs(a - b)));
+    }
+
+    /**
+     * Current decayed, severity-weighted report mass of the case
+     */
+    public double priorityAt(LocalDateTime now, Duration halfLife) {
+        return Math.exp(heat - decayRate(halfLife) * Duration.between(HEAT_EPOCH, now).toMillis());
+    }
+
+    private static double decayRate(Duration halfLife) {
+        return Math.log(2) / halfLife.toMillis();
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public ReportKey getKey() { return key; }
+    public Long getFirstReporterUserId() { return firstReporterUserId; }
+    public String getContext() { return context; }
+    public int getReportCount() { return reportCount; }
+    public double getHeat() { return heat; }
+    public ReportStatus getStatus() { return status; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getLastReportedAt() { return lastReportedAt; }
+    public Long getAssignedTo() { return assignedTo; }
+    public LocalDateTime getLeaseExpiresAt() { return leaseExpiresAt; }
 }
@@ -0,0 +1,115 @@
+package com.impulse.features.moderation.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Domain entity: ReportAggregate
+ * Reports of one (target, reason) received by this node during the current intake window,
+ * one entry per reporter. Whether a reporter is new to the open case is only known when
+ * the window is merged into it, so each reporter keeps its own heat and the merge adds
+ * just the entries of reporters the case has not seen (restrictedTo).
+ */
+public class ReportAggregate {
+
+    private static final int MAX_CONTEXT_LENGTH = 2000;
+
+    private final ReportKey key;
+    private final Long firstReporterUserId;
+    private final String context;
+    private final LocalDateTime firstReportedAt;
+    private final int maxReporters;
+    // reporter -> their report in this window, in arrival order
+    private final Map<Long, Reported> reporters = new LinkedHashMap<>();
+
+    public ReportAggregate(ReportKey key, Long firstReporterUserId, String context, LocalDateTime firstReportedAt,
+                           int maxReporters) {
+        this.key = key;
+        this.firstReporterUserId = firstReporterUserId;
+        this.context = context != null && context.length() > MAX_CONTEXT_LENGTH
+            ? context.substring(0, MAX_CONTEXT_LENGTH) : context;
+        this.firstReportedAt = firstReportedAt;
+        this.maxReporters = maxReporters;
+    }
+
+    /**
+     * @return false when the reporter already reported this target for this reason in the window
+     */
+    public boolean add(Long reporterUserId, LocalDateTime at, Duration halfLife) {
+        if (reporters.containsKey(reporterUserId)) {
+            return false;
+        }
+        reporters.put(reporterUserId, new Reported(at, Report.heatOf(key.getReason().getSeverity(), at, halfLife)));
+        return true;
+    }
+
+    /**
+     * Folds in reports of the same key from another window (e.g. a batch that failed to flush);
+     * a reporter present in both keeps its earlier report
+     */
+    public void absorb(ReportAggregate other) {
+        other.reporters.forEach(reporters::putIfAbsent);
+    }
+
+    /**
+     * The reports of the given reporters only, e.g. those the open case has not counted yet
+     */
+    public ReportAggregate restrictedTo(Collection<Long> reporterUserIds) {
+        ReportAggregate restricted = new ReportAggregate(key, firstReporterUserId, context, firstReportedAt, maxReporters);
+        for (Long reporterUserId : reporterUserIds) {
+            Reported reported = reporters.get(reporterUserId);
+            if (reported != null) {
+                restricted.reporters.put(reporterUserId, reported);
+            }
+        }
+        return restricted;
+    }
+
+    /**
+     * Memory per aggregate is bounded by flushing the window once this is true
+     */
+    public boolean isFull() {
+        return reporters.size() >= maxReporters;
+    }
+
+    public int getCount() {
+        return reporters.size();
+    }
+
+    public double getHeat() {
+        double heat = Double.NEGATIVE_INFINITY;
+        for (Reported reported : reporters.values()) {
+            heat = Report.combineHeat(heat, reported.heat());
+        }
+        return heat;
+    }
+
+    public LocalDateTime getLastReportedAt() {
+        LocalDateTime last = firstReportedAt;
+        for (Reported reported : reporters.values()) {
+            if (reported.at().isAfter(last)) {
+                last = reported.at();
+            }
+        }
+        return last;
+    }
+
+    public LocalDateTime getReportedAt(Long reporterUserId) {
+        Reported reported = reporters.get(reporterUserId);
+        return reported != null ? reported.at() : null;
+    }
+
+    // Getters
+    public ReportKey getKey() { return key; }
+    public Long getFirstReporterUserId() { return firstReporterUserId; }
+    public String getContext() { return context; }
+    public LocalDateTime getFirstReportedAt() { return firstReportedAt; }
+    public Set<Long> getReporterUserIds() { return Collections.unmodifiableSet(reporters.keySet()); }
+
+    private record Reported(LocalDateTime at, double heat) {}
+}
@@ -0,0 +1,45 @@
+package com.impulse.features.moderation.domain;
+
+import com.impulse.shared.enums.ModerationResourceType;
+import com.impulse.shared.enums.ReportReason;
+
+import java.util.Objects;
+
+/**
+ * Value object: ReportKey
+ * Reports with the same target and reason belong to one open case
+ */
+public final class ReportKey {
+
+    private final ModerationResourceType resourceType;
+    private final Long resourceId;
+    private final ReportReason reason;
+
+    public ReportKey(ModerationResourceType resourceType, Long resourceId, ReportReason reason) {
+        this.resourceType = Objects.requireNonNull(resourceType, "Resource type cannot be null");
+        this.resourceId = Objects.requireNonNull(resourceId, "Resource ID cannot be null");
+        this.reason = Objects.requireNonNull(reason, "Reason cannot be null");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ReportKey other)) return false;
+        return resourceType == other.resourceType && resourceId.equals(other.resourceId) && reason == other.reason;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(resourceType, resourceId, reason);
+    }
+
+    @Override
+    public String toString() {
+        return resourceType + ":" + resourceId + ":" + reason;
+    }
+
+    // Getters
+    public ModerationResourceType getResourceType() { return resourceType; }
+    public Long getResourceId() { return resourceId; }
+    public ReportReason getReason() { return reason; }
+}
@@ -0,0 +1,104 @@
+package com.impulse.features.privacy.adapters.in.rest;
+
+import com.impulse.features.privacy.adapters.in.rest.dto.ConsentApiResponse;
+import com.impulse.features.privacy.adapters.in.rest.dto.DsarRequestApiResponse;
+import com.impulse.features.privacy.adapters.in.rest.dto.RecordConsentRequest;
+import com.impulse.features.privacy.adapters.in.rest.dto.SubmitDsarRequestRequest;
+import com.impulse.features.privacy.adapters.in.rest.mapper.PrivacyApiMapper;
+import com.impulse.features.privacy.application.port.in.RecordConsentPort;
+import com.impulse.features.privacy.application.port.in.SubmitDsarRequestPort;
+import com.impulse.shared.utils.CorrelationId;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import java.security.Principal;
+
+/**
+ * REST Controller: PrivacyController
+ * Data subject requests, processed in the background by cluster jobs, and consents
+ */
+@RestController
+@RequestMapping("/api/v1/privacy")
+public class PrivacyController {
+
+    private final SubmitDsarRequestPort submitDsarRequestPort;
+    private final RecordConsentPort recordConsentPort;
+    private final PrivacyApiMapper mapper;
+
+    public PrivacyController(SubmitDsarRequestPort submitDsarRequestPort,
+                             RecordConsentPort recordConsentPort,
+                             PrivacyApiMapper mapper) {
+        this.submitDsarRequestPort = submitDsarRequestPort;
+        this.recordConsentPort = recordConsentPort;
+        this.mapper = mapper;
+    }
+
+    @PostMapping("/dsar-requests")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<DsarRequestApiResponse> submit(
+            @Valid @RequestBody SubmitDsarRequestRequest request,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            Authentication authentication) {
+
+        // Set correlation ID for tracing
+        CorrelationId.set(correlationId);
+
+        try {
+            var response = submitDsarRequestPort.execute(mapper.toCommand(request, getUserId(authentication)));
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(mapper.toApiResponse(response));
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+
+    @PutMapping("/consents")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<ConsentApiResponse> recordConsent(
+            @Valid @RequestBody RecordConsentRequest request,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            Authentication authentication,
+            HttpServletRequest httpRequest) {
+
+        // Set correlation ID for tracing
+        CorrelationId.set(correlationId);
+
+        try {
+            var command = mapper.toCommand(request, getUserId(authentication),
+                getUserAgent(httpRequest), getClientIpAddress(httpRequest));
+            return ResponseEntity.ok(mapper.toApiResponse(recordConsentPort.execute(command)));
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+
+    private Long getUserId(Authentication authentication) {
+        Principal principal = authentication;
+        try {
+            return Long.parseLong(principal.getName());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Invalid user ID in authentication: " + principal.getName());
+        }
+    }
+
+    private String getUserAgent(HttpServletRequest request) {
+        return request.getHeader("User-Agent");
+    }
+
+    private String getClientIpAddress(HttpServletRequest request) {
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
+            return xForwardedFor.split(",")[0].trim();
+        }
+
+        String xRealIp = request.getHeader("X-Real-IP");
+        if (xRealIp != null && !xRealIp.isEmpty()) {
+            return xRealIp;
+        }
+
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,33 @@
+package com.impulse.features.privacy.adapters.in.rest.dto;
+
+import com.impulse.shared.enums.ConsentKey;
+
+/**
+ * API DTO: ConsentApiResponse
+ * A consent's state after a change
+ */
+public class ConsentApiResponse {
+
+    private ConsentKey consentKey;
+    private String version;
+    private boolean granted;
+
+    // Constructors
+    public ConsentApiResponse() {}
+
+    public ConsentApiResponse(ConsentKey consentKey, String version, boolean granted) {
+        this.consentKey = consentKey;
+        this.version = version;
+        this.granted = granted;
+    }
+
+    // Getters and Setters
+    public ConsentKey getConsentKey() { return consentKey; }
+    public void setConsentKey(ConsentKey consentKey) { this.consentKey = consentKey; }
+
+    public String getVersion() { return version; }
+    public void setVersion(String version) { this.version = version; }
+
+    public boolean isGranted() { return granted; }
+    public void setGranted(boolean granted) { this.granted = granted; }
+}
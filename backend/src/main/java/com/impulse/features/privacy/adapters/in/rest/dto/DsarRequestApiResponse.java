@@ -0,0 +1,41 @@
+package com.impulse.features.privacy.adapters.in.rest.dto;
+
+import com.impulse.shared.enums.DsarStatus;
+import com.impulse.shared.enums.DsarType;
+
+import java.time.LocalDateTime;
+
+/**
+ * API DTO: DsarRequestApiResponse
+ * A data subject request as returned to its owner
+ */
+public class DsarRequestApiResponse {
+
+    private Long id;
+    private DsarType type;
+    private DsarStatus status;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public DsarRequestApiResponse() {}
+
+    public DsarRequestApiResponse(Long id, DsarType type, DsarStatus status, LocalDateTime createdAt) {
+        this.id = id;
+        this.type = type;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public DsarType getType() { return type; }
+    public void setType(DsarType type) { this.type = type; }
+
+    public DsarStatus getStatus() { return status; }
+    public void setStatus(DsarStatus status) { this.status = status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
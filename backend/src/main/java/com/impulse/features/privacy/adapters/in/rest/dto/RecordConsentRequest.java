@@ -0,0 +1,40 @@
+package com.impulse.features.privacy.adapters.in.rest.dto;
+
+import com.impulse.shared.enums.ConsentKey;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * API DTO: RecordConsentRequest
+ * HTTP request body for granting (with the accepted document version) or revoking a consent
+ */
+public class RecordConsentRequest {
+
+    @NotNull(message = "Consent key is required")
+    private ConsentKey consentKey;
+
+    @Size(max = 32, message = "Version must be at most 32 characters")
+    private String version;
+
+    @NotNull(message = "Granted is required")
+    private Boolean granted;
+
+    // Constructors
+    public RecordConsentRequest() {}
+
+    public RecordConsentRequest(ConsentKey consentKey, String version, Boolean granted) {
+        this.consentKey = consentKey;
+        this.version = version;
+        this.granted = granted;
+    }
+
+    // Getters and Setters
+    public ConsentKey getConsentKey() { return consentKey; }
+    public void setConsentKey(ConsentKey consentKey) { this.consentKey = consentKey; }
+
+    public String getVersion() { return version; }
+    public void setVersion(String version) { this.version = version; }
+
+    public Boolean getGranted() { return granted; }
+    public void setGranted(Boolean granted) { this.granted = granted; }
+}
@@ -0,0 +1,25 @@
+package com.impulse.features.privacy.adapters.in.rest.dto;
+
+import com.impulse.shared.enums.DsarType;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * API DTO: SubmitDsarRequestRequest
+ * HTTP request body for filing a data subject request
+ */
+public class SubmitDsarRequestRequest {
+
+    @NotNull(message = "Type is required")
+    private DsarType type;
+
+    // Constructors
+    public SubmitDsarRequestRequest() {}
+
+    public SubmitDsarRequestRequest(DsarType type) {
+        this.type = type;
+    }
+
+    // Getters and Setters
+    public DsarType getType() { return type; }
+    public void setType(DsarType type) { this.type = type; }
+}
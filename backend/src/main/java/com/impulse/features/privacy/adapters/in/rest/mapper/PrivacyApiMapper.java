@@ -0,0 +1,46 @@
+package com.impulse.features.privacy.adapters.in.rest.mapper;
+
+import com.impulse.features.privacy.adapters.in.rest.dto.ConsentApiResponse;
+import com.impulse.features.privacy.adapters.in.rest.dto.DsarRequestApiResponse;
+import com.impulse.features.privacy.adapters.in.rest.dto.RecordConsentRequest;
+import com.impulse.features.privacy.adapters.in.rest.dto.SubmitDsarRequestRequest;
+import com.impulse.features.privacy.application.dto.ConsentResponse;
+import com.impulse.features.privacy.application.dto.DsarRequestResponse;
+import com.impulse.features.privacy.application.dto.RecordConsentCommand;
+import com.impulse.features.privacy.application.dto.SubmitDsarRequestCommand;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper: PrivacyApiMapper
+ * Maps between API DTOs and Application DTOs for data subject requests and consents
+ */
+@Component
+public class PrivacyApiMapper {
+
+    public SubmitDsarRequestCommand toCommand(SubmitDsarRequestRequest request, Long userId) {
+        return new SubmitDsarRequestCommand(userId, request.getType());
+    }
+
+    public DsarRequestApiResponse toApiResponse(DsarRequestResponse response) {
+        return new DsarRequestApiResponse(
+            response.getId(),
+            response.getType(),
+            response.getStatus(),
+            response.getCreatedAt()
+        );
+    }
+
+    public RecordConsentCommand toCommand(RecordConsentRequest request, Long userId,
+                                          String userAgent, String ipAddress) {
+        return new RecordConsentCommand(userId, request.getConsentKey(), request.getVersion(),
+            Boolean.TRUE.equals(request.getGranted()), userAgent, ipAddress);
+    }
+
+    public ConsentApiResponse toApiResponse(ConsentResponse response) {
+        return new ConsentApiResponse(
+            response.getConsentKey(),
+            response.getVersion(),
+            response.isGranted()
+        );
+    }
+}
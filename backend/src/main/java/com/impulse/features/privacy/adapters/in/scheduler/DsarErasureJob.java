@@ -0,0 +1,31 @@
+package com.impulse.features.privacy.adapters.in.scheduler;
+
+import com.impulse.features.jobs.application.port.out.JobHandler;
+import com.impulse.features.privacy.application.usecase.EraseUserDataUseCase;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Job adapter: DsarErasureJob
+ * Erases open DSAR DELETE requests in throttled batches, run on one node per fire
+ */
+@Component
+public class DsarErasureJob implements JobHandler {
+
+    private final EraseUserDataUseCase eraseUserData;
+
+    public DsarErasureJob(EraseUserDataUseCase eraseUserData) {
+        this.eraseUserData = eraseUserData;
+    }
+
+    @Override
+    public String jobName() {
+        return "dsar-erasure";
+    }
+
+    @Override
+    public void run(LocalDateTime scheduledFor) {
+        eraseUserData.processPending();
+    }
+}
@@ -0,0 +1,48 @@
+package com.impulse.features.privacy.adapters.in.scheduler;
+
+import com.impulse.features.jobs.application.port.out.ChunkedJob;
+import com.impulse.features.privacy.application.usecase.ExportDsarDataUseCase;
+import com.impulse.features.privacy.domain.DsarExportRow;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Job adapter: DsarExportJob
+ * Exports open DSAR EXPORT requests in checkpointed chunks; a crashed run resumes at the
+ * last row written instead of restarting the user's archive
+ */
+@Component
+public class DsarExportJob implements ChunkedJob<DsarExportRow, DsarExportRow> {
+
+    private final ExportDsarDataUseCase exportDsarData;
+
+    public DsarExportJob(ExportDsarDataUseCase exportDsarData) {
+        this.exportDsarData = exportDsarData;
+    }
+
+    @Override
+    public String jobName() {
+        return "dsar-export";
+    }
+
+    @Override
+    public List<DsarExportRow> read(String afterKey, int limit) {
+        return exportDsarData.read(afterKey, limit);
+    }
+
+    @Override
+    public String keyOf(DsarExportRow row) {
+        return row.key();
+    }
+
+    @Override
+    public DsarExportRow process(DsarExportRow row) {
+        return row;
+    }
+
+    @Override
+    public void write(List<DsarExportRow> rows) {
+        exportDsarData.write(rows);
+    }
+}
@@ -0,0 +1,98 @@
+package com.impulse.features.privacy.adapters.out.persistence;
+
+import com.impulse.features.privacy.application.port.out.ConsentRepository;
+import com.impulse.features.privacy.domain.ConsentSnapshot;
+import com.impulse.shared.enums.ConsentKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC implementation of ConsentRepository port.
+ * Snapshots for many users come from one IN query per 500 users over ix_consents_user_key.
+ */
+@Repository
+public class ConsentRepositoryImpl implements ConsentRepository {
+
+    private static final int IN_LIST_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public ConsentRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                 NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    @Override
+    public List<ConsentSnapshot> findSnapshots(Collection<Long> userIds) {
+        Map<Long, Map<ConsentKey, String>> active = new HashMap<>(userIds.size() * 2);
+        for (Long userId : userIds) {
+            active.put(userId, new EnumMap<>(ConsentKey.class));
+        }
+
+        List<Long> ids = new ArrayList<>(active.keySet());
+        for (int from = 0; from < ids.size(); from += IN_LIST_SIZE) {
+            List<Long> page = ids.subList(from, Math.min(from + IN_LIST_SIZE, ids.size()));
+            namedJdbcTemplate.query(
+                "SELECT user_id, consent_key, version FROM consents " +
+                "WHERE user_id IN (:ids) AND revoked_at IS NULL ORDER BY granted_at, id",
+                new MapSqlParameterSource("ids", page),
+                rs -> {
+                    active.get(rs.getLong("user_id"))
+                        .put(fromDbValue(rs.getString("consent_key")), rs.getString("version"));
+                });
+        }
+
+        List<ConsentSnapshot> snapshots = new ArrayList<>(active.size());
+        active.forEach((userId, versions) -> snapshots.add(new ConsentSnapshot(userId, versions)));
+        return snapshots;
+    }
+
+    @Override
+    public boolean grant(Long userId, ConsentKey key, String version, String userAgent, String ipAddress) {
+        jdbcTemplate.update(
+            "UPDATE consents SET revoked_at = NOW() " +
+            "WHERE user_id = ? AND consent_key = ? AND revoked_at IS NULL AND version <> ?",
+            userId, key.getDbValue(), version);
+        Integer current = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM consents WHERE user_id = ? AND consent_key = ? AND revoked_at IS NULL",
+            Integer.class, userId, key.getDbValue());
+        if (current != null && current > 0) {
+            return false;
+        }
+        jdbcTemplate.update(
+            "INSERT INTO consents (user_id, consent_key, version, user_agent, ip_address) VALUES (?, ?, ?, ?, ?)",
+            userId, key.getDbValue(), version, truncate(userAgent, 255), ipAddress);
+        return true;
+    }
+
+    @Override
+    public boolean revoke(Long userId, ConsentKey key) {
+        return jdbcTemplate.update(
+            "UPDATE consents SET revoked_at = NOW() WHERE user_id = ? AND consent_key = ? AND revoked_at IS NULL",
+            userId, key.getDbValue()) > 0;
+    }
+
+    private static ConsentKey fromDbValue(String dbValue) {
+        for (ConsentKey key : ConsentKey.values()) {
+            if (key.getDbValue().equals(dbValue)) {
+                return key;
+            }
+        }
+        throw new IllegalStateException("Unknown consent key: " + dbValue);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
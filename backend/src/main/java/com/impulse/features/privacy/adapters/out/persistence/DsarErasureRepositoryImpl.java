@@ -0,0 +1,143 @@
+package com.impulse.features.privacy.adapters.out.persistence;
+
+import com.impulse.features.privacy.application.port.out.DsarErasureRepository;
+import com.impulse.features.privacy.domain.DsarErasureStep;
+import com.impulse.features.privacy.domain.ErasableMedia;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC implementation of DsarErasureRepository port.
+ * Every step is one table, a predicate on the user that erased rows no longer match, and
+ * either DELETE or a SET that scrubs the personal columns. Batches are single-statement
+ * DELETE/UPDATE ... LIMIT n, so each holds row locks on at most n rows and only briefly.
+ */
+@Repository
+public class DsarErasureRepositoryImpl implements DsarErasureRepository {
+
+    private static final String DELETE = null;
+    private static final String USER_EVIDENCES =
+        "participation_id IN (SELECT id FROM participations WHERE user_id = ?)";
+
+    private static final Map<DsarErasureStep, Step> STEPS = new EnumMap<>(DsarErasureStep.class);
+
+    static {
+        STEPS.put(DsarErasureStep.SESSIONS, new Step("auth_sessions", "user_id = ?", DELETE));
+        STEPS.put(DsarErasureStep.REFRESH_TOKENS, new Step("auth_refresh_tokens", "user_id = ?", DELETE));
+        STEPS.put(DsarErasureStep.PASSWORD_RESETS, new Step("auth_password_resets", "user_id = ?", DELETE));
+        STEPS.put(DsarErasureStep.EMAIL_VERIFICATIONS, new Step("email_verifications", "user_id = ?", DELETE));
+        STEPS.put(DsarErasureStep.AUTH_AUDIT, new Step("auth_audit_log", "user_id = ?",
+            "user_id = NULL, ip_address = NULL, user_agent = NULL"));
+        STEPS.put(DsarErasureStep.EVENTS, new Step("events", "user_id = ?", DELETE));
+        STEPS.put(DsarErasureStep.SURVEY_ANSWERS, new Step("survey_answers", "user_id = ?", "user_id = NULL"));
+        STEPS.put(DsarErasureStep.CONSENTS, new Step("consents",
+            "user_id = ? AND (ip_address IS NOT NULL OR user_agent IS NOT NULL)",
+            "ip_address = NULL, user_agent = NULL"));
+        STEPS.put(DsarErasureStep.REFERRALS, new Step("referrals",
+            "referred_user_id = ? AND (ip_address IS NOT NULL OR device_fingerprint IS NOT NULL)",
+            "ip_address = NULL, device_fingerprint = NULL"));
+        STEPS.put(DsarErasureStep.REPORTS, new Step("reports",
+            "reporter_user_id = ? AND context IS NOT NULL", "context = NULL"));
+        STEPS.put(DsarErasureStep.EXPORT_ARCHIVES, new Step("dsar_requests",
+            "user_id = ? AND type = 'EXPORT' AND artifact_url IS NOT NULL", null));
+        STEPS.put(DsarErasureStep.EVIDENCE_MEDIA, new Step("evidences",
+            USER_EVIDENCES + " AND media_key IS NOT NULL", null));
+        STEPS.put(DsarErasureStep.EVIDENCES, new Step("evidences",
+            USER_EVIDENCES + " AND (text IS NOT NULL OR deleted_at IS NULL)",
+            "text = NULL, deleted_at = COALESCE(deleted_at, NOW())"));
+        STEPS.put(DsarErasureStep.PARTICIPATIONS, new Step("participations",
+            "user_id = ? AND deleted_at IS NULL", "deleted_at = NOW()"));
+        STEPS.put(DsarErasureStep.CHALLENGES, new Step("challenges",
+            "owner_user_id = ? AND (deleted_at IS NULL OR description IS NOT NULL OR title <> '[deleted]')",
+            "title = '[deleted]', description = NULL, deleted_at = COALESCE(deleted_at, NOW())"));
+        STEPS.put(DsarErasureStep.ROLES, new Step("user_roles", "user_id = ?", DELETE));
+        STEPS.put(DsarErasureStep.ACCOUNT, new Step("users",
+            "id = ? AND email <> CONCAT('erased-', id, '@invalid')",
+            "email = CONCAT('erased-', id, '@invalid'), display_name = 'Deleted user', password_hash = NULL, " +
+            "last_login_at = NULL, status = 'SUSPENDED', deleted_at = COALESCE(deleted_at, NOW())"));
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public DsarErasureRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                     NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    @Override
+    public long count(DsarErasureStep step, Long userId) {
+        Step sql = STEPS.get(step);
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM " + sql.table() + " WHERE " + sql.where(), Long.class, userId);
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public int eraseBatch(DsarErasureStep step, Long userId, int limit) {
+        if (step == DsarErasureStep.EVIDENCE_MEDIA) {
+            throw new IllegalArgumentException("Evidence media is erased through findMediaBatch/clearMedia");
+        }
+        if (step == DsarErasureStep.EXPORT_ARCHIVES) {
+            throw new IllegalArgumentException("Export archives are erased through findExportBatch/clearExports");
+        }
+        Step sql = STEPS.get(step);
+        String statement = sql.set() == DELETE
+            ? "DELETE FROM " + sql.table() + " WHERE " + sql.where() + " LIMIT ?"
+            : "UPDATE " + sql.table() + " SET " + sql.set() + " WHERE " + sql.where() + " LIMIT ?";
+        return jdbcTemplate.update(statement, userId, limit);
+    }
+
+    @Override
+    public List<Long> findExportBatch(Long userId, int limit) {
+        Step sql = STEPS.get(DsarErasureStep.EXPORT_ARCHIVES);
+        return jdbcTemplate.queryForList(
+            "SELECT id FROM dsar_requests WHERE " + sql.where() + " ORDER BY id LIMIT ?",
+            Long.class, userId, limit);
+    }
+
+    @Override
+    public void clearExports(Collection<Long> requestIds) {
+        if (requestIds.isEmpty()) {
+            return;
+        }
+        namedJdbcTemplate.update("UPDATE dsar_requests SET artifact_url = NULL WHERE id IN (:ids)",
+            new MapSqlParameterSource("ids", requestIds));
+    }
+
+    @Override
+    public List<ErasableMedia> findMediaBatch(Long userId, int limit) {
+        Step sql = STEPS.get(DsarErasureStep.EVIDENCE_MEDIA);
+        return jdbcTemplate.query(
+            "SELECT id, media_key, COALESCE(media_size_bytes, 0) AS size_bytes FROM evidences " +
+            "WHERE " + sql.where() + " ORDER BY id LIMIT ?",
+            (rs, rowNum) -> new ErasableMedia(rs.getLong("id"), rs.getString("media_key"), rs.getLong("size_bytes")),
+            userId, limit);
+    }
+
+    @Override
+    public void clearMedia(Collection<Long> evidenceIds) {
+        if (evidenceIds.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", evidenceIds);
+        namedJdbcTemplate.update(
+            "DELETE FROM media_fingerprints WHERE evidence_id IN (:ids) AND banned_at IS NULL", params);
+        namedJdbcTemplate.update(
+            "UPDATE evidences SET media_key = NULL, media_mime = NULL, media_size_bytes = NULL WHERE id IN (:ids)",
+            params);
+    }
+
+    /**
+     * @param set assignments scrubbing the row, or null to delete it
+     */
+    private record Step(String table, String where, String set) {}
+}
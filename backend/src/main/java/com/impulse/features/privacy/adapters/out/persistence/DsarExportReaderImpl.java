@@ -0,0 +1,86 @@
+package com.impulse.features.privacy.adapters.out.persistence;
+
+import com.impulse.features.privacy.application.port.out.DsarExportReader;
+import com.impulse.features.privacy.domain.DsarExportRow;
+import com.impulse.features.privacy.domain.DsarExportSection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC implementation of DsarExportReader port.
+ * Rows are rendered to JSON by MySQL (JSON_OBJECT), so a page arrives as ready-to-write
+ * strings without entity mapping. Every query is a keyset page on the row id under an
+ * index led by the user column; events use ix_events_user_id (V17).
+ */
+@Repository
+public class DsarExportReaderImpl implements DsarExportReader {
+
+    private static final String PAGE = " AND %s > ? ORDER BY %s LIMIT ?";
+
+    private static final Map<DsarExportSection, String> QUERIES = new EnumMap<>(DsarExportSection.class);
+
+    static {
+        QUERIES.put(DsarExportSection.PROFILE,
+            "SELECT id, JSON_OBJECT('id', id, 'email', email, 'displayName', display_name, 'status', status, " +
+            "'lastLoginAt', last_login_at, 'createdAt', created_at, 'updatedAt', updated_at, 'deletedAt', deleted_at) AS doc " +
+            "FROM users WHERE id = ?" + String.format(PAGE, "id", "id"));
+        QUERIES.put(DsarExportSection.CONSENTS,
+            "SELECT id, JSON_OBJECT('id', id, 'consentKey', consent_key, 'version', version, 'grantedAt', granted_at, " +
+            "'revokedAt', revoked_at, 'userAgent', user_agent, 'ipAddress', ip_address) AS doc " +
+            "FROM consents WHERE user_id = ?" + String.format(PAGE, "id", "id"));
+        QUERIES.put(DsarExportSection.CHALLENGES,
+            "SELECT id, JSON_OBJECT('id', id, 'title', title, 'description', description, 'status', status, " +
+            "'visibility', visibility, 'category', category, 'publicConsentVersion', public_consent_version, " +
+            "'openedAt', opened_at, 'closedAt', closed_at, 'createdAt', created_at, 'deletedAt', deleted_at) AS doc " +
+            "FROM challenges WHERE owner_user_id = ?" + String.format(PAGE, "id", "id"));
+        QUERIES.put(DsarExportSection.PARTICIPATIONS,
+            "SELECT id, JSON_OBJECT('id', id, 'challengeId', challenge_id, 'status', status, " +
+            "'createdAt', created_at, 'deletedAt', deleted_at) AS doc " +
+            "FROM participations WHERE user_id = ?" + String.format(PAGE, "id", "id"));
+        QUERIES.put(DsarExportSection.EVIDENCES,
+            "SELECT e.id, JSON_OBJECT('id', e.id, 'challengeId', e.challenge_id, 'participationId', e.participation_id, " +
+            "'text', e.text, 'mediaMime', e.media_mime, 'mediaSizeBytes', e.media_size_bytes, " +
+            "'mediaFile', IF(e.media_key IS NULL, NULL, CONCAT('" + DsarExportSection.MEDIA.entryPrefix() + "', LPAD(e.id, 20, '0'))), " +
+            "'status', e.status, 'decidedAt', e.decided_at, 'decisionReason', e.decision_reason, " +
+            "'createdAt', e.created_at, 'deletedAt', e.deleted_at) AS doc " +
+            "FROM evidences e JOIN participations p ON p.id = e.participation_id " +
+            "WHERE p.user_id = ?" + String.format(PAGE, "e.id", "e.id"));
+        QUERIES.put(DsarExportSection.EVENTS,
+            "SELECT id, JSON_OBJECT('id', id, 'eventKey', event_key, 'correlationId', correlation_id, " +
+            "'properties', properties, 'createdAt', created_at) AS doc " +
+            "FROM events WHERE user_id = ?" + String.format(PAGE, "id", "id"));
+        QUERIES.put(DsarExportSection.AUDIT,
+            "SELECT id, JSON_OBJECT('id', id, 'action', action, 'resourceType', resource_type, " +
+            "'resourceId', resource_id, 'reason', reason, 'metadata', metadata, 'createdAt', created_at) AS doc " +
+            "FROM audit_log WHERE actor_user_id = ?" + String.format(PAGE, "id", "id"));
+        QUERIES.put(DsarExportSection.MEDIA,
+            "SELECT e.id, e.media_key FROM evidences e JOIN participations p ON p.id = e.participation_id " +
+            "WHERE p.user_id = ? AND e.media_key IS NOT NULL" + String.format(PAGE, "e.id", "e.id"));
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DsarExportReaderImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<DsarExportRow> read(DsarExportSection section, long requestId, Long userId, long afterRowId, int limit) {
+        String sql = QUERIES.get(section);
+        if (sql == null) {
+            throw new IllegalArgumentException("Section " + section + " has no rows");
+        }
+        if (section == DsarExportSection.MEDIA) {
+            return jdbcTemplate.query(sql,
+                (rs, rowNum) -> new DsarExportRow(requestId, section, rs.getLong("id"), null, rs.getString("media_key")),
+                userId, afterRowId, limit);
+        }
+        return jdbcTemplate.query(sql,
+            (rs, rowNum) -> new DsarExportRow(requestId, section, rs.getLong("id"), rs.getString("doc"), null),
+            userId, afterRowId, limit);
+    }
+}
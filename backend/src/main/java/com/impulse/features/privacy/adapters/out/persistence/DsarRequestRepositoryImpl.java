@@ -0,0 +1,198 @@
+package com.impulse.features.privacy.adapters.out.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.impulse.features.privacy.application.port.out.DsarRequestRepository;
+import com.impulse.features.privacy.domain.DsarErasureProgress;
+import com.impulse.features.privacy.domain.DsarErasureStep;
+import com.impulse.features.privacy.domain.DsarRequest;
+import com.impulse.shared.enums.DsarStatus;
+import com.impulse.shared.enums.DsarType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JDBC implementation of DsarRequestRepository port.
+ * Claims are conditional UPDATEs, so two job runs racing for the same request cannot both win.
+ * Erasure progress is a JSON document in dsar_requests.progress (V18).
+ */
+@Repository
+public class DsarRequestRepositoryImpl implements DsarRequestRepository {
+
+    private static final String COLUMNS = "id, user_id, type, status, artifact_url, created_at";
+
+    private static final RowMapper<DsarRequest> ROW_MAPPER = (rs, rowNum) -> new DsarRequest(
+        rs.getLong("id"),
+        rs.getLong("user_id"),
+        DsarType.valueOf(rs.getString("type")),
+        DsarStatus.valueOf(rs.getString("status")),
+        rs.getString("artifact_url"),
+        rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private static final String EXPORT_OPEN_FOR_USER =
+        " AND NOT EXISTS (SELECT 1 FROM dsar_requests x WHERE x.user_id = dsar_requests.user_id " +
+        "AND x.type = 'EXPORT' AND x.status IN ('PENDING','PROCESSING'))";
+
+    private static final String NO_ERASURE_STARTED_FOR_USER =
+        " AND NOT EXISTS (SELECT 1 FROM dsar_requests x WHERE x.user_id = dsar_requests.user_id " +
+        "AND x.type = 'DELETE' AND x.status IN ('PROCESSING','DONE'))";
+
+    private static final TypeReference<Map<String, Object>> PROGRESS_TYPE = new TypeReference<>() {};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public DsarRequestRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                     NamedParameterJdbcTemplate namedJdbcTemplate,
+                                     ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Optional<DsarRequest> findById(Long id) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM dsar_requests WHERE id = ?", ROW_MAPPER, id)
+            .stream().findFirst();
+    }
+
+    @Override
+    public Optional<DsarRequest> findOpen(Long userId, DsarType type) {
+        return jdbcTemplate.query(
+            "SELECT " + COLUMNS + " FROM dsar_requests " +
+            "WHERE user_id = ? AND type = ? AND status IN ('PENDING','PROCESSING') ORDER BY id LIMIT 1",
+            ROW_MAPPER, userId, type.name()).stream().findFirst();
+    }
+
+    @Override
+    public DsarRequest create(Long userId, DsarType type) {
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO dsar_requests (user_id, type, status, created_at) VALUES (?, ?, 'PENDING', ?)",
+                Statement.RETURN_GENERATED_KEYS);
+            statement.setLong(1, userId);
+            statement.setString(2, type.name());
+            statement.setTimestamp(3, Timestamp.valueOf(now));
+            return statement;
+        }, keys);
+        return new DsarRequest(keys.getKey().longValue(), userId, type, DsarStatus.PENDING, null, now);
+    }
+
+    @Override
+    public boolean hasErasure(Long userId) {
+        Integer found = jdbcTemplate.query(
+            "SELECT 1 FROM dsar_requests WHERE user_id = ? AND type = 'DELETE' " +
+            "AND status IN ('PENDING','PROCESSING','DONE') LIMIT 1",
+            rs -> rs.next() ? 1 : null, userId);
+        return found != null;
+    }
+
+    @Override
+    public Optional<DsarRequest> claimNext(DsarType type, Long afterId, LocalDateTime staleBefore) {
+        Timestamp stale = Timestamp.valueOf(staleBefore);
+        long after = afterId;
+        while (true) {
+            List<DsarRequest> candidates = jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM dsar_requests " +
+                "WHERE type = ? AND id > ? AND (status = 'PENDING' OR (status = 'PROCESSING' AND updated_at < ?))" +
+                (type == DsarType.DELETE ? EXPORT_OPEN_FOR_USER : NO_ERASURE_STARTED_FOR_USER) + " ORDER BY id LIMIT 1",
+                ROW_MAPPER, type.name(), after, stale);
+            if (candidates.isEmpty()) {
+                return Optional.empty();
+            }
+            DsarRequest candidate = candidates.get(0);
+            int claimed = jdbcTemplate.update(
+                "UPDATE dsar_requests SET status = 'PROCESSING', updated_at = NOW() " +
+                "WHERE id = ? AND (status = 'PENDING' OR (status = 'PROCESSING' AND updated_at < ?))",
+                candidate.getId(), stale);
+            if (claimed == 1) {
+                return Optional.of(new DsarRequest(candidate.getId(), candidate.getUserId(), candidate.getType(),
+                    DsarStatus.PROCESSING, null, candidate.getCreatedAt()));
+            }
+            // Another run took it between the two statements
+            after = candidate.getId();
+        }
+    }
+
+    @Override
+    public void touch(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        namedJdbcTemplate.update(
+            "UPDATE dsar_requests SET updated_at = NOW() WHERE id IN (:ids) AND status = 'PROCESSING'",
+            new MapSqlParameterSource("ids", ids));
+    }
+
+    @Override
+    public void markDone(Long id, String artifactUrl) {
+        jdbcTemplate.update(
+            "UPDATE dsar_requests SET status = 'DONE', artifact_url = ?, closed_at = NOW() " +
+            "WHERE id = ? AND status = 'PROCESSING'",
+            artifactUrl, id);
+    }
+
+    @Override
+    public Optional<DsarErasureProgress> findErasureProgress(Long id) {
+        List<String> documents = jdbcTemplate.query(
+            "SELECT progress FROM dsar_requests WHERE id = ? AND progress IS NOT NULL",
+            (rs, rowNum) -> rs.getString("progress"), id);
+        if (documents.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            Map<String, Object> document = objectMapper.readValue(documents.get(0), PROGRESS_TYPE);
+            Object step = document.get("step");
+            return Optional.of(new DsarErasureProgress(
+                step != null ? DsarErasureStep.valueOf(step.toString()) : null,
+                stepCounts(document.get("planned")),
+                stepCounts(document.get("erased"))));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new IllegalStateException("Unreadable erasure progress on DSAR request " + id, e);
+        }
+    }
+
+    @Override
+    public void saveErasureProgress(Long id, DsarErasureProgress progress) {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("step", progress.getStep() != null ? progress.getStep().name() : null);
+        document.put("planned", progress.getPlanned());
+        document.put("erased", progress.getErased());
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(document);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize erasure progress", e);
+        }
+        jdbcTemplate.update("UPDATE dsar_requests SET progress = ?, updated_at = NOW() WHERE id = ?", json, id);
+    }
+
+    private static Map<DsarErasureStep, Long> stepCounts(Object node) {
+        Map<DsarErasureStep, Long> counts = new EnumMap<>(DsarErasureStep.class);
+        if (node instanceof Map<?, ?> map) {
+            map.forEach((step, count) -> counts.put(DsarErasureStep.valueOf(step.toString()), ((Number) count).longValue()));
+        }
+        return counts;
+    }
+}
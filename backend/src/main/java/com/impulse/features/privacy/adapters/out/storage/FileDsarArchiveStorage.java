@@ -0,0 +1,276 @@
+package com.impulse.features.privacy.adapters.out.storage;
+
+import com.impulse.features.privacy.application.port.out.DsarArchiveStorage;
+import com.impulse.features.privacy.domain.DsarExportSection;
+import com.impulse.infrastructure.services.StorageService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local-disk DSAR archives as ustar files (&lt;export-dir&gt;/&lt;requestId&gt;.tar).
+ * A tar can be appended to and cut back at any entry boundary, which is what makes
+ * chunk-by-chunk writing resumable. JSON-lines parts are gzipped straight into the
+ * archive behind a placeholder header that is patched once the size is known; evidence
+ * files go from the blob store into the archive with FileChannel.transferTo, so the
+ * kernel copies them without passing through the heap. The archive is written as
+ * .tar.part and renamed when sealed.
+ */
+@Component
+public class FileDsarArchiveStorage implements DsarArchiveStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileDsarArchiveStorage.class);
+
+    private static final int BLOCK = 512;
+    /** Largest size an 11-digit octal ustar size field can hold */
+    private static final long MAX_ENTRY_BYTES = 077777777777L;
+
+    private final StorageService storageService;
+    private final Path root;
+    private final int bufferBytes;
+    /** Last entry and archive length per request, so in-order appends skip the recovery scan */
+    private final Map<Long, Tail> tails = new ConcurrentHashMap<>();
+
+    public FileDsarArchiveStorage(StorageService storageService,
+                                  @Value("${impulse.privacy.dsar.export-dir:backend/storage/dsar}") String exportDir,
+                                  @Value("${impulse.storage.stream-buffer-bytes:65536}") int bufferBytes) {
+        this.storageService = storageService;
+        this.root = Paths.get(exportDir);
+        this.bufferBytes = bufferBytes;
+    }
+
+    @Override
+    public void reset(long requestId) throws IOException {
+        tails.remove(requestId);
+        Files.deleteIfExists(partPath(requestId));
+        Files.deleteIfExists(finishedPath(requestId));
+    }
+
+    @Override
+    public void delete(long requestId) throws IOException {
+        reset(requestId);
+    }
+
+    @Override
+    public void appendPart(long requestId, DsarExportSection section, long firstRowId, List<String> jsonLines)
+            throws IOException {
+        String name = section.entryName(firstRowId, ".jsonl.gz");
+        try (FileChannel archive = openForAppend(requestId, name)) {
+            long headerAt = archive.position();
+            archive.write(ByteBuffer.allocate(BLOCK));
+            try (Writer writer = new OutputStreamWriter(
+                    new GZIPOutputStream(new NonClosingOutputStream(Channels.newOutputStream(archive)), bufferBytes),
+                    StandardCharsets.UTF_8)) {
+                for (String line : jsonLines) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+            long size = archive.position() - headerAt - BLOCK;
+            archive.write(header(name, size), headerAt);
+            pad(archive, size);
+            archive.force(false);
+            tails.put(requestId, new Tail(name, archive.position()));
+        }
+    }
+
+    @Override
+    public boolean appendMedia(long requestId, long evidenceId, String mediaKey) throws IOException {
+        Optional<Path> source = locate(mediaKey);
+        if (source.isEmpty()) {
+            return false;
+        }
+        String name = DsarExportSection.MEDIA.entryName(evidenceId, "");
+        try (FileChannel in = FileChannel.open(source.get(), StandardOpenOption.READ);
+             FileChannel archive = openForAppend(requestId, name)) {
+            long size = in.size();
+            if (size > MAX_ENTRY_BYTES) {
+                throw new IOException("Media " + mediaKey + " is too large for a tar entry");
+            }
+            archive.write(header(name, size));
+            long copied = 0;
+            while (copied < size) {
+                long transferred = in.transferTo(copied, size - copied, archive);
+                if (transferred <= 0) {
+                    throw new IOException("Media " + mediaKey + " shrank while being exported");
+                }
+                copied += transferred;
+            }
+            pad(archive, size);
+            archive.force(false);
+            tails.put(requestId, new Tail(name, archive.position()));
+        }
+        return true;
+    }
+
+    @Override
+    public String seal(long requestId) throws IOException {
+        Path part = partPath(requestId);
+        Path finished = finishedPath(requestId);
+        if (!Files.exists(part) && Files.exists(finished)) {
+            // Sealed already; the chunk is being replayed
+            return finished.toString();
+        }
+        try (FileChannel archive = openForAppend(requestId, null)) {
+            archive.write(ByteBuffer.allocate(2 * BLOCK));
+            archive.force(false);
+        }
+        Files.move(part, finished, StandardCopyOption.ATOMIC_MOVE);
+        tails.remove(requestId);
+        return finished.toString();
+    }
+
+    /**
+     * Opens the archive positioned where the entry called name belongs: at the end when it
+     * sorts after everything written, otherwise cut back to before the first entry that
+     * does not sort before it. A null name only drops incomplete trailing data.
+     */
+    private FileChannel openForAppend(long requestId, String name) throws IOException {
+        Files.createDirectories(root);
+        FileChannel archive = FileChannel.open(partPath(requestId),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            Tail tail = tails.get(requestId);
+            boolean inOrder = tail != null && tail.end() == archive.size()
+                && (name == null || name.compareTo(tail.lastName()) > 0);
+            long end = inOrder ? tail.end() : recover(requestId, archive, name);
+            archive.truncate(end);
+            archive.position(end);
+            return archive;
+        } catch (IOException | RuntimeException e) {
+            archive.close();
+            throw e;
+        }
+    }
+
+    private long recover(long requestId, FileChannel archive, String name) throws IOException {
+        long size = archive.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(BLOCK);
+        while (position + BLOCK <= size) {
+            header.clear();
+            while (header.hasRemaining() && archive.read(header, position + header.position()) > 0) {
+                // Fill the whole header block
+            }
+            if (header.get(0) == 0) {
+                // End-of-archive blocks of an interrupted seal
+                break;
+            }
+            String entryName = field(header.array(), 0, 100);
+            long entrySize = Long.parseLong(field(header.array(), 124, 12).trim(), 8);
+            long next = position + BLOCK + (entrySize + BLOCK - 1) / BLOCK * BLOCK;
+            if (next > size || (name != null && entryName.compareTo(name) >= 0)) {
+                break;
+            }
+            position = next;
+        }
+        if (position < size) {
+            logger.info("DSAR archive {} cut back from {} to {} bytes before {}", requestId, size, position, name);
+        }
+        return position;
+    }
+
+    private Optional<Path> locate(String mediaKey) {
+        Optional<String> blobHash = storageService.blobHash(mediaKey);
+        if (blobHash.isPresent()) {
+            return storageService.resolveBlob(blobHash.get());
+        }
+        Path path = Paths.get(mediaKey);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    private Path partPath(long requestId) {
+        return root.resolve(requestId + ".tar.part");
+    }
+
+    private Path finishedPath(long requestId) {
+        return root.resolve(requestId + ".tar");
+    }
+
+    private static ByteBuffer header(String name, long size) {
+        byte[] bytes = new byte[BLOCK];
+        put(bytes, 0, name);
+        put(bytes, 100, "0000644");
+        put(bytes, 108, "0000000");
+        put(bytes, 116, "0000000");
+        put(bytes, 124, String.format("%011o", size));
+        put(bytes, 136, String.format("%011o", Instant.now().getEpochSecond()));
+        bytes[156] = '0';
+        put(bytes, 257, "ustar");
+        put(bytes, 263, "00");
+        // The checksum is computed with its own field read as spaces
+        Arrays.fill(bytes, 148, 156, (byte) ' ');
+        int checksum = 0;
+        for (byte b : bytes) {
+            checksum += b & 0xFF;
+        }
+        put(bytes, 148, String.format("%06o", checksum));
+        bytes[154] = 0;
+        return ByteBuffer.wrap(bytes);
+    }
+
+    private static void put(byte[] bytes, int offset, String value) {
+        byte[] ascii = value.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(ascii, 0, bytes, offset, ascii.length);
+    }
+
+    private static String field(byte[] bytes, int offset, int length) {
+        int end = offset;
+        while (end < offset + length && bytes[end] != 0) {
+            end++;
+        }
+        return new String(bytes, offset, end - offset, StandardCharsets.US_ASCII);
+    }
+
+    private static void pad(FileChannel archive, long size) throws IOException {
+        int remainder = (int) (size % BLOCK);
+        if (remainder != 0) {
+            archive.write(ByteBuffer.allocate(BLOCK - remainder));
+        }
+    }
+
+    private record Tail(String lastName, long end) {}
+
+    /**
+     * Lets the gzip stream finish without closing the archive channel underneath it
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.impulse.features.privacy.application.dto;
+
+import com.impulse.shared.enums.ConsentKey;
+
+/**
+ * Response DTO: ConsentResponse
+ * State of one consent after a change; version is null when not granted
+ */
+public class ConsentResponse {
+    private final ConsentKey consentKey;
+    private final String version;
+    private final boolean granted;
+
+    public ConsentResponse(ConsentKey consentKey, String version, boolean granted) {
+        this.consentKey = consentKey;
+        this.version = version;
+        this.granted = granted;
+    }
+
+    // Getters
+    public ConsentKey getConsentKey() { return consentKey; }
+    public String getVersion() { return version; }
+    public boolean isGranted() { return granted; }
+}
@@ -0,0 +1,30 @@
+package com.impulse.features.privacy.application.dto;
+
+import com.impulse.shared.enums.DsarStatus;
+import com.impulse.shared.enums.DsarType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO: DsarRequestResponse
+ * A data subject request and where it stands
+ */
+public class DsarRequestResponse {
+    private final Long id;
+    private final DsarType type;
+    private final DsarStatus status;
+    private final LocalDateTime createdAt;
+
+    public DsarRequestResponse(Long id, DsarType type, DsarStatus status, LocalDateTime createdAt) {
+        this.id = id;
+        this.type = type;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public DsarType getType() { return type; }
+    public DsarStatus getStatus() { return status; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
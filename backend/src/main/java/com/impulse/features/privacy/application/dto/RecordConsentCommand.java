@@ -0,0 +1,34 @@
+package com.impulse.features.privacy.application.dto;
+
+import com.impulse.shared.enums.ConsentKey;
+
+/**
+ * Command DTO: RecordConsentCommand
+ * Represents a user granting a consent at a document version, or revoking it
+ */
+public class RecordConsentCommand {
+    private final Long userId;
+    private final ConsentKey consentKey;
+    private final String version;
+    private final boolean granted;
+    private final String userAgent;
+    private final String ipAddress;
+
+    public RecordConsentCommand(Long userId, ConsentKey consentKey, String version, boolean granted,
+                                String userAgent, String ipAddress) {
+        this.userId = userId;
+        this.consentKey = consentKey;
+        this.version = version;
+        this.granted = granted;
+        this.userAgent = userAgent;
+        this.ipAddress = ipAddress;
+    }
+
+    // Getters
+    public Long getUserId() { return userId; }
+    public ConsentKey getConsentKey() { return consentKey; }
+    public String getVersion() { return version; }
+    public boolean isGranted() { return granted; }
+    public String getUserAgent() { return userAgent; }
+    public String getIpAddress() { return ipAddress; }
+}
@@ -0,0 +1,21 @@
+package com.impulse.features.privacy.application.dto;
+
+import com.impulse.shared.enums.DsarType;
+
+/**
+ * Command DTO: SubmitDsarRequestCommand
+ * Represents a user asking for a copy of their data or for its erasure
+ */
+public class SubmitDsarRequestCommand {
+    private final Long userId;
+    private final DsarType type;
+
+    public SubmitDsarRequestCommand(Long userId, DsarType type) {
+        this.userId = userId;
+        this.type = type;
+    }
+
+    // Getters
+    public Long getUserId() { return userId; }
+    public DsarType getType() { return type; }
+}
@@ -0,0 +1,29 @@
+package com.impulse.features.privacy.application.port.in;
+
+import com.impulse.features.privacy.domain.ConsentSnapshot;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Input Port: CheckConsentPort
+ * Defines contract for consent checks on the read path. Lookups for many users are
+ * answered together, so filtering a page of items costs at most one query however many
+ * owners it has.
+ */
+public interface CheckConsentPort {
+
+    ConsentSnapshot getSnapshot(Long userId);
+
+    /**
+     * Snapshots keyed by user ID; users without consents get an empty snapshot
+     */
+    Map<Long, ConsentSnapshot> getSnapshots(Collection<Long> userIds);
+
+    /**
+     * Items whose owner currently allows public content, in their original order
+     */
+    <T> List<T> filterPubliclyVisible(List<T> items, Function<T, Long> ownerOf);
+}
@@ -0,0 +1,12 @@
+package com.impulse.features.privacy.application.port.in;
+
+import com.impulse.features.privacy.application.dto.ConsentResponse;
+import com.impulse.features.privacy.application.dto.RecordConsentCommand;
+
+/**
+ * Input Port: RecordConsentPort
+ * Defines contract for granting or revoking a consent; repeating the current state is a no-op
+ */
+public interface RecordConsentPort {
+    ConsentResponse execute(RecordConsentCommand command);
+}
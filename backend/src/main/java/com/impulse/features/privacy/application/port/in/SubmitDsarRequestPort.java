@@ -0,0 +1,12 @@
+package com.impulse.features.privacy.application.port.in;
+
+import com.impulse.features.privacy.application.dto.DsarRequestResponse;
+import com.impulse.features.privacy.application.dto.SubmitDsarRequestCommand;
+
+/**
+ * Input Port: SubmitDsarRequestPort
+ * Defines contract for filing a data subject request; an open request of the same type is reused
+ */
+public interface SubmitDsarRequestPort {
+    DsarRequestResponse execute(SubmitDsarRequestCommand command);
+}
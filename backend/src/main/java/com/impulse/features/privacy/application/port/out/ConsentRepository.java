@@ -0,0 +1,30 @@
+package com.impulse.features.privacy.application.port.out;
+
+import com.impulse.features.privacy.domain.ConsentSnapshot;
+import com.impulse.shared.enums.ConsentKey;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Output Port: ConsentRepository
+ * Consent grants; at most one unrevoked row per user and key
+ */
+public interface ConsentRepository {
+
+    /**
+     * Active consents of every given user, one snapshot per user
+     */
+    List<ConsentSnapshot> findSnapshots(Collection<Long> userIds);
+
+    /**
+     * Grants key at version, revoking an active grant of another version
+     * @return false if that version was already granted
+     */
+    boolean grant(Long userId, ConsentKey key, String version, String userAgent, String ipAddress);
+
+    /**
+     * @return false if key was not granted
+     */
+    boolean revoke(Long userId, ConsentKey key);
+}
@@ -0,0 +1,42 @@
+package com.impulse.features.privacy.application.port.out;
+
+import com.impulse.features.privacy.domain.DsarExportSection;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Output Port: DsarArchiveStorage
+ * Append-only export archive per request. Entries arrive in name order; appending an
+ * entry whose name is not after the last one written (a chunk replayed after a crash)
+ * first cuts the archive back to before it, so replays never duplicate data.
+ */
+public interface DsarArchiveStorage {
+
+    /**
+     * Drops whatever an earlier attempt left for the request
+     */
+    void reset(long requestId) throws IOException;
+
+    /**
+     * Appends one gzip JSON-lines entry holding the rows of a section starting at firstRowId
+     */
+    void appendPart(long requestId, DsarExportSection section, long firstRowId, List<String> jsonLines) throws IOException;
+
+    /**
+     * Appends the evidence file behind mediaKey
+     * @return false when the file is no longer in storage
+     */
+    boolean appendMedia(long requestId, long evidenceId, String mediaKey) throws IOException;
+
+    /**
+     * Removes the archive of the request, finished or not
+     */
+    void delete(long requestId) throws IOException;
+
+    /**
+     * Finishes the archive
+     * @return location of the finished artifact
+     */
+    String seal(long requestId) throws IOException;
+}
@@ -0,0 +1,47 @@
+package com.impulse.features.privacy.application.port.out;
+
+import com.impulse.features.privacy.domain.DsarErasureStep;
+import com.impulse.features.privacy.domain.ErasableMedia;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Output Port: DsarErasureRepository
+ * Bounded erasure batches per step. A step's rows stop matching once erased, so
+ * repeating a batch until it comes back short finishes the step, and replaying one after
+ * a crash is a no-op.
+ */
+public interface DsarErasureRepository {
+
+    /**
+     * Rows the step still has to erase for the user
+     */
+    long count(DsarErasureStep step, Long userId);
+
+    /**
+     * Erases up to limit rows of the step (not EXPORT_ARCHIVES or EVIDENCE_MEDIA)
+     * @return rows erased
+     */
+    int eraseBatch(DsarErasureStep step, Long userId, int limit);
+
+    /**
+     * Up to limit of the user's EXPORT requests that still point at an archive
+     */
+    List<Long> findExportBatch(Long userId, int limit);
+
+    /**
+     * Detaches the archives from their EXPORT requests
+     */
+    void clearExports(Collection<Long> requestIds);
+
+    /**
+     * Up to limit of the user's evidences still pointing at a stored file
+     */
+    List<ErasableMedia> findMediaBatch(Long userId, int limit);
+
+    /**
+     * Detaches the files from their evidences and drops their unbanned fingerprints
+     */
+    void clearMedia(Collection<Long> evidenceIds);
+}
@@ -0,0 +1,18 @@
+package com.impulse.features.privacy.application.port.out;
+
+import com.impulse.features.privacy.domain.DsarExportRow;
+import com.impulse.features.privacy.domain.DsarExportSection;
+
+import java.util.List;
+
+/**
+ * Output Port: DsarExportReader
+ * Keyset pages of one user's rows per export section, in row id order
+ */
+public interface DsarExportReader {
+
+    /**
+     * @return up to limit rows of the section with id greater than afterRowId
+     */
+    List<DsarExportRow> read(DsarExportSection section, long requestId, Long userId, long afterRowId, int limit);
+}
@@ -0,0 +1,51 @@
+package com.impulse.features.privacy.application.port.out;
+
+import com.impulse.features.privacy.domain.DsarErasureProgress;
+import com.impulse.features.privacy.domain.DsarRequest;
+import com.impulse.shared.enums.DsarType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Output Port: DsarRequestRepository
+ */
+public interface DsarRequestRepository {
+
+    Optional<DsarRequest> findById(Long id);
+
+    /**
+     * PENDING or PROCESSING request of the user
+     */
+    Optional<DsarRequest> findOpen(Long userId, DsarType type);
+
+    DsarRequest create(Long userId, DsarType type);
+
+    /**
+     * Whether the user has an erasure that is open or already done
+     */
+    boolean hasErasure(Long userId);
+
+    /**
+     * Moves the next request after afterId to PROCESSING: a PENDING one, or a PROCESSING
+     * one whose worker stopped touching it before staleBefore. Erasures of a user wait
+     * until the user's open export is done; exports are never claimed once the user's
+     * erasure is PROCESSING or DONE, so no archive is written after EXPORT_ARCHIVES ran.
+     */
+    Optional<DsarRequest> claimNext(DsarType type, Long afterId, LocalDateTime staleBefore);
+
+    /**
+     * Refreshes updated_at of requests still being processed, keeping them claimed
+     */
+    void touch(Collection<Long> ids);
+
+    void markDone(Long id, String artifactUrl);
+
+    Optional<DsarErasureProgress> findErasureProgress(Long id);
+
+    /**
+     * Stores erasure progress and touches the request, keeping it claimed
+     */
+    void saveErasureProgress(Long id, DsarErasureProgress progress);
+}
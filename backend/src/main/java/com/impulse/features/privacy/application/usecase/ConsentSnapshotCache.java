@@ -0,0 +1,130 @@
+package com.impulse.features.privacy.application.usecase;
+
+import com.impulse.features.privacy.application.port.in.CheckConsentPort;
+import com.impulse.features.privacy.application.port.out.ConsentRepository;
+import com.impulse.features.privacy.domain.ConsentChangedEvent;
+import com.impulse.features.privacy.domain.ConsentSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Per-user cache of consent snapshots for read-path checks.
+ * Misses of one lookup are loaded together in a single query. Changes made through
+ * RecordConsentUseCase evict the user after commit; the TTL bounds how long another
+ * node, or a change made outside the application, can be served a stale snapshot.
+ *
+ * A load that overlaps an eviction must not put the old state back: every eviction bumps
+ * a generation counter, and a loaded snapshot is kept only if no eviction happened
+ * between the query and the insert.
+ */
+@Component
+public class ConsentSnapshotCache implements CheckConsentPort {
+
+    private final ConsentRepository consentRepository;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final ConcurrentHashMap<Long, Entry> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ConsentSnapshotCache(ConsentRepository consentRepository,
+                                @Value("${impulse.privacy.consent-cache.ttl-ms:60000}") long ttlMillis,
+                                @Value("${impulse.privacy.consent-cache.max-entries:100000}") int maxEntries) {
+        this.consentRepository = consentRepository;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public ConsentSnapshot getSnapshot(Long userId) {
+        return getSnapshots(List.of(userId)).get(userId);
+    }
+
+    @Override
+    public Map<Long, ConsentSnapshot> getSnapshots(Collection<Long> userIds) {
+        long now = System.currentTimeMillis();
+        Map<Long, ConsentSnapshot> result = new HashMap<>(userIds.size() * 2);
+        Set<Long> misses = new LinkedHashSet<>();
+        for (Long userId : userIds) {
+            Entry cached = snapshots.get(userId);
+            if (cached != null && cached.expiresAt() > now) {
+                result.put(userId, cached.snapshot());
+            } else {
+                misses.add(userId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        long generation = evictions.get();
+        List<ConsentSnapshot> loaded = consentRepository.findSnapshots(misses);
+        for (ConsentSnapshot snapshot : loaded) {
+            result.put(snapshot.getUserId(), snapshot);
+            store(snapshot, generation, now + ttlMillis);
+        }
+        return result;
+    }
+
+    @Override
+    public <T> List<T> filterPubliclyVisible(List<T> items, Function<T, Long> ownerOf) {
+        Set<Long> owners = new LinkedHashSet<>();
+        for (T item : items) {
+            owners.add(ownerOf.apply(item));
+        }
+        Map<Long, ConsentSnapshot> byOwner = getSnapshots(owners);
+        List<T> visible = new ArrayList<>(items.size());
+        for (T item : items) {
+            ConsentSnapshot snapshot = byOwner.get(ownerOf.apply(item));
+            if (snapshot != null && snapshot.allowsPublicContent()) {
+                visible.add(item);
+            }
+        }
+        return visible;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onConsentChanged(ConsentChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    public void evict(Long userId) {
+        evictions.incrementAndGet();
+        snapshots.remove(userId);
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    private void store(ConsentSnapshot snapshot, long generation, long expiresAt) {
+        if (snapshots.size() >= maxEntries) {
+            long now = System.currentTimeMillis();
+            snapshots.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (snapshots.size() >= maxEntries) {
+                return;
+            }
+        }
+        Entry entry = new Entry(snapshot, expiresAt);
+        snapshots.put(snapshot.getUserId(), entry);
+        // An eviction that raced the load may have run before the put; undo it
+        if (evictions.get() != generation) {
+            snapshots.remove(snapshot.getUserId(), entry);
+        }
+    }
+
+    private record Entry(ConsentSnapshot snapshot, long expiresAt) {}
+}
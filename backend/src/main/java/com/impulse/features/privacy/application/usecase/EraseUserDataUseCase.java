@@ -0,0 +1,241 @@
+package com.impulse.features.privacy.application.usecase;
+
+import com.impulse.features.privacy.application.port.out.DsarArchiveStorage;
+import com.impulse.features.privacy.application.port.out.DsarErasureRepository;
+import com.impulse.features.privacy.application.port.out.DsarRequestRepository;
+import com.impulse.features.privacy.domain.DsarErasureProgress;
+import com.impulse.features.privacy.domain.DsarErasureStep;
+import com.impulse.features.privacy.domain.DsarRequest;
+import com.impulse.features.privacy.domain.ErasableMedia;
+import com.impulse.features.privacy.domain.EvidenceMediaErasedEvent;
+import com.impulse.infrastructure.services.StorageService;
+import com.impulse.shared.enums.DsarType;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Use Case: EraseUserDataUseCase
+ * Works through open DELETE requests for the dsar-erasure job. Each request is erased step
+ * by step in bounded batches; every batch commits together with the request's progress,
+ * so locks stay short, other traffic interleaves between batches, and a crashed run picks
+ * up at the batch it was in. Personal data is deleted where the row only serves the user,
+ * and scrubbed where the row is someone else's record too (reports, referrals, audit).
+ * Billing, referral codes and the audit log are legal records and are kept.
+ *
+ * Detaching evidence media publishes EvidenceMediaErasedEvent so this node's fingerprint
+ * index drops the erased hashes at commit; other nodes drop them on their next reload.
+ * Evidence files are deleted off the request thread once their rows are detached. Blob
+ * references are counted, so a delete is never retried: a file whose delete failed is
+ * left for storage cleanup rather than released twice. Archives of earlier DSAR exports
+ * are deleted before their requests are detached from them; deleting twice is harmless.
+ */
+@Service
+public class EraseUserDataUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(EraseUserDataUseCase.class);
+
+    private final DsarRequestRepository requestRepository;
+    private final DsarErasureRepository erasureRepository;
+    private final DsarArchiveStorage archiveStorage;
+    private final StorageService storageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService mediaDeletes;
+    private final int batchSize;
+    private final long throttleMillis;
+    private final long staleMinutes;
+
+    public EraseUserDataUseCase(DsarRequestRepository requestRepository,
+                                DsarErasureRepository erasureRepository,
+                                DsarArchiveStorage archiveStorage,
+                                StorageService storageService,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${impulse.privacy.dsar.erasure.batch-size:500}") int batchSize,
+                                @Value("${impulse.privacy.dsar.erasure.throttle-ms:50}") long throttleMillis,
+                                @Value("${impulse.privacy.dsar.erasure.media-delete-workers:2}") int mediaDeleteWorkers,
+                                @Value("${impulse.privacy.dsar.stale-minutes:30}") long staleMinutes) {
+        this.requestRepository = requestRepository;
+        this.erasureRepository = erasureRepository;
+        this.archiveStorage = archiveStorage;
+        this.storageService = storageService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.throttleMillis = throttleMillis;
+        this.staleMinutes = staleMinutes;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.mediaDeletes = Executors.newFixedThreadPool(mediaDeleteWorkers, runnable -> {
+            Thread thread = new Thread(runnable, "dsar-media-delete-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Erases every claimable DELETE request, one at a time
+     * @return requests completed
+     */
+    public int processPending() {
+        int completed = 0;
+        long afterId = 0L;
+        Optional<DsarRequest> next;
+        while ((next = requestRepository.claimNext(DsarType.DELETE, afterId,
+                LocalDateTime.now().minusMinutes(staleMinutes))).isPresent()) {
+            DsarRequest request = next.get();
+            afterId = request.getId();
+            if (!erase(request)) {
+                // Interrupted: the request stays PROCESSING and is resumed once stale
+                break;
+            }
+            completed++;
+        }
+        return completed;
+    }
+
+    private boolean erase(DsarRequest request) {
+        Long userId = request.getUserId();
+        DsarErasureProgress progress = requestRepository.findErasureProgress(request.getId())
+            .orElseGet(() -> plan(request));
+        List<CompletableFuture<Void>> pendingDeletes = new ArrayList<>();
+
+        while (!progress.isComplete()) {
+            DsarErasureStep step = progress.getStep();
+            DsarErasureProgress before = progress;
+            int erased;
+            if (step == DsarErasureStep.EVIDENCE_MEDIA) {
+                awaitAll(pendingDeletes);
+                List<ErasableMedia> media = new ArrayList<>();
+                progress = transactionTemplate.execute(status -> {
+                    media.addAll(erasureRepository.findMediaBatch(userId, batchSize));
+                    List<Long> evidenceIds = media.stream().map(ErasableMedia::getEvidenceId).toList();
+                    erasureRepository.clearMedia(evidenceIds);
+                    eventPublisher.publishEvent(new EvidenceMediaErasedEvent(evidenceIds));
+                    DsarErasureProgress after = before.record(step, media.size(), media.size() < batchSize);
+                    requestRepository.saveErasureProgress(request.getId(), after);
+                    return after;
+                });
+                pendingDeletes.addAll(deleteFiles(userId, media));
+                erased = media.size();
+            } else if (step == DsarErasureStep.EXPORT_ARCHIVES) {
+                List<Long> exports = erasureRepository.findExportBatch(userId, batchSize);
+                deleteArchives(exports);
+                progress = transactionTemplate.execute(status -> {
+                    erasureRepository.clearExports(exports);
+                    DsarErasureProgress after = before.record(step, exports.size(), exports.size() < batchSize);
+                    requestRepository.saveErasureProgress(request.getId(), after);
+                    return after;
+                });
+                erased = exports.size();
+            } else {
+                int[] rows = new int[1];
+                progress = transactionTemplate.execute(status -> {
+                    rows[0] = erasureRepository.eraseBatch(step, userId, batchSize);
+                    DsarErasureProgress after = before.record(step, rows[0], rows[0] < batchSize);
+                    requestRepository.saveErasureProgress(request.getId(), after);
+                    return after;
+                });
+                erased = rows[0];
+            }
+
+            if (erased == batchSize && !pause()) {
+                awaitAll(pendingDeletes);
+                return false;
+            }
+        }
+
+        awaitAll(pendingDeletes);
+        requestRepository.markDone(request.getId(), null);
+        logger.info("DSAR request {} erased {} of {} planned rows for user {}",
+            request.getId(), progress.getErasedTotal(), progress.getPlannedTotal(), userId);
+        return true;
+    }
+
+    private DsarErasureProgress plan(DsarRequest request) {
+        Map<DsarErasureStep, Long> planned = new EnumMap<>(DsarErasureStep.class);
+        for (DsarErasureStep step : DsarErasureStep.values()) {
+            planned.put(step, erasureRepository.count(step, request.getUserId()));
+        }
+        DsarErasureProgress progress = DsarErasureProgress.planned(planned);
+        requestRepository.saveErasureProgress(request.getId(), progress);
+        logger.info("DSAR request {} planned erasure of {} rows for user {}: {}",
+            request.getId(), progress.getPlannedTotal(), request.getUserId(), planned);
+        return progress;
+    }
+
+    /**
+     * Releases the files and refunds the user's quota for each; runs only after the rows were
+     * detached and committed, so a file is never released while still referenced
+     */
+    private List<CompletableFuture<Void>> deleteFiles(Long userId, List<ErasableMedia> media) {
+        List<CompletableFuture<Void>> deletes = new ArrayList<>(media.size());
+        for (ErasableMedia file : media) {
+            deletes.add(CompletableFuture.runAsync(() -> {
+                if (!storageService.releaseMedia(userId, file.getMediaKey(), file.getSizeBytes())) {
+                    logger.warn("Could not delete media of evidence {} during erasure", file.getEvidenceId());
+                }
+            }, mediaDeletes).exceptionally(e -> {
+                logger.warn("Could not delete media of evidence {} during erasure", file.getEvidenceId(), e);
+                return null;
+            }));
+        }
+        return deletes;
+    }
+
+    private void deleteArchives(List<Long> exportRequestIds) {
+        for (Long exportRequestId : exportRequestIds) {
+            try {
+                archiveStorage.delete(exportRequestId);
+            } catch (IOException e) {
+                logger.warn("Could not delete archive of DSAR export {} during erasure: {}",
+                    exportRequestId, e.getMessage());
+            }
+        }
+    }
+
+    private static void awaitAll(List<CompletableFuture<Void>> futures) {
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        futures.clear();
+    }
+
+    /**
+     * Yields between full batches so an erasure does not monopolize the tables it touches
+     * @return false if interrupted
+     */
+    private boolean pause() {
+        if (throttleMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(throttleMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        mediaDeletes.shutdownNow();
+    }
+}
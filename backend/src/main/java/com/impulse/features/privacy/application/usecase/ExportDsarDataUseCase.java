@@ -0,0 +1,172 @@
+package com.impulse.features.privacy.application.usecase;
+
+import com.impulse.features.privacy.application.port.out.DsarArchiveStorage;
+import com.impulse.features.privacy.application.port.out.DsarExportReader;
+import com.impulse.features.privacy.application.port.out.DsarRequestRepository;
+import com.impulse.features.privacy.domain.DsarExportCursor;
+import com.impulse.features.privacy.domain.DsarExportRow;
+import com.impulse.features.privacy.domain.DsarExportSection;
+import com.impulse.features.privacy.domain.DsarRequest;
+import com.impulse.shared.enums.DsarStatus;
+import com.impulse.shared.enums.DsarType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Use Case: ExportDsarDataUseCase
+ * Streams open EXPORT requests into per-request archives for the dsar-export chunked job.
+ * All requests form one key-ordered stream of rows (request, section, row id), read in
+ * keyset pages, so memory holds one chunk whatever the user's data volume, and the job's
+ * checkpoint is an exact resume point. Each chunk is appended to the archive as gzip
+ * JSON-lines entries, evidence files are copied in whole by the storage adapter.
+ */
+@Service
+public class ExportDsarDataUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportDsarDataUseCase.class);
+
+    private final DsarRequestRepository requestRepository;
+    private final DsarExportReader exportReader;
+    private final DsarArchiveStorage archiveStorage;
+    private final long staleMinutes;
+
+    public ExportDsarDataUseCase(DsarRequestRepository requestRepository,
+                                 DsarExportReader exportReader,
+                                 DsarArchiveStorage archiveStorage,
+                                 @Value("${impulse.privacy.dsar.stale-minutes:30}") long staleMinutes) {
+        this.requestRepository = requestRepository;
+        this.exportReader = exportReader;
+        this.archiveStorage = archiveStorage;
+        this.staleMinutes = staleMinutes;
+    }
+
+    /**
+     * Next rows after afterKey, crossing into following sections and requests until limit
+     * rows are gathered. Requests are claimed only once the stream reaches them, so
+     * concurrent runs split the queue instead of exporting the same user twice.
+     */
+    public List<DsarExportRow> read(String afterKey, int limit) {
+        List<DsarExportRow> rows = new ArrayList<>(limit);
+        DsarRequest request;
+        DsarExportSection section = DsarExportSection.PROFILE;
+        long afterRowId = 0;
+
+        if (afterKey == null) {
+            request = claimNext(0L);
+        } else {
+            DsarExportCursor cursor = DsarExportCursor.parse(afterKey);
+            request = requestRepository.findById(cursor.getRequestId())
+                .filter(found -> found.getStatus() == DsarStatus.PROCESSING)
+                .orElse(null);
+            if (request != null) {
+                section = cursor.getSection();
+                afterRowId = cursor.getRowId();
+            } else {
+                request = claimNext(cursor.getRequestId());
+            }
+        }
+
+        while (request != null && rows.size() < limit) {
+            if (section == DsarExportSection.COMPLETE) {
+                if (afterRowId == 0) {
+                    rows.add(DsarExportRow.complete(request.getId()));
+                    if (rows.size() == limit) {
+                        break;
+                    }
+                }
+                request = claimNext(request.getId());
+                section = DsarExportSection.PROFILE;
+                afterRowId = 0;
+                continue;
+            }
+            int wanted = limit - rows.size();
+            List<DsarExportRow> page = exportReader.read(section, request.getId(), request.getUserId(), afterRowId, wanted);
+            rows.addAll(page);
+            if (page.size() == wanted) {
+                break;
+            }
+            section = section.next();
+            afterRowId = 0;
+        }
+        return rows;
+    }
+
+    /**
+     * Appends a chunk to the archives it touches; idempotent, so a replayed chunk is harmless
+     */
+    public void write(List<DsarExportRow> rows) {
+        Set<Long> inProgress = new LinkedHashSet<>();
+        try {
+            int start = 0;
+            while (start < rows.size()) {
+                DsarExportRow first = rows.get(start);
+                int end = start + 1;
+                while (end < rows.size() && rows.get(end).getRequestId() == first.getRequestId()
+                    && rows.get(end).getSection() == first.getSection()) {
+                    end++;
+                }
+                List<DsarExportRow> group = rows.subList(start, end);
+                if (writeGroup(first.getRequestId(), first.getSection(), group)) {
+                    inProgress.remove(first.getRequestId());
+                } else {
+                    inProgress.add(first.getRequestId());
+                }
+                start = end;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("DSAR export write failed", e);
+        }
+        requestRepository.touch(inProgress);
+    }
+
+    /**
+     * @return true when the group finished its request
+     */
+    private boolean writeGroup(long requestId, DsarExportSection section, List<DsarExportRow> group) throws IOException {
+        switch (section) {
+            case PROFILE -> {
+                // A request always starts here: clear what an abandoned attempt left behind
+                archiveStorage.reset(requestId);
+                archiveStorage.appendPart(requestId, section, group.get(0).getRowId(), jsonLines(group));
+            }
+            case MEDIA -> {
+                for (DsarExportRow row : group) {
+                    if (!archiveStorage.appendMedia(requestId, row.getRowId(), row.getMediaKey())) {
+                        logger.warn("DSAR export {}: media of evidence {} is missing from storage", requestId, row.getRowId());
+                    }
+                }
+            }
+            case COMPLETE -> {
+                String artifact = archiveStorage.seal(requestId);
+                requestRepository.markDone(requestId, artifact);
+                logger.info("DSAR export {} done: {}", requestId, artifact);
+                return true;
+            }
+            default -> archiveStorage.appendPart(requestId, section, group.get(0).getRowId(), jsonLines(group));
+        }
+        return false;
+    }
+
+    private DsarRequest claimNext(Long afterId) {
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(staleMinutes);
+        return requestRepository.claimNext(DsarType.EXPORT, afterId, staleBefore).orElse(null);
+    }
+
+    private static List<String> jsonLines(List<DsarExportRow> group) {
+        List<String> lines = new ArrayList<>(group.size());
+        for (DsarExportRow row : group) {
+            lines.add(row.getJson());
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,79 @@
+package com.impulse.features.privacy.application.usecase;
+
+import com.impulse.features.privacy.application.dto.ConsentResponse;
+import com.impulse.features.privacy.application.dto.RecordConsentCommand;
+import com.impulse.features.privacy.application.port.in.RecordConsentPort;
+import com.impulse.features.privacy.application.port.out.ConsentRepository;
+import com.impulse.features.privacy.domain.ConsentChangedEvent;
+import com.impulse.shared.error.ValidationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Use Case: RecordConsentUseCase
+ * Grants or revokes a consent. Granting a new version supersedes the previous grant.
+ * Every change publishes ConsentChangedEvent, which drops the user's cached snapshot
+ * once the transaction commits.
+ */
+@Service
+@Transactional
+public class RecordConsentUseCase implements RecordConsentPort {
+
+    private static final int MAX_VERSION_LENGTH = 32;
+
+    private final ConsentRepository consentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RecordConsentUseCase(ConsentRepository consentRepository,
+                                ApplicationEventPublisher eventPublisher) {
+        this.consentRepository = consentRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public ConsentResponse execute(RecordConsentCommand command) {
+        validateCommand(command);
+
+        boolean changed;
+        if (command.isGranted()) {
+            changed = consentRepository.grant(command.getUserId(), command.getConsentKey(),
+                command.getVersion().trim(), command.getUserAgent(), command.getIpAddress());
+        } else {
+            changed = consentRepository.revoke(command.getUserId(), command.getConsentKey());
+        }
+
+        if (changed) {
+            eventPublisher.publishEvent(
+                new ConsentChangedEvent(command.getUserId(), command.getConsentKey(), LocalDateTime.now()));
+        }
+
+        return new ConsentResponse(command.getConsentKey(),
+            command.isGranted() ? command.getVersion().trim() : null, command.isGranted());
+    }
+
+    private void validateCommand(RecordConsentCommand command) {
+        if (command == null) {
+            throw new ValidationException("RecordConsentCommand cannot be null");
+        }
+
+        if (command.getUserId() == null || command.getUserId() <= 0) {
+            throw new ValidationException("Valid user ID is required");
+        }
+
+        if (command.getConsentKey() == null) {
+            throw new ValidationException("consentKey", "is required");
+        }
+
+        if (command.isGranted()) {
+            if (command.getVersion() == null || command.getVersion().trim().isEmpty()) {
+                throw new ValidationException("version", "is required when granting consent");
+            }
+            if (command.getVersion().trim().length() > MAX_VERSION_LENGTH) {
+                throw new ValidationException("version", "must be at most " + MAX_VERSION_LENGTH + " characters");
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.impulse.features.privacy.application.usecase;
+
+import com.impulse.features.privacy.application.dto.DsarRequestResponse;
+import com.impulse.features.privacy.application.dto.SubmitDsarRequestCommand;
+import com.impulse.features.privacy.application.port.in.SubmitDsarRequestPort;
+import com.impulse.features.privacy.application.port.out.DsarRequestRepository;
+import com.impulse.features.privacy.domain.DsarRequest;
+import com.impulse.shared.enums.DsarType;
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ErrorCodes;
+import com.impulse.shared.error.ValidationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use Case: SubmitDsarRequestUseCase
+ * Files a data subject request for background processing. Asking again while one of the
+ * same type is open returns the open one instead of queueing duplicate work. Exports are
+ * refused once an erasure is filed, since its archive would outlive the erasure.
+ */
+@Service
+@Transactional
+public class SubmitDsarRequestUseCase implements SubmitDsarRequestPort {
+
+    private final DsarRequestRepository requestRepository;
+
+    public SubmitDsarRequestUseCase(DsarRequestRepository requestRepository) {
+        this.requestRepository = requestRepository;
+    }
+
+    @Override
+    public DsarRequestResponse execute(SubmitDsarRequestCommand command) {
+        validateCommand(command);
+
+        if (command.getType() == DsarType.EXPORT && requestRepository.hasErasure(command.getUserId())) {
+            throw new DomainException("An account erasure is already filed for this user", ErrorCodes.CONFLICT);
+        }
+
+        DsarRequest request = requestRepository.findOpen(command.getUserId(), command.getType())
+            .orElseGet(() -> requestRepository.create(command.getUserId(), command.getType()));
+
+        return new DsarRequestResponse(request.getId(), request.getType(), request.getStatus(), request.getCreatedAt());
+    }
+
+    private void validateCommand(SubmitDsarRequestCommand command) {
+        if (command == null) {
+            throw new ValidationException("SubmitDsarRequestCommand cannot be null");
+        }
+
+        if (command.getUserId() == null || command.getUserId() <= 0) {
+            throw new ValidationException("Valid user ID is required");
+        }
+
+        if (command.getType() == null) {
+            throw new ValidationException("type", "is required");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.impulse.features.privacy.domain;
+
+import com.impulse.shared.enums.ConsentKey;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Domain event: ConsentChangedEvent
+ * Published after a consent is granted, re-versioned or revoked so cached snapshots are dropped
+ */
+public final class ConsentChangedEvent {
+    private final Long userId;
+    private final ConsentKey consentKey;
+    private final LocalDateTime occurredAt;
+
+    public ConsentChangedEvent(Long userId, ConsentKey consentKey, LocalDateTime occurredAt) {
+        this.userId = Objects.requireNonNull(userId, "User ID cannot be null");
+        this.consentKey = Objects.requireNonNull(consentKey, "Consent key cannot be null");
+        this.occurredAt = Objects.requireNonNull(occurredAt, "Occurred at cannot be null");
+    }
+
+    public Long getUserId() { return userId; }
+    public ConsentKey getConsentKey() { return consentKey; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+
+    @Override
+    public String toString() {
+        return "ConsentChangedEvent{" +
+                "userId=" + userId +
+                ", consentKey=" + consentKey +
+                ", occurredAt=" + occurredAt +
+                '}';
+    }
+}
@@ -0,0 +1,63 @@
+package com.impulse.features.privacy.domain;
+
+import com.impulse.shared.enums.ConsentKey;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Value object: ConsentSnapshot
+ * A user's active consents: one bit per ConsentKey plus the version granted for each.
+ * Small and immutable, so it is cached per user and checked without touching the
+ * consents table.
+ */
+public final class ConsentSnapshot {
+
+    private static final ConsentKey[] KEYS = ConsentKey.values();
+
+    private final Long userId;
+    private final int grantedBits;
+    private final String[] versions;
+
+    public ConsentSnapshot(Long userId, Map<ConsentKey, String> activeVersions) {
+        this.userId = Objects.requireNonNull(userId, "User ID cannot be null");
+        this.versions = new String[KEYS.length];
+        int bits = 0;
+        for (Map.Entry<ConsentKey, String> active : activeVersions.entrySet()) {
+            bits |= bit(active.getKey());
+            versions[active.getKey().ordinal()] = active.getValue();
+        }
+        this.grantedBits = bits;
+    }
+
+    public static ConsentSnapshot none(Long userId) {
+        return new ConsentSnapshot(userId, Map.of());
+    }
+
+    public boolean isGranted(ConsentKey key) {
+        return (grantedBits & bit(key)) != 0;
+    }
+
+    /**
+     * Whether key is granted at exactly this version
+     */
+    public boolean isGrantedAt(ConsentKey key, String version) {
+        return isGranted(key) && versions[key.ordinal()].equals(version);
+    }
+
+    /**
+     * Public content of the user may be shown to others only while privacy consent stands
+     */
+    public boolean allowsPublicContent() {
+        return isGranted(ConsentKey.PRIVACY);
+    }
+
+    private static int bit(ConsentKey key) {
+        return 1 << key.ordinal();
+    }
+
+    // Getters
+    public Long getUserId() { return userId; }
+    public int getGrantedBits() { return grantedBits; }
+    public String getVersion(ConsentKey key) { return versions[key.ordinal()]; }
+}
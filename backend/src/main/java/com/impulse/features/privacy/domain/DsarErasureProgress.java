@@ -0,0 +1,62 @@
+package com.impulse.features.privacy.domain;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Value object: DsarErasureProgress
+ * Erasure state kept on the DSAR request: rows planned per step when the request was
+ * first claimed, rows erased so far, and the step in progress (null once all are done).
+ * It is saved in the same transaction as each batch, so a resumed erasure restarts
+ * exactly at the step it was in.
+ */
+public final class DsarErasureProgress {
+
+    private final DsarErasureStep step;
+    private final Map<DsarErasureStep, Long> planned;
+    private final Map<DsarErasureStep, Long> erased;
+
+    public DsarErasureProgress(DsarErasureStep step, Map<DsarErasureStep, Long> planned,
+                               Map<DsarErasureStep, Long> erased) {
+        this.step = step;
+        this.planned = copy(planned);
+        this.erased = copy(erased);
+    }
+
+    public static DsarErasureProgress planned(Map<DsarErasureStep, Long> planned) {
+        return new DsarErasureProgress(DsarErasureStep.values()[0], planned, Map.of());
+    }
+
+    /**
+     * Progress after a batch of step; a finished step moves on to the next one
+     */
+    public DsarErasureProgress record(DsarErasureStep batchStep, int rows, boolean stepFinished) {
+        Map<DsarErasureStep, Long> updated = copy(erased);
+        updated.merge(batchStep, (long) rows, Long::sum);
+        return new DsarErasureProgress(stepFinished ? batchStep.next() : batchStep, planned, updated);
+    }
+
+    public boolean isComplete() {
+        return step == null;
+    }
+
+    public long getPlannedTotal() {
+        return planned.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long getErasedTotal() {
+        return erased.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static Map<DsarErasureStep, Long> copy(Map<DsarErasureStep, Long> source) {
+        Map<DsarErasureStep, Long> copy = new EnumMap<>(DsarErasureStep.class);
+        copy.putAll(source);
+        return copy;
+    }
+
+    // Getters
+    public DsarErasureStep getStep() { return step; }
+    public Map<DsarErasureStep, Long> getPlanned() { return Collections.unmodifiableMap(planned); }
+    public Map<DsarErasureStep, Long> getErased() { return Collections.unmodifiableMap(erased); }
+}
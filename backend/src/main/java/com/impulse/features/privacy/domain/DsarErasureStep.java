@@ -0,0 +1,22 @@
+package com.impulse.features.privacy.domain;
+
+/**
+ * Steps of a DSAR erasure, in execution order. Leaf data goes first and the account row
+ * last, so every step only touches rows nothing later depends on. Each step either
+ * deletes rows or scrubs personal columns; rows kept for integrity (evidences,
+ * participations, challenges) end up soft-deleted and pointing at an anonymized user.
+ */
+public enum DsarErasureStep {
+    SESSIONS, REFRESH_TOKENS, PASSWORD_RESETS, EMAIL_VERIFICATIONS, AUTH_AUDIT,
+    EVENTS, SURVEY_ANSWERS, CONSENTS, REFERRALS, REPORTS, EXPORT_ARCHIVES,
+    EVIDENCE_MEDIA, EVIDENCES, PARTICIPATIONS, CHALLENGES, ROLES, ACCOUNT;
+
+    private static final DsarErasureStep[] VALUES = values();
+
+    /**
+     * @return the following step, or null after the last one
+     */
+    public DsarErasureStep next() {
+        return ordinal() + 1 < VALUES.length ? VALUES[ordinal() + 1] : null;
+    }
+}
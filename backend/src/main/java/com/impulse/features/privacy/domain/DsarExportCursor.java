@@ -0,0 +1,36 @@
+package com.impulse.features.privacy.domain;
+
+/**
+ * Value object: DsarExportCursor
+ * Position in the export stream: request, section and last row id written.
+ * Serialized as the chunked job's checkpoint key ("requestId:SECTION:rowId").
+ */
+public final class DsarExportCursor {
+
+    private final long requestId;
+    private final DsarExportSection section;
+    private final long rowId;
+
+    public DsarExportCursor(long requestId, DsarExportSection section, long rowId) {
+        this.requestId = requestId;
+        this.section = section;
+        this.rowId = rowId;
+    }
+
+    public static DsarExportCursor parse(String key) {
+        String[] parts = key.split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed DSAR export key: " + key);
+        }
+        return new DsarExportCursor(Long.parseLong(parts[0]), DsarExportSection.valueOf(parts[1]), Long.parseLong(parts[2]));
+    }
+
+    public String toKey() {
+        return requestId + ":" + section.name() + ":" + rowId;
+    }
+
+    // Getters
+    public long getRequestId() { return requestId; }
+    public DsarExportSection getSection() { return section; }
+    public long getRowId() { return rowId; }
+}
@@ -0,0 +1,38 @@
+package com.impulse.features.privacy.domain;
+
+/**
+ * Value object: DsarExportRow
+ * One row of a user's data on its way into the export archive: the row rendered as a
+ * JSON document, or for MEDIA the storage key of the evidence file.
+ */
+public final class DsarExportRow {
+
+    private final long requestId;
+    private final DsarExportSection section;
+    private final long rowId;
+    private final String json;
+    private final String mediaKey;
+
+    public DsarExportRow(long requestId, DsarExportSection section, long rowId, String json, String mediaKey) {
+        this.requestId = requestId;
+        this.section = section;
+        this.rowId = rowId;
+        this.json = json;
+        this.mediaKey = mediaKey;
+    }
+
+    public static DsarExportRow complete(long requestId) {
+        return new DsarExportRow(requestId, DsarExportSection.COMPLETE, 1, null, null);
+    }
+
+    public String key() {
+        return new DsarExportCursor(requestId, section, rowId).toKey();
+    }
+
+    // Getters
+    public long getRequestId() { return requestId; }
+    public DsarExportSection getSection() { return section; }
+    public long getRowId() { return rowId; }
+    public String getJson() { return json; }
+    public String getMediaKey() { return mediaKey; }
+}
@@ -0,0 +1,35 @@
+package com.impulse.features.privacy.domain;
+
+import java.util.Locale;
+
+/**
+ * Parts of a DSAR export, in archive order. Each data section becomes a directory of
+ * gzip JSON-lines files; MEDIA holds the evidence files themselves. COMPLETE carries no
+ * data and marks the end of one request's stream.
+ */
+public enum DsarExportSection {
+    PROFILE, CONSENTS, CHALLENGES, PARTICIPATIONS, EVIDENCES, EVENTS, AUDIT, MEDIA, COMPLETE;
+
+    private static final DsarExportSection[] VALUES = values();
+
+    public DsarExportSection next() {
+        if (this == COMPLETE) {
+            throw new IllegalStateException("COMPLETE is the last section");
+        }
+        return VALUES[ordinal() + 1];
+    }
+
+    /**
+     * Archive directory of the section; numbered so entry names sort in export order
+     */
+    public String entryPrefix() {
+        return String.format("%02d-%s/", ordinal() + 1, name().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Archive entry name for the item or part starting at rowId
+     */
+    public String entryName(long rowId, String suffix) {
+        return entryPrefix() + String.format("%020d", rowId) + suffix;
+    }
+}
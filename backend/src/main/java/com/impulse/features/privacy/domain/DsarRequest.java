@@ -0,0 +1,42 @@
+package com.impulse.features.privacy.domain;
+
+import com.impulse.shared.enums.DsarStatus;
+import com.impulse.shared.enums.DsarType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain entity: DsarRequest
+ * A data subject access request (export or erasure) and its processing state
+ */
+public class DsarRequest {
+
+    private final Long id;
+    private final Long userId;
+    private final DsarType type;
+    private final DsarStatus status;
+    private final String artifactUrl;
+    private final LocalDateTime createdAt;
+
+    public DsarRequest(Long id, Long userId, DsarType type, DsarStatus status, String artifactUrl,
+                       LocalDateTime createdAt) {
+        this.id = id;
+        this.userId = userId;
+        this.type = type;
+        this.status = status;
+        this.artifactUrl = artifactUrl;
+        this.createdAt = createdAt;
+    }
+
+    public boolean isOpen() {
+        return status == DsarStatus.PENDING || status == DsarStatus.PROCESSING;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public Long getUserId() { return userId; }
+    public DsarType getType() { return type; }
+    public DsarStatus getStatus() { return status; }
+    public String getArtifactUrl() { return artifactUrl; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,23 @@
+package com.impulse.features.privacy.domain;
+
+/**
+ * Value object: ErasableMedia
+ * An evidence file to remove from storage during an erasure
+ */
+public final class ErasableMedia {
+
+    private final long evidenceId;
+    private final String mediaKey;
+    private final long sizeBytes;
+
+    public ErasableMedia(long evidenceId, String mediaKey, long sizeBytes) {
+        this.evidenceId = evidenceId;
+        this.mediaKey = mediaKey;
+        this.sizeBytes = sizeBytes;
+    }
+
+    // Getters
+    public long getEvidenceId() { return evidenceId; }
+    public String getMediaKey() { return mediaKey; }
+    public long getSizeBytes() { return sizeBytes; }
+}
@@ -0,0 +1,24 @@
+package com.impulse.features.privacy.domain;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Domain event: EvidenceMediaErasedEvent
+ * Published when erasure detaches media from evidences, so in-memory data derived from
+ * that media (fingerprints) is dropped without waiting for a reload
+ */
+public final class EvidenceMediaErasedEvent {
+    private final List<Long> evidenceIds;
+
+    public EvidenceMediaErasedEvent(List<Long> evidenceIds) {
+        this.evidenceIds = List.copyOf(Objects.requireNonNull(evidenceIds, "Evidence IDs cannot be null"));
+    }
+
+    public List<Long> getEvidenceIds() { return evidenceIds; }
+
+    @Override
+    public String toString() {
+        return "EvidenceMediaErasedEvent{evidenceIds=" + evidenceIds + '}';
+    }
+}
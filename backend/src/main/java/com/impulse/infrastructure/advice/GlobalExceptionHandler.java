@@ -17,7 +17,9 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(DomainException.class)
     public ResponseEntity<Map<String,Object>> onDomain(DomainException ex) {
-        return build(ex.getCode(), ex.getMessage(), HttpStatus.BAD_REQUEST);
+        HttpStatus status = ErrorCodes.MEDIA_SCAN_BACKLOG.equals(ex.getCode())
+                ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.BAD_REQUEST;
+        return build(ex.getCode(), ex.getMessage(), status);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -0,0 +1,13 @@
+package com.impulse.infrastructure.audit;
+
+/**
+ * What AuditService does when its ring buffer is full (impulse.audit.overflow-policy)
+ */
+public enum AuditOverflowPolicy {
+    /** Wait for the drainer up to impulse.audit.block-timeout-ms, then drop */
+    BLOCK,
+    /** Discard the record and count it in impulse.audit.dropped */
+    DROP,
+    /** Append the record to the local spill file; the drainer replays it later */
+    SPILL
+}
@@ -0,0 +1,123 @@
+package com.impulse.infrastructure.audit;
+
+import com.impulse.features.jobs.application.port.out.JobHandler;
+import com.impulse.infrastructure.persistence.repositories.AuditPartitionRepository;
+import com.impulse.infrastructure.persistence.repositories.AuditPartitionRepository.Partition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly audit partitions (V11) ahead of the clock and enforces retention.
+ * Future months are split off the empty pmax partition, so inserts never land in pmax;
+ * months older than the retention window are dropped whole instead of DELETEd.
+ * Runs at startup on every node and daily as the cluster job audit-partition-maintenance;
+ * every step is idempotent.
+ */
+@Component
+public class AuditPartitionMaintenance implements JobHandler {
+
+    public static final String JOB_NAME = "audit-partition-maintenance";
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditPartitionMaintenance.class);
+
+    private static final Pattern MONTHLY = Pattern.compile("p(\\d{4})(\\d{2})");
+    private static final Pattern BOUND = Pattern.compile("'?(\\d{4}-\\d{2}-\\d{2})");
+
+    private final AuditPartitionRepository partitionRepository;
+    private final int monthsAhead;
+    private final Map<String, Integer> retentionMonths = new LinkedHashMap<>();
+
+    public AuditPartitionMaintenance(AuditPartitionRepository partitionRepository,
+                                     @Value("${impulse.audit.partitions-ahead-months:3}") int monthsAhead,
+                                     @Value("${impulse.audit.retention-months:24}") int auditRetentionMonths,
+                                     @Value("${impulse.audit.auth-retention-months:12}") int authRetentionMonths) {
+        this.partitionRepository = partitionRepository;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths.put("audit_log", auditRetentionMonths);
+        this.retentionMonths.put("auth_audit_log", authRetentionMonths);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Override
+    public String jobName() {
+        return JOB_NAME;
+    }
+
+    @Override
+    public void run(LocalDateTime scheduledFor) {
+        maintain();
+    }
+
+    public void maintain() {
+        YearMonth current = YearMonth.now();
+        retentionMonths.forEach((table, retention) -> {
+            try {
+                maintain(table, current, retention);
+            } catch (RuntimeException e) {
+                // Another node may be running the same DDL; the next run converges
+                logger.warn("Partition maintenance of {} failed: {}", table, e.getMessage());
+            }
+        });
+    }
+
+    private void maintain(String table, YearMonth current, int retention) {
+        List<Partition> partitions = partitionRepository.findPartitions(table);
+        if (partitions.stream().noneMatch(p -> AuditPartitionRepository.MAX_PARTITION.equals(p.name()))) {
+            logger.warn("{} is not partitioned by month, skipping maintenance", table);
+            return;
+        }
+
+        YearMonth latest = null;
+        for (Partition partition : partitions) {
+            Matcher m = MONTHLY.matcher(partition.name());
+            if (m.matches()) {
+                YearMonth month = YearMonth.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2)));
+                latest = latest == null || month.isAfter(latest) ? month : latest;
+            }
+        }
+        List<YearMonth> missing = new ArrayList<>();
+        YearMonth target = current.plusMonths(monthsAhead);
+        for (YearMonth month = latest == null ? current : latest.plusMonths(1); !month.isAfter(target); month = month.plusMonths(1)) {
+            missing.add(month);
+        }
+        if (!missing.isEmpty()) {
+            partitionRepository.addMonths(table, missing);
+            logger.info("Created {} partitions {}..{}", table, missing.get(0), missing.get(missing.size() - 1));
+        }
+
+        if (retention <= 0) {
+            return;
+        }
+        // A partition goes once its newest possible row is older than the window
+        LocalDate cutoff = current.minusMonths(retention).atDay(1);
+        List<String> expired = new ArrayList<>();
+        for (Partition partition : partitions) {
+            Matcher m = partition.upperBound() == null ? null : BOUND.matcher(partition.upperBound());
+            if (m != null && m.lookingAt() && !LocalDate.parse(m.group(1)).isAfter(cutoff)) {
+                expired.add(partition.name());
+            }
+        }
+        if (!expired.isEmpty()) {
+            partitionRepository.dropPartitions(table, expired);
+            logger.info("Dropped {} partitions {} (retention {} months)", table, expired, retention);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.impulse.infrastructure.audit;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * One audit_log row waiting to be written. Metadata is kept as a map and only
+ * serialized by the drainer, off the request thread.
+ */
+public class AuditRecord {
+
+    private final Long actorUserId;
+    private final String action;
+    private final String resourceType;
+    private final String resourceId;
+    private final String reason;
+    private final Map<String, Object> metadata;
+    private final String correlationId;
+    private final LocalDateTime createdAt;
+    private final long enqueuedNanos;
+
+    public AuditRecord(Long actorUserId, String action, String resourceType, String resourceId,
+                       String reason, Map<String, Object> metadata, String correlationId,
+                       LocalDateTime createdAt, long enqueuedNanos) {
+        this.actorUserId = actorUserId;
+        this.action = action;
+        this.resourceType = resourceType;
+        this.resourceId = resourceId;
+        this.reason = reason;
+        this.metadata = metadata;
+        this.correlationId = correlationId;
+        this.createdAt = createdAt;
+        this.enqueuedNanos = enqueuedNanos;
+    }
+
+    // Getters
+    public Long getActorUserId() { return actorUserId; }
+    public String getAction() { return action; }
+    public String getResourceType() { return resourceType; }
+    public String getResourceId() { return resourceId; }
+    public String getReason() { return reason; }
+    public Map<String, Object> getMetadata() { return metadata; }
+    public String getCorrelationId() { return correlationId; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public long getEnqueuedNanos() { return enqueuedNanos; }
+}
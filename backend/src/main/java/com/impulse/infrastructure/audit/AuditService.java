@@ -1,22 +1,374 @@
 package com.impulse.infrastructure.audit;
 
-import com.impulse.shared.annotations.Generated;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.impulse.infrastructure.persistence.repositories.AuditLogRepository;
+import com.impulse.infrastructure.tracing.TraceActivityRing;
+import com.impulse.shared.utils.CorrelationId;
+import com.impulse.shared.utils.RingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Audit Service
- * Centralized audit logging for compliance
+ * Centralized audit logging for compliance.
+ * logAction only stamps the record (correlation ID, time) and offers it to a lock-free
+ * ring buffer; a dedicated drainer thread writes audit_log in JDBC batches, so audited
+ * requests never wait on an INSERT. A full buffer is handled per impulse.audit.overflow-policy.
+ * Batches that fail to insert go to the spill file, which the drainer replays once the
+ * buffer is empty; replay is at-least-once. Metadata is stored in audit_log only, never logged.
  */
-@Generated
 @Service
 public class AuditService {
 
-    // TODO: Implement audit logging
-    // - Log user actions to audit_log table
-    // - Include correlation ID and metadata
-    // - Privacy-aware logging (no PII in logs)
+    private static final Logger logger = LoggerFactory.getLogger(AuditService.class);
+
+    private static final TypeReference<Map<String, Object>> SPILL_LINE = new TypeReference<>() {};
+    private static final long REPLAY_RETRY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final AuditLogRepository auditLogRepository;
+    private final ObjectMapper objectMapper;
+    private final TraceActivityRing activityRing;
+    private final RingBuffer<AuditRecord> buffer;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final long idleParkNanos;
+    private final long blockTimeoutNanos;
+    private final Path spillFile;
+    private final Path replayFile;
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter spilledCounter;
+    private final Timer flushTimer;
+    private final Timer lagTimer;
+
+    private final Object spillLock = new Object();
+    private BufferedWriter spillWriter;
+
+    private volatile boolean running;
+    private Thread drainer;
+    private long nextReplayNanos;
+
+    public AuditService(AuditLogRepository auditLogRepository,
+                        ObjectMapper objectMapper,
+                        TraceActivityRing activityRing,
+                        MeterRegistry meterRegistry,
+                        @Value("${impulse.audit.buffer-capacity:8192}") int bufferCapacity,
+                        @Value("${impulse.audit.overflow-policy:SPILL}") AuditOverflowPolicy overflowPolicy,
+                        @Value("${impulse.audit.batch-size:500}") int batchSize,
+                        @Value("${impulse.audit.flush-interval-ms:200}") long flushIntervalMillis,
+                        @Value("${impulse.audit.block-timeout-ms:1000}") long blockTimeoutMillis,
+                        @Value("${impulse.audit.spill-file:backend/storage/audit/spill.jsonl}") String spillFile) {
+        this.auditLogRepository = auditLogRepository;
+        this.objectMapper = objectMapper;
+        this.activityRing = activityRing;
+        this.buffer = new RingBuffer<>(bufferCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
+        this.idleParkNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+        this.spillFile = Paths.get(spillFile);
+        this.replayFile = Paths.get(spillFile + ".replay");
+
+        Gauge.builder("impulse.audit.buffer.size", buffer, RingBuffer::size)
+            .description("Audit records waiting in the ring buffer")
+            .register(meterRegistry);
+        this.writtenCounter = Counter.builder("impulse.audit.written").register(meterRegistry);
+        this.droppedCounter = Counter.builder("impulse.audit.dropped")
+            .description("Audit records discarded because the buffer was full")
+            .register(meterRegistry);
+        this.spilledCounter = Counter.builder("impulse.audit.spilled").register(meterRegistry);
+        this.flushTimer = Timer.builder("impulse.audit.flush").register(meterRegistry);
+        this.lagTimer = Timer.builder("impulse.audit.lag")
+            .description("Time from logAction to the batch commit, oldest record per batch")
+            .register(meterRegistry);
+    }
 
     public void logAction(String action, String resourceType, String resourceId) {
-        // TODO: Log to audit_log with correlation ID
+        logAction(null, action, resourceType, resourceId, null, null);
+    }
+
+    /**
+     * Queue one audit_log row; returns without touching the database
+     */
+    public void logAction(Long actorUserId, String action, String resourceType, String resourceId,
+                          String reason, Map<String, Object> metadata) {
+        if (action == null || resourceType == null || resourceId == null) {
+            throw new IllegalArgumentException("action, resourceType and resourceId are required");
+        }
+        AuditRecord record = new AuditRecord(actorUserId, action, resourceType, resourceId, reason,
+            metadata == null || metadata.isEmpty() ? null : new LinkedHashMap<>(metadata),
+            CorrelationId.get(), LocalDateTime.now(), System.nanoTime());
+        activityRing.record(record.getCorrelationId(), "audit", action + " " + resourceType + ":" + resourceId, Map.of());
+        if (buffer.offer(record)) {
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                long deadline = System.nanoTime() + blockTimeoutNanos;
+                while (!buffer.offer(record)) {
+                    if (System.nanoTime() - deadline >= 0) {
+                        droppedCounter.increment();
+                        return;
+                    }
+                    LockSupport.unpark(drainer);
+                    LockSupport.parkNanos(50_000L);
+                }
+            }
+            case DROP -> droppedCounter.increment();
+            case SPILL -> spill(List.of(record));
+        }
+    }
+
+    /**
+     * Queue the row once the caller's transaction commits, so a rolled-back action leaves
+     * no audit trail; without a transaction it is queued right away
+     */
+    public void logActionAfterCommit(Long actorUserId, String action, String resourceType, String resourceId,
+                                     String reason, Map<String, Object> metadata) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            logAction(actorUserId, action, resourceType, resourceId, reason, metadata);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                logAction(actorUserId, action, resourceType, resourceId, reason, metadata);
+            }
+        });
+    }
+
+    /**
+     * Records not yet handed to the database
+     */
+    public int pendingRecords() {
+        return buffer.size();
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        drainer = new Thread(this::drainLoop, "audit-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(drainer);
+        drainer.join(TimeUnit.SECONDS.toMillis(10));
+        if (drainer.isAlive()) {
+            logger.warn("Audit drainer still busy at shutdown, {} records may be lost", buffer.size());
+        } else {
+            // Whatever the drainer left behind goes to disk for the next start
+            List<AuditRecord> rest = new ArrayList<>();
+            buffer.drainTo(rest, Integer.MAX_VALUE);
+            if (!rest.isEmpty()) {
+                spill(rest);
+            }
+        }
+        closeSpillWriter();
+    }
+
+    private void drainLoop() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                if (buffer.drainTo(batch, batchSize) > 0) {
+                    write(batch);
+                    batch.clear();
+                    continue;
+                }
+                replaySpill();
+                LockSupport.parkNanos(idleParkNanos);
+            } catch (RuntimeException e) {
+                logger.error("Audit drainer iteration failed", e);
+                batch.clear();
+            }
+        }
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<AuditRecord> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (AuditRecord record : batch) {
+            rows.add(toRow(record.getActorUserId(), record.getAction(), record.getResourceType(),
+                record.getResourceId(), record.getReason(), record.getMetadata(),
+                record.getCorrelationId(), record.getCreatedAt()));
+        }
+        long started = System.nanoTime();
+        try {
+            auditLogRepository.insertBatch(rows);
+        } catch (RuntimeException e) {
+            logger.warn("Audit batch of {} records failed, spilling to disk: {}", batch.size(), e.getMessage());
+            spill(batch);
+            return;
+        }
+        long now = System.nanoTime();
+        flushTimer.record(now - started, TimeUnit.NANOSECONDS);
+        lagTimer.record(now - batch.get(0).getEnqueuedNanos(), TimeUnit.NANOSECONDS);
+        writtenCounter.increment(batch.size());
+    }
+
+    private void spill(List<AuditRecord> records) {
+        synchronized (spillLock) {
+            try {
+                if (spillWriter == null) {
+                    Files.createDirectories(spillFile.toAbsolutePath().getParent());
+                    spillWriter = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                }
+                for (AuditRecord record : records) {
+                    Map<String, Object> line = new LinkedHashMap<>();
+                    line.put("actorUserId", record.getActorUserId());
+                    line.put("action", record.getAction());
+                    line.put("resourceType", record.getResourceType());
+                    line.put("resourceId", record.getResourceId());
+                    line.put("reason", record.getReason());
+                    line.put("metadata", record.getMetadata());
+                    line.put("correlationId", record.getCorrelationId());
+                    line.put("createdAt", record.getCreatedAt().toString());
+                    spillWriter.write(objectMapper.writeValueAsString(line));
+                    spillWriter.newLine();
+                }
+                spillWriter.flush();
+                spilledCounter.increment(records.size());
+            } catch (IOException e) {
+                logger.error("Could not spill {} audit records, dropping them: {}", records.size(), e.getMessage());
+                droppedCounter.increment(records.size());
+            }
+        }
+    }
+
+    /**
+     * Moves the spill file aside and writes it to audit_log; a failed replay keeps the file for the next idle pass
+     */
+    private void replaySpill() {
+        if (System.nanoTime() - nextReplayNanos < 0) {
+            return;
+        }
+        synchronized (spillLock) {
+            if (!Files.exists(replayFile) && Files.exists(spillFile)) {
+                closeSpillWriter();
+                try {
+                    Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    logger.warn("Could not rotate audit spill file: {}", e.getMessage());
+                    return;
+                }
+            }
+        }
+        if (!Files.exists(replayFile)) {
+            return;
+        }
+
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            List<Object[]> rows = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Map<String, Object> spilled = objectMapper.readValue(line, SPILL_LINE);
+                @SuppressWarnings("unchecked")
+                Map<String, Object> metadata = (Map<String, Object>) spilled.get("metadata");
+                Object actor = spilled.get("actorUserId");
+                rows.add(toRow(actor == null ? null : ((Number) actor).longValue(),
+                    (String) spilled.get("action"), (String) spilled.get("resourceType"),
+                    (String) spilled.get("resourceId"), (String) spilled.get("reason"), metadata,
+                    (String) spilled.get("correlationId"), LocalDateTime.parse((String) spilled.get("createdAt"))));
+                if (rows.size() == batchSize) {
+                    auditLogRepository.insertBatch(rows);
+                    replayed += rows.size();
+                    rows.clear();
+                }
+            }
+            auditLogRepository.insertBatch(rows);
+            replayed += rows.size();
+        } catch (IOException | RuntimeException e) {
+            nextReplayNanos = System.nanoTime() + REPLAY_RETRY_NANOS;
+            logger.warn("Audit spill replay stopped after {} records: {}", replayed, e.getMessage());
+            return;
+        }
+
+        try {
+            Files.delete(replayFile);
+        } catch (IOException e) {
+            logger.warn("Could not delete replayed audit spill file: {}", e.getMessage());
+        }
+        writtenCounter.increment(replayed);
+        logger.info("Replayed {} spilled audit records", replayed);
+    }
+
+    private Object[] toRow(Long actorUserId, String action, String resourceType, String resourceId,
+                           String reason, Map<String, Object> metadata, String correlationId,
+                           LocalDateTime createdAt) {
+        String metadataJson = null;
+        if (metadata != null) {
+            try {
+                metadataJson = objectMapper.writeValueAsString(metadata);
+            } catch (JsonProcessingException e) {
+                logger.warn("Unserializable audit metadata for action {}", action);
+            }
+        }
+        // An oversized value would fail the whole batch, so trim to the column widths
+        return new Object[] {
+            actorUserId, truncate(action, 64), truncate(resourceType, 32), truncate(resourceId, 64),
+            truncate(reason, 500), metadataJson, truncate(correlationId, 64), Timestamp.valueOf(createdAt)
+        };
+    }
+
+    private static String truncate(String value, int max) {
+        return value == null || value.length() <= max ? value : value.substring(0, max);
+    }
+
+    private void closeSpillWriter() {
+        synchronized (spillLock) {
+            if (spillWriter == null) {
+                return;
+            }
+            try {
+                spillWriter.close();
+            } catch (IOException e) {
+                logger.warn("Could not close audit spill file: {}", e.getMessage());
+            }
+            spillWriter = null;
+        }
     }
 }
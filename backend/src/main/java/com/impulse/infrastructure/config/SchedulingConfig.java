@@ -0,0 +1,14 @@
+package com.impulse.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ * Enables @Scheduled triggers used by adapters.in.scheduler packages
+ * Pool size is set through spring.task.scheduling.pool.size
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
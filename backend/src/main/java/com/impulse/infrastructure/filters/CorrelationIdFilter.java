@@ -1,28 +1,43 @@
 package com.impulse.infrastructure.filters;
 
+import com.impulse.infrastructure.tracing.TraceActivityRing;
 import com.impulse.shared.utils.CorrelationId;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.Map;
 
-/** Ensures X-Correlation-Id is present and propagated */
+/** Ensures X-Correlation-Id is present and propagated; each request is noted in the trace ring */
 @Component
 public class CorrelationIdFilter implements Filter {
     public static final String HEADER = "X-Correlation-Id";
+    private final TraceActivityRing activityRing;
+    public CorrelationIdFilter(TraceActivityRing activityRing) { this.activityRing = activityRing; }
     @Override public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        long started = System.nanoTime();
+        String correlationId = null;
         try {
             if (request instanceof HttpServletRequest) {
                 HttpServletRequest req = (HttpServletRequest) request;
                 String header = req.getHeader(HEADER);
                 if (header == null || header.isBlank()) {
-                    CorrelationId.generate();
+                    correlationId = CorrelationId.generate();
                 } else {
+                    correlationId = header;
                     CorrelationId.set(header);
                 }
             }
             chain.doFilter(request, response);
-        } finally { CorrelationId.clear(); }
+        } finally {
+            if (request instanceof HttpServletRequest req && response instanceof HttpServletResponse res) {
+                // Path only: query strings may carry tokens or personal data
+                activityRing.record(correlationId, "request", req.getMethod() + " " + req.getRequestURI(),
+                    Map.of("status", res.getStatus(), "durationMs", (System.nanoTime() - started) / 1_000_000));
+            }
+            CorrelationId.clear();
+        }
     }
 }
@@ -0,0 +1,37 @@
+package com.impulse.infrastructure.persistence.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Audit Log Repository
+ * Batched inserts into audit_log; each batch commits on its own.
+ */
+@Repository
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+public class AuditLogRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditLogRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Each row: actor_user_id, action, resource_type, resource_id, reason, metadata (JSON text),
+     * correlation_id, created_at
+     */
+    public void insertBatch(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO audit_log (actor_user_id, action, resource_type, resource_id, reason, metadata, " +
+            "correlation_id, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+            rows);
+    }
+}
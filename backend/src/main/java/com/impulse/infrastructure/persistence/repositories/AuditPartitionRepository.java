@@ -0,0 +1,83 @@
+package com.impulse.infrastructure.persistence.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Audit Partition Repository
+ * Partition DDL for the monthly RANGE COLUMNS (created_at) audit tables (V11).
+ * DDL commits implicitly, so nothing here is transactional.
+ */
+@Repository
+public class AuditPartitionRepository {
+
+    public static final String MAX_PARTITION = "pmax";
+
+    private static final Set<String> TABLES = Set.of("audit_log", "auth_audit_log");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditPartitionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Partitions in order; upperBound is the exclusive created_at bound as stored by MySQL
+     * (a quoted datetime, or MAXVALUE)
+     */
+    public List<Partition> findPartitions(String table) {
+        return jdbcTemplate.query(
+            "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+            "ORDER BY PARTITION_ORDINAL_POSITION",
+            (rs, rowNum) -> new Partition(rs.getString(1), rs.getString(2)),
+            checked(table));
+    }
+
+    /**
+     * Splits the empty catch-all partition into one partition per month, keeping it last
+     */
+    public void addMonths(String table, List<YearMonth> months) {
+        if (months.isEmpty()) {
+            return;
+        }
+        String monthly = months.stream()
+            .map(month -> "PARTITION " + partitionName(month) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')")
+            .collect(Collectors.joining(", "));
+        jdbcTemplate.execute("ALTER TABLE " + checked(table) + " REORGANIZE PARTITION " + MAX_PARTITION +
+            " INTO (" + monthly + ", PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+    }
+
+    /**
+     * Drops whole partitions with their rows; a metadata operation, unlike DELETE
+     */
+    public void dropPartitions(String table, List<String> partitionNames) {
+        if (partitionNames.isEmpty()) {
+            return;
+        }
+        for (String name : partitionNames) {
+            if (!name.matches("p[_a-z0-9]+") || MAX_PARTITION.equals(name)) {
+                throw new IllegalArgumentException("Refusing to drop partition " + name);
+            }
+        }
+        jdbcTemplate.execute("ALTER TABLE " + checked(table) + " DROP PARTITION " + String.join(", ", partitionNames));
+    }
+
+    public static String partitionName(YearMonth month) {
+        return String.format("p%04d%02d", month.getYear(), month.getMonthValue());
+    }
+
+    private static String checked(String table) {
+        if (!TABLES.contains(table)) {
+            throw new IllegalArgumentException("Not a partitioned audit table: " + table);
+        }
+        return table;
+    }
+
+    public record Partition(String name, String upperBound) {}
+}
@@ -0,0 +1,77 @@
+package com.impulse.infrastructure.persistence.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Storage Blob Repository
+ * Reference counts for content-addressed blobs (storage_blobs table).
+ * Each method runs in its own transaction: counts must not roll back with the
+ * business transaction that happened to trigger an upload.
+ */
+@Repository
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+public class StorageBlobRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StorageBlobRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adds a reference, creating the row when the content is new.
+     * @return true when this call created the row (the caller must provide the bytes)
+     */
+    public boolean acquire(String sha256, long sizeBytes) {
+        // MySQL reports 1 affected row for an insert and 2 for the duplicate-key update
+        int affected = jdbcTemplate.update(
+            "INSERT INTO storage_blobs (sha256, size_bytes, ref_count) VALUES (?, ?, 1) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1",
+            sha256, sizeBytes);
+        return affected == 1;
+    }
+
+    /**
+     * Adds a reference only if the blob is live and its file is already in place.
+     * The row is created before the first uploader has moved the file in, so fileExists
+     * is checked under the same row lock that increments the count; release deletes the
+     * file under that lock too.
+     * @return true when a reference was added
+     */
+    public boolean acquireExisting(String sha256, BooleanSupplier fileExists) {
+        List<Integer> counts = jdbcTemplate.queryForList(
+            "SELECT ref_count FROM storage_blobs WHERE sha256 = ? FOR UPDATE", Integer.class, sha256);
+        if (counts.isEmpty() || counts.get(0) <= 0 || !fileExists.getAsBoolean()) {
+            return false;
+        }
+        jdbcTemplate.update("UPDATE storage_blobs SET ref_count = ref_count + 1 WHERE sha256 = ?", sha256);
+        return true;
+    }
+
+    /**
+     * Drops a reference; when it was the last one the row is deleted and onLastReference
+     * runs while the row lock is still held, so no concurrent acquire can observe a row
+     * whose file is being removed.
+     * @return true when the last reference was released
+     */
+    public boolean release(String sha256, Runnable onLastReference) {
+        List<Integer> counts = jdbcTemplate.queryForList(
+            "SELECT ref_count FROM storage_blobs WHERE sha256 = ? FOR UPDATE", Integer.class, sha256);
+        if (counts.isEmpty()) {
+            return false;
+        }
+        if (counts.get(0) > 1) {
+            jdbcTemplate.update("UPDATE storage_blobs SET ref_count = ref_count - 1 WHERE sha256 = ?", sha256);
+            return false;
+        }
+        jdbcTemplate.update("DELETE FROM storage_blobs WHERE sha256 = ?", sha256);
+        onLastReference.run();
+        return true;
+    }
+}
@@ -0,0 +1,67 @@
+package com.impulse.infrastructure.persistence.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Storage Pending Reference Repository
+ * Blob references taken by uploads that no evidence has claimed yet (storage_pending_refs table).
+ */
+@Repository
+public class StoragePendingRefRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StoragePendingRefRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Records a freshly acquired reference; commits on its own like the reference itself,
+     * so a rolled-back caller cannot leave a reference without its pending row.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void add(String sha256, Long userId, long sizeBytes, LocalDateTime expiresAt) {
+        jdbcTemplate.update(
+            "INSERT INTO storage_pending_refs (sha256, user_id, size_bytes, expires_at) VALUES (?, ?, ?, ?)",
+            sha256, userId, sizeBytes, Timestamp.valueOf(expiresAt));
+    }
+
+    /**
+     * Turns one pending reference of the user into a permanent one. Joins the caller's
+     * transaction, so the claim rolls back with the evidence that made it.
+     * @return false when the user holds no unclaimed reference to the blob
+     */
+    @Transactional
+    public boolean claim(String sha256, Long userId) {
+        return jdbcTemplate.update(
+            "DELETE FROM storage_pending_refs WHERE user_id = ? AND sha256 = ? ORDER BY id LIMIT 1",
+            userId, sha256) == 1;
+    }
+
+    @Transactional(readOnly = true)
+    public List<PendingRef> findExpired(LocalDateTime now, int limit) {
+        return jdbcTemplate.query(
+            "SELECT id, sha256, user_id, size_bytes FROM storage_pending_refs " +
+            "WHERE expires_at < ? ORDER BY expires_at LIMIT ?",
+            (rs, rowNum) -> new PendingRef(rs.getLong("id"), rs.getString("sha256"),
+                rs.getLong("user_id"), rs.getLong("size_bytes")),
+            Timestamp.valueOf(now), limit);
+    }
+
+    /**
+     * @return false when a claim or another node's sweep removed the row first
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean delete(long id) {
+        return jdbcTemplate.update("DELETE FROM storage_pending_refs WHERE id = ?", id) == 1;
+    }
+
+    public record PendingRef(long id, String sha256, long userId, long sizeBytes) {}
+}
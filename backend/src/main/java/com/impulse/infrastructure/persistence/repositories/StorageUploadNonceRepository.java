@@ -0,0 +1,39 @@
+package com.impulse.infrastructure.persistence.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Storage Upload Nonce Repository
+ * Tokens of presigned upload URLs that were already used (storage_upload_nonces table).
+ * A row is only needed until the URL expires; after that the signature check rejects it.
+ */
+@Repository
+@Transactional
+public class StorageUploadNonceRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StorageUploadNonceRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Marks the token used; the primary key makes this atomic across nodes.
+     * @return true on the first use of the token
+     */
+    public boolean consume(String nonce, Long userId, LocalDateTime expiresAt) {
+        return jdbcTemplate.update(
+            "INSERT IGNORE INTO storage_upload_nonces (nonce, user_id, expires_at) VALUES (?, ?, ?)",
+            nonce, userId, Timestamp.valueOf(expiresAt)) == 1;
+    }
+
+    public int purgeExpired(LocalDateTime now, int limit) {
+        return jdbcTemplate.update(
+            "DELETE FROM storage_upload_nonces WHERE expires_at < ? LIMIT ?", Timestamp.valueOf(now), limit);
+    }
+}
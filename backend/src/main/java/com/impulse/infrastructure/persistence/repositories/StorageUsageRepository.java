@@ -0,0 +1,70 @@
+package com.impulse.infrastructure.persistence.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Storage Usage Repository
+ * Durable per-user byte counters (storage_usage table) and the storage quota of the
+ * user's plan. Writes run in their own transaction, like blob reference counts.
+ */
+@Repository
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+public class StorageUsageRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StorageUsageRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional(readOnly = true)
+    public long findUsedBytes(Long userId) {
+        List<Long> used = jdbcTemplate.queryForList(
+            "SELECT used_bytes FROM storage_usage WHERE user_id = ?", Long.class, userId);
+        return used.isEmpty() ? 0L : used.get(0);
+    }
+
+    /**
+     * storageGB of the user's live subscription plan (features JSON), or null without one
+     */
+    @Transactional(readOnly = true)
+    public Long findPlanStorageGb(Long userId) {
+        List<Long> quota = jdbcTemplate.queryForList(
+            "SELECT CAST(JSON_EXTRACT(p.features, '$.storageGB') AS SIGNED) FROM subscriptions s " +
+            "JOIN plans p ON p.id = s.plan_id " +
+            "WHERE s.user_id = ? AND s.status IN ('active', 'trialing', 'past_due') " +
+            "AND JSON_EXTRACT(p.features, '$.storageGB') IS NOT NULL " +
+            "ORDER BY s.updated_at DESC LIMIT 1",
+            Long.class, userId);
+        return quota.isEmpty() ? null : quota.get(0);
+    }
+
+    /**
+     * Charges bytes to the user's row only when the result stays within limitBytes.
+     * The check and the increment are one conditional UPDATE, so concurrent reservations
+     * from any node serialise on the row and cannot overshoot the quota together.
+     * @return false when the quota would be exceeded
+     */
+    public boolean tryReserve(Long userId, long bytes, long limitBytes) {
+        jdbcTemplate.update("INSERT IGNORE INTO storage_usage (user_id, used_bytes) VALUES (?, 0)", userId);
+        return jdbcTemplate.update(
+            "UPDATE storage_usage SET used_bytes = used_bytes + ? " +
+            "WHERE user_id = ? AND used_bytes + ? <= ?",
+            bytes, userId, bytes, limitBytes) == 1;
+    }
+
+    /**
+     * Adds a signed byte delta without a quota check; the counter never goes below zero
+     */
+    public void add(Long userId, long deltaBytes) {
+        jdbcTemplate.update(
+            "INSERT INTO storage_usage (user_id, used_bytes) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE used_bytes = CAST(GREATEST(0, CAST(used_bytes AS SIGNED) + ?) AS UNSIGNED)",
+            userId, Math.max(deltaBytes, 0L), deltaBytes);
+    }
+}
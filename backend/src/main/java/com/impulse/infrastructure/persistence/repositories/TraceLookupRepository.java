@@ -0,0 +1,83 @@
+package com.impulse.infrastructure.persistence.repositories;
+
+import com.impulse.infrastructure.tracing.TraceEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Trace Lookup Repository
+ * One correlation_id query per table, each served by its correlation index
+ * (ix_events_corr, ix_audit_corr, ix_auth_audit_corr, ix_idem_corr). The created_at
+ * bound lets the partitioned audit tables prune to the requested months.
+ * Statements carry a JDBC query timeout derived from impulse.trace.query-timeout-ms, so a
+ * slow table is cancelled in the database and releases its lookup thread instead of only
+ * being abandoned by the caller.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class TraceLookupRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TraceLookupRepository(JdbcTemplate jdbcTemplate,
+                                 @Value("${impulse.trace.query-timeout-ms:2000}") long queryTimeoutMillis) {
+        // Own template: the timeout must not apply to the shared one
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        // JDBC timeouts are whole seconds; round up so the caller gives up first
+        this.jdbcTemplate.setQueryTimeout((int) Math.max(1, (queryTimeoutMillis + 999) / 1000));
+    }
+
+    public List<TraceEntry> findEvents(String correlationId, LocalDateTime since, int limit) {
+        return jdbcTemplate.query(
+            "SELECT event_key, user_id, created_at FROM events " +
+            "WHERE correlation_id = ? AND created_at >= ? ORDER BY created_at LIMIT ?",
+            (rs, rowNum) -> new TraceEntry(rs.getTimestamp("created_at").toLocalDateTime(), "event",
+                rs.getString("event_key"), attributes("userId", rs.getObject("user_id"))),
+            correlationId, Timestamp.valueOf(since), limit);
+    }
+
+    public List<TraceEntry> findAudit(String correlationId, LocalDateTime since, int limit) {
+        return jdbcTemplate.query(
+            "SELECT action, resource_type, resource_id, actor_user_id, created_at FROM audit_log " +
+            "WHERE correlation_id = ? AND created_at >= ? ORDER BY created_at LIMIT ?",
+            (rs, rowNum) -> new TraceEntry(rs.getTimestamp("created_at").toLocalDateTime(), "audit",
+                rs.getString("action") + " " + rs.getString("resource_type") + ":" + rs.getString("resource_id"),
+                attributes("actorUserId", rs.getObject("actor_user_id"))),
+            correlationId, Timestamp.valueOf(since), limit);
+    }
+
+    public List<TraceEntry> findAuthAudit(String correlationId, LocalDateTime since, int limit) {
+        return jdbcTemplate.query(
+            "SELECT event_type, event_status, user_id, created_at FROM auth_audit_log " +
+            "WHERE correlation_id = ? AND created_at >= ? ORDER BY created_at LIMIT ?",
+            (rs, rowNum) -> new TraceEntry(rs.getTimestamp("created_at").toLocalDateTime(), "auth",
+                rs.getString("event_type") + " " + rs.getString("event_status"),
+                attributes("userId", rs.getObject("user_id"))),
+            correlationId, Timestamp.valueOf(since), limit);
+    }
+
+    public List<TraceEntry> findIdempotencyKeys(String correlationId, LocalDateTime since, int limit) {
+        return jdbcTemplate.query(
+            "SELECT response_status, first_seen_at FROM idempotency_keys " +
+            "WHERE correlation_id = ? AND first_seen_at >= ? ORDER BY first_seen_at LIMIT ?",
+            (rs, rowNum) -> new TraceEntry(rs.getTimestamp("first_seen_at").toLocalDateTime(), "idempotency",
+                "idempotent request", attributes("responseStatus", rs.getObject("response_status"))),
+            correlationId, Timestamp.valueOf(since), limit);
+    }
+
+    private static Map<String, Object> attributes(String key, Object value) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        if (value != null) {
+            attributes.put(key, value);
+        }
+        return attributes;
+    }
+}
@@ -0,0 +1,71 @@
+package com.impulse.infrastructure.services;
+
+import com.impulse.infrastructure.persistence.repositories.StorageUsageRepository;
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ErrorCodes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service for per-user storage quota (TierLimits.storageGB, -1 = unlimited)
+ * Usage lives in the storage_usage row of each user. A reservation is a conditional
+ * increment of that row, so the quota holds across nodes; refunds and true-ups are
+ * plain signed increments. Every write commits on its own, like blob reference counts.
+ */
+@Service
+public class StorageQuotaService {
+
+    private static final long BYTES_PER_GB = 1024L * 1024 * 1024;
+    private static final long UNLIMITED = -1L;
+
+    private final StorageUsageRepository usageRepository;
+    private final long defaultQuotaGb;
+
+    public StorageQuotaService(StorageUsageRepository usageRepository,
+                               @Value("${impulse.storage.quota.default-gb:1}") long defaultQuotaGb) {
+        this.usageRepository = usageRepository;
+        this.defaultQuotaGb = defaultQuotaGb;
+    }
+
+    /**
+     * Charge bytes to a user, or reject before anything is written when the quota would be exceeded.
+     * Zero bytes only checks that the quota is not already exhausted.
+     */
+    public void reserve(Long userId, long bytes) {
+        long limitBytes = limitBytes(userId);
+        if (limitBytes == UNLIMITED) {
+            adjust(userId, bytes);
+            return;
+        }
+        boolean reserved = bytes > 0
+            ? usageRepository.tryReserve(userId, bytes, limitBytes)
+            : usageRepository.findUsedBytes(userId) < limitBytes;
+        if (!reserved) {
+            throw new DomainException("Storage quota of " + limitBytes + " bytes exceeded",
+                ErrorCodes.STORAGE_QUOTA_EXCEEDED);
+        }
+    }
+
+    /**
+     * Apply a correction without a quota check: refunds (negative) and true-ups after an
+     * upload whose final size differs from what was reserved
+     */
+    public void adjust(Long userId, long deltaBytes) {
+        if (deltaBytes != 0) {
+            usageRepository.add(userId, deltaBytes);
+        }
+    }
+
+    /**
+     * Bytes currently charged to a user
+     */
+    public long usedBytes(Long userId) {
+        return usageRepository.findUsedBytes(userId);
+    }
+
+    private long limitBytes(Long userId) {
+        Long planGb = usageRepository.findPlanStorageGb(userId);
+        long quotaGb = planGb != null ? planGb : defaultQuotaGb;
+        return quotaGb < 0 ? UNLIMITED : quotaGb * BYTES_PER_GB;
+    }
+}
@@ -1,10 +1,46 @@
 package com.impulse.infrastructure.services;
 
+import com.impulse.infrastructure.persistence.repositories.StorageBlobRepository;
+import com.impulse.infrastructure.persistence.repositories.StoragePendingRefRepository;
+import com.impulse.infrastructure.persistence.repositories.StorageUploadNonceRepository;
+import com.impulse.infrastructure.storage.BlobReleasedEvent;
+import com.impulse.infrastructure.storage.MetadataStripper;
+import com.impulse.infrastructure.storage.SignedStorageUrl;
+import com.impulse.infrastructure.storage.StorageUrlSigner;
+import com.impulse.shared.error.DomainException;
+import com.impulse.shared.error.ErrorCodes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 /**
  * Service for file storage operations
@@ -13,7 +49,52 @@
 @Service
 public class StorageService {
 
+    private static final Logger logger = LoggerFactory.getLogger(StorageService.class);
+
     private static final String BASE_DIR = "backend/storage/";
+    private static final String BLOB_DIR = "blobs";
+    private static final String STAGING_DIR = "staging";
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern UPLOAD_ID = Pattern.compile("[0-9a-f-]{36}");
+
+    private final StorageBlobRepository blobRepository;
+    private final StorageUploadNonceRepository uploadNonceRepository;
+    private final StoragePendingRefRepository pendingRefRepository;
+    private final StorageQuotaService quotaService;
+    private final StorageUrlSigner urlSigner;
+    private final MetadataStripper metadataStripper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int streamBufferBytes;
+    private final Duration signedUrlTtl;
+    private final long maxUploadBytes;
+    private final Duration pendingRefTtl;
+    private final int pendingRefSweepBatchSize;
+
+    public StorageService(StorageBlobRepository blobRepository,
+                          StorageUploadNonceRepository uploadNonceRepository,
+                          StoragePendingRefRepository pendingRefRepository,
+                          StorageQuotaService quotaService,
+                          StorageUrlSigner urlSigner,
+                          MetadataStripper metadataStripper,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${impulse.storage.stream-buffer-bytes:65536}") int streamBufferBytes,
+                          @Value("${impulse.storage.signed-url-ttl-seconds:3600}") long signedUrlTtlSeconds,
+                          @Value("${impulse.storage.evidence.max-size-bytes:104857600}") long maxUploadBytes,
+                          @Value("${impulse.storage.pending-ref.ttl-seconds:86400}") long pendingRefTtlSeconds,
+                          @Value("${impulse.storage.pending-ref.sweep-batch-size:200}") int pendingRefSweepBatchSize) {
+        this.blobRepository = blobRepository;
+        this.uploadNonceRepository = uploadNonceRepository;
+        this.pendingRefRepository = pendingRefRepository;
+        this.quotaService = quotaService;
+        this.urlSigner = urlSigner;
+        this.metadataStripper = metadataStripper;
+        this.eventPublisher = eventPublisher;
+        this.streamBufferBytes = streamBufferBytes;
+        this.signedUrlTtl = Duration.ofSeconds(signedUrlTtlSeconds);
+        this.maxUploadBytes = maxUploadBytes;
+        this.pendingRefTtl = Duration.ofSeconds(pendingRefTtlSeconds);
+        this.pendingRefSweepBatchSize = pendingRefSweepBatchSize;
+    }
 
     /**
      * Upload file to storage
@@ -27,25 +108,396 @@ public String uploadFile(MultipartFile file, String folder) throws IOException {
         return filePath.toString();
     }
 
+    /**
+     * Stream a request body into the content-addressed blob store.
+     * Bytes go through one fixed-size direct buffer into a FileChannel, so memory per upload
+     * is constant and the data is written to disk at most once. Size and SHA-256 are
+     * computed on the fly and the size limit is enforced mid-stream; an oversized or failed
+     * upload leaves no file behind.
+     *
+     * When the client announces expectedSha256 and that blob already exists, the body is
+     * only hashed to prove possession and nothing is written. Otherwise the bytes land in a
+     * staging file that is renamed into blobs/ab/cd/&lt;sha256&gt;, or dropped if an identical
+     * blob appeared meanwhile.
+     */
+    public StoredFile storeStream(InputStream body, String expectedSha256, long maxSizeBytes) throws IOException {
+        return storeStream(body, expectedSha256, maxSizeBytes, false);
+    }
+
+    /**
+     * As above, optionally removing EXIF/XMP/comment metadata from JPEG, PNG and WebP on the
+     * way to disk. expectedSha256 and maxSizeBytes still apply to the bytes the client sent;
+     * the blob is keyed by the hash of the stripped output, so the hash-only shortcut for
+     * known blobs does not apply.
+     */
+    public StoredFile storeStream(InputStream body, String expectedSha256, long maxSizeBytes,
+                                  boolean stripMetadata) throws IOException {
+        String expected = expectedSha256 != null ? expectedSha256.toLowerCase() : null;
+        if (expected != null && !SHA256_HEX.matcher(expected).matches()) {
+            throw new DomainException("Invalid SHA-256 digest", ErrorCodes.VALIDATION_ERROR);
+        }
+
+        if (!stripMetadata && expected != null
+                && blobRepository.acquireExisting(expected, () -> Files.isRegularFile(blobPath(expected)))) {
+            boolean verified = false;
+            try {
+                MessageDigest digest = sha256();
+                long size = pump(body, null, digest, maxSizeBytes);
+                String actual = HexFormat.of().formatHex(digest.digest());
+                if (!actual.equals(expected)) {
+                    throw new DomainException("Uploaded content does not match the announced SHA-256",
+                        ErrorCodes.VALIDATION_ERROR);
+                }
+                verified = true;
+                return new StoredFile(blobPath(actual).toString(), size, actual);
+            } finally {
+                if (!verified) {
+                    releaseBlob(expected);
+                }
+            }
+        }
+
+        Path stagingDir = Paths.get(BASE_DIR, STAGING_DIR);
+        Files.createDirectories(stagingDir);
+        // Same file system as the blob tree, so placing the blob is a rename, not a copy
+        Path partPath = stagingDir.resolve(UUID.randomUUID() + ".part");
+
+        MessageDigest digest = sha256();
+        MessageDigest inputDigest = digest;
+        long size;
+        try (FileChannel out = FileChannel.open(partPath, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (stripMetadata) {
+                inputDigest = sha256();
+                MetadataStripper.Result stripped = metadataStripper.strip(
+                    new MeteredInputStream(body, inputDigest, maxSizeBytes), out, digest);
+                size = stripped.getBytesWritten();
+                if (stripped.isHeaderPatched()) {
+                    digest = sha256();
+                    rehash(out, digest);
+                }
+            } else {
+                size = pump(body, out, digest, maxSizeBytes);
+            }
+            out.force(false);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partPath);
+            throw e;
+        }
+
+        String actual = HexFormat.of().formatHex(digest.digest());
+        String received = inputDigest == digest ? actual : HexFormat.of().formatHex(inputDigest.digest());
+        if (expected != null && !received.equals(expected)) {
+            Files.deleteIfExists(partPath);
+            throw new DomainException("Uploaded content does not match the announced SHA-256",
+                ErrorCodes.VALIDATION_ERROR);
+        }
+
+        return placeBlob(partPath, actual, size);
+    }
+
+    /**
+     * Create the staging file of a resumable upload at its final length.
+     * Chunks are then written in place, in any order, by writeChunk.
+     */
+    public void allocateStagedUpload(String uploadId, long totalBytes) throws IOException {
+        Path partPath = stagedUploadPath(uploadId);
+        Files.createDirectories(partPath.getParent());
+        try (RandomAccessFile file = new RandomAccessFile(partPath.toFile(), "rw")) {
+            file.setLength(totalBytes);
+        }
+    }
+
+    /**
+     * Write exactly length bytes of body at offset of a staged upload with positional writes.
+     * Callers hold the upload session's row lock, which keeps finalizeStagedUpload out until
+     * the write is done; the staging file is checked again here because finalize removes it.
+     */
+    public void writeChunk(String uploadId, long offset, long length, InputStream body) throws IOException {
+        Path partPath = stagedUploadPath(uploadId);
+        if (!Files.isRegularFile(partPath)) {
+            throw new DomainException("Upload session storage not found", ErrorCodes.NOT_FOUND);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(streamBufferBytes);
+        ReadableByteChannel in = Channels.newChannel(body);
+        try (FileChannel out = FileChannel.open(partPath, StandardOpenOption.WRITE)) {
+            long position = offset;
+            long end = offset + length;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (position + read > end) {
+                    throw new DomainException("Chunk exceeds its expected length of " + length + " bytes",
+                        ErrorCodes.VALIDATION_ERROR);
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    position += out.write(buffer, position);
+                }
+                buffer.clear();
+            }
+            if (position != end) {
+                throw new DomainException("Chunk is shorter than its expected length of " + length + " bytes",
+                    ErrorCodes.VALIDATION_ERROR);
+            }
+        }
+    }
+
+    /**
+     * Turn a fully written staged upload into a blob after checking its SHA-256.
+     * With stripMetadata the staged bytes go through storeStream's stripping path instead.
+     * The staging file is gone afterwards, whatever the outcome.
+     */
+    public StoredFile finalizeStagedUpload(String uploadId, String expectedSha256, boolean stripMetadata)
+            throws IOException {
+        Path partPath = stagedUploadPath(uploadId);
+        if (!Files.isRegularFile(partPath)) {
+            throw new DomainException("Upload session storage not found", ErrorCodes.NOT_FOUND);
+        }
+        if (expectedSha256 == null || !SHA256_HEX.matcher(expectedSha256.toLowerCase()).matches()) {
+            Files.deleteIfExists(partPath);
+            throw new DomainException("Invalid SHA-256 digest", ErrorCodes.VALIDATION_ERROR);
+        }
+        String expected = expectedSha256.toLowerCase();
+
+        if (stripMetadata) {
+            try (InputStream in = Files.newInputStream(partPath)) {
+                return storeStream(in, expected, Long.MAX_VALUE, true);
+            } finally {
+                Files.deleteIfExists(partPath);
+            }
+        }
+
+        MessageDigest digest = sha256();
+        long size;
+        try (FileChannel file = FileChannel.open(partPath, StandardOpenOption.READ)) {
+            size = file.size();
+            rehash(file, digest);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partPath);
+            throw e;
+        }
+        String actual = HexFormat.of().formatHex(digest.digest());
+        if (!actual.equals(expected)) {
+            Files.deleteIfExists(partPath);
+            throw new DomainException("Uploaded content does not match the announced SHA-256",
+                ErrorCodes.VALIDATION_ERROR);
+        }
+        return placeBlob(partPath, actual, size);
+    }
+
+    /**
+     * Drop the staging file of an abandoned resumable upload
+     */
+    public void discardStagedUpload(String uploadId) throws IOException {
+        Files.deleteIfExists(stagedUploadPath(uploadId));
+    }
+
+    private Path stagedUploadPath(String uploadId) {
+        if (!UPLOAD_ID.matcher(uploadId).matches()) {
+            throw new DomainException("Invalid upload session id", ErrorCodes.VALIDATION_ERROR);
+        }
+        return Paths.get(BASE_DIR, STAGING_DIR, "sessions", uploadId + ".part");
+    }
+
+    private StoredFile placeBlob(Path partPath, String sha256, long size) throws IOException {
+        blobRepository.acquire(sha256, size);
+        Path blobPath = blobPath(sha256);
+        try {
+            if (Files.exists(blobPath)) {
+                Files.delete(partPath);
+            } else {
+                Files.createDirectories(blobPath.getParent());
+                Files.move(partPath, blobPath, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partPath);
+            releaseBlob(sha256);
+            throw e;
+        }
+        return new StoredFile(blobPath.toString(), size, sha256);
+    }
+
+    private long pump(InputStream body, FileChannel out, MessageDigest digest, long maxSizeBytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(streamBufferBytes);
+        long size = 0;
+        ReadableByteChannel in = Channels.newChannel(body);
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            size += read;
+            if (!isValidFileSize(size, maxSizeBytes)) {
+                throw new DomainException("File exceeds maximum size of " + maxSizeBytes + " bytes",
+                    ErrorCodes.STORAGE_FILE_TOO_LARGE);
+            }
+            buffer.flip();
+            digest.update(buffer.duplicate());
+            if (out != null) {
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+            }
+            buffer.clear();
+        }
+        return size;
+    }
+
+    private void rehash(FileChannel file, MessageDigest digest) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(streamBufferBytes);
+        long position = 0;
+        int read;
+        while ((read = file.read(buffer, position)) != -1) {
+            position += read;
+            buffer.flip();
+            digest.update(buffer);
+            buffer.clear();
+        }
+    }
+
+    private Path blobPath(String sha256) {
+        return Paths.get(BASE_DIR, BLOB_DIR, sha256.substring(0, 2), sha256.substring(2, 4), sha256);
+    }
+
+    private boolean releaseBlob(String sha256) {
+        boolean lastReference = blobRepository.release(sha256, () -> {
+            try {
+                Files.deleteIfExists(blobPath(sha256));
+            } catch (IOException e) {
+                throw new IllegalStateException("Error eliminando blob: " + sha256, e);
+            }
+        });
+        if (lastReference) {
+            eventPublisher.publishEvent(new BlobReleasedEvent(sha256));
+        }
+        return lastReference;
+    }
+
     /**
      * Generate presigned URL for upload
      * Following IMPULSE v1.0 §7.1 presigned upload pattern
+     * The object key is the content hash, known only once the upload completes, so
+     * accessUrl is null here; the PUT response carries the key to sign downloads with.
+     * The URL is bound to the user and can be used once.
+     */
+    public StorageUploadPresignResponse generatePresignedUploadUrl(Long userId, String fileName) {
+        SignedStorageUrl upload = urlSigner.signUpload(userId, fileName, maxUploadBytes, signedUrlTtl);
+        return new StorageUploadPresignResponse(upload.getUrl(), null, (int) signedUrlTtl.getSeconds());
+    }
+
+    /**
+     * Spends the token of a verified presigned upload URL
+     * @return false if the URL was already used
+     */
+    public boolean consumeUploadToken(String token, Long userId, long expiresAtEpochSecond) {
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(Instant.ofEpochSecond(expiresAtEpochSecond), ZoneOffset.UTC);
+        return uploadNonceRepository.consume(token, userId, expiresAt);
+    }
+
+    /**
+     * Spent tokens are only needed until their URLs expire
+     */
+    @Scheduled(fixedDelayString = "${impulse.storage.upload-nonce.purge-interval-ms:3600000}")
+    public void purgeExpiredUploadTokens() {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        while (uploadNonceRepository.purgeExpired(now, 1000) == 1000) {
+            // Bounded deletes keep each statement's lock footprint small
+        }
+    }
+
+    /**
+     * Record the reference an upload took as pending until the uploader attaches the media
+     * to an evidence. Unclaimed references are released by releaseUnclaimedUploads once
+     * the TTL has passed; if recording fails the reference is released right away.
+     */
+    public void holdUntilClaimed(Long userId, StoredFile stored) {
+        try {
+            pendingRefRepository.add(stored.getSha256(), userId, stored.getSizeBytes(),
+                LocalDateTime.now(ZoneOffset.UTC).plus(pendingRefTtl));
+        } catch (RuntimeException e) {
+            releaseBlob(stored.getSha256());
+            throw e;
+        }
+    }
+
+    /**
+     * Make one pending upload reference of the user permanent. Runs in the caller's
+     * transaction, so it rolls back with the evidence that referenced the media.
+     * @return false when the user has no unclaimed upload of this media key
+     */
+    public boolean claimUpload(Long userId, String mediaKey) {
+        return blobHash(mediaKey)
+            .map(sha256 -> pendingRefRepository.claim(sha256, userId))
+            .orElse(false);
+    }
+
+    /**
+     * Release references of uploads that were never attached to an evidence and refund
+     * their bytes to the uploader's quota
+     */
+    @Scheduled(fixedDelayString = "${impulse.storage.pending-ref.sweep-interval-ms:900000}")
+    public void releaseUnclaimedUploads() {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        int released = 0;
+        List<StoragePendingRefRepository.PendingRef> expired;
+        do {
+            expired = pendingRefRepository.findExpired(now, pendingRefSweepBatchSize);
+            for (StoragePendingRefRepository.PendingRef ref : expired) {
+                // Deleting the row first lets exactly one node release a given reference
+                if (!pendingRefRepository.delete(ref.id())) {
+                    continue;
+                }
+                try {
+                    releaseBlob(ref.sha256());
+                    quotaService.adjust(ref.userId(), -ref.sizeBytes());
+                    released++;
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to release unclaimed upload {}: {}", ref.sha256(), e.getMessage());
+                }
+            }
+        } while (expired.size() == pendingRefSweepBatchSize);
+        if (released > 0) {
+            logger.info("Released {} unclaimed uploads", released);
+        }
+    }
+
+    /**
+     * Local file of a content-addressed blob, if present
      */
-    public StorageUploadPresignResponse generatePresignedUploadUrl(String fileName, String contentType) {
-        // En local, devolvemos file:// y documentamos que en el futuro se puede integrar un controlador HTTP
-        String generatedName = generateFileName(fileName);
-        String uploadUrl = "file://" + BASE_DIR + generatedName;
-        String accessUrl = uploadUrl;
-        // Comentario: En el futuro se puede integrar un controlador HTTP para servir archivos
-        return new StorageUploadPresignResponse(uploadUrl, accessUrl, 3600); // 1 hora
+    public Optional<Path> resolveBlob(String sha256) {
+        if (sha256 == null || !SHA256_HEX.matcher(sha256).matches()) {
+            return Optional.empty();
+        }
+        Path path = blobPath(sha256);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    /**
+     * Content hash of a stored media key, when it points into the blob store
+     */
+    public Optional<String> blobHash(String filePath) {
+        if (filePath == null) {
+            return Optional.empty();
+        }
+        Path path = Paths.get(filePath);
+        return isBlobPath(path) ? Optional.of(path.getFileName().toString()) : Optional.empty();
+    }
+
+    /**
+     * Open a stored file for sequential reading
+     */
+    public InputStream openStream(String filePath) throws IOException {
+        return Files.newInputStream(Paths.get(filePath));
     }
 
     /**
      * Delete file from storage
+     * Content-addressed blobs only lose a reference; the file goes with the last one.
      */
     public boolean deleteFile(String filePath) {
         try {
             java.nio.file.Path path = java.nio.file.Paths.get(filePath);
+            if (isBlobPath(path)) {
+                releaseBlob(path.getFileName().toString());
+                return true;
+            }
             java.nio.file.Files.deleteIfExists(path);
             return true;
         } catch (IOException | SecurityException e) {
@@ -53,12 +505,25 @@ public boolean deleteFile(String filePath) {
         }
     }
 
+    /**
+     * Drop a user's reference to stored media and refund the bytes it was charged.
+     * Any path that detaches media from its owner goes through here, so usage only
+     * counts what is still referenced.
+     */
+    public boolean releaseMedia(Long userId, String mediaKey, long sizeBytes) {
+        quotaService.adjust(userId, -sizeBytes);
+        return deleteFile(mediaKey);
+    }
+
     /**
      * Get file URL
      */
     public String getFileUrl(String filePath) {
-        // En local, devolvemos file://<ruta absoluta>
         java.nio.file.Path path = java.nio.file.Paths.get(filePath);
+        if (isBlobPath(path)) {
+            return urlSigner.signDownload(path.getFileName().toString(), null, signedUrlTtl).getUrl();
+        }
+        // En local, devolvemos file://<ruta absoluta>
         return "file://" + path.toAbsolutePath();
     }
 
@@ -110,6 +575,20 @@ public String moveFile(String sourcePath, String destinationPath) {
         }
     }
 
+    private boolean isBlobPath(Path path) {
+        Path blobRoot = Paths.get(BASE_DIR, BLOB_DIR).toAbsolutePath().normalize();
+        Path normalized = path.toAbsolutePath().normalize();
+        return normalized.startsWith(blobRoot) && SHA256_HEX.matcher(normalized.getFileName().toString()).matches();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     /**
      * Generate unique file name
      */
@@ -145,6 +624,76 @@ public boolean isValidFileSize(long fileSize, long maxSizeBytes) {
         return fileSize <= maxSizeBytes;
     }
 
+    /**
+     * Hashes and size-checks the client's bytes while the metadata stripper consumes them
+     */
+    private final class MeteredInputStream extends FilterInputStream {
+        private final MessageDigest digest;
+        private final long maxSizeBytes;
+        private long count;
+
+        MeteredInputStream(InputStream in, MessageDigest digest, long maxSizeBytes) {
+            super(in);
+            this.digest = digest;
+            this.maxSizeBytes = maxSizeBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                digest.update((byte) b);
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                digest.update(b, off, n);
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Skipped bytes must still be hashed
+            byte[] sink = new byte[(int) Math.min(n, 8192)];
+            int read = read(sink, 0, sink.length);
+            return Math.max(read, 0);
+        }
+
+        private void count(int n) {
+            count += n;
+            if (!isValidFileSize(count, maxSizeBytes)) {
+                throw new DomainException("File exceeds maximum size of " + maxSizeBytes + " bytes",
+                    ErrorCodes.STORAGE_FILE_TOO_LARGE);
+            }
+        }
+    }
+
+    /**
+     * Result of a streamed upload
+     */
+    public static class StoredFile {
+        private final String path;
+        private final long sizeBytes;
+        private final String sha256;
+
+        public StoredFile(String path, long sizeBytes, String sha256) {
+            this.path = path;
+            this.sizeBytes = sizeBytes;
+            this.sha256 = sha256;
+        }
+
+        public String getPath() { return path; }
+        public long getSizeBytes() { return sizeBytes; }
+        public String getSha256() { return sha256; }
+    }
+
     /**
      * Response class for presigned upload URLs
      */
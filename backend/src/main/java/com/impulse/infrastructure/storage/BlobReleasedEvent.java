@@ -0,0 +1,22 @@
+package com.impulse.infrastructure.storage;
+
+import java.util.Objects;
+
+/**
+ * Published after the last reference to a content-addressed blob was released and its
+ * file deleted, so anything derived from the blob can be dropped too
+ */
+public final class BlobReleasedEvent {
+    private final String sha256;
+
+    public BlobReleasedEvent(String sha256) {
+        this.sha256 = Objects.requireNonNull(sha256, "SHA-256 cannot be null");
+    }
+
+    public String getSha256() { return sha256; }
+
+    @Override
+    public String toString() {
+        return "BlobReleasedEvent{sha256=" + sha256 + '}';
+    }
+}
@@ -0,0 +1,385 @@
+package com.impulse.infrastructure.storage;
+
+import com.impulse.infrastructure.services.StorageService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache of image previews, keyed by source blob hash and bounding size.
+ * Derivatives are JPEGs under derivatives/ab/&lt;sha256&gt;-&lt;size&gt;.jpg. They are produced
+ * eagerly after upload and lazily on first request, with one generation per key in flight
+ * no matter how many reviewers ask at once. An access-ordered index keeps the directory
+ * under a byte budget by evicting the least recently served files.
+ *
+ * Decoding uses source subsampling, so a 20 MB photo is never materialised at full resolution.
+ * Cached previews are served without looking at the source, so they are purged as soon as
+ * the last reference to their blob is released.
+ */
+@Component
+public class DerivativeCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(DerivativeCache.class);
+
+    private static final String BASE_DIR = "backend/storage/derivatives";
+    private static final Pattern OBJECT_KEY = Pattern.compile("([0-9a-f]{64})\\.t(\\d{1,4})");
+    private static final Pattern FILE_NAME = Pattern.compile("([0-9a-f]{64})-(\\d{1,4})\\.jpg");
+    private static final long MAX_SOURCE_PIXELS = 100_000_000L;
+
+    private final StorageService storageService;
+    private final StorageUrlSigner urlSigner;
+    private final Set<Integer> sizes;
+    private final int previewSize;
+    private final long budgetBytes;
+    private final float jpegQuality;
+    private final Duration signedUrlTtl;
+    private final ExecutorService generator;
+
+    private final Map<String, CompletableFuture<Optional<Path>>> inFlight = new ConcurrentHashMap<>();
+    // key -> file size, least recently used first; guarded by itself
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    public DerivativeCache(StorageService storageService,
+                           StorageUrlSigner urlSigner,
+                           @Value("${impulse.storage.thumbnails.sizes:160,320,640}") Integer[] sizes,
+                           @Value("${impulse.storage.thumbnails.preview-size:320}") int previewSize,
+                           @Value("${impulse.storage.thumbnails.budget-bytes:1073741824}") long budgetBytes,
+                           @Value("${impulse.storage.thumbnails.jpeg-quality:0.8}") float jpegQuality,
+                           @Value("${impulse.storage.thumbnails.workers:2}") int workers,
+                           @Value("${impulse.storage.signed-url-ttl-seconds:3600}") long signedUrlTtlSeconds) {
+        this.storageService = storageService;
+        this.urlSigner = urlSigner;
+        this.sizes = Set.of(sizes);
+        this.previewSize = previewSize;
+        this.budgetBytes = budgetBytes;
+        this.jpegQuality = jpegQuality;
+        this.signedUrlTtl = Duration.ofSeconds(signedUrlTtlSeconds);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.generator = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "thumbnail-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Rebuilds the LRU index from the files on disk, oldest first
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        Path root = Paths.get(BASE_DIR);
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(root, 2)) {
+            List<Path> derivatives = files
+                .filter(path -> FILE_NAME.matcher(path.getFileName().toString()).matches())
+                .sorted(Comparator.comparing(DerivativeCache::lastModified))
+                .collect(Collectors.toList());
+            synchronized (index) {
+                index.clear();
+                totalBytes = 0;
+                for (Path path : derivatives) {
+                    Matcher m = FILE_NAME.matcher(path.getFileName().toString());
+                    if (m.matches()) {
+                        long size = Files.size(path);
+                        index.put(key(m.group(1), Integer.parseInt(m.group(2))), size);
+                        totalBytes += size;
+                    }
+                }
+            }
+            evictOverBudget();
+            logger.info("Derivative cache indexed {} files ({} bytes)", derivatives.size(), totalBytes);
+        } catch (IOException e) {
+            logger.warn("Could not index derivative cache: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Preview of a blob, generating it first if needed. Empty for sizes outside the
+     * configured set, unknown blobs and formats the JDK cannot decode.
+     */
+    public Optional<Path> get(String sha256, int size) {
+        if (!sizes.contains(size)) {
+            return Optional.empty();
+        }
+        String key = key(sha256, size);
+        Path path = derivativePath(sha256, size);
+        boolean cached;
+        synchronized (index) {
+            cached = index.get(key) != null; // also marks the entry as recently used
+        }
+        if (cached && Files.isRegularFile(path)) {
+            return Optional.of(path);
+        }
+        return generate(sha256, size).join();
+    }
+
+    /**
+     * Queues every configured size for a freshly uploaded blob
+     */
+    public void warmAsync(String sha256) {
+        for (int size : sizes) {
+            boolean cached;
+            synchronized (index) {
+                cached = index.containsKey(key(sha256, size));
+            }
+            if (!cached) {
+                generate(sha256, size);
+            }
+        }
+    }
+
+    /**
+     * Drops every preview of a blob whose last reference was released
+     */
+    @EventListener
+    public void onBlobReleased(BlobReleasedEvent event) {
+        purge(event.getSha256());
+    }
+
+    /**
+     * Signed URL of the default preview of a stored media key, or null when it is not a blob
+     */
+    public String previewUrl(String mediaKey) {
+        return storageService.blobHash(mediaKey)
+            .map(sha -> urlSigner.signDownload(objectKey(sha, previewSize), "image/jpeg", signedUrlTtl).getUrl())
+            .orElse(null);
+    }
+
+    /**
+     * Download object key of a derivative, distinct from any blob key
+     */
+    public static String objectKey(String sha256, int size) {
+        return sha256 + ".t" + size;
+    }
+
+    /**
+     * Derivative file behind a download key, generated on demand; empty for plain blob keys
+     */
+    public Optional<Path> resolveObjectKey(String objectKey) {
+        Matcher m = OBJECT_KEY.matcher(objectKey);
+        if (!m.matches()) {
+            return Optional.empty();
+        }
+        return get(m.group(1), Integer.parseInt(m.group(2)));
+    }
+
+    public static boolean isObjectKey(String objectKey) {
+        return OBJECT_KEY.matcher(objectKey).matches();
+    }
+
+    private CompletableFuture<Optional<Path>> generate(String sha256, int size) {
+        String key = key(sha256, size);
+        // Single flight: concurrent requests for one key share the same generation
+        CompletableFuture<Optional<Path>> created = new CompletableFuture<>();
+        CompletableFuture<Optional<Path>> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        generator.execute(() -> {
+            try {
+                created.complete(render(sha256, size));
+            } catch (Exception e) {
+                logger.warn("Thumbnail {} failed: {}", key, e.getMessage());
+                created.complete(Optional.empty());
+            } finally {
+                inFlight.remove(key, created);
+            }
+        });
+        return created;
+    }
+
+    private Optional<Path> render(String sha256, int size) throws IOException {
+        Path target = derivativePath(sha256, size);
+        if (Files.isRegularFile(target)) {
+            record(key(sha256, size), Files.size(target));
+            return Optional.of(target);
+        }
+        Optional<Path> source = storageService.resolveBlob(sha256);
+        if (source.isEmpty()) {
+            return Optional.empty();
+        }
+
+        BufferedImage scaled;
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.get().toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                return Optional.empty();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    return Optional.empty();
+                }
+                // Decode at no more than twice the target, then smooth-scale the rest
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (size * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                scaled = scale(reader.read(0, param), size);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        Files.createDirectories(target.getParent());
+        Path part = target.resolveSibling(UUID.randomUUID() + ".part");
+        try {
+            writeJpeg(scaled, part);
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+        if (storageService.resolveBlob(sha256).isEmpty()) {
+            // The blob was released while this preview was rendering
+            Files.deleteIfExists(target);
+            return Optional.empty();
+        }
+        record(key(sha256, size), Files.size(target));
+        evictOverBudget();
+        return Optional.of(target);
+    }
+
+    private static BufferedImage scale(BufferedImage source, int size) {
+        double ratio = Math.min(1.0, (double) size / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private void record(String key, long bytes) {
+        synchronized (index) {
+            Long previous = index.put(key, bytes);
+            totalBytes += bytes - (previous != null ? previous : 0L);
+        }
+    }
+
+    private void evictOverBudget() {
+        List<String> evicted = new ArrayList<>();
+        synchronized (index) {
+            Iterator<Map.Entry<String, Long>> eldest = index.entrySet().iterator();
+            while (totalBytes > budgetBytes && eldest.hasNext()) {
+                Map.Entry<String, Long> entry = eldest.next();
+                totalBytes -= entry.getValue();
+                evicted.add(entry.getKey());
+                eldest.remove();
+            }
+        }
+        // Unlink outside the lock; a concurrent get simply regenerates
+        for (String key : evicted) {
+            int dash = key.lastIndexOf('-');
+            try {
+                Files.deleteIfExists(derivativePath(key.substring(0, dash), Integer.parseInt(key.substring(dash + 1))));
+            } catch (IOException e) {
+                logger.warn("Could not evict derivative {}: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    private void purge(String sha256) {
+        for (int size : sizes) {
+            synchronized (index) {
+                Long bytes = index.remove(key(sha256, size));
+                if (bytes != null) {
+                    totalBytes -= bytes;
+                }
+            }
+            try {
+                Files.deleteIfExists(derivativePath(sha256, size));
+            } catch (IOException e) {
+                logger.warn("Could not purge derivative {}: {}", key(sha256, size), e.getMessage());
+            }
+        }
+    }
+
+    private static String key(String sha256, int size) {
+        return sha256 + "-" + size;
+    }
+
+    private static Path derivativePath(String sha256, int size) {
+        return Paths.get(BASE_DIR, sha256.substring(0, 2), key(sha256, size) + ".jpg");
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class).lastModifiedTime();
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        generator.shutdownNow();
+    }
+}
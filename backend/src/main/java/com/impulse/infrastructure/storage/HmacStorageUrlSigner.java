@@ -0,0 +1,121 @@
+package com.impulse.infrastructure.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * HMAC-SHA256 signer for the local storage endpoints (StorageObjectController).
+ * The signature covers method, path, expiry and the constraints carried in the query
+ * (max size and uploader for uploads, content type for downloads), so none of them can
+ * be altered without invalidating it.
+ * URLs are public-base-url + servlet context path + endpoint path, so they resolve to
+ * the controller however the application is mounted.
+ */
+@Component
+public class HmacStorageUrlSigner implements StorageUrlSigner {
+
+    static final String UPLOAD_PATH = "/storage/v1/uploads/";
+    static final String OBJECT_PATH = "/storage/v1/objects/";
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final String publicBaseUrl;
+    private final Clock clock;
+
+    public HmacStorageUrlSigner(@Value("${impulse.storage.signing-secret}") String secret,
+                                @Value("${impulse.storage.public-base-url:http://localhost:8080}") String publicBaseUrl,
+                                @Value("${server.servlet.context-path:}") String contextPath) {
+        if (secret == null || secret.length() < 32) {
+            throw new IllegalStateException("impulse.storage.signing-secret must be at least 32 characters");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.publicBaseUrl = stripTrailingSlash(publicBaseUrl) + stripTrailingSlash(contextPath);
+        this.clock = Clock.systemUTC();
+    }
+
+    @Override
+    public SignedStorageUrl signUpload(Long userId, String fileName, long maxSizeBytes, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        String signature = sign("PUT", UPLOAD_PATH + token, expiresAt, uploadConstraint(userId, fileName, maxSizeBytes));
+        String url = UriComponentsBuilder.fromHttpUrl(publicBaseUrl)
+            .path(UPLOAD_PATH + token)
+            .queryParam("uid", userId)
+            .queryParam("name", fileName)
+            .queryParam("max", maxSizeBytes)
+            .queryParam("exp", expiresAt)
+            .queryParam("sig", signature)
+            .encode()
+            .toUriString();
+        return new SignedStorageUrl(url, "PUT", expiresAt);
+    }
+
+    @Override
+    public SignedStorageUrl signDownload(String objectKey, String contentType, Duration ttl) {
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        String type = contentType != null ? contentType : "";
+        String signature = sign("GET", OBJECT_PATH + objectKey, expiresAt, type);
+        String url = UriComponentsBuilder.fromHttpUrl(publicBaseUrl)
+            .path(OBJECT_PATH + objectKey)
+            .queryParam("ct", type)
+            .queryParam("exp", expiresAt)
+            .queryParam("sig", signature)
+            .encode()
+            .toUriString();
+        return new SignedStorageUrl(url, "GET", expiresAt);
+    }
+
+    @Override
+    public boolean verifyUpload(String uploadToken, Long userId, String fileName, long maxSizeBytes,
+                                long expiresAt, String signature) {
+        return verify("PUT", UPLOAD_PATH + uploadToken, expiresAt, uploadConstraint(userId, fileName, maxSizeBytes), signature);
+    }
+
+    @Override
+    public boolean verifyDownload(String objectKey, String contentType, long expiresAt, String signature) {
+        return verify("GET", OBJECT_PATH + objectKey, expiresAt, contentType != null ? contentType : "", signature);
+    }
+
+    private boolean verify(String method, String path, long expiresAt, String constraint, String signature) {
+        if (signature == null || clock.instant().getEpochSecond() > expiresAt) {
+            return false;
+        }
+        byte[] expected = sign(method, path, expiresAt, constraint).getBytes(StandardCharsets.US_ASCII);
+        // Constant-time comparison
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String uploadConstraint(Long userId, String fileName, long maxSizeBytes) {
+        return maxSizeBytes + "\n" + userId + "\n" + (fileName != null ? fileName : "");
+    }
+
+    private static String stripTrailingSlash(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+    }
+
+    private String sign(String method, String path, long expiresAt, String constraint) {
+        String canonical = method + "\n" + path + "\n" + expiresAt + "\n" + constraint;
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] raw = mac.doFinal(canonical.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to sign storage URL", e);
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package com.impulse.infrastructure.storage;
+
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Set;
+
+/**
+ * Streaming metadata filter for image evidence (IMPULSE v1.0 §7.1 and §8).
+ * Walks the container structure of JPEG, PNG and WebP and copies every segment
+ * except those carrying EXIF/XMP/GPS/comments, without decoding pixels. Memory use
+ * is one fixed-size copy buffer whatever the image size. Other formats pass through.
+ *
+ * JPEG: drops APP1 and APP3..APP15 (EXIF, XMP, IPTC, vendor blobs) and COM; keeps
+ * APP0 (JFIF), APP2 ICC profiles and APP14 Adobe (colour transform) so images render
+ * the same. EXIF orientation is lost with APP1.
+ * PNG: drops tEXt, zTXt, iTXt, eXIf and tIME chunks.
+ * WebP: drops EXIF and XMP chunks, clears their VP8X flags and patches the RIFF size,
+ * which needs a seekable output; the running digest is then stale and headerPatched tells
+ * the caller to rehash the file.
+ */
+@Component
+public class MetadataStripper {
+
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+
+    private static final Set<String> PNG_DROPPED_CHUNKS = Set.of("tEXt", "zTXt", "iTXt", "eXIf", "tIME");
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    // VP8X feature flags (first byte of the chunk payload)
+    private static final int VP8X_EXIF_FLAG = 0x08;
+    private static final int VP8X_XMP_FLAG = 0x04;
+
+    /**
+     * Copies in to out, which must be empty; every byte written is also fed to outputDigest
+     */
+    public Result strip(InputStream in, FileChannel out, MessageDigest outputDigest) throws IOException {
+        Copier copier = new Copier(in, out, outputDigest);
+        byte[] head = new byte[12];
+        int headLength = copier.readUpTo(head);
+
+        if (headLength >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) {
+            return stripJpeg(copier, head, headLength);
+        }
+        if (headLength >= 8 && startsWith(head, PNG_SIGNATURE)) {
+            return stripPng(copier, head, headLength);
+        }
+        if (headLength == 12 && ascii(head, 0, 4).equals("RIFF") && ascii(head, 8, 4).equals("WEBP")) {
+            return stripWebp(copier, head);
+        }
+
+        copier.write(head, 0, headLength);
+        copier.copyRemaining();
+        return copier.result(false, 0);
+    }
+
+    private Result stripJpeg(Copier copier, byte[] head, int headLength) throws IOException {
+        // head holds SOI plus the start of the first marker; push it back through the reader
+        copier.unread(head, 2, headLength - 2);
+        copier.write(head, 0, 2);
+        long dropped = 0;
+
+        while (true) {
+            int b = copier.read();
+            if (b == -1) {
+                break;
+            }
+            if (b != 0xFF) {
+                throw new IOException("Malformed JPEG: expected marker");
+            }
+            int marker = copier.read();
+            while (marker == 0xFF) {
+                marker = copier.read(); // fill bytes
+            }
+            if (marker == -1) {
+                throw new EOFException("Truncated JPEG marker");
+            }
+
+            // Stand-alone markers carry no length
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD9)) {
+                copier.write(new byte[] {(byte) 0xFF, (byte) marker}, 0, 2);
+                if (marker == 0xD9) {
+                    copier.copyRemaining();
+                    break;
+                }
+                continue;
+            }
+
+            int length = (copier.readRequired() << 8) | copier.readRequired();
+            if (length < 2) {
+                throw new IOException("Malformed JPEG segment length");
+            }
+            int payload = length - 2;
+
+            if (isDroppedJpegSegment(marker, copier, payload)) {
+                copier.skip(payload);
+                dropped += length + 2L;
+                continue;
+            }
+
+            copier.write(new byte[] {(byte) 0xFF, (byte) marker, (byte) (length >> 8), (byte) length}, 0, 4);
+            copier.copy(payload);
+
+            if (marker == 0xDA) {
+                // Start of scan: entropy-coded data and any later markers are copied verbatim
+                copier.copyRemaining();
+                break;
+            }
+        }
+        return copier.result(false, dropped);
+    }
+
+    private boolean isDroppedJpegSegment(int marker, Copier copier, int payload) throws IOException {
+        if (marker == 0xFE) {
+            return true; // COM
+        }
+        if (marker < 0xE1 || marker > 0xEF) {
+            return false; // APP0 (JFIF) and non-APP segments stay
+        }
+        if (marker == 0xE2) {
+            return !copier.peekAscii(Math.min(payload, 12)).startsWith("ICC_PROFILE");
+        }
+        if (marker == 0xEE) {
+            return !copier.peekAscii(Math.min(payload, 5)).equals("Adobe");
+        }
+        return true;
+    }
+
+    private Result stripPng(Copier copier, byte[] head, int headLength) throws IOException {
+        copier.unread(head, 8, headLength - 8);
+        copier.write(head, 0, 8);
+        long dropped = 0;
+        byte[] header = new byte[8];
+
+        while (copier.readFullyOrEnd(header)) {
+            long length = ByteBuffer.wrap(header, 0, 4).getInt() & 0xFFFFFFFFL;
+            String type = ascii(header, 4, 4);
+            long rest = length + 4; // data + CRC
+
+            if (PNG_DROPPED_CHUNKS.contains(type)) {
+                copier.skip(rest);
+                dropped += rest + 8;
+                continue;
+            }
+            copier.write(header, 0, 8);
+            copier.copy(rest);
+            if (type.equals("IEND")) {
+                break;
+            }
+        }
+        return copier.result(false, dropped);
+    }
+
+    private Result stripWebp(Copier copier, byte[] head) throws IOException {
+        copier.write(head, 0, 12);
+        long dropped = 0;
+        long vp8xFlagsPosition = -1;
+        int vp8xFlags = 0;
+        byte[] header = new byte[8];
+
+        while (copier.readFullyOrEnd(header)) {
+            String fourcc = ascii(header, 0, 4);
+            long size = ByteBuffer.wrap(header, 4, 4).order(ByteOrder.LITTLE_ENDIAN).getInt() & 0xFFFFFFFFL;
+            long padded = size + (size & 1);
+
+            if (fourcc.equals("EXIF") || fourcc.equals("XMP ")) {
+                copier.skip(padded);
+                dropped += padded + 8;
+                continue;
+            }
+
+            copier.write(header, 0, 8);
+            if (fourcc.equals("VP8X") && size >= 1) {
+                vp8xFlagsPosition = copier.written();
+                vp8xFlags = copier.readRequired();
+                copier.write(new byte[] {(byte) vp8xFlags}, 0, 1);
+                copier.copy(padded - 1);
+            } else {
+                copier.copy(padded);
+            }
+        }
+
+        if (dropped == 0) {
+            return copier.result(false, 0);
+        }
+
+        // RIFF size sits before the chunks we dropped, so patch it once the total is known
+        FileChannel out = copier.out;
+        ByteBuffer riffSize = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        riffSize.putInt((int) (copier.written() - 8)).flip();
+        out.write(riffSize, 4);
+        if (vp8xFlagsPosition >= 0) {
+            int cleared = vp8xFlags & ~(VP8X_EXIF_FLAG | VP8X_XMP_FLAG);
+            out.write(ByteBuffer.wrap(new byte[] {(byte) cleared}), vp8xFlagsPosition);
+        }
+        return copier.result(true, dropped);
+    }
+
+    private static boolean startsWith(byte[] data, byte[] prefix) {
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String ascii(byte[] data, int offset, int length) {
+        return new String(data, offset, length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Outcome of a strip pass
+     */
+    public static class Result {
+        private final long bytesWritten;
+        private final long bytesDropped;
+        private final boolean headerPatched;
+
+        public Result(long bytesWritten, long bytesDropped, boolean headerPatched) {
+            this.bytesWritten = bytesWritten;
+            this.bytesDropped = bytesDropped;
+            this.headerPatched = headerPatched;
+        }
+
+        public long getBytesWritten() { return bytesWritten; }
+        public long getBytesDropped() { return bytesDropped; }
+        /** True when bytes already written were rewritten in place; digests taken while writing are stale */
+        public boolean isHeaderPatched() { return headerPatched; }
+    }
+
+    /**
+     * Reader/writer pair around one reusable buffer, with a tiny pushback area for format sniffing
+     */
+    private static final class Copier {
+        private final InputStream in;
+        private final FileChannel out;
+        private final MessageDigest digest;
+        private final byte[] buffer = new byte[COPY_BUFFER_BYTES];
+        private final byte[] pushback = new byte[16];
+        private int pushbackStart;
+        private int pushbackEnd;
+        private long written;
+
+        Copier(InputStream in, FileChannel out, MessageDigest digest) {
+            this.in = in;
+            this.out = out;
+            this.digest = digest;
+        }
+
+        void unread(byte[] data, int offset, int length) {
+            System.arraycopy(data, offset, pushback, 0, length);
+            pushbackStart = 0;
+            pushbackEnd = length;
+        }
+
+        int read() throws IOException {
+            if (pushbackStart < pushbackEnd) {
+                return pushback[pushbackStart++] & 0xFF;
+            }
+            return in.read();
+        }
+
+        int readRequired() throws IOException {
+            int b = read();
+            if (b == -1) {
+                throw new EOFException("Truncated image");
+            }
+            return b;
+        }
+
+        int read(byte[] target, int offset, int length) throws IOException {
+            if (pushbackStart < pushbackEnd) {
+                int n = Math.min(length, pushbackEnd - pushbackStart);
+                System.arraycopy(pushback, pushbackStart, target, offset, n);
+                pushbackStart += n;
+                return n;
+            }
+            return in.read(target, offset, length);
+        }
+
+        int readUpTo(byte[] target) throws IOException {
+            int total = 0;
+            while (total < target.length) {
+                int n = read(target, total, target.length - total);
+                if (n == -1) {
+                    break;
+                }
+                total += n;
+            }
+            return total;
+        }
+
+        /** Reads target fully; false on a clean end of stream before the first byte */
+        boolean readFullyOrEnd(byte[] target) throws IOException {
+            int total = readUpTo(target);
+            if (total == 0) {
+                return false;
+            }
+            if (total < target.length) {
+                throw new EOFException("Truncated image chunk header");
+            }
+            return true;
+        }
+
+        /** Peeks up to length bytes of the next segment payload without consuming them */
+        String peekAscii(int length) throws IOException {
+            byte[] peek = new byte[length];
+            int n = readUpTo(peek);
+            byte[] merged = new byte[n + (pushbackEnd - pushbackStart)];
+            System.arraycopy(peek, 0, merged, 0, n);
+            System.arraycopy(pushback, pushbackStart, merged, n, pushbackEnd - pushbackStart);
+            unread(merged, 0, merged.length);
+            return new String(peek, 0, n, StandardCharsets.US_ASCII);
+        }
+
+        void write(byte[] data, int offset, int length) throws IOException {
+            digest.update(data, offset, length);
+            ByteBuffer chunk = ByteBuffer.wrap(data, offset, length);
+            while (chunk.hasRemaining()) {
+                written += out.write(chunk);
+            }
+        }
+
+        void copy(long length) throws IOException {
+            long remaining = length;
+            while (remaining > 0) {
+                int n = read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (n == -1) {
+                    throw new EOFException("Truncated image segment");
+                }
+                write(buffer, 0, n);
+                remaining -= n;
+            }
+        }
+
+        void copyRemaining() throws IOException {
+            int n;
+            while ((n = read(buffer, 0, buffer.length)) != -1) {
+                write(buffer, 0, n);
+            }
+        }
+
+        void skip(long length) throws IOException {
+            long remaining = length;
+            while (remaining > 0) {
+                int n = read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (n == -1) {
+                    throw new EOFException("Truncated image segment");
+                }
+                remaining -= n;
+            }
+        }
+
+        long written() {
+            return written;
+        }
+
+        Result result(boolean headerPatched, long dropped) {
+            return new Result(written, dropped, headerPatched);
+        }
+    }
+}
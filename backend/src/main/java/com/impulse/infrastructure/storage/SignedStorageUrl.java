@@ -0,0 +1,20 @@
+package com.impulse.infrastructure.storage;
+
+/**
+ * A URL that authorizes one HTTP method on one storage object until expiresAt (epoch seconds)
+ */
+public class SignedStorageUrl {
+    private final String url;
+    private final String method;
+    private final long expiresAt;
+
+    public SignedStorageUrl(String url, String method, long expiresAt) {
+        this.url = url;
+        this.method = method;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getUrl() { return url; }
+    public String getMethod() { return method; }
+    public long getExpiresAt() { return expiresAt; }
+}
@@ -0,0 +1,177 @@
+package com.impulse.infrastructure.storage;
+
+import com.impulse.features.evidencereview.application.dto.EvidenceMediaResponse;
+import com.impulse.features.evidencereview.application.dto.UploadEvidenceMediaCommand;
+import com.impulse.features.evidencereview.application.port.in.UploadEvidenceMediaPort;
+import com.impulse.infrastructure.services.StorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for a presigned object store.
+ * Both endpoints are authorized by the URL signature (see StorageUrlSigner), with no
+ * session involved. An upload URL is bound to its user and spent on the first PUT, which
+ * then runs through UploadEvidenceMediaPort like a direct upload: file type, scan
+ * backpressure and the user's quota are all enforced. Downloads honour single-range
+ * Range requests; the byte range is handed to Tomcat's sendfile support, so the kernel copies
+ * it from the page cache to the socket, with a plain copy only on connectors without
+ * sendfile (such as NIO with TLS). Derivative keys
+ * (see DerivativeCache) are served from the preview cache, rendered on first request.
+ */
+@RestController
+public class StorageObjectController {
+
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final StorageUrlSigner urlSigner;
+    private final StorageService storageService;
+    private final DerivativeCache derivativeCache;
+    private final UploadEvidenceMediaPort uploadEvidenceMediaPort;
+
+    public StorageObjectController(StorageUrlSigner urlSigner, StorageService storageService,
+                                   DerivativeCache derivativeCache,
+                                   UploadEvidenceMediaPort uploadEvidenceMediaPort) {
+        this.urlSigner = urlSigner;
+        this.storageService = storageService;
+        this.derivativeCache = derivativeCache;
+        this.uploadEvidenceMediaPort = uploadEvidenceMediaPort;
+    }
+
+    @PutMapping(value = HmacStorageUrlSigner.UPLOAD_PATH + "{token}", consumes = "*/*")
+    public ResponseEntity<Map<String, Object>> upload(
+            @PathVariable String token,
+            @RequestParam("uid") Long userId,
+            @RequestParam("name") String fileName,
+            @RequestParam("max") long maxSizeBytes,
+            @RequestParam("exp") long expiresAt,
+            @RequestParam("sig") String signature,
+            @RequestHeader(value = "X-Content-SHA256", required = false) String contentSha256,
+            HttpServletRequest request) throws IOException {
+
+        if (!urlSigner.verifyUpload(token, userId, fileName, maxSizeBytes, expiresAt, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        long declared = request.getContentLengthLong();
+        if (declared > maxSizeBytes) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        if (!storageService.consumeUploadToken(token, userId, expiresAt)) {
+            // Replay of an upload URL
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        EvidenceMediaResponse stored = uploadEvidenceMediaPort.execute(new UploadEvidenceMediaCommand(
+            userId, fileName, request.getContentType(), declared, contentSha256, request.getInputStream()));
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
+            "mediaKey", stored.getMediaKey(),
+            "sizeBytes", stored.getSizeBytes(),
+            "sha256", stored.getSha256()
+        ));
+    }
+
+    @GetMapping(HmacStorageUrlSigner.OBJECT_PATH + "{objectKey}")
+    public void download(
+            @PathVariable String objectKey,
+            @RequestParam(value = "ct", required = false) String contentType,
+            @RequestParam("exp") long expiresAt,
+            @RequestParam("sig") String signature,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        if (!urlSigner.verifyDownload(objectKey, contentType, expiresAt, signature)) {
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        Path path = DerivativeCache.isObjectKey(objectKey)
+            ? derivativeCache.resolveObjectKey(objectKey).orElse(null)
+            : storageService.resolveBlob(objectKey).orElse(null);
+        if (path == null) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = file.size();
+            long start = 0;
+            long end = length - 1;
+
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setHeader(HttpHeaders.ETAG, "\"" + objectKey + "\"");
+            // Content-addressed: the bytes behind a key never change
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable");
+            response.setContentType(contentType != null && !contentType.isBlank()
+                ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+
+            if (range != null) {
+                Matcher m = RANGE.matcher(range.trim());
+                if (!m.matches() || (m.group(1).isEmpty() && m.group(2).isEmpty())) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return;
+                }
+                if (m.group(1).isEmpty()) {
+                    // Suffix range: the last N bytes
+                    start = Math.max(0, length - Long.parseLong(m.group(2)));
+                } else {
+                    start = Long.parseLong(m.group(1));
+                    if (!m.group(2).isEmpty()) {
+                        end = Math.min(end, Long.parseLong(m.group(2)));
+                    }
+                }
+                if (start > end || start >= length) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            } else {
+                response.setStatus(HttpStatus.OK.value());
+            }
+
+            long count = end - start + 1;
+            response.setContentLengthLong(count);
+
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                // Tomcat writes the range with sendfile once this method returns; end is exclusive
+                request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end + 1);
+                return;
+            }
+
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = file.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+            response.flushBuffer();
+        }
+    }
+}
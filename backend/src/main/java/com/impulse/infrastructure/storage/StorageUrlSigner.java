@@ -0,0 +1,30 @@
+package com.impulse.infrastructure.storage;
+
+import java.time.Duration;
+
+/**
+ * Signing contract for direct-to-storage URLs.
+ * Verification of the signature is stateless: everything needed to check a URL is in the
+ * URL itself. Upload URLs are additionally single-use: their token is a nonce that the
+ * storage endpoint consumes on the first PUT.
+ * HmacStorageUrlSigner serves the local store; an S3-compatible implementation
+ * would return SigV4 presigned URLs instead and never reach our verify methods.
+ */
+public interface StorageUrlSigner {
+
+    /**
+     * URL for a single PUT of at most maxSizeBytes by userId; the object key is decided by
+     * the store. fileName is signed so its type checks cannot be bypassed.
+     */
+    SignedStorageUrl signUpload(Long userId, String fileName, long maxSizeBytes, Duration ttl);
+
+    /**
+     * URL for GET (with Range support) of an existing object.
+     */
+    SignedStorageUrl signDownload(String objectKey, String contentType, Duration ttl);
+
+    boolean verifyUpload(String uploadToken, Long userId, String fileName, long maxSizeBytes,
+                         long expiresAt, String signature);
+
+    boolean verifyDownload(String objectKey, String contentType, long expiresAt, String signature);
+}
@@ -0,0 +1,92 @@
+package com.impulse.infrastructure.tracing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Node-local ring of the last impulse.trace.ring.window-minutes of activity, indexed
+ * by correlation id. One segment per minute; a segment is cleared and reused when its
+ * slot comes round again, so memory is bounded by window x max-entries-per-minute and
+ * expiry costs nothing per entry. Lookups touch one map entry per segment.
+ */
+@Component
+public class TraceActivityRing {
+
+    private final Segment[] segments;
+    private final int maxEntriesPerMinute;
+    private final Counter droppedCounter;
+
+    public TraceActivityRing(MeterRegistry meterRegistry,
+                             @Value("${impulse.trace.ring.window-minutes:15}") int windowMinutes,
+                             @Value("${impulse.trace.ring.max-entries-per-minute:100000}") int maxEntriesPerMinute) {
+        this.segments = new Segment[Math.max(1, windowMinutes)];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment();
+        }
+        this.maxEntriesPerMinute = maxEntriesPerMinute;
+        this.droppedCounter = Counter.builder("impulse.trace.ring.dropped")
+            .description("Trace entries not kept because the minute segment was full")
+            .register(meterRegistry);
+    }
+
+    public void record(String correlationId, String source, String summary, Map<String, Object> attributes) {
+        if (correlationId == null || correlationId.isBlank()) {
+            return;
+        }
+        long minute = System.currentTimeMillis() / 60_000;
+        Segment segment = segments[(int) (minute % segments.length)];
+        if (segment.minute != minute) {
+            segment.rotate(minute);
+        }
+        if (segment.size.incrementAndGet() > maxEntriesPerMinute) {
+            droppedCounter.increment();
+            return;
+        }
+        segment.entries.computeIfAbsent(correlationId, id -> new ConcurrentLinkedQueue<>())
+            .add(new TraceEntry(LocalDateTime.now(), source, summary, attributes));
+    }
+
+    /**
+     * Entries of the correlation id still inside the window, oldest first; empty when unseen
+     */
+    public List<TraceEntry> find(String correlationId) {
+        long oldest = System.currentTimeMillis() / 60_000 - segments.length + 1;
+        List<TraceEntry> found = new ArrayList<>();
+        for (Segment segment : segments) {
+            if (segment.minute >= oldest) {
+                Queue<TraceEntry> entries = segment.entries.get(correlationId);
+                if (entries != null) {
+                    found.addAll(entries);
+                }
+            }
+        }
+        found.sort(Comparator.comparing(TraceEntry::getTimestamp));
+        return found;
+    }
+
+    private static final class Segment {
+        private volatile long minute = -1;
+        private final AtomicInteger size = new AtomicInteger();
+        private final ConcurrentHashMap<String, Queue<TraceEntry>> entries = new ConcurrentHashMap<>();
+
+        synchronized void rotate(long newMinute) {
+            if (minute != newMinute) {
+                entries.clear();
+                size.set(0);
+                minute = newMinute;
+            }
+        }
+    }
+}
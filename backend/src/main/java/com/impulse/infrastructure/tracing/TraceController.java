@@ -0,0 +1,29 @@
+package com.impulse.infrastructure.tracing;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Support endpoint: everything recorded under one correlation id, merged by time.
+ * source=database skips the recent-activity ring (which only knows this node).
+ */
+@RestController
+@RequestMapping("/api/v1/traces")
+public class TraceController {
+
+    private final TraceLookupService traceLookupService;
+
+    public TraceController(TraceLookupService traceLookupService) {
+        this.traceLookupService = traceLookupService;
+    }
+
+    @GetMapping("/{correlationId}")
+    @PreAuthorize("hasAnyRole('SUPPORT','ADMIN')")
+    public ResponseEntity<TraceResponse> get(
+            @PathVariable String correlationId,
+            @RequestParam(defaultValue = "auto") String source,
+            @RequestParam(defaultValue = "30") int lookbackDays) {
+        return ResponseEntity.ok(traceLookupService.lookup(correlationId, "database".equalsIgnoreCase(source), lookbackDays));
+    }
+}
@@ -0,0 +1,29 @@
+package com.impulse.infrastructure.tracing;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * One thing that happened under a correlation id: an HTTP request, an audit record,
+ * an auth event, stored telemetry or an idempotent replay
+ */
+public class TraceEntry {
+
+    private final LocalDateTime timestamp;
+    private final String source;
+    private final String summary;
+    private final Map<String, Object> attributes;
+
+    public TraceEntry(LocalDateTime timestamp, String source, String summary, Map<String, Object> attributes) {
+        this.timestamp = timestamp;
+        this.source = source;
+        this.summary = summary;
+        this.attributes = attributes;
+    }
+
+    // Getters
+    public LocalDateTime getTimestamp() { return timestamp; }
+    public String getSource() { return source; }
+    public String getSummary() { return summary; }
+    public Map<String, Object> getAttributes() { return attributes; }
+}
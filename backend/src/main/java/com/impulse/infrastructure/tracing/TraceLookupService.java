@@ -0,0 +1,108 @@
+package com.impulse.infrastructure.tracing;
+
+import com.impulse.infrastructure.persistence.repositories.TraceLookupRepository;
+import com.impulse.shared.error.ValidationException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Rebuilds what happened under one correlation id.
+ * Recent ids are answered from the node-local TraceActivityRing without touching the
+ * database. Otherwise (or when forced) the indexed tables are queried in parallel on a
+ * dedicated pool and merged by timestamp; a slow or failing table is reported as
+ * incomplete instead of failing the lookup, so total latency is the slowest query, capped.
+ * The repository cancels statements running past the same timeout, so abandoned queries do
+ * not keep the fixed-size pool busy.
+ */
+@Service
+public class TraceLookupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TraceLookupService.class);
+
+    private final TraceLookupRepository lookupRepository;
+    private final TraceActivityRing activityRing;
+    private final ExecutorService fanOut;
+    private final long queryTimeoutMillis;
+    private final int maxRowsPerSource;
+    private final int maxLookbackDays;
+
+    public TraceLookupService(TraceLookupRepository lookupRepository,
+                              TraceActivityRing activityRing,
+                              @Value("${impulse.trace.lookup-threads:8}") int lookupThreads,
+                              @Value("${impulse.trace.query-timeout-ms:2000}") long queryTimeoutMillis,
+                              @Value("${impulse.trace.max-rows-per-source:200}") int maxRowsPerSource,
+                              @Value("${impulse.trace.max-lookback-days:90}") int maxLookbackDays) {
+        this.lookupRepository = lookupRepository;
+        this.activityRing = activityRing;
+        this.queryTimeoutMillis = queryTimeoutMillis;
+        this.maxRowsPerSource = maxRowsPerSource;
+        this.maxLookbackDays = maxLookbackDays;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.fanOut = Executors.newFixedThreadPool(lookupThreads, runnable -> {
+            Thread thread = new Thread(runnable, "trace-lookup-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public TraceResponse lookup(String correlationId, boolean forceDatabase, int lookbackDays) {
+        if (correlationId == null || correlationId.isBlank() || correlationId.length() > 64) {
+            throw new ValidationException("correlationId", "must be 1..64 characters");
+        }
+        if (lookbackDays <= 0 || lookbackDays > maxLookbackDays) {
+            throw new ValidationException("lookbackDays", "must be 1.." + maxLookbackDays);
+        }
+
+        if (!forceDatabase) {
+            List<TraceEntry> recent = activityRing.find(correlationId);
+            if (!recent.isEmpty()) {
+                return new TraceResponse(correlationId, "memory", recent, List.of());
+            }
+        }
+
+        LocalDateTime since = LocalDateTime.now().minusDays(lookbackDays);
+        Map<String, Supplier<List<TraceEntry>>> sources = new LinkedHashMap<>();
+        sources.put("events", () -> lookupRepository.findEvents(correlationId, since, maxRowsPerSource));
+        sources.put("audit_log", () -> lookupRepository.findAudit(correlationId, since, maxRowsPerSource));
+        sources.put("auth_audit_log", () -> lookupRepository.findAuthAudit(correlationId, since, maxRowsPerSource));
+        sources.put("idempotency_keys", () -> lookupRepository.findIdempotencyKeys(correlationId, since, maxRowsPerSource));
+
+        Map<String, CompletableFuture<List<TraceEntry>>> pending = new LinkedHashMap<>();
+        sources.forEach((table, query) -> pending.put(table, CompletableFuture.supplyAsync(query, fanOut)
+            .orTimeout(queryTimeoutMillis, TimeUnit.MILLISECONDS)));
+
+        List<TraceEntry> entries = new ArrayList<>();
+        List<String> incomplete = new ArrayList<>();
+        pending.forEach((table, future) -> {
+            try {
+                entries.addAll(future.join());
+            } catch (RuntimeException e) {
+                logger.warn("Trace lookup on {} failed: {}", table, e.getMessage());
+                incomplete.add(table);
+            }
+        });
+        entries.sort(Comparator.comparing(TraceEntry::getTimestamp));
+        return new TraceResponse(correlationId, "database", entries, incomplete);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        fanOut.shutdownNow();
+    }
+}
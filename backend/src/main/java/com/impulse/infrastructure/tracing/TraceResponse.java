@@ -0,0 +1,29 @@
+package com.impulse.infrastructure.tracing;
+
+import java.util.List;
+
+/**
+ * Reconstructed trace of one correlation id, oldest entry first.
+ * servedFrom is "memory" for the recent-activity ring or "database" for the fan-out;
+ * incompleteSources lists tables whose query failed or timed out.
+ */
+public class TraceResponse {
+
+    private final String correlationId;
+    private final String servedFrom;
+    private final List<TraceEntry> entries;
+    private final List<String> incompleteSources;
+
+    public TraceResponse(String correlationId, String servedFrom, List<TraceEntry> entries, List<String> incompleteSources) {
+        this.correlationId = correlationId;
+        this.servedFrom = servedFrom;
+        this.entries = entries;
+        this.incompleteSources = incompleteSources;
+    }
+
+    // Getters
+    public String getCorrelationId() { return correlationId; }
+    public String getServedFrom() { return servedFrom; }
+    public List<TraceEntry> getEntries() { return entries; }
+    public List<String> getIncompleteSources() { return incompleteSources; }
+}
@@ -1,6 +1,6 @@
 package com.impulse.shared.enums;
 
-/** Evidence review status */
+/** Evidence review status; HELD evidence matched banned media and waits for a moderator */
 public enum EvidenceStatus {
-    PENDING, APPROVED, REJECTED
+    PENDING, HELD, APPROVED, REJECTED
 }
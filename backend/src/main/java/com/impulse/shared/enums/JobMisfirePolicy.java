@@ -0,0 +1,3 @@
+package com.impulse.shared.enums;
+
+public enum JobMisfirePolicy { SKIP, FIRE_ONCE, FIRE_ALL }
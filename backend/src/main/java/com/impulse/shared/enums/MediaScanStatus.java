@@ -1,3 +1,4 @@
 package com.impulse.shared.enums;
 
-public enum MediaScanStatus { PENDING, SCANNING, CLEAN, INFECTED }
+/** FAILED: media that could not be read after the maximum number of scan attempts */
+public enum MediaScanStatus { PENDING, SCANNING, CLEAN, INFECTED, FAILED }
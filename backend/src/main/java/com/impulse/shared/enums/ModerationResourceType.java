@@ -0,0 +1,4 @@
+package com.impulse.shared.enums;
+
+/** What a report or moderation action targets */
+public enum ModerationResourceType { USER, CHALLENGE, EVIDENCE }
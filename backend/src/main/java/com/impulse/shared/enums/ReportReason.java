@@ -1,6 +1,14 @@
 package com.impulse.shared.enums;
 
-/** Moderation / DSA report reasons (v1) */
+/** Moderation / DSA report reasons (v1); severity weights a report's share of queue priority */
 public enum ReportReason {
-    SPAM, ABUSE, NUDITY, HATE, HARASSMENT, VIOLENCE, ILLEGAL, OTHER
+    SPAM(1), ABUSE(4), NUDITY(6), HATE(8), HARASSMENT(6), VIOLENCE(10), ILLEGAL(12), OTHER(2);
+
+    private final int severity;
+
+    ReportReason(int severity) {
+        this.severity = severity;
+    }
+
+    public int getSeverity() { return severity; }
 }
@@ -36,4 +36,12 @@ private ErrorCodes() {
     public static final String EVIDENCE_NOT_FOUND = "EVIDENCE_NOT_FOUND";
     public static final String EVIDENCE_INVALID_STATUS = "EVIDENCE_INVALID_STATUS";
     public static final String EVIDENCE_VALIDATION_FAILED = "EVIDENCE_VALIDATION_FAILED";
+    public static final String EVIDENCE_REVIEW_FORBIDDEN = "EVIDENCE_REVIEW_FORBIDDEN";
+    public static final String EVIDENCE_LEASED = "EVIDENCE_LEASED";
+    public static final String MEDIA_SCAN_BACKLOG = "MEDIA_SCAN_BACKLOG";
+
+    // Storage errors
+    public static final String STORAGE_FILE_TOO_LARGE = "STORAGE_FILE_TOO_LARGE";
+    public static final String STORAGE_INVALID_TYPE = "STORAGE_INVALID_TYPE";
+    public static final String STORAGE_QUOTA_EXCEEDED = "STORAGE_QUOTA_EXCEEDED";
 }
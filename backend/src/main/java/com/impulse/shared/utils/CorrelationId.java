@@ -6,6 +6,7 @@
 public final class CorrelationId {
     private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
     private CorrelationId() {}
+    public static String get() { return CURRENT.get(); }
     public static String getOrGenerate() { return CURRENT.get() != null ? CURRENT.get() : generate(); }
     public static String generate() { String id = UUID.randomUUID().toString(); CURRENT.set(id); return id; }
     public static void set(String id) { CURRENT.set(id); }
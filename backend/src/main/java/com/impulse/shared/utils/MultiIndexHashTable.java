@@ -0,0 +1,170 @@
+package com.impulse.shared.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Hamming-space index over 64-bit perceptual hashes (multi-index hashing).
+ * Each hash is split into four 16-bit chunks with one table per chunk. Two hashes within
+ * distance r differ by at most r / 4 bits in at least one chunk (pigeonhole), so a search
+ * only probes the buckets within that chunk radius and checks the few candidates found
+ * there, instead of comparing against every entry. At a million entries a bucket holds
+ * about 15 entries, so a radius-10 search touches a few thousand candidates.
+ *
+ * Buckets keep the full hashes next to the entry numbers, so checking a bucket is a
+ * sequential scan rather than a cache miss per candidate. Storage is primitive arrays:
+ * 56 bytes per entry plus array headers and growth slack. Entries are append-only;
+ * rebuild the table to drop some. Searches run concurrently with adds.
+ */
+public final class MultiIndexHashTable {
+
+    public static final int MAX_DISTANCE = 11;
+
+    private static final int CHUNKS = 4;
+    private static final int CHUNK_BITS = 16;
+    private static final int BUCKETS = 1 << CHUNK_BITS;
+
+    /** Every 16-bit mask with at most 2 bits set, by popcount */
+    private static final int[] FLIP_MASKS = flipMasks();
+    private static final int[] FLIP_MASKS_UP_TO = {1, 1 + CHUNK_BITS, 1 + CHUNK_BITS + CHUNK_BITS * (CHUNK_BITS - 1) / 2};
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final long[][][] bucketHashes = new long[CHUNKS][BUCKETS][];
+    private final int[][][] bucketEntries = new int[CHUNKS][BUCKETS][];
+    private final int[][] bucketSizes = new int[CHUNKS][BUCKETS];
+    private long[] ids;
+    private int size;
+
+    public MultiIndexHashTable() {
+        this(1024);
+    }
+
+    public MultiIndexHashTable(int expectedEntries) {
+        this.ids = new long[Math.max(16, expectedEntries)];
+    }
+
+    public void add(long hash, long id) {
+        lock.writeLock().lock();
+        try {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1));
+            }
+            int entry = size;
+            ids[entry] = id;
+            for (int chunk = 0; chunk < CHUNKS; chunk++) {
+                int bucket = chunk(hash, chunk);
+                int count = bucketSizes[chunk][bucket];
+                if (bucketEntries[chunk][bucket] == null) {
+                    bucketHashes[chunk][bucket] = new long[4];
+                    bucketEntries[chunk][bucket] = new int[4];
+                } else if (count == bucketEntries[chunk][bucket].length) {
+                    int capacity = count + (count >> 1);
+                    bucketHashes[chunk][bucket] = Arrays.copyOf(bucketHashes[chunk][bucket], capacity);
+                    bucketEntries[chunk][bucket] = Arrays.copyOf(bucketEntries[chunk][bucket], capacity);
+                }
+                bucketHashes[chunk][bucket][count] = hash;
+                bucketEntries[chunk][bucket][count] = entry;
+                bucketSizes[chunk][bucket] = count + 1;
+            }
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * All entries within maxDistance of hash, nearest first
+     */
+    public List<Match> search(long hash, int maxDistance) {
+        if (maxDistance < 0 || maxDistance > MAX_DISTANCE) {
+            throw new IllegalArgumentException("maxDistance 0.." + MAX_DISTANCE);
+        }
+        int chunkRadius = maxDistance / CHUNKS;
+        int probes = FLIP_MASKS_UP_TO[chunkRadius];
+        List<Match> matches = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (int chunk = 0; chunk < CHUNKS; chunk++) {
+                int query = chunk(hash, chunk);
+                for (int p = 0; p < probes; p++) {
+                    int bucket = query ^ FLIP_MASKS[p];
+                    long[] candidates = bucketHashes[chunk][bucket];
+                    int count = bucketSizes[chunk][bucket];
+                    for (int i = 0; i < count; i++) {
+                        long candidate = candidates[i];
+                        int distance = Long.bitCount(candidate ^ hash);
+                        if (distance <= maxDistance && !foundInEarlierChunk(candidate, hash, chunk, chunkRadius)) {
+                            matches.add(new Match(ids[bucketEntries[chunk][bucket][i]], candidate, distance));
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(Comparator.comparingInt(Match::distance));
+        return matches;
+    }
+
+    /**
+     * Nearest entry within maxDistance, or null
+     */
+    public Match nearest(long hash, int maxDistance) {
+        List<Match> matches = search(hash, maxDistance);
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    /** Each entry is reported once: by the first chunk table whose probe reaches it */
+    private static boolean foundInEarlierChunk(long candidate, long hash, int chunk, int chunkRadius) {
+        for (int earlier = 0; earlier < chunk; earlier++) {
+            if (Integer.bitCount(chunk(candidate, earlier) ^ chunk(hash, earlier)) <= chunkRadius) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int chunk(long hash, int chunk) {
+        return (int) (hash >>> (chunk * CHUNK_BITS)) & (BUCKETS - 1);
+    }
+
+    private static int[] flipMasks() {
+        int[] masks = new int[1 + CHUNK_BITS + CHUNK_BITS * (CHUNK_BITS - 1) / 2];
+        int n = 0;
+        masks[n++] = 0;
+        for (int i = 0; i < CHUNK_BITS; i++) {
+            masks[n++] = 1 << i;
+        }
+        for (int i = 0; i < CHUNK_BITS; i++) {
+            for (int j = i + 1; j < CHUNK_BITS; j++) {
+                masks[n++] = (1 << i) | (1 << j);
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * @param id      caller's id stored with the hash
+     * @param hash    stored hash
+     * @param distance Hamming distance to the query
+     */
+    public record Match(long id, long hash, int distance) {}
+}
@@ -0,0 +1,94 @@
+package com.impulse.shared.utils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free ring buffer for many producers and one consumer.
+ * Each slot carries a sequence number: producers claim a position with one CAS on the
+ * tail and publish by advancing the slot sequence, the consumer frees a slot the same way.
+ * offer and poll are O(1) and never block; a full buffer makes offer return false.
+ */
+public final class RingBuffer<E> {
+
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /** @param capacity rounded up to a power of two */
+    public RingBuffer(int capacity) {
+        if (capacity < 2 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity 2..2^30");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /** Safe from any thread; false when the buffer is full */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = element;
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /** Consumer thread only; null when nothing is published yet */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long position = head.get();
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = (E) slots[index];
+        slots[index] = null;
+        sequences.lazySet(index, position + slots.length);
+        head.lazySet(position + 1);
+        return element;
+    }
+
+    /** Consumer thread only; moves up to max published elements into target */
+    public int drainTo(List<? super E> target, int max) {
+        int drained = 0;
+        E element;
+        while (drained < max && (element = poll()) != null) {
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /** Approximate number of queued elements */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, slots.length));
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+}
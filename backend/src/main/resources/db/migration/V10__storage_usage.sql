@@ -0,0 +1,13 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V10: per-user storage usage
+-- Bytes charged to each user for stored media. Nodes keep counters in memory
+-- and checkpoint accumulated deltas here in batches.
+-- =========================================================
+
+CREATE TABLE storage_usage (
+	user_id     BIGINT UNSIGNED NOT NULL,
+	used_bytes  BIGINT UNSIGNED NOT NULL DEFAULT 0,
+	updated_at  DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+	PRIMARY KEY (user_id),
+	CONSTRAINT fk_storage_usage_user FOREIGN KEY (user_id) REFERENCES users(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,51 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V11: monthly partitions for audit tables
+-- audit_log and auth_audit_log are range-partitioned by month on created_at.
+-- Partition pYYYYMM holds month YYYY-MM, p_history everything older, and pmax
+-- is kept empty so AuditPartitionMaintenance can split it ahead of time.
+-- Retention drops whole partitions instead of running DELETE.
+-- MySQL requires the partition column in every unique key and forbids foreign
+-- keys on partitioned tables, hence the (id, created_at) keys and dropped user FKs.
+-- Readers should bound created_at so ix_audit_resource / ix_audit_corr lookups
+-- prune to the months they need.
+-- =========================================================
+
+ALTER TABLE audit_log DROP FOREIGN KEY fk_audit_actor;
+ALTER TABLE audit_log DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at);
+ALTER TABLE audit_log PARTITION BY RANGE COLUMNS (created_at) (
+	PARTITION p_history VALUES LESS THAN ('2026-01-01'),
+	PARTITION p202601 VALUES LESS THAN ('2026-02-01'),
+	PARTITION p202602 VALUES LESS THAN ('2026-03-01'),
+	PARTITION p202603 VALUES LESS THAN ('2026-04-01'),
+	PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+	PARTITION p202605 VALUES LESS THAN ('2026-06-01'),
+	PARTITION p202606 VALUES LESS THAN ('2026-07-01'),
+	PARTITION p202607 VALUES LESS THAN ('2026-08-01'),
+	PARTITION p202608 VALUES LESS THAN ('2026-09-01'),
+	PARTITION p202609 VALUES LESS THAN ('2026-10-01'),
+	PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+	PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+	PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+	PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
+
+-- created_at was a nullable TIMESTAMP; RANGE COLUMNS needs a NOT NULL DATETIME
+ALTER TABLE auth_audit_log DROP FOREIGN KEY auth_audit_log_ibfk_1;
+ALTER TABLE auth_audit_log MODIFY created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE auth_audit_log DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at);
+ALTER TABLE auth_audit_log PARTITION BY RANGE COLUMNS (created_at) (
+	PARTITION p_history VALUES LESS THAN ('2026-01-01'),
+	PARTITION p202601 VALUES LESS THAN ('2026-02-01'),
+	PARTITION p202602 VALUES LESS THAN ('2026-03-01'),
+	PARTITION p202603 VALUES LESS THAN ('2026-04-01'),
+	PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+	PARTITION p202605 VALUES LESS THAN ('2026-06-01'),
+	PARTITION p202606 VALUES LESS THAN ('2026-07-01'),
+	PARTITION p202607 VALUES LESS THAN ('2026-08-01'),
+	PARTITION p202608 VALUES LESS THAN ('2026-09-01'),
+	PARTITION p202609 VALUES LESS THAN ('2026-10-01'),
+	PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+	PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+	PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+	PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
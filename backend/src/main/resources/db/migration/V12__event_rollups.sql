@@ -0,0 +1,20 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V12: event rollups
+-- Precomputed per event_key metrics in minute/hour/day buckets.
+-- users_sketch is a serialized HyperLogLog of the bucket's users; buckets are
+-- merged in the application (count summed, sketches unioned), so late events
+-- and partial flushes from several nodes fold into the same row.
+-- distinct_users caches the sketch estimate for direct reads.
+-- =========================================================
+
+CREATE TABLE event_rollups (
+	granularity     ENUM('MINUTE','HOUR','DAY') NOT NULL,
+	event_key       VARCHAR(64) NOT NULL,
+	bucket_start    DATETIME NOT NULL,
+	event_count     BIGINT UNSIGNED NOT NULL DEFAULT 0,
+	distinct_users  BIGINT UNSIGNED NOT NULL DEFAULT 0,
+	users_sketch    VARBINARY(4097) NULL,
+	updated_at      DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+	PRIMARY KEY (granularity, event_key, bucket_start),
+	KEY ix_event_rollups_purge (granularity, bucket_start)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,12 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V13: correlation id lookups
+-- Every table the trace lookup fans out to gets a correlation_id index.
+-- auth_audit_log had no correlation column; it is added (nullable) here.
+-- =========================================================
+
+ALTER TABLE auth_audit_log
+	ADD COLUMN correlation_id VARCHAR(64) NULL AFTER ip_address,
+	ADD KEY ix_auth_audit_corr (correlation_id);
+
+ALTER TABLE idempotency_keys
+	ADD KEY ix_idem_corr (correlation_id);
@@ -0,0 +1,24 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V14: clustered job runs
+-- A fire is claimed by inserting its (definition, scheduled_for) row: the
+-- unique key lets exactly one node win. The winner holds a lease it renews
+-- while running; RUNNING rows with a lapsed lease belong to a dead node.
+-- =========================================================
+
+ALTER TABLE job_definitions
+	ADD COLUMN misfire_policy ENUM('SKIP','FIRE_ONCE','FIRE_ALL') NOT NULL DEFAULT 'FIRE_ONCE' AFTER is_active;
+
+ALTER TABLE job_runs
+	ADD COLUMN scheduled_for    DATETIME NULL AFTER job_definition_id,
+	ADD COLUMN lease_owner      VARCHAR(100) NULL AFTER status,
+	ADD COLUMN lease_expires_at DATETIME NULL AFTER lease_owner,
+	ADD COLUMN duration_ms      BIGINT UNSIGNED NULL AFTER finished_at,
+	ADD UNIQUE KEY uq_jobruns_fire (job_definition_id, scheduled_for),
+	ADD KEY ix_jobruns_lease (status, lease_expires_at);
+
+-- Daily maintenance previously run by @Scheduled on every node
+INSERT INTO job_definitions (name, cron_expr, owner, is_active, misfire_policy) VALUES
+	('challenge-counter-reconcile', '0 30 3 * * *', 'challenge', TRUE, 'FIRE_ONCE'),
+	('audit-partition-maintenance', '0 10 3 * * *', 'audit', TRUE, 'FIRE_ONCE'),
+	('event-rollup-purge', '0 20 4 * * *', 'events', TRUE, 'FIRE_ONCE')
+ON DUPLICATE KEY UPDATE cron_expr = VALUES(cron_expr);
@@ -0,0 +1,48 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V15: aggregated report cases
+-- A reports row is now one open case per (target, reason): open_case_key is
+-- unique while the case is not RESOLVED, so intake upserts into it.
+-- heat is the forward-decayed, severity-weighted report count (log scale,
+-- origin 2026-01-01, half-life impulse.moderation.reports.heat-half-life-minutes);
+-- the moderator queue is an index scan on (status, heat).
+-- =========================================================
+
+ALTER TABLE reports
+	ADD COLUMN report_count     INT UNSIGNED NOT NULL DEFAULT 1 AFTER context,
+	ADD COLUMN heat             DOUBLE NOT NULL DEFAULT 0 AFTER report_count,
+	ADD COLUMN last_reported_at DATETIME NULL AFTER heat,
+	ADD COLUMN assigned_to      BIGINT UNSIGNED NULL AFTER status,
+	ADD COLUMN lease_expires_at DATETIME NULL AFTER assigned_to;
+
+-- Fold duplicate open reports into the oldest one of each key before the unique key exists
+UPDATE reports r
+JOIN (
+	SELECT MIN(id) AS keep_id, resource_type, resource_id, reason, COUNT(*) AS total
+	FROM reports WHERE status <> 'RESOLVED'
+	GROUP BY resource_type, resource_id, reason HAVING COUNT(*) > 1
+) d ON r.id = d.keep_id
+SET r.report_count = d.total;
+
+UPDATE reports r
+JOIN (
+	SELECT MIN(id) AS keep_id, resource_type, resource_id, reason
+	FROM reports WHERE status <> 'RESOLVED'
+	GROUP BY resource_type, resource_id, reason HAVING COUNT(*) > 1
+) d ON r.resource_type = d.resource_type AND r.resource_id = d.resource_id AND r.reason = d.reason
+SET r.status = 'RESOLVED'
+WHERE r.status <> 'RESOLVED' AND r.id <> d.keep_id;
+
+UPDATE reports SET
+	last_reported_at = created_at,
+	heat = LN(report_count * CASE reason
+		WHEN 'SPAM' THEN 1 WHEN 'ABUSE' THEN 4 WHEN 'NUDITY' THEN 6 WHEN 'HATE' THEN 8
+		WHEN 'HARASSMENT' THEN 6 WHEN 'VIOLENCE' THEN 10 WHEN 'ILLEGAL' THEN 12 ELSE 2 END)
+		+ TIMESTAMPDIFF(SECOND, '2026-01-01 00:00:00', created_at) * 1000 * LN(2) / 3600000;
+
+ALTER TABLE reports
+	MODIFY COLUMN last_reported_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	ADD COLUMN open_case_key VARCHAR(64) GENERATED ALWAYS AS (
+		IF(status = 'RESOLVED', NULL, CONCAT(resource_type, ':', resource_id, ':', reason))
+	) STORED,
+	ADD UNIQUE KEY uq_reports_open_case (open_case_key),
+	ADD KEY ix_reports_queue (status, heat);
@@ -0,0 +1,32 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V16: evidence media fingerprints
+-- One 64-bit perceptual hash (dHash) per clean evidence image. Rows with
+-- banned_at set are moderator-banned images; uploads within a small Hamming
+-- distance of them are reported and optionally HELD out of the review queue.
+-- =========================================================
+
+CREATE TABLE media_fingerprints (
+	id                 BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+	evidence_id        BIGINT UNSIGNED NOT NULL,
+	phash              BIGINT NOT NULL,
+	banned_reason      ENUM('SPAM','ABUSE','NUDITY','HATE','HARASSMENT','VIOLENCE','ILLEGAL','OTHER') NULL,
+	banned_by_user_id  BIGINT UNSIGNED NULL,
+	banned_at          DATETIME NULL,
+	created_at         DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (id),
+	CONSTRAINT fk_fp_evidence  FOREIGN KEY (evidence_id)       REFERENCES evidences(id),
+	CONSTRAINT fk_fp_banned_by FOREIGN KEY (banned_by_user_id) REFERENCES users(id),
+	UNIQUE KEY uq_fp_evidence (evidence_id),
+	KEY ix_fp_banned (banned_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- HELD evidence is undecided, like PENDING
+ALTER TABLE evidences DROP CHECK chk_ev_state_decision;
+
+ALTER TABLE evidences
+	MODIFY COLUMN status ENUM('PENDING','HELD','APPROVED','REJECTED') NOT NULL DEFAULT 'PENDING',
+	ADD CONSTRAINT chk_ev_state_decision CHECK (
+		(status IN ('PENDING','HELD') AND decided_by_user_id IS NULL AND decided_at IS NULL)
+		OR
+		(status IN ('APPROVED','REJECTED') AND decided_by_user_id IS NOT NULL AND decided_at IS NOT NULL)
+	);
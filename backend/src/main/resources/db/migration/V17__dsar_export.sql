@@ -0,0 +1,13 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V17: streaming DSAR export
+-- dsar-export is a chunked cluster job: it claims open EXPORT requests and
+-- streams each user's rows, in keyset pages by id, into a tar archive.
+-- Events are read per user in id order, hence (user_id, id).
+-- =========================================================
+
+ALTER TABLE events
+	ADD KEY ix_events_user_id (user_id, id);
+
+INSERT INTO job_definitions (name, cron_expr, owner, is_active, misfire_policy) VALUES
+	('dsar-export', '0 * * * * *', 'privacy', TRUE, 'SKIP')
+ON DUPLICATE KEY UPDATE cron_expr = VALUES(cron_expr);
@@ -0,0 +1,13 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V18: batched DSAR erasure
+-- dsar-erasure claims open DELETE requests and erases the user's rows in
+-- bounded batches. progress holds the planned and erased row counts per
+-- step and the step in progress, written with each batch.
+-- =========================================================
+
+ALTER TABLE dsar_requests
+	ADD COLUMN progress JSON NULL AFTER artifact_url;
+
+INSERT INTO job_definitions (name, cron_expr, owner, is_active, misfire_policy) VALUES
+	('dsar-erasure', '30 * * * * *', 'privacy', TRUE, 'SKIP')
+ON DUPLICATE KEY UPDATE cron_expr = VALUES(cron_expr);
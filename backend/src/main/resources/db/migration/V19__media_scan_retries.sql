@@ -0,0 +1,12 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V19: media scan retries
+-- A scan that cannot read the media counts an attempt and backs off until
+-- media_scan_next_attempt_at; after the last attempt the row becomes FAILED
+-- and leaves the queue, so unreadable media cannot starve the claim.
+-- =========================================================
+
+ALTER TABLE evidences
+	MODIFY COLUMN media_scan_status ENUM('PENDING','SCANNING','CLEAN','INFECTED','FAILED') NOT NULL DEFAULT 'PENDING',
+	ADD COLUMN media_scan_attempts SMALLINT UNSIGNED NOT NULL DEFAULT 0 AFTER media_scan_claimed_at,
+	ADD COLUMN media_scan_next_attempt_at DATETIME NULL AFTER media_scan_attempts,
+	ADD KEY ix_evidences_media_scan_retry (media_scan_status, media_scan_next_attempt_at);
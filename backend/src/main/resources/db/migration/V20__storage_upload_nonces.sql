@@ -0,0 +1,15 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V20: single-use presigned uploads
+-- The token of a presigned upload URL is a nonce; the first PUT inserts it
+-- here and any replay of the same URL is rejected. Rows are purged once the
+-- URL has expired.
+-- =========================================================
+
+CREATE TABLE storage_upload_nonces (
+	nonce       CHAR(36) NOT NULL,
+	user_id     BIGINT UNSIGNED NOT NULL,
+	expires_at  DATETIME NOT NULL,
+	used_at     DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (nonce),
+	KEY ix_storage_upload_nonces_expires (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=ascii COLLATE=ascii_bin;
@@ -0,0 +1,8 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V21: millisecond reconciled_at
+-- Delta flushes compare their commit time with reconciled_at to skip deltas a
+-- recount already includes; whole seconds would let those be counted twice.
+-- =========================================================
+
+ALTER TABLE challenge_counters
+	MODIFY COLUMN reconciled_at DATETIME(3) NULL;
@@ -0,0 +1,19 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V22: pending blob references
+-- An upload takes a storage_blobs reference before any evidence points at
+-- it. Each such reference is recorded here until the uploader submits an
+-- evidence with the media (the row is deleted in the submit transaction) or
+-- the row expires and the sweep releases the reference and refunds quota.
+-- =========================================================
+
+CREATE TABLE storage_pending_refs (
+	id          BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+	sha256      CHAR(64) NOT NULL,
+	user_id     BIGINT UNSIGNED NOT NULL,
+	size_bytes  BIGINT UNSIGNED NOT NULL,
+	expires_at  DATETIME NOT NULL,
+	created_at  DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (id),
+	KEY ix_storage_pending_refs_owner (user_id, sha256),
+	KEY ix_storage_pending_refs_expires (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=ascii COLLATE=ascii_bin;
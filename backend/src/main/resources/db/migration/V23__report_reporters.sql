@@ -0,0 +1,19 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V23: distinct reporters per case
+-- One row per (case, reporter). Intake windows are per node and short, so
+-- a reporter is only de-duplicated for good by checking this table when a
+-- window is merged; only reporters new to the case add count and heat.
+-- Open cases are seeded with the reporter that opened them.
+-- =========================================================
+
+CREATE TABLE report_reporters (
+	report_id         BIGINT UNSIGNED NOT NULL,
+	reporter_user_id  BIGINT UNSIGNED NOT NULL,
+	reported_at       DATETIME NOT NULL,
+	PRIMARY KEY (report_id, reporter_user_id),
+	CONSTRAINT fk_report_reporters_report FOREIGN KEY (report_id) REFERENCES reports(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO report_reporters (report_id, reporter_user_id, reported_at)
+SELECT id, reporter_user_id, created_at FROM reports
+WHERE status <> 'RESOLVED';
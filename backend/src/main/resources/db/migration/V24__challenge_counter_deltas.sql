@@ -0,0 +1,20 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V24: logged challenge counter deltas
+-- Write-behind counter deltas are inserted here by the business transaction
+-- itself, so a delta is visible exactly when the change it counts is.
+-- The flusher folds rows into challenge_counters and deletes them; a
+-- reconcile deletes the rows its recount already includes.
+-- =========================================================
+
+CREATE TABLE challenge_counter_deltas (
+	id                  BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+	challenge_id        BIGINT UNSIGNED NOT NULL,
+	participants        INT NOT NULL DEFAULT 0,
+	evidences_total     INT NOT NULL DEFAULT 0,
+	evidences_pending   INT NOT NULL DEFAULT 0,
+	evidences_approved  INT NOT NULL DEFAULT 0,
+	evidences_rejected  INT NOT NULL DEFAULT 0,
+	PRIMARY KEY (id),
+	KEY ix_counter_deltas_challenge (challenge_id),
+	CONSTRAINT fk_counter_deltas_challenge FOREIGN KEY (challenge_id) REFERENCES challenges(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
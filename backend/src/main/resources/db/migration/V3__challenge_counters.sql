@@ -0,0 +1,28 @@
+-- IMPULSE v1.0 - Migration V3: materialized per-challenge counters
+-- One row per challenge, maintained by delta upserts from the submit/decide/participate
+-- paths and periodically reconciled against participations/evidences.
+
+CREATE TABLE challenge_counters (
+	challenge_id        BIGINT UNSIGNED NOT NULL,
+	participants        INT NOT NULL DEFAULT 0,
+	evidences_total     INT NOT NULL DEFAULT 0,
+	evidences_pending   INT NOT NULL DEFAULT 0,
+	evidences_approved  INT NOT NULL DEFAULT 0,
+	evidences_rejected  INT NOT NULL DEFAULT 0,
+	reconciled_at       DATETIME NULL,
+	updated_at          DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+	PRIMARY KEY (challenge_id),
+	CONSTRAINT fk_counters_challenge FOREIGN KEY (challenge_id) REFERENCES challenges(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Backfill existing challenges so reads never need the COUNT(*) fallback
+INSERT INTO challenge_counters (challenge_id, participants, evidences_total, evidences_pending,
+                                evidences_approved, evidences_rejected, reconciled_at)
+SELECT c.id,
+       (SELECT COUNT(*) FROM participations p WHERE p.challenge_id = c.id AND p.deleted_at IS NULL),
+       (SELECT COUNT(*) FROM evidences e WHERE e.challenge_id = c.id AND e.deleted_at IS NULL),
+       (SELECT COUNT(*) FROM evidences e WHERE e.challenge_id = c.id AND e.deleted_at IS NULL AND e.status = 'PENDING'),
+       (SELECT COUNT(*) FROM evidences e WHERE e.challenge_id = c.id AND e.deleted_at IS NULL AND e.status = 'APPROVED'),
+       (SELECT COUNT(*) FROM evidences e WHERE e.challenge_id = c.id AND e.deleted_at IS NULL AND e.status = 'REJECTED'),
+       CURRENT_TIMESTAMP
+FROM challenges c;
@@ -0,0 +1,8 @@
+-- IMPULSE v1.0 - Migration V4: scheduled challenge lifecycle
+-- Challenges may carry planned open/close instants; a sweeper transitions due rows in batches.
+
+ALTER TABLE challenges
+	ADD COLUMN scheduled_open_at  DATETIME NULL AFTER public_consent_version,
+	ADD COLUMN scheduled_close_at DATETIME NULL AFTER scheduled_open_at,
+	ADD KEY ix_challenges_due_open (status, scheduled_open_at),
+	ADD KEY ix_challenges_due_close (status, scheduled_close_at);
@@ -0,0 +1,10 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V5: challenge template provenance
+-- Challenges instantiated from a template keep a pointer to it;
+-- the template cache loads templates through ix_challenges_template.
+-- =========================================================
+
+ALTER TABLE challenges
+	ADD COLUMN template_id BIGINT UNSIGNED NULL AFTER category,
+	ADD CONSTRAINT fk_challenges_template FOREIGN KEY (template_id) REFERENCES challenges(id) ON DELETE SET NULL,
+	ADD KEY ix_challenges_template (is_template, deleted_at);
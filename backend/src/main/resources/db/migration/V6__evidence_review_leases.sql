@@ -0,0 +1,11 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V6: evidence review leases
+-- A validator claims pending evidence for a bounded time; an expired
+-- lease is simply ignored by the claim predicate, returning the row to the pool.
+-- =========================================================
+
+ALTER TABLE evidences
+	ADD COLUMN review_lease_owner      BIGINT UNSIGNED NULL AFTER decision_reason,
+	ADD COLUMN review_lease_expires_at DATETIME NULL AFTER review_lease_owner,
+	ADD KEY ix_evidences_review_queue (challenge_id, status, review_lease_expires_at),
+	ADD KEY ix_evidences_review_owner (review_lease_owner, review_lease_expires_at);
@@ -0,0 +1,14 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V7: content-addressed blob store
+-- One row per distinct file content (SHA-256); ref_count tracks how many
+-- media references point at it. The file is unlinked when it drops to zero.
+-- =========================================================
+
+CREATE TABLE storage_blobs (
+	sha256      CHAR(64) NOT NULL,
+	size_bytes  BIGINT UNSIGNED NOT NULL,
+	ref_count   INT UNSIGNED NOT NULL DEFAULT 0,
+	created_at  DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	updated_at  DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+	PRIMARY KEY (sha256)
+) ENGINE=InnoDB DEFAULT CHARSET=ascii COLLATE=ascii_bin;
@@ -0,0 +1,9 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V8: media scan claims
+-- Scanner workers move media_scan_status PENDING -> SCANNING -> CLEAN/INFECTED.
+-- media_scan_claimed_at lets a crashed worker's SCANNING rows be reclaimed.
+-- =========================================================
+
+ALTER TABLE evidences
+	ADD COLUMN media_scan_claimed_at DATETIME NULL AFTER media_scan_status,
+	ADD KEY ix_evidences_media_scan (media_scan_status, media_scan_claimed_at);
@@ -0,0 +1,23 @@
+-- =========================================================
+-- IMPULSE v1.0 - Migration V9: resumable upload sessions
+-- A session reserves a preallocated staging file; received_chunks is a
+-- little-endian bitmap of the fixed-size chunks written so far.
+-- Sessions past expires_at are garbage-collected with their staging file.
+-- =========================================================
+
+CREATE TABLE upload_sessions (
+	id               CHAR(36) NOT NULL,
+	user_id          BIGINT UNSIGNED NOT NULL,
+	file_name        VARCHAR(255) NOT NULL,
+	content_type     VARCHAR(128) NULL,
+	total_bytes      BIGINT UNSIGNED NOT NULL,
+	chunk_bytes      INT UNSIGNED NOT NULL,
+	received_chunks  VARBINARY(1024) NOT NULL,
+	expires_at       DATETIME NOT NULL,
+	created_at       DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	updated_at       DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+	PRIMARY KEY (id),
+	CONSTRAINT fk_upload_sessions_user FOREIGN KEY (user_id) REFERENCES users(id),
+	KEY ix_upload_sessions_user (user_id),
+	KEY ix_upload_sessions_expires (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
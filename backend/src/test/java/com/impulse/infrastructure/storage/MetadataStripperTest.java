@@ -0,0 +1,231 @@
+package com.impulse.infrastructure.storage;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/** Segment-level checks on synthetic images plus a 20 MB allocation run (-Pbenchmark). */
+public class MetadataStripperTest {
+
+    /** Stripping 20 MB must allocate a small, size-independent amount: buffers, not the image */
+    private static final long MAX_ALLOCATED_BYTES = 2L * 1024 * 1024;
+
+    private final MetadataStripper stripper = new MetadataStripper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void jpegDropsExifAndCommentButKeepsJfifIccAndScan() throws Exception {
+        byte[] scan = {0x12, (byte) 0xFF, 0x00, 0x34, (byte) 0xFF, (byte) 0xD0, 0x56};
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        jpeg.write(new byte[] {(byte) 0xFF, (byte) 0xD8});
+        jpegSegment(jpeg, 0xE0, "JFIF\0payload");
+        jpegSegment(jpeg, 0xE1, "Exif\0\0GPS 40.4N 3.7W");
+        jpegSegment(jpeg, 0xE2, "ICC_PROFILE\0profile");
+        jpegSegment(jpeg, 0xFE, "shot on my phone");
+        jpegSegment(jpeg, 0xDA, "sos");
+        jpeg.write(scan);
+        jpeg.write(new byte[] {(byte) 0xFF, (byte) 0xD9});
+
+        byte[] out = strip(jpeg.toByteArray()).bytes;
+
+        String text = new String(out, StandardCharsets.ISO_8859_1);
+        assertTrue(text.contains("JFIF"));
+        assertTrue(text.contains("ICC_PROFILE"));
+        assertFalse(text.contains("GPS"));
+        assertFalse(text.contains("shot on my phone"));
+        assertTrue(text.endsWith(new String(scan, StandardCharsets.ISO_8859_1) + "\u00FF\u00D9"));
+    }
+
+    @Test
+    void pngDropsTextChunks() throws Exception {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        png.write(new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+        pngChunk(png, "IHDR", new byte[13]);
+        pngChunk(png, "tEXt", "Author\0someone".getBytes(StandardCharsets.US_ASCII));
+        pngChunk(png, "eXIf", "GPS".getBytes(StandardCharsets.US_ASCII));
+        pngChunk(png, "IDAT", new byte[] {1, 2, 3});
+        pngChunk(png, "IEND", new byte[0]);
+
+        Stripped result = strip(png.toByteArray());
+
+        String text = new String(result.bytes, StandardCharsets.ISO_8859_1);
+        assertTrue(text.contains("IHDR") && text.contains("IDAT") && text.contains("IEND"));
+        assertFalse(text.contains("Author") || text.contains("GPS"));
+        assertEquals(png.size() - result.bytes.length, result.result.getBytesDropped());
+    }
+
+    @Test
+    void webpDropsExifAndPatchesHeader() throws Exception {
+        ByteArrayOutputStream chunks = new ByteArrayOutputStream();
+        byte[] vp8x = new byte[10];
+        vp8x[0] = 0x08 | 0x04 | 0x10; // EXIF, XMP, ALPHA
+        webpChunk(chunks, "VP8X", vp8x);
+        webpChunk(chunks, "VP8L", new byte[] {9, 9, 9});
+        webpChunk(chunks, "EXIF", "GPS".getBytes(StandardCharsets.US_ASCII));
+        webpChunk(chunks, "XMP ", "<x/>".getBytes(StandardCharsets.US_ASCII));
+        ByteArrayOutputStream webp = new ByteArrayOutputStream();
+        webp.write("RIFF".getBytes(StandardCharsets.US_ASCII));
+        webp.write(le32(chunks.size() + 4));
+        webp.write("WEBP".getBytes(StandardCharsets.US_ASCII));
+        chunks.writeTo(webp);
+
+        Stripped result = strip(webp.toByteArray());
+
+        ByteBuffer out = ByteBuffer.wrap(result.bytes).order(ByteOrder.LITTLE_ENDIAN);
+        assertTrue(result.result.isHeaderPatched());
+        assertEquals(result.bytes.length - 8, out.getInt(4));
+        assertEquals(0x10, out.get(20));
+        assertFalse(new String(result.bytes, StandardCharsets.ISO_8859_1).contains("GPS"));
+    }
+
+    @Test
+    void unknownFormatPassesThrough() throws Exception {
+        byte[] video = "....ftypisom-not-an-image".getBytes(StandardCharsets.US_ASCII);
+
+        Stripped result = strip(video);
+
+        assertArrayEquals(video, result.bytes);
+        assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(video), result.digest);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void stripsTwentyMegabyteJpegInConstantMemory() throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "thread allocation counters unavailable");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        long scanBytes = 20L * 1024 * 1024;
+        ByteArrayOutputStream head = new ByteArrayOutputStream();
+        head.write(new byte[] {(byte) 0xFF, (byte) 0xD8});
+        jpegSegment(head, 0xE0, "JFIF\0");
+        jpegSegment(head, 0xE1, "Exif\0\0" + "x".repeat(60_000));
+        jpegSegment(head, 0xDA, "sos");
+        InputStream image = new SyntheticScanStream(head.toByteArray(), scanBytes);
+
+        Path target = tempDir.resolve("big.jpg");
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        MetadataStripper.Result result;
+        long allocated;
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            result = stripper.strip(image, out, digest);
+            allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        }
+
+        assertEquals(Files.size(target), result.getBytesWritten());
+        assertTrue(result.getBytesDropped() > 60_000);
+        assertTrue(result.getBytesWritten() > scanBytes);
+        assertTrue(allocated < MAX_ALLOCATED_BYTES, "allocated " + allocated + " bytes");
+    }
+
+    private Stripped strip(byte[] input) throws Exception {
+        Path target = Files.createTempFile(tempDir, "strip", ".bin");
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        MetadataStripper.Result result;
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            result = stripper.strip(new ByteArrayInputStream(input), out, digest);
+        }
+        return new Stripped(Files.readAllBytes(target), result, digest.digest());
+    }
+
+    private static void jpegSegment(ByteArrayOutputStream out, int marker, String payload) throws IOException {
+        byte[] data = payload.getBytes(StandardCharsets.ISO_8859_1);
+        int length = data.length + 2;
+        out.write(new byte[] {(byte) 0xFF, (byte) marker, (byte) (length >> 8), (byte) length});
+        out.write(data);
+    }
+
+    private static void pngChunk(ByteArrayOutputStream out, String type, byte[] data) throws IOException {
+        out.write(ByteBuffer.allocate(4).putInt(data.length).array());
+        out.write(type.getBytes(StandardCharsets.US_ASCII));
+        out.write(data);
+        out.write(new byte[4]); // CRC is copied, never checked
+    }
+
+    private static void webpChunk(ByteArrayOutputStream out, String fourcc, byte[] data) throws IOException {
+        out.write(fourcc.getBytes(StandardCharsets.US_ASCII));
+        out.write(le32(data.length));
+        out.write(data);
+        if ((data.length & 1) == 1) {
+            out.write(0);
+        }
+    }
+
+    private static byte[] le32(int value) {
+        return ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(value).array();
+    }
+
+    private static final class Stripped {
+        final byte[] bytes;
+        final MetadataStripper.Result result;
+        final byte[] digest;
+
+        Stripped(byte[] bytes, MetadataStripper.Result result, byte[] digest) {
+            this.bytes = bytes;
+            this.result = result;
+            this.digest = digest;
+        }
+    }
+
+    /** Header bytes followed by generated entropy data and EOI, without holding the image in memory */
+    private static final class SyntheticScanStream extends InputStream {
+        private final byte[] head;
+        private final long scanBytes;
+        private long position;
+
+        SyntheticScanStream(byte[] head, long scanBytes) {
+            this.head = head;
+            this.scanBytes = scanBytes;
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            long total = head.length + scanBytes + 2;
+            if (position >= total) {
+                return -1;
+            }
+            int n = (int) Math.min(len, total - position);
+            for (int i = 0; i < n; i++) {
+                long p = position + i;
+                if (p < head.length) {
+                    b[off + i] = head[(int) p];
+                } else if (p < head.length + scanBytes) {
+                    b[off + i] = (byte) (p % 251);
+                } else {
+                    b[off + i] = p == head.length + scanBytes ? (byte) 0xFF : (byte) 0xD9;
+                }
+            }
+            position += n;
+            return n;
+        }
+    }
+}
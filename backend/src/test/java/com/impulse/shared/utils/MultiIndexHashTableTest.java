@@ -0,0 +1,120 @@
+package com.impulse.shared.utils;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Exactness against a linear scan plus a one-million-entry memory and latency run (-Pbenchmark). */
+public class MultiIndexHashTableTest {
+
+    private static final int ENTRIES = 1_000_000;
+    private static final int QUERIES = 10_000;
+
+    @Test
+    void searchMatchesLinearScanForEveryRadius() {
+        SplittableRandom random = new SplittableRandom(7);
+        int n = 20_000;
+        long[] hashes = new long[n];
+        MultiIndexHashTable table = new MultiIndexHashTable(n);
+        for (int i = 0; i < n; i++) {
+            // Every tenth entry is a near copy of an earlier one, so matches exist at all radii
+            hashes[i] = i > 0 && i % 10 == 0 ? flipBits(hashes[random.nextInt(i)], random.nextInt(12), random) : random.nextLong();
+            table.add(hashes[i], i);
+        }
+
+        for (int q = 0; q < 500; q++) {
+            long query = flipBits(hashes[random.nextInt(n)], random.nextInt(8), random);
+            for (int radius = 0; radius <= MultiIndexHashTable.MAX_DISTANCE; radius++) {
+                int r = radius;
+                List<Long> expected = new ArrayList<>();
+                for (int i = 0; i < n; i++) {
+                    if (MultiIndexHashTable.distance(hashes[i], query) <= r) {
+                        expected.add((long) i);
+                    }
+                }
+                List<Long> actual = table.search(query, r).stream()
+                    .map(MultiIndexHashTable.Match::id).sorted().collect(Collectors.toList());
+                assertEquals(expected, actual, "radius " + r);
+            }
+        }
+    }
+
+    @Test
+    void nearestPrefersSmallestDistance() {
+        MultiIndexHashTable table = new MultiIndexHashTable();
+        table.add(0b1111L, 1);
+        table.add(0b0001L, 2);
+        table.add(-1L, 3);
+
+        MultiIndexHashTable.Match match = table.nearest(0L, 4);
+        assertEquals(2, match.id());
+        assertEquals(1, match.distance());
+        assertNull(table.nearest(0x00FF00FF00FF00FFL, 4));
+    }
+
+    @Test
+    @Tag("benchmark")
+    void millionEntriesStayCompactAndAnswerWellUnderAMillisecond() {
+        SplittableRandom random = new SplittableRandom(42);
+        long[] stored = new long[ENTRIES];
+        for (int i = 0; i < ENTRIES; i++) {
+            stored[i] = random.nextLong();
+        }
+
+        long before = usedMemory();
+        MultiIndexHashTable table = new MultiIndexHashTable(ENTRIES);
+        for (int i = 0; i < ENTRIES; i++) {
+            table.add(stored[i], i);
+        }
+        long bytesPerEntry = (usedMemory() - before) / ENTRIES;
+
+        long[] queries = new long[QUERIES];
+        for (int q = 0; q < QUERIES; q++) {
+            // Half near-duplicates of stored hashes, half misses
+            queries[q] = q % 2 == 0 ? flipBits(stored[random.nextInt(ENTRIES)], 1 + random.nextInt(8), random) : random.nextLong();
+        }
+        for (int q = 0; q < QUERIES; q++) {
+            table.search(queries[q], 10);
+        }
+
+        int hits = 0;
+        long started = System.nanoTime();
+        for (int q = 0; q < QUERIES; q++) {
+            hits += table.search(queries[q], 10).isEmpty() ? 0 : 1;
+        }
+        double micros = (System.nanoTime() - started) / 1_000.0 / QUERIES;
+
+        assertTrue(hits >= QUERIES / 2);
+        assertTrue(bytesPerEntry < 100, "bytes per entry " + bytesPerEntry);
+        assertTrue(micros < 500, "microseconds per query " + micros);
+    }
+
+    private static long flipBits(long hash, int bits, SplittableRandom random) {
+        long flipped = hash;
+        int done = 0;
+        while (done < bits) {
+            long bit = 1L << random.nextInt(64);
+            if (((flipped ^ hash) & bit) == 0) {
+                flipped ^= bit;
+                done++;
+            }
+        }
+        return flipped;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}